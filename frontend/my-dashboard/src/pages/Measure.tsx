@@ -47,6 +47,10 @@ import {
   AlertDialogTitle,
 } from "@/components/ui/alert-dialog";
 
+// 측정 작업 상태 조회 간격과 전체 대기 시간
+const JOB_POLL_INTERVAL_MS = 2000;
+const JOB_POLL_DEADLINE_MS = 5 * 60 * 1000;
+
 const Measure: React.FC = () => {
   const location = useLocation();
   const [url, setUrl] = useState('');
@@ -103,8 +107,8 @@ const Measure: React.FC = () => {
 
       if (!analysisStartResponse.ok) {
         if (analysisStartResponse.status === 404) {
-          // 2. DB에 데이터가 없으면 측정 시작
-          const measurementResponse = await fetch('/api/start-measurement', {
+          // 2. DB에 데이터가 없으면 측정 작업 등록
+          const jobResponse = await fetch('/api/audit-jobs', {
             method: 'POST',
             credentials: 'include',
             headers: {
@@ -113,9 +117,38 @@ const Measure: React.FC = () => {
             body: `url=${encodeURIComponent(url)}`
           });
 
-          if (!measurementResponse.ok) {
+          if (jobResponse.status === 429 || jobResponse.status === 503) {
+            throw new Error('측정 요청이 많습니다. 잠시 후 다시 시도해주세요');
+          }
+          if (jobResponse.status !== 202) {
             throw new Error('성능 측정을 시작하는데 실패했습니다');
           }
+
+          // 측정이 끝날 때까지 작업 상태 조회 (전체 대기 시간을 넘기면 중단)
+          const { jobId } = await jobResponse.json();
+          const deadline = Date.now() + JOB_POLL_DEADLINE_MS;
+          let status = 'QUEUED';
+          while (status === 'QUEUED' || status === 'RUNNING') {
+            if (Date.now() >= deadline) {
+              throw new Error('성능 측정 시간이 초과되었습니다. 잠시 후 다시 시도해주세요');
+            }
+            await new Promise((resolve) => setTimeout(resolve, JOB_POLL_INTERVAL_MS));
+            const statusResponse = await fetch(`/api/audit-jobs/${jobId}`, {
+              method: 'GET',
+              credentials: 'include',
+              headers: {
+                'Accept': 'application/json'
+              }
+            });
+            if (!statusResponse.ok) {
+              throw new Error('성능 측정 상태를 확인하는데 실패했습니다');
+            }
+            status = (await statusResponse.json()).status;
+          }
+
+          if (status !== 'DONE') {
+            throw new Error('성능 측정에 실패했습니다');
+          }
         } else {
           throw new Error('분석 시작에 실패했습니다');
         }
@@ -0,0 +1,396 @@
+package com.ecarbon.gdsc.admin.controller;
+
+import com.ecarbon.gdsc.audits.MainRunner;
+import com.ecarbon.gdsc.audits.archive.ArchivedReport;
+import com.ecarbon.gdsc.audits.archive.ReportArchive;
+import com.ecarbon.gdsc.audits.backfill.ReportBackfillService;
+import com.ecarbon.gdsc.audits.batch.WeeklyBatchCrawler;
+import com.ecarbon.gdsc.audits.cache.AuditResultCache;
+import com.ecarbon.gdsc.audits.chrome.ChromePool;
+import com.ecarbon.gdsc.audits.concurrency.AdaptiveConcurrencyLimiter;
+import com.ecarbon.gdsc.audits.cost.AuditCostService;
+import com.ecarbon.gdsc.audits.dto.AuditCacheStats;
+import com.ecarbon.gdsc.audits.dto.AuditCostSummary;
+import com.ecarbon.gdsc.audits.dto.AuditLaneStats;
+import com.ecarbon.gdsc.audits.dto.AuditProcessStats;
+import com.ecarbon.gdsc.audits.dto.BackfillStats;
+import com.ecarbon.gdsc.audits.dto.BatchCrawlStats;
+import com.ecarbon.gdsc.audits.dto.ConcurrencyLimitStats;
+import com.ecarbon.gdsc.audits.dto.DistributedQueueStats;
+import com.ecarbon.gdsc.audits.dto.FailedAuditReplayResponse;
+import com.ecarbon.gdsc.audits.dto.LighthouseAuditResult;
+import com.ecarbon.gdsc.audits.dto.ReportArchiveStats;
+import com.ecarbon.gdsc.audits.dto.SharedResourceCost;
+import com.ecarbon.gdsc.audits.dto.SiteAuditStats;
+import com.ecarbon.gdsc.audits.entity.FailedUserMeasurements;
+import com.ecarbon.gdsc.audits.failure.FailedAuditReplayService;
+import com.ecarbon.gdsc.audits.failure.FailureType;
+import com.ecarbon.gdsc.audits.lighthouse.LighthouseDataExtractor;
+import com.ecarbon.gdsc.audits.process.ProcessExecutor;
+import com.ecarbon.gdsc.audits.process.ProcessReaper;
+import com.ecarbon.gdsc.audits.queue.DistributedAuditConsumer;
+import com.ecarbon.gdsc.audits.queue.DistributedAuditQueue;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.queue.PriorityAuditQueue;
+import com.ecarbon.gdsc.audits.queue.QueuedAudit;
+import com.ecarbon.gdsc.audits.resource.ResourceSizeIndex;
+import com.ecarbon.gdsc.audits.site.SiteAuditService;
+import com.ecarbon.gdsc.audits.util.DateCalculator;
+import com.ecarbon.gdsc.common.lease.NodeIdentity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/admin/audits")
+public class AuditAdminController {
+
+    private final AuditResultCache auditResultCache;
+    private final ProcessExecutor processExecutor;
+    private final ProcessReaper processReaper;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ChromePool chromePool;
+    private final WeeklyBatchCrawler weeklyBatchCrawler;
+    private final DistributedAuditQueue distributedAuditQueue;
+    private final DistributedAuditConsumer distributedAuditConsumer;
+    private final NodeIdentity nodeIdentity;
+    private final FailedAuditReplayService failedAuditReplayService;
+    private final MainRunner mainRunner;
+    private final PriorityAuditQueue priorityAuditQueue;
+    private final SiteAuditService siteAuditService;
+    private final ResourceSizeIndex resourceSizeIndex;
+    private final ReportArchive reportArchive;
+    private final LighthouseDataExtractor extractor;
+    private final ReportBackfillService reportBackfillService;
+    private final AuditCostService auditCostService;
+
+    @GetMapping("/cache")
+    public ResponseEntity<AuditCacheStats> getCacheStats() {
+        long hits = auditResultCache.getHitCount();
+        long misses = auditResultCache.getMissCount();
+        long lookups = hits + misses;
+
+        AuditCacheStats stats = AuditCacheStats.builder()
+                .size(auditResultCache.size())
+                .maxEntries(auditResultCache.getMaxEntries())
+                .freshnessMinutes(auditResultCache.getFreshness().toMinutes())
+                .hitCount(hits)
+                .missCount(misses)
+                .evictionCount(auditResultCache.getEvictionCount())
+                .hitRatio(lookups == 0 ? 0.0 : (double) hits / lookups)
+                .build();
+
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/processes")
+    public ResponseEntity<AuditProcessStats> getProcessStats() {
+        AuditProcessStats stats = AuditProcessStats.builder()
+                .activeProcessTrees(processExecutor.getActiveProcessCount())
+                .trackedPids(processExecutor.getTrackedPids().size())
+                .killedProcessCount(processExecutor.getKilledProcessCount())
+                .reapedOrphanCount(processReaper.getReapedCount())
+                .build();
+
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/concurrency")
+    public ResponseEntity<ConcurrencyLimitStats> getConcurrency() {
+        return ResponseEntity.ok(concurrencyStats());
+    }
+
+    @PutMapping("/concurrency")
+    public ResponseEntity<ConcurrencyLimitStats> updateConcurrency(
+            @RequestParam int minLimit,
+            @RequestParam int maxLimit) {
+
+        if (minLimit < 1 || maxLimit < minLimit) {
+            return ResponseEntity.badRequest().build();
+        }
+        concurrencyLimiter.setBounds(minLimit, maxLimit);
+        chromePool.ensureCapacity(concurrencyLimiter.getMaxLimit());
+        return ResponseEntity.ok(concurrencyStats());
+    }
+
+    @GetMapping("/lanes")
+    public ResponseEntity<List<AuditLaneStats>> getLaneStats() {
+        return ResponseEntity.ok(priorityAuditQueue.getStats(concurrencyLimiter.getLimit()));
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<BatchCrawlStats> getBatchStatus() {
+        return ResponseEntity.ok(batchStats());
+    }
+
+    @PostMapping("/batch/start")
+    public ResponseEntity<BatchCrawlStats> startBatch() {
+        if (!weeklyBatchCrawler.start()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(batchStats());
+        }
+        log.info("🚀 [ADMIN] Weekly batch started manually");
+        return ResponseEntity.accepted().body(batchStats());
+    }
+
+    @GetMapping("/queue")
+    public ResponseEntity<DistributedQueueStats> getQueueStats() {
+        DistributedQueueStats stats = DistributedQueueStats.builder()
+                .enabled(distributedAuditConsumer.isEnabled())
+                .nodeId(nodeIdentity.getId())
+                .pending(distributedAuditQueue.countByStatus(QueuedAudit.STATUS_PENDING))
+                .leased(distributedAuditQueue.countByStatus(QueuedAudit.STATUS_LEASED))
+                .done(distributedAuditQueue.countByStatus(QueuedAudit.STATUS_DONE))
+                .failed(distributedAuditQueue.countByStatus(QueuedAudit.STATUS_FAILED))
+                .heldLeases(distributedAuditConsumer.getHeldLeaseCount())
+                .lostLeaseCount(distributedAuditConsumer.getLostLeaseCount())
+                .build();
+
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/failed")
+    public ResponseEntity<List<FailedUserMeasurements>> getFailed(
+            @RequestParam(required = false) FailureType type,
+            @RequestParam(defaultValue = "100") int limit) {
+        try {
+            return ResponseEntity.ok(failedAuditReplayService.findFailed(type, Math.max(1, Math.min(limit, 500))));
+        } catch (Exception e) {
+            log.error("[ADMIN] ❌ Failed to load failed measurements", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @PostMapping("/failed/replay")
+    public ResponseEntity<FailedAuditReplayResponse> replayFailed(
+            @RequestParam(required = false) FailureType type,
+            @RequestParam(defaultValue = "100") int limit) {
+        try {
+            int submitted = failedAuditReplayService.replay(type, Math.max(1, Math.min(limit, 500)));
+            return ResponseEntity.accepted().body(FailedAuditReplayResponse.builder()
+                    .failureType(type != null ? type.name() : null)
+                    .submitted(submitted)
+                    .queueSize(mainRunner.getQueueSize())
+                    .build());
+        } catch (Exception e) {
+            log.error("[ADMIN] ❌ Failed to replay failed measurements", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/site")
+    public ResponseEntity<SiteAuditStats> getSiteAuditStats() {
+        return ResponseEntity.ok(siteStats());
+    }
+
+    /**
+     * 한 사이트를 바로 측정 (audit.site.enabled 와 관계없이 실행, 결과는 site_measurements 에 저장)
+     */
+    @PostMapping("/site")
+    public ResponseEntity<SiteAuditStats> startSiteAudit(@RequestParam String url) {
+        if (url == null || url.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        siteAuditService.auditSite(url, null);
+        log.info("🚀 [ADMIN] Site audit started manually for {}", url);
+        return ResponseEntity.accepted().body(siteStats());
+    }
+
+    /**
+     * 여러 사이트가 함께 쓰는 외부 리소스를 (크기 x 사이트 수) 가 큰 순서로
+     */
+    @GetMapping("/resources/shared")
+    public ResponseEntity<List<SharedResourceCost>> getSharedResources(@RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(resourceSizeIndex.findMostShared(Math.max(1, Math.min(limit, 500))));
+        } catch (Exception e) {
+            log.error("[ADMIN] ❌ Failed to load shared resources", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 한 주 동안 측정 비용(CPU 시간 합계)이 큰 사이트 순서로 (week 가 없으면 이번 주)
+     */
+    @GetMapping("/costs")
+    public ResponseEntity<List<AuditCostSummary>> getCostliestSites(
+            @RequestParam(required = false) String week,
+            @RequestParam(defaultValue = "20") int limit) {
+        String weekStartDate = week != null && !week.isBlank() ? week : DateCalculator.getMondayAsString(LocalDateTime.now());
+        try {
+            return ResponseEntity.ok(auditCostService.findCostliestSites(weekStartDate, Math.max(1, Math.min(limit, 500))));
+        } catch (Exception e) {
+            log.error("[ADMIN] ❌ Failed to load audit costs for week {}", weekStartDate, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 한 사이트의 주별 측정 비용 (최근 주부터)
+     */
+    @GetMapping("/costs/site")
+    public ResponseEntity<List<AuditCostSummary>> getSiteCosts(
+            @RequestParam String site,
+            @RequestParam(defaultValue = "12") int limit) {
+        try {
+            return ResponseEntity.ok(auditCostService.findWeeklyBySite(site, Math.max(1, Math.min(limit, 104))));
+        } catch (Exception e) {
+            log.error("[ADMIN] ❌ Failed to load audit costs for {}", site, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/archive")
+    public ResponseEntity<ReportArchiveStats> getArchiveStats() {
+        return ResponseEntity.ok(ReportArchiveStats.builder()
+                .enabled(reportArchive.isEnabled())
+                .directory(reportArchive.getDirectory().toString())
+                .reportCount(reportArchive.reportCount())
+                .objectCount(reportArchive.objectCount())
+                .totalBytes(reportArchive.totalBytes())
+                .maxBytes(reportArchive.getMaxBytes())
+                .dedupedCount(reportArchive.getDedupedCount())
+                .evictedCount(reportArchive.getEvictedCount())
+                .build());
+    }
+
+    @GetMapping("/archive/reports")
+    public ResponseEntity<List<ArchivedReport>> getArchivedReports(@RequestParam String url) {
+        return ResponseEntity.ok(reportArchive.history(url));
+    }
+
+    /**
+     * 보관된 원본 리포트 JSON (measuredAt 이 없으면 가장 최근 것)
+     */
+    @GetMapping("/archive/report")
+    public ResponseEntity<InputStreamResource> getArchivedReport(
+            @RequestParam String url,
+            @RequestParam(required = false) String measuredAt) {
+        Optional<ArchivedReport> report = findArchived(url, measuredAt);
+        if (report.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new InputStreamResource(reportArchive.open(report.get())));
+        } catch (Exception e) {
+            log.error("[ADMIN] ❌ Failed to open archived report for {}", url, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 보관된 리포트를 현재 추출 코드로 다시 추출 (Chrome 실행 없음, 저장하지 않음)
+     */
+    @PostMapping("/archive/reextract")
+    public ResponseEntity<LighthouseAuditResult> reextractArchivedReport(
+            @RequestParam String url,
+            @RequestParam(required = false) String measuredAt) {
+        Optional<ArchivedReport> report = findArchived(url, measuredAt);
+        if (report.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        try (InputStream json = reportArchive.open(report.get())) {
+            AuditProfile profile = AuditProfile.fromId(report.get().getAuditProfile());
+            return ResponseEntity.ok(extractor.extractAll(json, report.get().getUrl(), profile));
+        } catch (Exception e) {
+            log.error("[ADMIN] ❌ Failed to re-extract archived report for {}", url, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/backfill")
+    public ResponseEntity<BackfillStats> getBackfillStatus(@RequestParam(required = false) String jobId) {
+        return ResponseEntity.ok(backfillStats(jobId));
+    }
+
+    /**
+     * 보관된 리포트로 저장된 측정 값을 다시 계산 (jobId 가 끝나지 않은 작업이면 이어서 처리)
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<BackfillStats> startBackfill(
+            @RequestParam(required = false) String jobId,
+            @RequestParam(required = false) List<String> fields) {
+        try {
+            if (!reportBackfillService.start(jobId, fields)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(backfillStats(jobId));
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("[ADMIN] ⚠️ Invalid backfill request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("🚀 [ADMIN] Backfill {} started manually", reportBackfillService.getCurrentJobId());
+        return ResponseEntity.accepted().body(backfillStats(reportBackfillService.getCurrentJobId()));
+    }
+
+    @PostMapping("/backfill/stop")
+    public ResponseEntity<BackfillStats> stopBackfill() {
+        reportBackfillService.requestStop();
+        return ResponseEntity.accepted().body(backfillStats(null));
+    }
+
+    private BackfillStats backfillStats(String jobId) {
+        return BackfillStats.builder()
+                .running(reportBackfillService.isRunning())
+                .currentJobId(reportBackfillService.getCurrentJobId())
+                .checkpoint(reportBackfillService.getCheckpoint(jobId).orElse(null))
+                .build();
+    }
+
+    private Optional<ArchivedReport> findArchived(String url, String measuredAt) {
+        return measuredAt == null || measuredAt.isBlank()
+                ? reportArchive.findLatest(url)
+                : reportArchive.find(url, measuredAt);
+    }
+
+    private SiteAuditStats siteStats() {
+        return SiteAuditStats.builder()
+                .enabled(siteAuditService.isEnabled())
+                .maxPages(siteAuditService.getMaxPages())
+                .maxDepth(siteAuditService.getMaxDepth())
+                .runningSites(siteAuditService.getRunningSiteCount())
+                .completedSites(siteAuditService.getCompletedSiteCount())
+                .build();
+    }
+
+    private ConcurrencyLimitStats concurrencyStats() {
+        return ConcurrencyLimitStats.builder()
+                .limit(concurrencyLimiter.getLimit())
+                .inFlight(concurrencyLimiter.getInFlight())
+                .minLimit(concurrencyLimiter.getMinLimit())
+                .maxLimit(concurrencyLimiter.getMaxLimit())
+                .maxWorkers(concurrencyLimiter.getMaxWorkers())
+                .baselineLatencyMs(concurrencyLimiter.getBaselineLatencyMs())
+                .build();
+    }
+
+    private BatchCrawlStats batchStats() {
+        BatchCrawlStats.BatchCrawlStatsBuilder builder = BatchCrawlStats.builder()
+                .running(weeklyBatchCrawler.isRunning());
+
+        weeklyBatchCrawler.getCheckpoint().ifPresent(checkpoint -> builder
+                .weekStartDate(checkpoint.getId())
+                .status(checkpoint.getStatus())
+                .totalUrls(checkpoint.getTotalUrls())
+                .completedUrls(checkpoint.getCompletedUrls().size())
+                .failedUrls(checkpoint.getFailedUrls().size())
+                .completedSites(checkpoint.getCompletedSites().size())
+                .failedSites(checkpoint.getFailedSites().size())
+                .startedAt(checkpoint.getStartedAt())
+                .updatedAt(checkpoint.getUpdatedAt())
+                .finishedAt(checkpoint.getFinishedAt()));
+
+        return builder.build();
+    }
+}
@@ -1,21 +1,75 @@
 package com.ecarbon.gdsc.audits;
 
+import com.ecarbon.gdsc.audits.archive.ReportArchive;
+import com.ecarbon.gdsc.audits.change.CarryForwardService;
+import com.ecarbon.gdsc.audits.concurrency.AdaptiveConcurrencyLimiter;
+import com.ecarbon.gdsc.audits.cost.AuditCostService;
+import com.ecarbon.gdsc.audits.devtools.DevToolsPageWeightEngine;
+import com.ecarbon.gdsc.audits.engine.AuditEngine;
+import com.ecarbon.gdsc.audits.entity.FailedUserMeasurements;
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.failure.FailureClassifier;
+import com.ecarbon.gdsc.audits.fast.FastPageWeightEstimator;
+import com.ecarbon.gdsc.audits.failure.FailureType;
+import com.ecarbon.gdsc.audits.failure.RetryPolicy;
 import com.ecarbon.gdsc.audits.lighthouse.LighthouseDataExtractor;
 import com.ecarbon.gdsc.audits.lighthouse.LighthouseDataWriter;
 import com.ecarbon.gdsc.audits.lighthouse.LighthouseRunner;
 import com.ecarbon.gdsc.audits.lighthouse.LighthouseWorker;
-import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.metrics.AuditMetrics;
+import com.ecarbon.gdsc.audits.politeness.HostPolitenessLimiter;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditPriority;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.queue.AuditSink;
+import com.ecarbon.gdsc.audits.queue.AuditTask;
+import com.ecarbon.gdsc.audits.queue.PriorityAuditQueue;
+import com.ecarbon.gdsc.audits.repository.FailedMeasurementsRepository;
+import com.ecarbon.gdsc.audits.resource.ResourceSizeIndex;
+import com.ecarbon.gdsc.audits.util.DateCalculator;
+import com.ecarbon.gdsc.audits.util.UrlCanonicalizer;
+import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
+import com.ecarbon.gdsc.carbon.exception.LighthouseMeasurementException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 애플리케이션과 함께 시작되는 Lighthouse 워커 풀
+ * 워커 스레드는 큐에서 작업을 꺼내 측정하고, 각 작업의 future 를 완료시킨다.
+ * 같은 URL 에 대한 요청이 동시에 들어오면 진행 중인 작업 하나를 공유한다.
+ * 스레드는 max-workers 만큼 두고, 실제 동시 실행 수는 AdaptiveConcurrencyLimiter 가 정한다.
+ * 어떤 작업을 먼저 꺼낼지는 PriorityAuditQueue 의 레인 규칙을 따른다.
+ * 일시적 실패는 백오프 후 다시 큐에 넣고, 재시도가 끝났거나 영구적인 실패는 failed_measurements 에 남긴다.
+ * FAST 모드 작업은 Chrome 을 쓰지 않으므로 Lighthouse 슬롯/레인을 거치지 않고 별도 스레드 풀에서 실행한다. (도메인 간격은 지킨다)
+ * 주간 배치의 변경 확인(이어 쓰기)도 같은 스레드 풀에서 먼저 하고, 다시 측정해야 하는 작업만 큐에 넣는다.
+ * Lighthouse 작업은 측정(실행 + 스트림 추출)과 저장(탄소 계산 + Firestore 쓰기 + 색인/보관)을 다른 스레드 풀에서 실행한다.
+ * 측정이 끝나면 Chrome 슬롯을 먼저 돌려준 뒤 저장 단계로 넘기고, 저장 대기열(persist-queue-capacity)이 차면
+ * 넘기려는 워커 스레드가 기다리므로 저장이 느릴 때는 새 측정을 덜 꺼내게 된다.
+ * 저장에 실패하면 측정을 다시 하지 않고 같은 결과로 백오프 후 저장만 다시 한다.
+ */
 @Component
 @Slf4j
 public class MainRunner {
 
-    private static final int THREAD_COUNT = 2;
+    // FAST 측정과 변경 확인이 같은 도메인의 측정 간격을 기다리는 최대 시간. FAST 는 넘으면 일시적 실패로 재시도한다
+    private static final Duration FAST_HOST_WAIT = Duration.ofMinutes(10);
 
     @Autowired
     private LighthouseDataExtractor extractor;
@@ -26,64 +80,582 @@ public class MainRunner {
     @Autowired
     private LighthouseDataWriter writer;
 
-    private final LinkedBlockingQueue<String> urlQueue = new LinkedBlockingQueue<>();
+    @Autowired
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Autowired
+    private FailureClassifier failureClassifier;
+
+    @Autowired
+    private RetryPolicy retryPolicy;
+
+    @Autowired
+    private FailedMeasurementsRepository failedMeasurementsRepository;
+
+    @Autowired
+    private PriorityAuditQueue taskQueue;
+
+    @Autowired
+    private FastPageWeightEstimator fastEstimator;
+
+    @Autowired
+    private CarryForwardService carryForwardService;
+
+    @Autowired
+    private AuditMetrics metrics;
+
+    @Autowired
+    private ResourceSizeIndex resourceSizeIndex;
+
+    @Autowired
+    private ReportArchive reportArchive;
+
+    @Autowired
+    private AuditCostService auditCostService;
+
+    @Autowired
+    private DevToolsPageWeightEngine devToolsEngine;
+
+    @Autowired
+    private HostPolitenessLimiter politenessLimiter;
+
+    @Value("${audit.fast.concurrency:16}")
+    private int fastConcurrency;
+
+    @Value("${audit.pipeline.persist-threads:4}")
+    private int persistThreads;
+
+    @Value("${audit.pipeline.persist-queue-capacity:8}")
+    private int persistQueueCapacity;
+
+    // 정규화된 URL -> 대기 중이거나 실행 중인 작업
+    private final ConcurrentHashMap<String, AuditTask> inFlightTasks = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    // 백오프 대기 중인 작업
+    private final Set<AuditTask> retryingTasks = ConcurrentHashMap.newKeySet();
+    // 측정은 끝났고 저장을 다시 하려고 백오프 대기 중인 작업 -> 측정 결과
+    private final Map<AuditTask, LighthouseWorker.Measured> persistRetries = new ConcurrentHashMap<>();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong deadLetterCount = new AtomicLong();
+
+    // Lighthouse 슬롯 없이 실행을 기다리는 작업 (FAST 측정, 측정 전 변경 확인)
+    private final Set<AuditTask> fastPendingTasks = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService executorService;
+    private ExecutorService fastExecutor;
+    private LighthouseWorker fastWorker;
+    private Map<AuditMode, AuditEngine> engines;
+    private ExecutorService persistExecutor;
+    // 저장 중이거나 저장을 기다리는 측정 수를 persist-threads + persist-queue-capacity 로 제한
+    private Semaphore persistPermits;
+    private int persistPermitCount;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        int workerCount = concurrencyLimiter.getMaxWorkers();
+        running = true;
+        executorService = Executors.newFixedThreadPool(workerCount, new WorkerThreadFactory());
+        engines = new EnumMap<>(AuditMode.class);
+        engines.put(AuditMode.FAST, fastEstimator);
+        engines.put(AuditMode.DEVTOOLS, devToolsEngine);
+        fastWorker = new LighthouseWorker(extractor, runner, writer, engines, carryForwardService, metrics,
+                resourceSizeIndex, reportArchive, auditCostService);
+        AtomicInteger fastSequence = new AtomicInteger(1);
+        fastExecutor = Executors.newFixedThreadPool(Math.max(1, fastConcurrency), r -> {
+            Thread thread = new Thread(r, "fast-audit-worker-" + fastSequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger persistSequence = new AtomicInteger(1);
+        persistExecutor = Executors.newFixedThreadPool(Math.max(1, persistThreads), r -> {
+            Thread thread = new Thread(r, "audit-persist-" + persistSequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        persistPermitCount = Math.max(1, persistThreads) + Math.max(0, persistQueueCapacity);
+        persistPermits = new Semaphore(persistPermitCount);
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "lighthouse-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        metrics.gauge("audit.queue.depth", "Audits waiting in the queue", this::getQueueSize);
+        metrics.gauge("audit.in_flight", "Audits queued or running", this::getInFlightCount);
+        metrics.gauge("audit.retrying", "Audits waiting for a retry backoff", this::getRetryingCount);
+        metrics.gauge("audit.persist.pending", "Measured audits being saved or waiting to be saved", this::getPersistPendingCount);
+        metrics.gauge("audit.concurrency.limit", "Current Lighthouse concurrency limit", concurrencyLimiter::getLimit);
+
+        // 각 스레드에 워커 루프 할당
+        for (int i = 0; i < workerCount; i++) {
+            executorService.submit(this::workLoop);
+        }
+        log.info("[MAIN] 🕐 Started Lighthouse worker pool with {} threads (concurrency limit {}), {} persist threads",
+                workerCount, concurrencyLimiter.getLimit(), persistThreads);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        retryScheduler.shutdownNow();
+        fastExecutor.shutdownNow();
+        executorService.shutdownNow();
+        try {
+            if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("[MAIN] ⚠️ Worker pool did not terminate in 30 seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
 
-    public void addUrlToQueue(String url) {
+        // 측정이 끝난 결과는 버리지 않고 저장까지 마친다
+        persistExecutor.shutdown();
         try {
-            urlQueue.put(url);
-            log.info("[MAIN] ➕ Added URL to queue: {}", url);
+            if (!persistExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("[MAIN] ⚠️ {} measured audits were not saved before shutdown", getPersistPendingCount());
+                persistExecutor.shutdownNow();
+            }
         } catch (InterruptedException e) {
-            log.error("[MAIN] ❌ Failed to add URL to queue: {}", url);
+            persistExecutor.shutdownNow();
             Thread.currentThread().interrupt();
         }
+
+        // 저장을 다시 하려고 기다리던 측정은 버린다
+        persistRetries.forEach((task, measured) -> {
+            measured.discard();
+            persistPermits.release();
+        });
+        List<AuditTask> pending = new ArrayList<>(persistRetries.keySet());
+        persistRetries.clear();
+
+        // 처리되지 못한 작업은 실패 처리
+        taskQueue.drainTo(pending);
+        pending.addAll(retryingTasks);
+        pending.addAll(fastPendingTasks);
+        retryingTasks.clear();
+        fastPendingTasks.clear();
+        pending.forEach(task -> task.getResult().completeExceptionally(
+                new LighthouseMeasurementException("Worker pool is shutting down")));
+        log.info("[MAIN] 🛑 Worker pool stopped ({} pending tasks cancelled)", pending.size());
+    }
+
+    public AuditTask submit(String url) {
+        return submit(url, null);
+    }
+
+    /**
+     * placeInfo 가 있으면 주간 배치 측정으로 등록 (결과를 weekly_measurements 에 저장)
+     */
+    public AuditTask submit(String url, PlaceInfo placeInfo) {
+        return submit(url, placeInfo, placeInfo != null ? AuditPriority.BATCH : AuditPriority.INTERACTIVE);
     }
 
-    public Measurements runAudit() throws InterruptedException {
-        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
-        CompletableFuture<Measurements> resultFuture = new CompletableFuture<>();
+    public AuditTask submit(String url, PlaceInfo placeInfo, AuditPriority priority) {
+        return submit(url, placeInfo, priority, AuditMode.LIGHTHOUSE);
+    }
+
+    public AuditTask submit(String url, PlaceInfo placeInfo, AuditPriority priority, AuditMode mode) {
+        return submit(url, placeInfo, priority, mode, AuditProfile.OPTIMIZATION_FULL);
+    }
+
+    public AuditTask submit(String url, PlaceInfo placeInfo, AuditPriority priority, AuditMode mode, AuditProfile profile) {
+        return submit(url, placeInfo, priority, mode, profile, AuditSink.of(placeInfo));
+    }
+
+    /**
+     * @param sink 결과 저장 위치. SITE 면 저장하지 않고 결과만 돌려준다 (사이트 측정의 내부 페이지)
+     */
+    public AuditTask submit(String url, PlaceInfo placeInfo, AuditPriority priority, AuditMode mode, AuditProfile profile,
+                            AuditSink sink) {
+        if (!running) {
+            AuditTask rejected = new AuditTask(url, placeInfo, priority, mode, profile, sink);
+            rejected.getResult().completeExceptionally(new LighthouseMeasurementException("Worker pool is not running"));
+            return rejected;
+        }
+
+        // 저장 위치가 다른 배치 측정과 사용자 측정은 합치지 않는다
+        String key = sink + ":" + mode + ":" + profile + ":" + UrlCanonicalizer.canonicalize(url);
+        AuditTask[] created = new AuditTask[1];
+
+        AuditTask task = inFlightTasks.compute(key, (k, existing) -> {
+            if (existing != null && !existing.getResult().isDone()) {
+                return existing;
+            }
+            created[0] = new AuditTask(url, placeInfo, priority, mode, profile, sink);
+            return created[0];
+        });
 
-        log.info("[MAIN] 🕐 Starting audit with {} threads", THREAD_COUNT);
+        if (created[0] == null) {
+            coalescedCount.incrementAndGet();
+            // 더 급한 요청이 합류하면 대기 중인 작업을 그 레인으로 올린다
+            taskQueue.promote(task, priority);
+            log.info("[MAIN] 🔗 Joined in-flight audit for URL: {}", url);
+            return task;
+        }
+
+        task.getResult().whenComplete((result, error) -> inFlightTasks.remove(key, task));
+        enqueue(task);
+        log.info("[MAIN] ➕ Added {} {} audit: {} (queue size: {})", priority, mode, url, taskQueue.size());
+        return task;
+    }
+
+    public int getQueueSize() {
+        return taskQueue.size() + fastPendingTasks.size();
+    }
+
+    public int getInFlightCount() {
+        return inFlightTasks.size();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public int getRetryingCount() {
+        return retryingTasks.size() + persistRetries.size();
+    }
+
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    public long getDeadLetterCount() {
+        return deadLetterCount.get();
+    }
+
+    public int getPersistPendingCount() {
+        return persistPermits == null ? 0 : persistPermitCount - persistPermits.availablePermits();
+    }
+
+    private void workLoop() {
+        LighthouseWorker worker = new LighthouseWorker(extractor, runner, writer, engines, carryForwardService, metrics,
+                resourceSizeIndex, reportArchive, auditCostService);
+
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                // 슬롯을 먼저 확보한 뒤에 작업을 꺼내야 실행할 수 없는 스레드가 작업을 붙잡지 않는다
+                concurrencyLimiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
 
-        // 각 스레듀에 작업 할당
-        for (int i = 0; i < THREAD_COUNT; i++) {
-            executorService.submit(() -> {
+            AuditTask task;
+            try {
+                task = taskQueue.poll(1, TimeUnit.SECONDS, concurrencyLimiter.getLimit());
+            } catch (InterruptedException e) {
+                concurrencyLimiter.release();
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (task == null) {
+                concurrencyLimiter.release();
+                continue;
+            }
+
+            metrics.record(AuditMetrics.Stage.QUEUE_WAIT,
+                    Duration.between(task.getQueuedAt(), LocalDateTime.now()), task.getPriority().name());
+
+            LighthouseWorker.Measured measured = null;
+            Exception failure = null;
+            try {
+                measured = worker.measure(task);
+            } catch (Exception e) {
+                failure = e;
+                handleFailure(task, e);
+            } finally {
+                taskQueue.done(task);
+                releaseSlot(task, measured, failure);
+            }
+
+            if (measured != null && measured.isSaved()) {
+                complete(task, measured.getSaved());
+            } else if (measured != null) {
+                handOff(worker, task, measured);
+            }
+        }
+    }
+
+    /**
+     * Lighthouse 슬롯 반납. 한도 조절에는 측정 프로세스 실행 시간만 쓰고, 기준 시간은 측정 방식과 프로필마다 따로 둔다.
+     * 시간 초과나 Chrome 크래시 같은 일시적 실패는 과부하로 보고 한도를 줄인다.
+     * 페이지 자체의 문제로 인한 영구 실패는 장비 부하와 관계가 없으므로 한도에 반영하지 않는다.
+     */
+    private void releaseSlot(AuditTask task, LighthouseWorker.Measured measured, Exception failure) {
+        if (measured != null && measured.getRuntime() != null) {
+            concurrencyLimiter.release(task.getMode() + ":" + task.getProfile().getId(), measured.getRuntime());
+        } else if (failure != null && failureClassifier.classify(failure) == FailureType.TRANSIENT) {
+            concurrencyLimiter.releaseOverloaded(task.getMode() + " failure: " + failure.getMessage());
+        } else {
+            concurrencyLimiter.release();
+        }
+    }
+
+    /**
+     * 측정 결과를 저장 스레드로 넘긴다. 저장 대기열이 가득 차 있으면 자리가 날 때까지 이 스레드가 기다린다.
+     * Chrome 슬롯은 이미 반납한 뒤라 기다리는 동안 다른 워커가 측정을 계속할 수 있다.
+     */
+    private void handOff(LighthouseWorker worker, AuditTask task, LighthouseWorker.Measured measured) {
+        try {
+            persistPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            measured.discard();
+            task.getResult().completeExceptionally(new LighthouseMeasurementException("Worker pool is shutting down"));
+            return;
+        }
+
+        submitPersist(worker, task, measured, System.nanoTime(), 1);
+    }
+
+    /**
+     * 저장 실행. 저장 허가는 저장이 끝나거나 포기할 때 돌려준다.
+     */
+    private void submitPersist(LighthouseWorker worker, AuditTask task, LighthouseWorker.Measured measured,
+                               long handOffNanos, int attempt) {
+        try {
+            persistExecutor.execute(() -> {
+                if (attempt == 1) {
+                    metrics.recordSince(AuditMetrics.Stage.PERSIST_WAIT, handOffNanos);
+                }
+                Measurements measurements;
                 try {
-                    Measurements result = new LighthouseWorker(extractor, runner, writer, urlQueue).run();
-                    if (result != null) {
-                        resultFuture.complete(result);
-                    }
+                    measurements = worker.persist(task, measured);
                 } catch (Exception e) {
-                    log.error("[MAIN] ❌ Error occurred while executing task", e);
-                    resultFuture.completeExceptionally(e);
+                    retryPersist(worker, task, measured, attempt, e);
+                    return;
                 }
+                persistPermits.release();
+                complete(task, measurements);
             });
+        } catch (RejectedExecutionException e) {
+            abandonPersist(task, measured, new LighthouseMeasurementException("Worker pool is shutting down"));
         }
+    }
 
-        // ExecutorService 종료
-        executorService.shutdown();
-        try {
-            // 최대 10분 대기
-            if (!executorService.awaitTermination(10, TimeUnit.MINUTES)) {
-                log.warn("[MAIN] ⚠️ Tasks did not complete in 10 minutes. Force shutting down...");
-                executorService.shutdownNow();
-                throw new InterruptedException("Tasks did not complete in 10 minutes");
-            } else {
-                log.info("[MAIN] ✅ All tasks completed successfully");
+    /**
+     * 저장 실패 처리. 측정은 이미 끝났으므로 Lighthouse 를 다시 돌리지 않고 같은 결과로 백오프 후 다시 저장한다.
+     * 기다리는 동안에도 저장 허가를 쥐고 있어서, 저장소가 느리거나 멈추면 새 측정을 덜 꺼낸다.
+     */
+    private void retryPersist(LighthouseWorker worker, AuditTask task, LighthouseWorker.Measured measured, int attempt, Exception e) {
+        FailureType type = failureClassifier.classify(e);
+
+        if (running && retryPolicy.shouldRetry(type, attempt)) {
+            Duration delay = retryPolicy.backoff(attempt);
+            log.warn("[MAIN] 🔁 {} save failure for {} (attempt {}/{}), saving again in {} ms: {}",
+                    type, task.getUrl(), attempt, retryPolicy.getMaxAttempts(), delay.toMillis(), e.getMessage());
+
+            persistRetries.put(task, measured);
+            retryCount.incrementAndGet();
+            try {
+                retryScheduler.schedule(() -> {
+                    if (persistRetries.remove(task) != null) {
+                        submitPersist(worker, task, measured, 0, attempt + 1);
+                    }
+                }, delay.toMillis(), TimeUnit.MILLISECONDS);
+                metrics.recordFailure(type, true);
+                return;
+            } catch (RejectedExecutionException rejected) {
+                persistRetries.remove(task);
             }
-        } catch (InterruptedException e) {
-            log.error("[MAIN] ❌ Interrupted while waiting for tasks to complete", e);
-            executorService.shutdownNow();
-            Thread.currentThread().interrupt();
-            throw e;
         }
 
+        log.error("[MAIN] ❌ {} save failure for {} after {} attempt(s)", type, task.getUrl(), attempt, e);
+        metrics.recordFailure(type, false);
+        if (task.getSink() != AuditSink.SITE) {
+            deadLetter(task, type, e);
+        }
+        abandonPersist(task, measured, e);
+    }
+
+    private void abandonPersist(AuditTask task, LighthouseWorker.Measured measured, Exception e) {
+        measured.discard();
+        persistPermits.release();
+        task.getResult().completeExceptionally(e);
+    }
+
+    /**
+     * 작업 하나를 실행하고 future 를 완료하거나 실패 처리한다. 어떤 예외도 밖으로 던지지 않는다.
+     */
+    private boolean execute(LighthouseWorker worker, AuditTask task) {
         try {
-            return resultFuture.get(1, TimeUnit.MINUTES);
+            complete(task, worker.run(task));
+            return true;
         } catch (Exception e) {
-            log.error("[MAIN] ❌ Failed to get measurement result", e);
-            throw new InterruptedException("Failed to get measurement result");
+            handleFailure(task, e);
+            return false;
+        }
+    }
+
+    private void complete(AuditTask task, Measurements measurements) {
+        task.getResult().complete(measurements);
+        metrics.recordCompleted(task.getMode().name());
+    }
+
+    private void enqueue(AuditTask task) {
+        if (task.getMode() == AuditMode.FAST) {
+            enqueueFast(task);
+        } else if (!task.isChangeChecked() && carryForwardService.appliesTo(task)) {
+            // 조건부 요청과 지난 측정 조회는 Chrome 을 쓰지 않으므로 슬롯을 잡기 전에 끝낸다
+            enqueueChangeCheck(task);
+        } else {
+            taskQueue.add(task);
         }
     }
 
+    /**
+     * FAST 측정은 Chrome 슬롯을 쓰지 않지만 대상 사이트에 요청을 보내므로, Lighthouse 측정과 같은 도메인 간격과
+     * 동시 실행 한도(robots.txt Crawl-delay 포함)를 나눠 쓴다. 기다리는 동안 스레드는 잡지 않는다.
+     * 사용자 측정(INTERACTIVE)은 우선순위 큐와 같이 기다리지 않고, 다음 배치 요청의 간격 계산에만 반영한다.
+     */
+    private void enqueueFast(AuditTask task) {
+        if (task.getPriority() == AuditPriority.INTERACTIVE) {
+            politenessLimiter.onStart(task.getUrl());
+            runFast(task);
+            return;
+        }
 
-}
\ No newline at end of file
+        fastPendingTasks.add(task);
+        politenessLimiter.awaitStart(task.getUrl(), FAST_HOST_WAIT).whenComplete((started, error) -> {
+            if (!Boolean.TRUE.equals(started)) {
+                if (fastPendingTasks.remove(task)) {
+                    handleFailure(task, new LighthouseMeasurementException("Host stayed busy for URL: " + task.getUrl(),
+                            new TimeoutException("No politeness slot within " + FAST_HOST_WAIT.toMinutes() + " min")));
+                }
+                return;
+            }
+            runFast(task);
+        });
+    }
+
+    private void runFast(AuditTask task) {
+        runWithoutSlot(task, () -> {
+            try {
+                execute(fastWorker, task);
+            } finally {
+                politenessLimiter.onFinish(task.getUrl());
+            }
+        });
+    }
+
+    /**
+     * 변경 확인도 대상 사이트에 요청을 보내므로 FAST 측정처럼 도메인 간격을 기다린 뒤 한 번의 방문으로 실행한다.
+     * 제때 허락을 받지 못하면 확인 없이 큐에 넣는다 (Lighthouse 큐가 간격을 다시 지킨다).
+     */
+    private void enqueueChangeCheck(AuditTask task) {
+        fastPendingTasks.add(task);
+        politenessLimiter.awaitStart(task.getUrl(), FAST_HOST_WAIT).whenComplete((started, error) -> {
+            if (!Boolean.TRUE.equals(started)) {
+                if (fastPendingTasks.remove(task)) {
+                    taskQueue.add(task);
+                }
+                return;
+            }
+            runWithoutSlot(task, () -> {
+                try {
+                    carryForwardOrQueue(task);
+                } finally {
+                    politenessLimiter.onFinish(task.getUrl());
+                }
+            });
+        });
+    }
+
+    private void carryForwardOrQueue(AuditTask task) {
+        Optional<Measurements> carried = carryForwardService.tryCarryForward(task);
+        if (carried.isPresent()) {
+            complete(task, carried.get());
+        } else {
+            taskQueue.add(task);
+        }
+    }
+
+    private void runWithoutSlot(AuditTask task, Runnable body) {
+        fastPendingTasks.add(task);
+        try {
+            fastExecutor.execute(() -> {
+                if (fastPendingTasks.remove(task)) {
+                    body.run();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            fastPendingTasks.remove(task);
+            task.getResult().completeExceptionally(new LighthouseMeasurementException("Worker pool is shutting down"));
+        }
+    }
+
+    /**
+     * 일시적 실패는 지터를 준 지수 백오프 후 다시 큐에 넣고, 그 외에는 실패 기록을 남기고 future 를 실패 처리
+     */
+    private void handleFailure(AuditTask task, Exception e) {
+        FailureType type = failureClassifier.classify(e);
+
+        if (running && retryPolicy.shouldRetry(type, task.getAttempts())) {
+            Duration delay = retryPolicy.backoff(task.getAttempts());
+            log.warn("[MAIN] 🔁 {} failure for {} (attempt {}/{}), retrying in {} ms: {}",
+                    type, task.getUrl(), task.getAttempts(), retryPolicy.getMaxAttempts(), delay.toMillis(), e.getMessage());
+
+            retryingTasks.add(task);
+            retryCount.incrementAndGet();
+            try {
+                retryScheduler.schedule(() -> {
+                    if (retryingTasks.remove(task)) {
+                        enqueue(task);
+                    }
+                }, delay.toMillis(), TimeUnit.MILLISECONDS);
+                metrics.recordFailure(type, true);
+                return;
+            } catch (RejectedExecutionException rejected) {
+                retryingTasks.remove(task);
+            }
+        }
+
+        log.error("[MAIN] ❌ {} failure for {} after {} attempt(s)", type, task.getUrl(), task.getAttempts(), e);
+        metrics.recordFailure(type, false);
+        if (task.getSink() != AuditSink.SITE) {
+            // 사이트 측정의 내부 페이지 실패는 site_measurements 에 페이지별로 남고, 다시 실행해도 저장할 곳이 없다
+            deadLetter(task, type, e);
+        }
+        task.getResult().completeExceptionally(e);
+    }
+
+    private void deadLetter(AuditTask task, FailureType type, Exception e) {
+        LocalDateTime now = LocalDateTime.now();
+        FailedUserMeasurements.FailedUserMeasurementsBuilder failed = FailedUserMeasurements.builder()
+                .url(task.getUrl())
+                .measuredAt(now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .weekStartDate(DateCalculator.getMondayAsString(now))
+                .errorMessage(e.getMessage())
+                .measurementType(task.isWeeklyBatch() ? "weekly" : "user")
+                .placeInfo(task.getPlaceInfo())
+                .auditMode(task.getMode().name())
+                .auditProfile(task.getProfile().name())
+                .failureType(type.name())
+                .exceptionClass(e.getClass().getName())
+                .attempts(task.getAttempts())
+                .enqueuedAt(task.getEnqueuedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+
+        if (e instanceof LighthouseMeasurementException measurementError && measurementError.getOutcome() != null) {
+            failed.processOutcome(measurementError.getOutcome().name())
+                    .exitCode(measurementError.getExitCode())
+                    .stderrTail(measurementError.getStderrTail());
+        }
+
+        failedMeasurementsRepository.save(failed.build());
+        deadLetterCount.incrementAndGet();
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "lighthouse-worker-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
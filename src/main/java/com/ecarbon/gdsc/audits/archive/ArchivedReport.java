@@ -0,0 +1,27 @@
+package com.ecarbon.gdsc.audits.archive;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관된 Lighthouse 원본 리포트 한 건의 색인 항목
+ * 리포트 본문은 contentHash 이름의 gzip 파일에 있고, 내용이 같은 리포트는 파일 하나를 함께 쓴다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedReport {
+
+    private String url;
+    private String measuredAt;
+    private String auditProfile;
+
+    private String contentHash;     // 압축 전 리포트의 SHA-256
+    private long rawBytes;
+    private long compressedBytes;
+
+    private String archivedAt;
+}
@@ -0,0 +1,505 @@
+package com.ecarbon.gdsc.audits.archive;
+
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.util.UrlCanonicalizer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Lighthouse 원본 리포트를 로컬 디스크에 gzip 으로 보관한다.
+ * 리포트는 추출과 동시에 스트림에서 임시 파일로 복사되고(Capture), 측정이 저장된 뒤 압축 전 내용의 SHA-256 이름으로 옮겨진다.
+ * 내용이 같은 리포트는 파일 하나를 함께 쓰며, (URL, measuredAt) -> 파일 색인은 index.jsonl 에 한 줄씩 추가하고 시작할 때 메모리로 읽는다.
+ * 전체 크기가 max-bytes 를 넘으면 가장 먼저 보관한 리포트부터 max-bytes * low-water-ratio 아래로 내려갈 때까지 한꺼번에 지운다.
+ * 지운 리포트는 색인에 삭제 줄(evicted)을 덧붙여 남기고, 색인 파일은 삭제 줄이 쌓였을 때만 다시 쓴다.
+ *
+ * 디렉터리 구조
+ *   objects/ab/abcdef....json.gz   리포트 본문
+ *   index.jsonl                    색인
+ *   tmp/                           저장 전 임시 파일
+ */
+@Slf4j
+@Component
+public class ReportArchive {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String INDEX_FILE = "index.jsonl";
+    private static final int MIN_COMPACT_LINES = 1000;     // 색인이 이 줄 수보다 짧으면 다시 쓰지 않는다
+
+    @Getter
+    private final boolean enabled;
+    @Getter
+    private final Path directory;
+    @Getter
+    private final long maxBytes;
+    private final long lowWaterBytes;
+
+    // 아래 색인은 모두 this 로 보호한다
+    private final Map<String, NavigableMap<String, ArchivedReport>> byUrl = new HashMap<>();
+    private final Set<ArchivedReport> archiveOrder = new LinkedHashSet<>();
+    private final Map<String, Integer> refCounts = new HashMap<>();
+    private final Map<String, Long> objectBytes = new HashMap<>();
+    private long totalBytes;
+    private long indexLines;        // index.jsonl 의 줄 수 (삭제 줄 포함)
+
+    private final AtomicLong dedupedCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    public ReportArchive(
+            @Value("${audit.archive.enabled:true}") boolean enabled,
+            @Value("${audit.archive.directory:data/report-archive}") String directory,
+            @Value("${audit.archive.max-bytes:5368709120}") long maxBytes,
+            @Value("${audit.archive.low-water-ratio:0.9}") double lowWaterRatio) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory).toAbsolutePath();
+        this.maxBytes = maxBytes;
+        this.lowWaterBytes = (long) (maxBytes * Math.min(1.0, Math.max(0.0, lowWaterRatio)));
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            log.info("[ARCHIVE] ℹ️ Raw report archive disabled");
+            return;
+        }
+        try {
+            Files.createDirectories(directory.resolve("objects"));
+            Files.createDirectories(directory.resolve("tmp"));
+            clearTemporaryFiles();
+            loadIndex();
+            log.info("[ARCHIVE] 📦 Loaded {} archived reports ({} bytes) from {}", reportCount(), totalBytes(), directory);
+        } catch (IOException e) {
+            log.error("[ARCHIVE] ❌ Failed to open report archive at {}", directory, e);
+        }
+    }
+
+    /**
+     * 측정 하나의 리포트를 받을 준비. 보관이 꺼져 있으면 스트림을 그대로 통과시킨다.
+     */
+    public Capture capture() {
+        return new Capture(enabled ? directory.resolve("tmp").resolve(UUID.randomUUID() + ".json.gz") : null);
+    }
+
+    /**
+     * 끝까지 읽은 리포트를 보관하고 색인에 추가한다. 실패해도 측정에는 영향을 주지 않는다.
+     */
+    public Optional<ArchivedReport> store(Capture capture, String url, String measuredAt, AuditProfile profile) {
+        if (!enabled || capture.tempFile == null || measuredAt == null) {
+            capture.close();
+            return Optional.empty();
+        }
+        try {
+            String hash = capture.finish();
+            Path object = objectPath(hash);
+            ArchivedReport report;
+
+            // 파일 배치와 색인 추가를 한 번에 해야 보관 정리가 방금 찾은 파일을 지우지 않는다
+            synchronized (this) {
+                if (Files.exists(object)) {
+                    dedupedCount.incrementAndGet();
+                } else {
+                    Files.createDirectories(object.getParent());
+                    moveAtomically(capture.tempFile, object);
+                }
+
+                report = ArchivedReport.builder()
+                        .url(url)
+                        .measuredAt(measuredAt)
+                        .auditProfile(profile != null ? profile.getId() : null)
+                        .contentHash(hash)
+                        .rawBytes(capture.rawBytes)
+                        .compressedBytes(Files.size(object))
+                        .archivedAt(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                        .build();
+                add(report);
+                appendToIndex(report);
+                enforceRetention();
+            }
+            log.debug("[ARCHIVE] Archived report for {} at {} ({} -> {} bytes)",
+                    url, measuredAt, report.getRawBytes(), report.getCompressedBytes());
+            return Optional.of(report);
+        } catch (IOException e) {
+            log.warn("[ARCHIVE] ⚠️ Failed to archive report for {}: {}", url, e.getMessage());
+            return Optional.empty();
+        } finally {
+            capture.close();
+        }
+    }
+
+    public synchronized Optional<ArchivedReport> find(String url, String measuredAt) {
+        NavigableMap<String, ArchivedReport> reports = byUrl.get(UrlCanonicalizer.canonicalize(url));
+        return reports == null ? Optional.empty() : Optional.ofNullable(reports.get(measuredAt));
+    }
+
+    public synchronized Optional<ArchivedReport> findLatest(String url) {
+        NavigableMap<String, ArchivedReport> reports = byUrl.get(UrlCanonicalizer.canonicalize(url));
+        return reports == null || reports.isEmpty() ? Optional.empty() : Optional.of(reports.lastEntry().getValue());
+    }
+
+    /**
+     * URL 의 보관된 리포트 목록 (최근 측정부터)
+     */
+    public synchronized List<ArchivedReport> history(String url) {
+        NavigableMap<String, ArchivedReport> reports = byUrl.get(UrlCanonicalizer.canonicalize(url));
+        return reports == null ? List.of() : new ArrayList<>(reports.descendingMap().values());
+    }
+
+    /**
+     * 지금 보관된 전체 리포트 (보관한 순서)
+     */
+    public synchronized List<ArchivedReport> snapshot() {
+        return new ArrayList<>(archiveOrder);
+    }
+
+    /**
+     * 압축을 푼 리포트 JSON 스트림. 다 읽은 뒤 닫아야 한다.
+     */
+    public InputStream open(ArchivedReport report) throws IOException {
+        return new GZIPInputStream(Files.newInputStream(objectPath(report.getContentHash())), 8192);
+    }
+
+    public synchronized int reportCount() {
+        return archiveOrder.size();
+    }
+
+    public synchronized int objectCount() {
+        return objectBytes.size();
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    public long getDedupedCount() {
+        return dedupedCount.get();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    private Path objectPath(String hash) {
+        return directory.resolve("objects").resolve(hash.substring(0, 2)).resolve(hash + ".json.gz");
+    }
+
+    private void add(ArchivedReport report) {
+        NavigableMap<String, ArchivedReport> reports =
+                byUrl.computeIfAbsent(UrlCanonicalizer.canonicalize(report.getUrl()), key -> new TreeMap<>());
+        ArchivedReport replaced = reports.put(report.getMeasuredAt(), report);
+        archiveOrder.add(report);
+        if (refCounts.merge(report.getContentHash(), 1, Integer::sum) == 1) {
+            objectBytes.put(report.getContentHash(), report.getCompressedBytes());
+            totalBytes += report.getCompressedBytes();
+        }
+        // 같은 측정을 다시 보관한 경우 (참조를 먼저 늘려야 내용이 같을 때 파일이 지워지지 않는다)
+        if (replaced != null) {
+            archiveOrder.remove(replaced);
+            release(replaced.getContentHash());
+        }
+    }
+
+    /**
+     * 색인에서 빼고 파일 참조를 놓는다
+     */
+    private void remove(ArchivedReport report) {
+        archiveOrder.remove(report);
+        String key = UrlCanonicalizer.canonicalize(report.getUrl());
+        NavigableMap<String, ArchivedReport> reports = byUrl.get(key);
+        if (reports != null) {
+            reports.remove(report.getMeasuredAt(), report);
+            if (reports.isEmpty()) {
+                byUrl.remove(key);
+            }
+        }
+        release(report.getContentHash());
+    }
+
+    /**
+     * 참조가 없어진 파일은 지운다
+     */
+    private void release(String hash) {
+        Integer remaining = refCounts.merge(hash, -1, Integer::sum);
+        if (remaining != null && remaining <= 0) {
+            refCounts.remove(hash);
+            Long bytes = objectBytes.remove(hash);
+            totalBytes -= bytes != null ? bytes : 0;
+            try {
+                Files.deleteIfExists(objectPath(hash));
+            } catch (IOException e) {
+                log.warn("[ARCHIVE] ⚠️ Failed to delete archived report {}: {}", hash, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 크기 한도를 넘으면 오래된 리포트부터 lowWaterBytes 아래로 내려갈 때까지 지운다 (가장 최근 리포트 하나는 남김)
+     * 지운 리포트는 색인에 삭제 줄로 덧붙이고, 삭제 줄이 살아 있는 리포트보다 많아지면 색인 파일을 다시 쓴다.
+     */
+    private void enforceRetention() throws IOException {
+        if (totalBytes <= maxBytes) {
+            return;
+        }
+        List<ArchivedReport> evicted = new ArrayList<>();
+        while (totalBytes > lowWaterBytes && archiveOrder.size() > 1) {
+            ArchivedReport oldest = archiveOrder.iterator().next();
+            remove(oldest);
+            evicted.add(oldest);
+        }
+        if (evicted.isEmpty()) {
+            return;
+        }
+        evictedCount.addAndGet(evicted.size());
+        if (indexLines + evicted.size() > Math.max(MIN_COMPACT_LINES, 2L * archiveOrder.size())) {
+            compactIndex();
+        } else {
+            appendEvictions(evicted);
+        }
+        log.info("[ARCHIVE] 🧹 Evicted {} archived reports, {} bytes kept", evicted.size(), totalBytes);
+    }
+
+    private void appendToIndex(ArchivedReport report) throws IOException {
+        Files.writeString(directory.resolve(INDEX_FILE), MAPPER.writeValueAsString(report) + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        indexLines++;
+    }
+
+    private void appendEvictions(List<ArchivedReport> evicted) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (ArchivedReport report : evicted) {
+            lines.append(MAPPER.writeValueAsString(Map.of(
+                    "evicted", true,
+                    "url", report.getUrl(),
+                    "measuredAt", report.getMeasuredAt()))).append('\n');
+        }
+        Files.writeString(directory.resolve(INDEX_FILE), lines, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        indexLines += evicted.size();
+    }
+
+    /**
+     * 살아 있는 리포트만으로 색인 파일을 다시 쓴다
+     */
+    private void compactIndex() throws IOException {
+        Path temp = directory.resolve("tmp").resolve(INDEX_FILE);
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (ArchivedReport report : archiveOrder) {
+                writer.write(MAPPER.writeValueAsString(report));
+                writer.newLine();
+            }
+        }
+        moveAtomically(temp, directory.resolve(INDEX_FILE));
+        indexLines = archiveOrder.size();
+    }
+
+    private synchronized void loadIndex() throws IOException {
+        Path index = directory.resolve(INDEX_FILE);
+        if (!Files.exists(index)) {
+            return;
+        }
+        int skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(index, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                indexLines++;
+                try {
+                    JsonNode entry = MAPPER.readTree(line);
+                    if (entry.path("evicted").asBoolean()) {
+                        NavigableMap<String, ArchivedReport> reports =
+                                byUrl.get(UrlCanonicalizer.canonicalize(entry.path("url").asText()));
+                        ArchivedReport evicted = reports != null ? reports.get(entry.path("measuredAt").asText()) : null;
+                        if (evicted != null) {
+                            remove(evicted);
+                        }
+                        continue;
+                    }
+                    ArchivedReport report = MAPPER.treeToValue(entry, ArchivedReport.class);
+                    if (Files.exists(objectPath(report.getContentHash()))) {
+                        add(report);
+                    } else {
+                        skipped++;
+                    }
+                } catch (IOException e) {
+                    // 쓰는 중에 종료되어 잘린 줄
+                    skipped++;
+                }
+            }
+        }
+        if (skipped > 0) {
+            log.warn("[ARCHIVE] ⚠️ Skipped {} index entries without a readable report", skipped);
+        }
+        enforceRetention();
+    }
+
+    private void clearTemporaryFiles() throws IOException {
+        try (var files = Files.list(directory.resolve("tmp"))) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 리포트 스트림을 읽는 동안 같은 바이트를 압축 임시 파일에 쓰고 해시를 계산한다.
+     * 임시 파일에 쓰다 실패하면 보관만 포기하고 읽기는 계속한다.
+     */
+    public static class Capture implements Closeable {
+
+        private final Path tempFile;
+        private final MessageDigest digest;
+        private OutputStream output;
+        private long rawBytes;
+        private boolean failed;
+        private boolean finished;
+
+        private Capture(Path tempFile) {
+            this.tempFile = tempFile;
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public InputStream wrap(InputStream report) {
+            if (tempFile == null) {
+                return report;
+            }
+            try {
+                output = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)), 8192);
+            } catch (IOException e) {
+                log.warn("[ARCHIVE] ⚠️ Cannot create temporary report file: {}", e.getMessage());
+                failed = true;
+                return report;
+            }
+            return new FilterInputStream(report) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b != -1) {
+                        copy(new byte[]{(byte) b}, 0, 1);
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int read = super.read(buffer, offset, length);
+                    if (read > 0) {
+                        copy(buffer, offset, read);
+                    }
+                    return read;
+                }
+
+                @Override
+                public long skip(long n) throws IOException {
+                    // 건너뛴 바이트도 보관해야 하므로 읽어서 버린다
+                    byte[] buffer = new byte[(int) Math.min(Math.max(n, 0), 8192)];
+                    int read = buffer.length == 0 ? 0 : read(buffer, 0, buffer.length);
+                    return Math.max(read, 0);
+                }
+
+                @Override
+                public boolean markSupported() {
+                    return false;
+                }
+            };
+        }
+
+        /**
+         * 다 읽은 뒤 남은 출력까지 보관하려면 리더가 끝나기 전에 호출한다
+         */
+        public static void drain(InputStream wrapped) throws IOException {
+            wrapped.transferTo(OutputStream.nullOutputStream());
+        }
+
+        private void copy(byte[] buffer, int offset, int length) {
+            digest.update(buffer, offset, length);
+            rawBytes += length;
+            if (failed) {
+                return;
+            }
+            try {
+                output.write(buffer, offset, length);
+            } catch (IOException e) {
+                log.warn("[ARCHIVE] ⚠️ Failed to write temporary report file: {}", e.getMessage());
+                failed = true;
+            }
+        }
+
+        private String finish() throws IOException {
+            if (failed || output == null || rawBytes == 0) {
+                throw new IOException("report was not captured");
+            }
+            output.close();
+            finished = true;
+            return HexFormat.of().formatHex(digest.digest());
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (output != null && !finished) {
+                    output.close();
+                }
+            } catch (IOException ignored) {
+                // 임시 파일은 아래에서 지운다
+            }
+            try {
+                if (tempFile != null) {
+                    Files.deleteIfExists(tempFile);
+                }
+            } catch (IOException e) {
+                log.debug("[ARCHIVE] Failed to delete temporary report file {}: {}", tempFile, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.ecarbon.gdsc.audits.backfill;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보관된 리포트 재추출 작업의 진행 상황
+ * 작업(jobId)마다 문서 하나를 두고, 끝난 리포트 묶음의 마지막 위치(cursor)를 남겨서 중단 후 그 다음부터 이어서 처리한다.
+ */
+@Document(collection = "backfill_checkpoints")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillCheckpoint {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_STOPPED = "STOPPED";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
+    @Id
+    private String id;              // jobId
+    private String status;
+
+    @Builder.Default
+    private List<String> fields = new ArrayList<>();    // 다시 쓸 필드
+
+    private int totalReports;
+    private int processedReports;
+    private int failedReports;
+    private int unmatchedReports;   // 보관은 되어 있지만 저장된 측정 문서가 없는 리포트
+    private int updatedDocuments;
+
+    // 마지막으로 끝낸 리포트 (archivedAt, url, measuredAt 순으로 정렬)
+    private String cursorArchivedAt;
+    private String cursorUrl;
+    private String cursorMeasuredAt;
+
+    private String startedAt;
+    private String updatedAt;
+    private String finishedAt;
+}
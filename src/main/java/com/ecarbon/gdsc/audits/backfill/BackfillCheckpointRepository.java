@@ -0,0 +1,80 @@
+package com.ecarbon.gdsc.audits.backfill;
+
+import com.ecarbon.gdsc.audits.archive.ArchivedReport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class BackfillCheckpointRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public Optional<BackfillCheckpoint> findById(String jobId) {
+        return Optional.ofNullable(mongoTemplate.findById(jobId, BackfillCheckpoint.class));
+    }
+
+    public Optional<BackfillCheckpoint> findLatest() {
+        Query query = new Query().with(Sort.by(Sort.Direction.DESC, "startedAt")).limit(1);
+        return Optional.ofNullable(mongoTemplate.findOne(query, BackfillCheckpoint.class));
+    }
+
+    /**
+     * 작업 체크포인트를 가져오고, 없으면 새로 만든다. 이미 있으면 필드 목록과 진행 위치는 그대로 둔다.
+     */
+    public BackfillCheckpoint start(String jobId, List<String> fields, int totalReports) {
+        String now = now();
+        Query query = Query.query(Criteria.where("_id").is(jobId));
+        Update update = new Update()
+                .setOnInsert("startedAt", now)
+                .setOnInsert("fields", fields)
+                .set("status", BackfillCheckpoint.STATUS_RUNNING)
+                .set("totalReports", totalReports)
+                .set("updatedAt", now)
+                .unset("finishedAt");
+
+        return mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), BackfillCheckpoint.class);
+    }
+
+    /**
+     * 리포트 한 묶음을 끝낸 뒤 진행 위치와 집계를 한 번에 갱신
+     */
+    public void advance(String jobId, ArchivedReport last, int processed, int failed, int unmatched, int updatedDocuments) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(jobId)),
+                new Update()
+                        .set("cursorArchivedAt", last.getArchivedAt())
+                        .set("cursorUrl", last.getUrl())
+                        .set("cursorMeasuredAt", last.getMeasuredAt())
+                        .inc("processedReports", processed)
+                        .inc("failedReports", failed)
+                        .inc("unmatchedReports", unmatched)
+                        .inc("updatedDocuments", updatedDocuments)
+                        .set("updatedAt", now()),
+                BackfillCheckpoint.class);
+    }
+
+    public void finish(String jobId, String status) {
+        String now = now();
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(jobId)),
+                new Update().set("status", status).set("finishedAt", now).set("updatedAt", now),
+                BackfillCheckpoint.class);
+    }
+
+    private static String now() {
+        return LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+}
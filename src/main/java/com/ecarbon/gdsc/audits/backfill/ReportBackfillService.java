@@ -0,0 +1,308 @@
+package com.ecarbon.gdsc.audits.backfill;
+
+import com.ecarbon.gdsc.audits.archive.ArchivedReport;
+import com.ecarbon.gdsc.audits.archive.ReportArchive;
+import com.ecarbon.gdsc.audits.dto.LighthouseAuditResult;
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.lighthouse.LighthouseDataExtractor;
+import com.ecarbon.gdsc.audits.lighthouse.LighthouseDataWriter;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.repository.FirebaseMeasurementBackfillRepository;
+import com.google.cloud.firestore.DocumentReference;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 보관된 원본 리포트를 현재 추출 코드로 다시 추출해서 저장된 측정 문서의 값을 갱신하는 작업
+ * - 리포트는 묶음(chunk-size)마다 ForkJoinPool 에서 병렬로 압축 해제/추출/탄소 계산/문서 조회를 한다
+ * - 갱신은 WriteBatch 로 묶어서 초당 max-writes-per-second 를 넘지 않게 쓴다
+ * - 묶음이 끝날 때마다 backfill_checkpoints 에 위치를 남겨서 같은 jobId 로 다시 시작하면 이어서 처리한다
+ * 추출 결과에서 나오는 필드만 덮어쓰고 measuredAt, placeInfo 같은 측정 정보는 건드리지 않는다.
+ */
+@Slf4j
+@Service
+public class ReportBackfillService {
+
+    public static final List<String> BACKFILL_FIELDS = List.of(
+            "networkRequests",
+            "resourceSummaries",
+            "requestedUrls",
+            "totalByteWeight",
+            "canOptimizeCssBytes",
+            "canOptimizeJsBytes",
+            "modernImageFormatsBytes",
+            "efficientAnimatedContent",
+            "thirdPartySummaryWastedBytes",
+            "duplicatedJavascript",
+            "totalUnusedBytesScript",
+            "totalResourceBytesScript",
+            "kbWeight",
+            "carbonEmission"
+    );
+
+    // 주간 측정 문서에는 없는 필드
+    private static final List<String> USER_ONLY_FIELDS = List.of("requestedUrls");
+
+    private static final Comparator<ArchivedReport> CURSOR_ORDER = Comparator
+            .comparing(ArchivedReport::getArchivedAt)
+            .thenComparing(ArchivedReport::getUrl)
+            .thenComparing(ArchivedReport::getMeasuredAt);
+
+    private final ReportArchive reportArchive;
+    private final LighthouseDataWriter writer;
+    private final FirebaseMeasurementBackfillRepository backfillRepository;
+    private final BackfillCheckpointRepository checkpointRepository;
+
+    // 측정 파이프라인의 추출 시간 지표에 섞이지 않도록 지표 없는 추출기를 따로 쓴다
+    private final LighthouseDataExtractor extractor = new LighthouseDataExtractor();
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxWritesPerSecond;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean stopRequested = new AtomicBoolean(false);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "report-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Getter
+    private volatile String currentJobId;
+
+    public ReportBackfillService(
+            ReportArchive reportArchive,
+            LighthouseDataWriter writer,
+            FirebaseMeasurementBackfillRepository backfillRepository,
+            BackfillCheckpointRepository checkpointRepository,
+            @Value("${audit.backfill.parallelism:0}") int parallelism,
+            @Value("${audit.backfill.chunk-size:200}") int chunkSize,
+            @Value("${audit.backfill.max-writes-per-second:200}") int maxWritesPerSecond) {
+        this.reportArchive = reportArchive;
+        this.writer = writer;
+        this.backfillRepository = backfillRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxWritesPerSecond = Math.max(1, maxWritesPerSecond);
+    }
+
+    /**
+     * 재추출 작업을 시작. jobId 가 끝나지 않은 작업이면 남은 리포트부터 이어서 처리한다.
+     * 이미 다른 작업이 돌고 있거나 끝난 jobId 면 false
+     *
+     * @param jobId 작업 ID (null 이면 새로 만든다)
+     * @param fields 덮어쓸 필드 (비어 있으면 BACKFILL_FIELDS 전체, 이어서 처리할 때는 처음 정한 필드를 쓴다)
+     * @throws IllegalArgumentException 다시 추출할 수 없는 필드가 있으면
+     */
+    public boolean start(String jobId, List<String> fields) {
+        List<String> requested = fields != null ? fields : List.of();
+        List<String> unknown = requested.stream().filter(field -> !BACKFILL_FIELDS.contains(field)).toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Fields cannot be backfilled: " + unknown);
+        }
+
+        String id = jobId != null && !jobId.isBlank()
+                ? jobId
+                : "backfill-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        if (checkpointRepository.findById(id)
+                .filter(checkpoint -> BackfillCheckpoint.STATUS_COMPLETED.equals(checkpoint.getStatus()))
+                .isPresent()) {
+            log.info("⏭️ [BACKFILL] Job {} already completed", id);
+            return false;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.info("⏭️ [BACKFILL] Backfill {} already running, skipping start request", currentJobId);
+            return false;
+        }
+
+        currentJobId = id;
+        stopRequested.set(false);
+        executor.submit(() -> {
+            try {
+                backfill(id, requested);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                checkpointRepository.finish(id, BackfillCheckpoint.STATUS_STOPPED);
+            } catch (Exception e) {
+                log.error("❌ [BACKFILL] Job {} stopped: {}", id, e.getMessage(), e);
+                checkpointRepository.finish(id, BackfillCheckpoint.STATUS_STOPPED);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 지금 처리 중인 묶음까지 끝내고 멈춘다. 같은 jobId 로 다시 시작하면 이어서 처리한다.
+     */
+    public void requestStop() {
+        stopRequested.set(true);
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * @param jobId null 이면 지금 작업, 없으면 가장 최근 작업
+     */
+    public Optional<BackfillCheckpoint> getCheckpoint(String jobId) {
+        String id = jobId != null ? jobId : currentJobId;
+        return id != null ? checkpointRepository.findById(id) : checkpointRepository.findLatest();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    private void backfill(String jobId, List<String> requestedFields) throws ExecutionException, InterruptedException {
+        List<ArchivedReport> reports = new ArrayList<>(reportArchive.snapshot());
+        reports.sort(CURSOR_ORDER);
+
+        BackfillCheckpoint checkpoint = checkpointRepository.start(jobId, requestedFields, reports.size());
+        List<String> fields = checkpoint.getFields() == null || checkpoint.getFields().isEmpty()
+                ? BACKFILL_FIELDS
+                : checkpoint.getFields();
+        List<ArchivedReport> remaining = afterCursor(reports, checkpoint);
+
+        log.info("🚀 [BACKFILL] Job {}: {} archived reports, {} remaining, fields {}",
+                jobId, reports.size(), remaining.size(), fields);
+        long startNanos = System.nanoTime();
+
+        for (int from = 0; from < remaining.size(); from += chunkSize) {
+            if (stopRequested.get()) {
+                checkpointRepository.finish(jobId, BackfillCheckpoint.STATUS_STOPPED);
+                log.info("⏸️ [BACKFILL] Job {} stopped after {} reports", jobId, from);
+                return;
+            }
+            List<ArchivedReport> chunk = remaining.subList(from, Math.min(from + chunkSize, remaining.size()));
+            List<Reextracted> results = pool.submit(() -> chunk.parallelStream().map(this::reextract).toList()).get();
+
+            Map<DocumentReference, Map<String, Object>> updates = new LinkedHashMap<>();
+            int failed = 0;
+            int unmatched = 0;
+            for (Reextracted result : results) {
+                if (result.measurements() == null) {
+                    failed++;
+                } else if (result.documents().isEmpty()) {
+                    unmatched++;
+                } else {
+                    for (DocumentReference document : result.documents()) {
+                        Map<String, Object> values = fieldValues(document, result.measurements(), fields);
+                        if (!values.isEmpty()) {
+                            updates.put(document, values);
+                        }
+                    }
+                }
+            }
+
+            writeThrottled(updates);
+            checkpointRepository.advance(jobId, chunk.get(chunk.size() - 1), chunk.size(), failed, unmatched, updates.size());
+            log.info("[BACKFILL] Job {}: {}/{} reports, {} documents updated in this chunk",
+                    jobId, from + chunk.size(), remaining.size(), updates.size());
+        }
+
+        checkpointRepository.finish(jobId, BackfillCheckpoint.STATUS_COMPLETED);
+        log.info("✅ [BACKFILL] Job {} finished: {} reports in {}s",
+                jobId, remaining.size(), TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos));
+    }
+
+    private Reextracted reextract(ArchivedReport report) {
+        try (InputStream json = reportArchive.open(report)) {
+            LighthouseAuditResult auditResult = extractor.extractAll(json, report.getUrl(), AuditProfile.fromId(report.getAuditProfile()));
+            Measurements measurements = writer.toMeasurements(auditResult);
+            return new Reextracted(measurements, backfillRepository.findDocuments(report.getUrl(), report.getMeasuredAt()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Reextracted(null, List.of());
+        } catch (Exception e) {
+            log.warn("[BACKFILL] ⚠️ Failed to re-extract {} at {}: {}", report.getUrl(), report.getMeasuredAt(), e.getMessage());
+            return new Reextracted(null, List.of());
+        }
+    }
+
+    /**
+     * Firestore 쓰기를 WriteBatch 단위로 나눠서 초당 max-writes-per-second 를 넘지 않게 커밋
+     */
+    private void writeThrottled(Map<DocumentReference, Map<String, Object>> updates) throws ExecutionException, InterruptedException {
+        List<Map.Entry<DocumentReference, Map<String, Object>>> entries = new ArrayList<>(updates.entrySet());
+        int sliceSize = Math.min(FirebaseMeasurementBackfillRepository.MAX_BATCH_WRITES, maxWritesPerSecond);
+
+        for (int from = 0; from < entries.size(); from += sliceSize) {
+            long startNanos = System.nanoTime();
+            Map<DocumentReference, Map<String, Object>> slice = new LinkedHashMap<>();
+            entries.subList(from, Math.min(from + sliceSize, entries.size()))
+                    .forEach(entry -> slice.put(entry.getKey(), entry.getValue()));
+            backfillRepository.updateAll(slice);
+
+            long budgetNanos = TimeUnit.SECONDS.toNanos(slice.size()) / maxWritesPerSecond;
+            long remainingNanos = budgetNanos - (System.nanoTime() - startNanos);
+            if (remainingNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(remainingNanos);
+            }
+        }
+    }
+
+    private static List<ArchivedReport> afterCursor(List<ArchivedReport> sorted, BackfillCheckpoint checkpoint) {
+        if (checkpoint.getCursorArchivedAt() == null) {
+            return sorted;
+        }
+        ArchivedReport cursor = ArchivedReport.builder()
+                .archivedAt(checkpoint.getCursorArchivedAt())
+                .url(checkpoint.getCursorUrl())
+                .measuredAt(checkpoint.getCursorMeasuredAt())
+                .build();
+        return sorted.stream().filter(report -> CURSOR_ORDER.compare(report, cursor) > 0).toList();
+    }
+
+    private static Map<String, Object> fieldValues(DocumentReference document, Measurements measurements, List<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("networkRequests", measurements.getNetworkRequests());
+        values.put("resourceSummaries", measurements.getResourceSummaries());
+        values.put("requestedUrls", measurements.getRequestedUrls());
+        values.put("totalByteWeight", measurements.getTotalByteWeight());
+        values.put("canOptimizeCssBytes", measurements.getCanOptimizeCssBytes());
+        values.put("canOptimizeJsBytes", measurements.getCanOptimizeJsBytes());
+        values.put("modernImageFormatsBytes", measurements.getModernImageFormatsBytes());
+        values.put("efficientAnimatedContent", measurements.getEfficientAnimatedContent());
+        values.put("thirdPartySummaryWastedBytes", measurements.getThirdPartySummaryWastedBytes());
+        values.put("duplicatedJavascript", measurements.getDuplicatedJavascript());
+        values.put("totalUnusedBytesScript", measurements.getTotalUnusedBytesScript());
+        values.put("totalResourceBytesScript", measurements.getTotalResourceBytesScript());
+        values.put("kbWeight", measurements.getKbWeight());
+        values.put("carbonEmission", measurements.getCarbonEmission());
+
+        values.keySet().retainAll(fields);
+        if (FirebaseMeasurementBackfillRepository.WEEKLY_COLLECTION.equals(document.getParent().getId())) {
+            USER_ONLY_FIELDS.forEach(values::remove);
+        }
+        return values;
+    }
+
+    private record Reextracted(Measurements measurements, List<DocumentReference> documents) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.ecarbon.gdsc.audits.batch;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 주간 배치 측정 진행 상황
+ * 주(weekStartDate)마다 하나의 문서를 두고, 끝난 URL 을 누적해서 재시작 시 이어서 측정한다.
+ */
+@Document(collection = "batch_checkpoints")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCheckpoint {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
+    @Id
+    private String id;              // weekStartDate
+    private String status;
+    private int totalUrls;
+
+    @Builder.Default
+    private Set<String> completedUrls = new HashSet<>();
+    @Builder.Default
+    private Set<String> failedUrls = new HashSet<>();
+
+    // 사이트 측정 (audit.site.enabled) 이 끝난 시작 URL
+    @Builder.Default
+    private Set<String> completedSites = new HashSet<>();
+    @Builder.Default
+    private Set<String> failedSites = new HashSet<>();
+
+    private String startedAt;
+    private String updatedAt;
+    private String finishedAt;
+}
@@ -0,0 +1,80 @@
+package com.ecarbon.gdsc.audits.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class BatchCheckpointRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public Optional<BatchCheckpoint> findByWeekStartDate(String weekStartDate) {
+        return Optional.ofNullable(mongoTemplate.findById(weekStartDate, BatchCheckpoint.class));
+    }
+
+    /**
+     * 해당 주의 체크포인트를 가져오고, 없으면 새로 만든다.
+     */
+    public BatchCheckpoint start(String weekStartDate, int totalUrls) {
+        String now = now();
+        Query query = Query.query(Criteria.where("_id").is(weekStartDate));
+        Update update = new Update()
+                .setOnInsert("startedAt", now)
+                .set("status", BatchCheckpoint.STATUS_RUNNING)
+                .set("totalUrls", totalUrls)
+                .set("updatedAt", now);
+
+        return mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), BatchCheckpoint.class);
+    }
+
+    public void markCompleted(String weekStartDate, String canonicalUrl) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(weekStartDate)),
+                new Update().addToSet("completedUrls", canonicalUrl).pull("failedUrls", canonicalUrl).set("updatedAt", now()),
+                BatchCheckpoint.class);
+    }
+
+    public void markFailed(String weekStartDate, String canonicalUrl) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(weekStartDate)),
+                new Update().addToSet("failedUrls", canonicalUrl).set("updatedAt", now()),
+                BatchCheckpoint.class);
+    }
+
+    public void markSiteCompleted(String weekStartDate, String canonicalUrl) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(weekStartDate)),
+                new Update().addToSet("completedSites", canonicalUrl).pull("failedSites", canonicalUrl).set("updatedAt", now()),
+                BatchCheckpoint.class);
+    }
+
+    public void markSiteFailed(String weekStartDate, String canonicalUrl) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(weekStartDate)),
+                new Update().addToSet("failedSites", canonicalUrl).set("updatedAt", now()),
+                BatchCheckpoint.class);
+    }
+
+    public void finish(String weekStartDate) {
+        String now = now();
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(weekStartDate)),
+                new Update().set("status", BatchCheckpoint.STATUS_COMPLETED).set("finishedAt", now).set("updatedAt", now),
+                BatchCheckpoint.class);
+    }
+
+    private static String now() {
+        return LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+}
@@ -0,0 +1,425 @@
+package com.ecarbon.gdsc.audits.batch;
+
+import com.ecarbon.gdsc.audits.MainRunner;
+import com.ecarbon.gdsc.audits.dto.PlaceDetails;
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.queue.AuditPriority;
+import com.ecarbon.gdsc.audits.queue.DistributedAuditQueue;
+import com.ecarbon.gdsc.audits.site.SiteAuditService;
+import com.ecarbon.gdsc.audits.util.DateCalculator;
+import com.ecarbon.gdsc.audits.util.PlaceInfoConverter;
+import com.ecarbon.gdsc.audits.util.RegistrableDomain;
+import com.ecarbon.gdsc.audits.util.UrlCanonicalizer;
+import com.ecarbon.gdsc.audits.util.UrlManager;
+import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
+import com.ecarbon.gdsc.carbon.enums.PlaceCategory;
+import com.ecarbon.gdsc.common.lease.LeaderLeaseService;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 등록된 전체 기관을 주 1회 측정하는 배치
+ * - 끝난 URL 은 batch_checkpoints 에 기록해서 중단 후 재시작해도 남은 URL 만 측정한다
+ * - 시간당 측정 수와 동시에 큐에 올리는 수를 제한해서 사용자 측정이 밀리지 않게 한다
+ * - 리더 리스를 가진 노드 하나만 배치를 시작한다. 도는 동안 일정 주기로 리스를 연장하고, 연장에 실패하면 배치를 멈춘다
+ * - 분산 큐가 켜져 있으면 URL 을 audit_queue 에 올리기만 하고, 측정은 각 노드의 DistributedAuditConsumer 가 나눠 맡는다
+ * - 사이트 측정이 켜져 있으면 시작 페이지 측정이 끝난 뒤 내부 페이지까지 측정해서 사이트 단위로 합친다.
+ *   끝난 사이트도 체크포인트에 기록하고, 모든 사이트 측정이 끝나야 그 주를 COMPLETED 로 바꾼다.
+ *   분산 모드에서는 공유 큐가 빈 뒤 리더 노드가 남은 사이트 측정을 실행한다.
+ */
+@Slf4j
+@Component
+public class WeeklyBatchCrawler {
+
+    private static final String LEADER_LEASE = "weekly-batch";
+
+    private final MainRunner mainRunner;
+    private final UrlManager urlManager;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final LeaderLeaseService leaderLeaseService;
+    private final DistributedAuditQueue distributedQueue;
+    private final SiteAuditService siteAuditService;
+
+    private final boolean distributed;
+    private final Duration leaderLeaseTtl;
+    private final long completionCheckMillis;
+
+    private final String placesFile;
+    @Getter
+    private final AuditMode mode;
+    private final AuditProfile profile;
+    private final int maxAuditsPerHour;
+    private final Semaphore inFlight;
+    @Getter
+    private final int maxInFlight;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "weekly-batch-crawler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Getter
+    private volatile String currentWeek;
+
+    // 리스 연장과 반납이 겹치지 않도록 아래 상태는 leaseLock 안에서만 바꾼다
+    private final Object leaseLock = new Object();
+    private boolean holdingLease;       // 배치가 돌면서 리더 리스를 잡고 있는지
+    private Thread crawlThread;         // 리스를 잃으면 인터럽트할 배치 스레드
+    private long leaseRenewedAtNanos;
+    private volatile boolean leaseLost;
+
+    public WeeklyBatchCrawler(
+            MainRunner mainRunner,
+            UrlManager urlManager,
+            BatchCheckpointRepository checkpointRepository,
+            LeaderLeaseService leaderLeaseService,
+            DistributedAuditQueue distributedQueue,
+            SiteAuditService siteAuditService,
+            @Value("${audit.queue.distributed.enabled:false}") boolean distributed,
+            @Value("${audit.leader.lease-seconds:300}") long leaderLeaseSeconds,
+            @Value("${audit.batch.completion-check-ms:60000}") long completionCheckMillis,
+            @Value("${audit.batch.places-file:src/main/java/com/ecarbon/gdsc/tools/univ_details_fetcher/data/processed/place_details.json}") String placesFile,
+            @Value("${audit.batch.mode:LIGHTHOUSE}") AuditMode mode,
+            @Value("${audit.batch.profile:OPTIMIZATION_FULL}") AuditProfile profile,
+            @Value("${audit.batch.max-audits-per-hour:120}") int maxAuditsPerHour,
+            @Value("${audit.batch.max-in-flight:2}") int maxInFlight) {
+        this.mainRunner = mainRunner;
+        this.urlManager = urlManager;
+        this.checkpointRepository = checkpointRepository;
+        this.leaderLeaseService = leaderLeaseService;
+        this.distributedQueue = distributedQueue;
+        this.siteAuditService = siteAuditService;
+        this.distributed = distributed;
+        this.leaderLeaseTtl = Duration.ofSeconds(leaderLeaseSeconds);
+        this.completionCheckMillis = completionCheckMillis;
+        this.placesFile = placesFile;
+        this.mode = mode;
+        this.profile = profile;
+        this.maxAuditsPerHour = Math.max(1, maxAuditsPerHour);
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.inFlight = new Semaphore(this.maxInFlight);
+    }
+
+    @Scheduled(cron = "${audit.batch.cron:0 0 3 * * MON}")
+    public void scheduledStart() {
+        start();
+    }
+
+    /**
+     * 이번 주 배치가 RUNNING 상태로 남아 있는데 아무 노드도 진행하지 않으면 (재시작, 리더 노드 장애) 이어서 측정
+     */
+    @Scheduled(initialDelayString = "${audit.batch.resume-check-ms:60000}", fixedDelayString = "${audit.batch.resume-check-ms:60000}")
+    public void resumeIfInterrupted() {
+        if (running.get()) {
+            return;
+        }
+        String week = DateCalculator.getMondayAsString(LocalDateTime.now());
+        checkpointRepository.findByWeekStartDate(week)
+                .filter(checkpoint -> BatchCheckpoint.STATUS_RUNNING.equals(checkpoint.getStatus()))
+                .ifPresent(checkpoint -> {
+                    log.info("🔁 [BATCH] Resuming interrupted batch for week {} ({}/{} done)",
+                            week, checkpoint.getCompletedUrls().size(), checkpoint.getTotalUrls());
+                    start();
+                });
+    }
+
+    /**
+     * 이번 주 배치를 시작. 이미 돌고 있거나 다른 노드가 리더면 false
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("⏭️ [BATCH] Batch already running, skipping start request");
+            return false;
+        }
+        if (!leaderLeaseService.tryAcquire(LEADER_LEASE, leaderLeaseTtl)) {
+            running.set(false);
+            log.info("⏭️ [BATCH] Another node holds the batch leader lease, skipping");
+            return false;
+        }
+        String week = DateCalculator.getMondayAsString(LocalDateTime.now());
+        currentWeek = week;
+        synchronized (leaseLock) {
+            holdingLease = true;
+            leaseLost = false;
+            leaseRenewedAtNanos = System.nanoTime();
+        }
+        executor.submit(() -> {
+            synchronized (leaseLock) {
+                crawlThread = Thread.currentThread();
+            }
+            try {
+                crawl(week);
+            } catch (InterruptedException e) {
+                // 체크포인트는 RUNNING 으로 남으므로 리스를 가진 노드가 resumeIfInterrupted 로 이어서 측정한다
+                log.warn("⏹️ [BATCH] Batch for week {} stopped before finishing", week);
+            } catch (Exception e) {
+                log.error("❌ [BATCH] Batch for week {} stopped: {}", week, e.getMessage(), e);
+            } finally {
+                synchronized (leaseLock) {
+                    holdingLease = false;
+                    crawlThread = null;
+                }
+                try {
+                    leaderLeaseService.release(LEADER_LEASE);
+                } catch (Exception e) {
+                    log.warn("⚠️ [BATCH] Could not release the batch leader lease: {}", e.getMessage());
+                }
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 배치가 도는 동안 리더 리스를 연장한다.
+     * 다른 노드가 리스를 가져갔거나, 연장하지 못한 채 리스 시간이 지나면 배치를 멈춘다 (두 노드가 같은 주를 함께 돌지 않도록).
+     */
+    @Scheduled(initialDelayString = "${audit.leader.heartbeat-ms:60000}", fixedRateString = "${audit.leader.heartbeat-ms:60000}")
+    public void renewLeaderLease() {
+        synchronized (leaseLock) {
+            if (!holdingLease || leaseLost) {
+                return;
+            }
+            boolean renewed;
+            try {
+                renewed = leaderLeaseService.tryAcquire(LEADER_LEASE, leaderLeaseTtl);
+            } catch (Exception e) {
+                if (System.nanoTime() - leaseRenewedAtNanos < leaderLeaseTtl.toNanos()) {
+                    log.warn("⚠️ [BATCH] Could not renew the batch leader lease, retrying: {}", e.getMessage());
+                    return;
+                }
+                renewed = false;
+            }
+
+            if (renewed) {
+                leaseRenewedAtNanos = System.nanoTime();
+            } else {
+                log.warn("⚠️ [BATCH] Lost the batch leader lease, stopping the batch for week {}", currentWeek);
+                leaseLost = true;
+                if (crawlThread != null) {
+                    crawlThread.interrupt();
+                }
+            }
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public Optional<BatchCheckpoint> getCheckpoint() {
+        String week = currentWeek != null ? currentWeek : DateCalculator.getMondayAsString(LocalDateTime.now());
+        return checkpointRepository.findByWeekStartDate(week);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private void crawl(String week) throws InterruptedException {
+        Map<String, PlaceDetails> allTargets = loadTargets();
+        BatchCheckpoint checkpoint = checkpointRepository.start(week, allTargets.size());
+        Map<String, PlaceDetails> targets = new LinkedHashMap<>(allTargets);
+        targets.keySet().removeAll(checkpoint.getCompletedUrls());
+
+        log.info("🚀 [BATCH] Week {}: {} institutions, {} remaining", week, checkpoint.getTotalUrls(), targets.size());
+
+        if (distributed) {
+            enqueueAndAwait(week, targets);
+        } else {
+            crawlLocally(week, targets);
+        }
+        crawlRemainingSites(week, allTargets);
+
+        checkpointRepository.finish(week);
+        log.info("✅ [BATCH] Week {} finished", week);
+    }
+
+    private void crawlLocally(String week, Map<String, PlaceDetails> targets) throws InterruptedException {
+        long intervalNanos = TimeUnit.HOURS.toNanos(1) / maxAuditsPerHour;
+        long nextSlot = System.nanoTime();
+
+        for (Map.Entry<String, PlaceDetails> entry : targets.entrySet()) {
+            long wait = nextSlot - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            nextSlot = Math.max(nextSlot, System.nanoTime()) + intervalNanos;
+
+            inFlight.acquire();
+            checkLeadership();
+            submit(week, entry.getKey(), entry.getValue());
+        }
+
+        // 마지막으로 올린 측정까지 끝날 때까지 대기
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+    }
+
+    /**
+     * 분산 모드: 남은 URL 을 공유 큐에 올리고, 모든 노드가 처리할 때까지 기다린다
+     */
+    private void enqueueAndAwait(String week, Map<String, PlaceDetails> targets) throws InterruptedException {
+        targets.forEach((canonicalUrl, details) -> distributedQueue.enqueue(
+                week, details.getWebsite(), PlaceInfoConverter.toPlaceInfo(details, PlaceCategory.UNIVERSITY), mode, profile));
+        log.info("📤 [BATCH] Enqueued {} URLs to the shared audit queue", targets.size());
+
+        long open;
+        while ((open = distributedQueue.countOpen(week)) > 0) {
+            checkLeadership();
+            log.debug("[BATCH] Week {}: {} queue items still open", week, open);
+            Thread.sleep(completionCheckMillis);
+        }
+    }
+
+    /**
+     * 시작 페이지 측정은 끝났지만 사이트 측정 기록이 없는 기관의 사이트 측정 (재시작한 배치, 분산 모드)
+     * 시작 페이지 결과가 없으므로 시작 페이지도 사이트 측정 안에서 다시 측정한다.
+     */
+    private void crawlRemainingSites(String week, Map<String, PlaceDetails> targets) throws InterruptedException {
+        if (!sitesEnabled()) {
+            return;
+        }
+        BatchCheckpoint checkpoint = checkpointRepository.findByWeekStartDate(week)
+                .orElseThrow(() -> new IllegalStateException("Missing batch checkpoint for week " + week));
+        List<Map.Entry<String, PlaceDetails>> remaining = targets.entrySet().stream()
+                .filter(entry -> checkpoint.getCompletedUrls().contains(entry.getKey()))
+                .filter(entry -> !checkpoint.getCompletedSites().contains(entry.getKey())
+                        && !checkpoint.getFailedSites().contains(entry.getKey()))
+                .toList();
+        if (remaining.isEmpty()) {
+            return;
+        }
+
+        log.info("🕸️ [BATCH] Week {}: {} site audits remaining", week, remaining.size());
+        for (Map.Entry<String, PlaceDetails> entry : remaining) {
+            inFlight.acquire();
+            checkLeadership();
+            PlaceDetails details = entry.getValue();
+            crawlSite(week, entry.getKey(), details.getWebsite(),
+                    PlaceInfoConverter.toPlaceInfo(details, PlaceCategory.UNIVERSITY), null);
+        }
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+    }
+
+    /**
+     * 사이트 측정을 시작하고, 끝나면 체크포인트에 기록한 뒤 호출한 쪽이 잡고 있던 inFlight 슬롯을 반납한다
+     */
+    private void crawlSite(String week, String canonicalUrl, String website, PlaceInfo placeInfo, Measurements rootMeasurement) {
+        try {
+            siteAuditService.auditSite(website, placeInfo, rootMeasurement).whenComplete((site, error) -> {
+                try {
+                    if (error == null) {
+                        checkpointRepository.markSiteCompleted(week, canonicalUrl);
+                    } else {
+                        log.warn("⚠️ [BATCH] Site audit failed for {}: {}", canonicalUrl, error.getMessage());
+                        checkpointRepository.markSiteFailed(week, canonicalUrl);
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            log.warn("⚠️ [BATCH] Could not start site audit for {}: {}", canonicalUrl, e.getMessage());
+            checkpointRepository.markSiteFailed(week, canonicalUrl);
+        }
+    }
+
+    private boolean sitesEnabled() {
+        return siteAuditService.isEnabled() && mode == AuditMode.LIGHTHOUSE;
+    }
+
+    /**
+     * 리스를 잃어 취소된 배치는 다음 측정을 올리지 않는다 (기다리는 중이면 인터럽트로 바로 빠져나온다)
+     */
+    private void checkLeadership() throws InterruptedException {
+        if (leaseLost || Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException("Batch leader lease lost");
+        }
+    }
+
+    private void submit(String week, String canonicalUrl, PlaceDetails details) {
+        PlaceInfo placeInfo = PlaceInfoConverter.toPlaceInfo(details, PlaceCategory.UNIVERSITY);
+        try {
+            mainRunner.submit(details.getWebsite(), placeInfo, AuditPriority.BATCH, mode, profile).getResult().whenComplete((result, error) -> {
+                boolean siteStarted = false;
+                try {
+                    if (error == null) {
+                        checkpointRepository.markCompleted(week, canonicalUrl);
+                        if (sitesEnabled()) {
+                            // 사이트 측정이 끝날 때까지 inFlight 슬롯을 넘겨서 잡고 있는다
+                            siteStarted = true;
+                            crawlSite(week, canonicalUrl, details.getWebsite(), placeInfo, result);
+                        }
+                    } else {
+                        log.warn("⚠️ [BATCH] Audit failed for {}: {}", canonicalUrl, error.getMessage());
+                        checkpointRepository.markFailed(week, canonicalUrl);
+                    }
+                } finally {
+                    if (!siteStarted) {
+                        inFlight.release();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            log.warn("⚠️ [BATCH] Could not submit {}: {}", canonicalUrl, e.getMessage());
+            checkpointRepository.markFailed(week, canonicalUrl);
+        }
+    }
+
+    /**
+     * 정규화된 URL 기준으로 중복을 제거하고, 같은 등록 도메인의 사이트가 연달아 나오지 않도록 도메인별로 번갈아 배치한다.
+     */
+    private Map<String, PlaceDetails> loadTargets() {
+        Map<String, Map<String, PlaceDetails>> byDomain = new LinkedHashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (PlaceDetails details : urlManager.filterValidInstitutions(placesFile)) {
+            String canonicalUrl = UrlCanonicalizer.canonicalize(details.getWebsite());
+            if (seen.add(canonicalUrl)) {
+                String domain = Objects.requireNonNullElse(RegistrableDomain.of(canonicalUrl), canonicalUrl);
+                byDomain.computeIfAbsent(domain, key -> new LinkedHashMap<>()).put(canonicalUrl, details);
+            }
+        }
+
+        Map<String, PlaceDetails> targets = new LinkedHashMap<>();
+        List<Iterator<Map.Entry<String, PlaceDetails>>> rounds = new ArrayList<>();
+        byDomain.values().forEach(sites -> rounds.add(sites.entrySet().iterator()));
+        while (!rounds.isEmpty()) {
+            rounds.removeIf(iterator -> {
+                Map.Entry<String, PlaceDetails> next = iterator.next();
+                targets.put(next.getKey(), next.getValue());
+                return !iterator.hasNext();
+            });
+        }
+        return targets;
+    }
+}
@@ -0,0 +1,163 @@
+package com.ecarbon.gdsc.audits.cache;
+
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.util.UrlCanonicalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 측정 방식 + 범위 + 정규화된 URL 기준 최근 측정 결과 캐시 (MainRunner.submit 의 요청 합치기와 같은 기준)
+ * Lighthouse 측정은 요청한 범위를 포함하는 더 넓은 범위의 결과도 쓴다.
+ * 측정 시각이 freshness 범위 안에 있는 결과만 반환하고, 용량을 넘으면 가장 오래 사용되지 않은 항목부터 제거한다.
+ */
+@Component
+@Slf4j
+public class AuditResultCache {
+
+    private final Duration freshness;
+    private final int maxEntries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private final LinkedHashMap<String, CachedResult> entries;
+
+    public AuditResultCache(
+            @Value("${audit.cache.freshness-minutes:60}") long freshnessMinutes,
+            @Value("${audit.cache.max-entries:1000}") int maxEntries) {
+        this.freshness = Duration.ofMinutes(freshnessMinutes);
+        this.maxEntries = maxEntries;
+        // accessOrder = true 로 LRU 순서 유지
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                boolean evict = size() > AuditResultCache.this.maxEntries;
+                if (evict) {
+                    evictionCount.incrementAndGet();
+                }
+                return evict;
+            }
+        };
+    }
+
+    public synchronized Optional<Measurements> get(String url, AuditMode mode, AuditProfile profile) {
+        String canonicalUrl = UrlCanonicalizer.canonicalize(url);
+        for (AuditProfile candidate : candidateProfiles(mode, profile)) {
+            String key = key(mode, candidate, canonicalUrl);
+            CachedResult cached = entries.get(key);
+            if (cached == null) {
+                continue;
+            }
+            if (!isFresh(cached)) {
+                entries.remove(key);
+                continue;
+            }
+            hitCount.incrementAndGet();
+            return Optional.of(cached.measurements);
+        }
+
+        missCount.incrementAndGet();
+        return Optional.empty();
+    }
+
+    public synchronized void put(String url, AuditMode mode, AuditProfile profile, Measurements measurements) {
+        if (measurements == null) {
+            return;
+        }
+        entries.put(key(mode, profile, UrlCanonicalizer.canonicalize(url)), new CachedResult(measurements, measuredAtOf(measurements)));
+    }
+
+    /**
+     * 모든 측정 방식과 범위의 결과를 지운다
+     */
+    public synchronized void invalidate(String url) {
+        String canonicalUrl = UrlCanonicalizer.canonicalize(url);
+        for (AuditMode mode : AuditMode.values()) {
+            for (AuditProfile profile : AuditProfile.values()) {
+                entries.remove(key(mode, profile, canonicalUrl));
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public Duration getFreshness() {
+        return freshness;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    private static String key(AuditMode mode, AuditProfile profile, String canonicalUrl) {
+        return mode + ":" + profile + ":" + canonicalUrl;
+    }
+
+    /**
+     * 요청한 범위를 먼저 보고, Lighthouse 측정이면 그 범위를 포함하는 다른 범위도 본다
+     */
+    private static List<AuditProfile> candidateProfiles(AuditMode mode, AuditProfile profile) {
+        List<AuditProfile> candidates = new ArrayList<>();
+        candidates.add(profile);
+        if (mode == AuditMode.LIGHTHOUSE) {
+            for (AuditProfile other : AuditProfile.values()) {
+                if (other != profile && other.covers(profile)) {
+                    candidates.add(other);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private boolean isFresh(CachedResult cached) {
+        return cached.measuredAt.plus(freshness).isAfter(LocalDateTime.now());
+    }
+
+    private static LocalDateTime measuredAtOf(Measurements measurements) {
+        try {
+            return LocalDateTime.parse(measurements.getMeasuredAt(), DateTimeFormatter.ISO_DATE_TIME);
+        } catch (DateTimeParseException | NullPointerException e) {
+            // 측정 시각을 알 수 없으면 캐시에 넣은 시각 기준
+            return LocalDateTime.now();
+        }
+    }
+
+    private static class CachedResult {
+        private final Measurements measurements;
+        private final LocalDateTime measuredAt;
+
+        private CachedResult(Measurements measurements, LocalDateTime measuredAt) {
+            this.measurements = measurements;
+            this.measuredAt = measuredAt;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.ecarbon.gdsc.audits.change;
+
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.lighthouse.LighthouseDataWriter;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.queue.AuditTask;
+import com.ecarbon.gdsc.audits.util.DateCalculator;
+import com.ecarbon.gdsc.carbon.entity.WeeklyMeasurements;
+import com.ecarbon.gdsc.carbon.repository.FirebaseWeeklyMeasurementRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주간 배치 측정 전에 페이지가 바뀌었는지 확인하고, 그대로면 지난 측정을 이번 주로 이어 쓴다.
+ * 같은 측정을 너무 오래 이어 쓰지 않도록 실제 측정한 지 max-carry-forward-weeks 가 지나면 다시 측정한다.
+ */
+@Slf4j
+@Service
+public class CarryForwardService {
+
+    private final ChangeDetector changeDetector;
+    private final FirebaseWeeklyMeasurementRepository weeklyMeasurementRepository;
+    private final LighthouseDataWriter writer;
+    private final int maxCarryForwardWeeks;
+
+    private final AtomicLong carriedForwardCount = new AtomicLong();
+
+    public CarryForwardService(
+            ChangeDetector changeDetector,
+            FirebaseWeeklyMeasurementRepository weeklyMeasurementRepository,
+            LighthouseDataWriter writer,
+            @Value("${audit.change-detection.max-carry-forward-weeks:4}") int maxCarryForwardWeeks) {
+        this.changeDetector = changeDetector;
+        this.weeklyMeasurementRepository = weeklyMeasurementRepository;
+        this.writer = writer;
+        this.maxCarryForwardWeeks = maxCarryForwardWeeks;
+    }
+
+    /**
+     * 이어 쓸 수 있으면 저장까지 하고 결과를 반환, 아니면 지금 지문을 작업에 붙이고 empty (전체 측정 필요)
+     */
+    public Optional<Measurements> tryCarryForward(AuditTask task) {
+        if (!appliesTo(task)) {
+            return Optional.empty();
+        }
+        Optional<Measurements> carried = carryForward(task);
+        if (carried.isEmpty()) {
+            task.attachFingerprint(changeDetector.capture(task.getUrl()).orElse(null));
+        }
+        return carried;
+    }
+
+    private Optional<Measurements> carryForward(AuditTask task) {
+        try {
+            // FAST/DEVTOOLS 측정은 Lighthouse 감사 항목이 없으므로 이어 쓸 원본이 될 수 없다.
+            // 프로필 기록이 없는 Lighthouse 측정은 예전 전체 범위 측정이다.
+            Optional<WeeklyMeasurements> previous = weeklyMeasurementRepository.findAllByUrl(task.getUrl()).stream()
+                    .filter(measurement -> measurement.getMeasuredAt() != null)
+                    .filter(measurement -> AuditMode.fromMeasurementType(measurement.getMeasurementType()) == AuditMode.LIGHTHOUSE)
+                    .max(Comparator.comparing(WeeklyMeasurements::getMeasuredAt));
+            if (previous.isEmpty() || !isCarriable(previous.get(), task.getProfile())) {
+                return Optional.empty();
+            }
+            if (!changeDetector.isUnchanged(task.getUrl())) {
+                return Optional.empty();
+            }
+
+            Measurements carried = writer.carryForward(previous.get(), task.getPlaceInfo());
+            carriedForwardCount.incrementAndGet();
+            return Optional.of(carried);
+        } catch (Exception e) {
+            log.warn("[CHANGE] ⚠️ Carry-forward check failed for {}, running full audit: {}", task.getUrl(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 실제 측정이 저장된 뒤 측정 전에 받아 둔 지문을 다음 주 비교용으로 저장
+     */
+    public void recordFingerprint(AuditTask task) {
+        if (appliesTo(task)) {
+            changeDetector.record(task.getUrl(), task.getFingerprint());
+        }
+    }
+
+    public long getCarriedForwardCount() {
+        return carriedForwardCount.get();
+    }
+
+    public boolean appliesTo(AuditTask task) {
+        return changeDetector.isEnabled() && task.isWeeklyBatch() && task.getMode() == AuditMode.LIGHTHOUSE;
+    }
+
+    private boolean isCarriable(WeeklyMeasurements previous, AuditProfile profile) {
+        // 더 좁은 범위로 측정된 값으로는 넓은 범위 요청을 대신하지 않는다
+        if (!AuditProfile.fromId(previous.getAuditProfile()).covers(profile)) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // 이번 주에 이미 있는 측정은 이어 쓸 대상이 아니다
+        if (DateCalculator.getMondayAsString(now).equals(previous.getWeekStartDate())) {
+            return false;
+        }
+        String source = previous.getSourceMeasuredAt() != null ? previous.getSourceMeasuredAt() : previous.getMeasuredAt();
+        return LocalDateTime.parse(source).isAfter(now.minusWeeks(maxCarryForwardWeeks));
+    }
+}
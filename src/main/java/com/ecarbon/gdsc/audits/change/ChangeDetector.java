@@ -0,0 +1,210 @@
+package com.ecarbon.gdsc.audits.change;
+
+import com.ecarbon.gdsc.audits.fast.HtmlResourceExtractor;
+import com.ecarbon.gdsc.audits.util.BoundedBodyHandlers;
+import com.ecarbon.gdsc.audits.util.ContentDecoder;
+import com.ecarbon.gdsc.audits.util.UrlCanonicalizer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 페이지가 지난 실제 측정 이후 바뀌었는지 조건부 요청으로 확인
+ * 문서와 주요 리소스(CSS, JS)를 If-None-Match / If-Modified-Since 로 다시 요청해서
+ * 304 이거나 본문 해시가 같으면 바뀌지 않은 것으로 본다. 확인 중 오류가 나면 바뀐 것으로 취급한다.
+ * 본문은 max-body-bytes 까지만 받아 해시한다. 도메인 간격은 호출하는 쪽(MainRunner)이 확인 한 번을 측정 한 번으로 맞춘다.
+ */
+@Slf4j
+@Component
+public class ChangeDetector {
+
+    private final ResourceFingerprintRepository fingerprintRepository;
+    private final HttpClient httpClient;
+
+    @Getter
+    private final boolean enabled;
+    private final int maxSubresources;
+    private final Duration requestTimeout;
+    private final long maxBodyBytes;
+
+    public ChangeDetector(
+            ResourceFingerprintRepository fingerprintRepository,
+            @Value("${audit.change-detection.enabled:true}") boolean enabled,
+            @Value("${audit.change-detection.max-subresources:20}") int maxSubresources,
+            @Value("${audit.change-detection.request-timeout-seconds:10}") long requestTimeoutSeconds,
+            @Value("${audit.change-detection.max-body-bytes:10485760}") long maxBodyBytes) {
+        this.fingerprintRepository = fingerprintRepository;
+        this.enabled = enabled;
+        this.maxSubresources = maxSubresources;
+        this.requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+        this.maxBodyBytes = maxBodyBytes;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * 저장된 지문이 있고, 문서와 주요 리소스가 모두 그대로면 true
+     */
+    public boolean isUnchanged(String url) {
+        if (!enabled) {
+            return false;
+        }
+        Optional<ResourceFingerprint> stored = fingerprintRepository.findByUrl(UrlCanonicalizer.canonicalize(url));
+        if (stored.isEmpty() || stored.get().getDocument() == null) {
+            return false;
+        }
+
+        ResourceFingerprint fingerprint = stored.get();
+        List<CompletableFuture<Boolean>> checks = new ArrayList<>();
+        checks.add(isUnchanged(fingerprint.getDocument()));
+        fingerprint.getSubresources().forEach(entry -> checks.add(isUnchanged(entry)));
+
+        boolean unchanged = checks.stream().allMatch(CompletableFuture::join);
+        log.info("[CHANGE] {} {} ({} resources checked)", unchanged ? "🟰 Unchanged" : "🔄 Changed", url, checks.size());
+        return unchanged;
+    }
+
+    /**
+     * 지금 문서와 주요 리소스의 지문을 받는다. 저장은 측정 결과가 저장된 뒤 record 로 한다.
+     * 문서를 받지 못했거나 200 이 아니면 empty
+     */
+    public Optional<ResourceFingerprint> capture(String url) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            Snapshot document = fetch(url).join();
+            if (document.status() != 200) {
+                return Optional.empty();
+            }
+
+            List<String> keyResources = HtmlResourceExtractor
+                    .extractFromHtml(new String(document.body(), StandardCharsets.UTF_8), document.url())
+                    .entrySet().stream()
+                    .filter(entry -> "Stylesheet".equals(entry.getValue()) || "Script".equals(entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .limit(maxSubresources)
+                    .toList();
+
+            List<ResourceFingerprint.Entry> subresources = keyResources.stream()
+                    .map(resourceUrl -> fetch(resourceUrl).exceptionally(error -> null))
+                    .toList()       // 요청을 모두 보낸 뒤에 기다린다
+                    .stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .filter(snapshot -> snapshot.status() == 200)
+                    .map(Snapshot::toEntry)
+                    .toList();
+
+            return Optional.of(ResourceFingerprint.builder()
+                    .id(UrlCanonicalizer.canonicalize(url))
+                    .document(document.toEntry())
+                    .subresources(new ArrayList<>(subresources))
+                    .recordedAt(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                    .build());
+        } catch (Exception e) {
+            // 지문이 없으면 다음 주에 그냥 전체 측정을 하므로 실패해도 측정 결과에는 영향이 없다
+            log.warn("[CHANGE] ⚠️ Could not capture fingerprint for {}: {}", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 측정 전에 받아 둔 지문을 저장. 지문이 없으면 예전 지문을 지워 다음 주에 다시 측정하게 한다.
+     */
+    public void record(String url, ResourceFingerprint fingerprint) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (fingerprint == null) {
+                fingerprintRepository.delete(UrlCanonicalizer.canonicalize(url));
+            } else {
+                fingerprintRepository.save(fingerprint);
+            }
+        } catch (Exception e) {
+            log.warn("[CHANGE] ⚠️ Could not record fingerprint for {}: {}", url, e.getMessage());
+        }
+    }
+
+    private CompletableFuture<Boolean> isUnchanged(ResourceFingerprint.Entry entry) {
+        HttpRequest.Builder request = baseRequest(entry.getUrl());
+        if (entry.getEtag() != null) {
+            request.header("If-None-Match", entry.getEtag());
+        }
+        if (entry.getLastModified() != null) {
+            request.header("If-Modified-Since", entry.getLastModified());
+        }
+
+        return httpClient.sendAsync(request.build(), BoundedBodyHandlers.ofByteArray(maxBodyBytes, requestTimeout))
+                .thenApply(response -> {
+                    if (response.statusCode() == 304) {
+                        return true;
+                    }
+                    if (response.statusCode() != 200) {
+                        return false;
+                    }
+                    byte[] body = ContentDecoder.decode(response.body(), response.headers().firstValue("Content-Encoding").orElse(""), maxBodyBytes);
+                    return Objects.equals(entry.getSha256(), sha256(body));
+                })
+                .exceptionally(error -> false);
+    }
+
+    private CompletableFuture<Snapshot> fetch(String url) {
+        return httpClient.sendAsync(baseRequest(url).build(), BoundedBodyHandlers.ofByteArray(maxBodyBytes, requestTimeout))
+                .thenApply(response -> new Snapshot(
+                        response.uri().toString(),
+                        response.statusCode(),
+                        response.headers().firstValue("ETag").orElse(null),
+                        response.headers().firstValue("Last-Modified").orElse(null),
+                        ContentDecoder.decode(response.body(), response.headers().firstValue("Content-Encoding").orElse(""), maxBodyBytes)));
+    }
+
+    private HttpRequest.Builder baseRequest(String url) {
+        String absolute = url.contains("://") ? url : "https://" + url.trim();
+        return HttpRequest.newBuilder(URI.create(absolute))
+                .timeout(requestTimeout)
+                .header("Accept-Encoding", "gzip, deflate")
+                .GET();
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Snapshot(String url, int status, String etag, String lastModified, byte[] body) {
+
+        ResourceFingerprint.Entry toEntry() {
+            return ResourceFingerprint.Entry.builder()
+                    .url(url)
+                    .etag(etag)
+                    .lastModified(lastModified)
+                    .sha256(sha256(body))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ecarbon.gdsc.audits.change;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마지막 실제 측정 시점의 문서와 주요 리소스 식별 정보
+ * 다음 측정 전에 조건부 요청으로 비교해서 바뀐 것이 없으면 측정을 건너뛴다.
+ */
+@Document(collection = "resource_fingerprints")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceFingerprint {
+
+    @Id
+    private String id;                  // 정규화된 페이지 URL
+
+    private Entry document;
+    @Builder.Default
+    private List<Entry> subresources = new ArrayList<>();
+
+    private String recordedAt;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private String url;
+        private String etag;
+        private String lastModified;
+        private String sha256;          // 압축을 푼 본문의 해시
+    }
+}
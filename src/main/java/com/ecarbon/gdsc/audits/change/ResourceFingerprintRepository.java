@@ -0,0 +1,28 @@
+package com.ecarbon.gdsc.audits.change;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ResourceFingerprintRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public Optional<ResourceFingerprint> findByUrl(String canonicalUrl) {
+        return Optional.ofNullable(mongoTemplate.findById(canonicalUrl, ResourceFingerprint.class));
+    }
+
+    public void save(ResourceFingerprint fingerprint) {
+        mongoTemplate.save(fingerprint);
+    }
+
+    public void delete(String canonicalUrl) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(canonicalUrl)), ResourceFingerprint.class);
+    }
+}
@@ -0,0 +1,161 @@
+package com.ecarbon.gdsc.audits.chrome;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * DevTools protocol WebSocket 세션
+ * 명령은 id 로 응답과 매칭하고, id 가 없는 메시지는 이벤트로 리스너에 전달한다.
+ */
+@Slf4j
+public class CdpSession implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final WebSocket webSocket;
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final Map<Integer, CompletableFuture<JsonNode>> pending = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<Consumer<JsonNode>> eventListeners = new CopyOnWriteArrayList<>();
+
+    private CdpSession(WebSocket webSocket) {
+        this.webSocket = webSocket;
+    }
+
+    public static CdpSession connect(HttpClient httpClient, String webSocketUrl, Duration timeout) throws Exception {
+        MessageListener listener = new MessageListener();
+        WebSocket webSocket = httpClient.newWebSocketBuilder()
+                .connectTimeout(timeout)
+                .buildAsync(URI.create(webSocketUrl), listener)
+                .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        CdpSession session = new CdpSession(webSocket);
+        listener.session = session;
+        return session;
+    }
+
+    public CompletableFuture<JsonNode> send(String method, ObjectNode params) {
+        return send(method, params, null);
+    }
+
+    public CompletableFuture<JsonNode> send(String method, ObjectNode params, String sessionId) {
+        int id = nextId.getAndIncrement();
+        ObjectNode message = MAPPER.createObjectNode();
+        message.put("id", id);
+        message.put("method", method);
+        message.set("params", params != null ? params : MAPPER.createObjectNode());
+        if (sessionId != null) {
+            message.put("sessionId", sessionId);
+        }
+
+        CompletableFuture<JsonNode> response = new CompletableFuture<>();
+        pending.put(id, response);
+        webSocket.sendText(message.toString(), true)
+                .exceptionally(error -> {
+                    CompletableFuture<JsonNode> failed = pending.remove(id);
+                    if (failed != null) {
+                        failed.completeExceptionally(error);
+                    }
+                    return null;
+                });
+        return response;
+    }
+
+    public JsonNode call(String method, ObjectNode params, Duration timeout) throws Exception {
+        return send(method, params).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void addEventListener(Consumer<JsonNode> listener) {
+        eventListeners.add(listener);
+    }
+
+    public static ObjectNode params() {
+        return MAPPER.createObjectNode();
+    }
+
+    @Override
+    public void close() {
+        try {
+            webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "").get(2, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            webSocket.abort();
+        }
+        failPending(new IllegalStateException("CDP session closed"));
+    }
+
+    private void onMessage(String text) {
+        try {
+            JsonNode message = MAPPER.readTree(text);
+            if (message.has("id")) {
+                CompletableFuture<JsonNode> response = pending.remove(message.get("id").asInt());
+                if (response == null) {
+                    return;
+                }
+                if (message.has("error")) {
+                    response.completeExceptionally(new IllegalStateException("CDP error: " + message.get("error")));
+                } else {
+                    response.complete(message.path("result"));
+                }
+            } else {
+                for (Consumer<JsonNode> listener : eventListeners) {
+                    listener.accept(message);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[CHROME/CDP] ⚠️ Failed to handle DevTools message", e);
+        }
+    }
+
+    private void failPending(Throwable error) {
+        pending.values().forEach(future -> future.completeExceptionally(error));
+        pending.clear();
+    }
+
+    private static class MessageListener implements WebSocket.Listener {
+        private final StringBuilder buffer = new StringBuilder();
+        private volatile CdpSession session;
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            buffer.append(data);
+            if (last) {
+                String text = buffer.toString();
+                buffer.setLength(0);
+                if (session != null) {
+                    session.onMessage(text);
+                }
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            if (session != null) {
+                session.failPending(new IllegalStateException("CDP socket closed: " + reason));
+            }
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            if (session != null) {
+                session.failPending(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.ecarbon.gdsc.audits.chrome;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * remote-debugging 포트로 제어하는 장기 실행 headless Chrome 한 개
+ */
+@Slf4j
+@Getter
+public class ChromeInstance {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(15);
+    private static final Duration HTTP_TIMEOUT = Duration.ofSeconds(2);
+
+    private final int slot;
+    private final int port;
+    private final String chromePath;
+    private final List<String> chromeFlags;
+    private final HttpClient httpClient;
+
+    private volatile Process process;
+    private Path profileDir;
+    private int auditCount;
+
+    public ChromeInstance(int slot, int port, String chromePath, List<String> chromeFlags, HttpClient httpClient) {
+        this.slot = slot;
+        this.port = port;
+        this.chromePath = chromePath;
+        this.chromeFlags = chromeFlags;
+        this.httpClient = httpClient;
+    }
+
+    public void start() throws IOException, InterruptedException {
+        profileDir = Files.createTempDirectory("ecarbon-chrome-" + slot + "-");
+
+        List<String> command = new ArrayList<>();
+        command.add(chromePath);
+        command.addAll(chromeFlags);
+        command.add("--remote-debugging-port=" + port);
+        command.add("--user-data-dir=" + profileDir);
+        command.add("--no-first-run");
+        command.add("--no-default-browser-check");
+        command.add("about:blank");
+
+        process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        auditCount = 0;
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (isHealthy()) {
+                log.info("[CHROME/POOL] 🚀 Chrome #{} ready on port {} (pid {})", slot, port, process.pid());
+                return;
+            }
+            Thread.sleep(200);
+        }
+
+        stop();
+        throw new IOException("Chrome #" + slot + " did not open debugging port " + port);
+    }
+
+    public void stop() {
+        if (process != null) {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+            try {
+                process.waitFor();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        deleteProfile();
+    }
+
+    public boolean isHealthy() {
+        if (process == null || !process.isAlive()) {
+            return false;
+        }
+        try {
+            HttpResponse<Void> response = httpClient.send(
+                    HttpRequest.newBuilder(debuggingUri("/json/version")).timeout(HTTP_TIMEOUT).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == 200;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public String getBrowserWebSocketUrl() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(debuggingUri("/json/version")).timeout(HTTP_TIMEOUT).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        return MAPPER.readTree(response.body()).path("webSocketDebuggerUrl").asText();
+    }
+
+    /**
+     * 측정 후 남아 있는 탭을 닫고 측정한 origin 의 저장소를 비운다.
+     */
+    public void clean(String auditedUrl) {
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(debuggingUri("/json/list")).timeout(HTTP_TIMEOUT).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            for (JsonNode target : MAPPER.readTree(response.body())) {
+                if ("page".equals(target.path("type").asText())) {
+                    httpClient.send(
+                            HttpRequest.newBuilder(debuggingUri("/json/close/" + target.path("id").asText()))
+                                    .timeout(HTTP_TIMEOUT).GET().build(),
+                            HttpResponse.BodyHandlers.discarding());
+                }
+            }
+
+            String origin = originOf(auditedUrl);
+            if (origin != null) {
+                try (CdpSession session = CdpSession.connect(httpClient, getBrowserWebSocketUrl(), HTTP_TIMEOUT)) {
+                    session.call("Storage.clearDataForOrigin", CdpSession.params()
+                            .put("origin", origin)
+                            .put("storageTypes", "all"), HTTP_TIMEOUT);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[CHROME/POOL] ⚠️ Failed to clean Chrome #{} after {}", slot, auditedUrl, e);
+        }
+    }
+
+    public void recordAudit() {
+        auditCount++;
+    }
+
+    public long getPid() {
+        return process != null ? process.pid() : -1;
+    }
+
+    public Optional<ProcessHandle> getProcessHandle() {
+        return Optional.ofNullable(process).map(Process::toHandle);
+    }
+
+    private URI debuggingUri(String path) {
+        return URI.create("http://127.0.0.1:" + port + path);
+    }
+
+    private void deleteProfile() {
+        if (profileDir == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(profileDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("[CHROME/POOL] ⚠️ Failed to delete profile {}", profileDir, e);
+        }
+        profileDir = null;
+    }
+
+    private static String originOf(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return null;
+            }
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : "");
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
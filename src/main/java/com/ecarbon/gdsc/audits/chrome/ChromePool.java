@@ -0,0 +1,268 @@
+package com.ecarbon.gdsc.audits.chrome;
+
+import com.ecarbon.gdsc.audits.concurrency.AdaptiveConcurrencyLimiter;
+import com.ecarbon.gdsc.audits.lighthouse.LighthouseRunner;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정마다 Chrome 을 새로 띄우지 않도록 미리 띄워 둔 headless Chrome 풀
+ * Lighthouse 는 --port 로, DevTools 측정은 WebSocket 으로 빌린 인스턴스에 붙고, 반납 시 정리하며 일정 횟수 사용 후 재시작한다.
+ * size 가 0 이면 동시 실행 한도의 최대값만큼 띄워서, 슬롯을 얻은 측정이 Chrome 을 기다리지 않게 한다.
+ * 한도 최대값을 런타임에 올리면 ensureCapacity 로 모자란 만큼 더 띄운다.
+ * Chrome 시작은 최대 수 초가 걸리므로 잠금 밖에서 띄우고, 준비된 인스턴스만 잠금 안에서 슬롯에 넣는다.
+ * 시작에 실패한 슬롯은 지수 백오프로 다시 시도하고, max-launch-failures 번 연속 실패하면 그 슬롯은 쓰지 않는다.
+ */
+@Component
+@Slf4j
+public class ChromePool {
+
+    private static final Duration LAUNCH_RETRY_BASE = Duration.ofSeconds(30);
+    private static final Duration LAUNCH_RETRY_MAX = Duration.ofMinutes(30);
+
+    private final boolean enabled;
+    private final boolean autoSize;
+    private final int poolSize;
+    private final int basePort;
+    private final int maxAuditsPerInstance;
+    private final int maxLaunchFailures;
+    private final String chromePath;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    // 슬롯 번호 -> 실행 중인 인스턴스. slotCount 와 함께 instances 잠금 안에서만 바꾼다
+    private final Map<Integer, ChromeInstance> instances = new TreeMap<>();
+    private int slotCount;
+    private final LinkedBlockingQueue<ChromeInstance> idle = new LinkedBlockingQueue<>();
+    // 띄우는 중인 인스턴스 (ProcessReaper 가 고아로 보지 않도록 pid 목록에 포함)
+    private final Set<ChromeInstance> starting = ConcurrentHashMap.newKeySet();
+    // 시작에 실패한 슬롯과 다음 시도 시각
+    private final Map<Integer, LaunchFailure> failedSlots = new ConcurrentHashMap<>();
+    private volatile boolean stopped;
+
+    public ChromePool(
+            @Value("${audit.chrome.pool.enabled:true}") boolean enabled,
+            @Value("${audit.chrome.pool.size:0}") int poolSize,
+            @Value("${audit.chrome.pool.base-port:9222}") int basePort,
+            @Value("${audit.chrome.pool.max-audits-per-instance:50}") int maxAuditsPerInstance,
+            @Value("${audit.chrome.pool.max-launch-failures:5}") int maxLaunchFailures,
+            @Value("${audit.chrome.path:${CHROME_PATH:google-chrome}}") String chromePath,
+            AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.enabled = enabled;
+        this.autoSize = poolSize <= 0;
+        this.poolSize = autoSize ? concurrencyLimiter.getMaxLimit() : poolSize;
+        this.basePort = basePort;
+        this.maxAuditsPerInstance = maxAuditsPerInstance;
+        this.maxLaunchFailures = Math.max(1, maxLaunchFailures);
+        this.chromePath = chromePath;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("[CHROME/POOL] ℹ️ Warm Chrome pool disabled, Lighthouse will launch its own Chrome");
+            return;
+        }
+        addSlots(poolSize).forEach(this::launch);
+        log.info("[CHROME/POOL] 🚀 Started {} of {} warm Chrome instance(s)", getInstanceCount(), poolSize);
+    }
+
+    /**
+     * 동시 실행 한도 최대값이 늘었을 때 모자란 인스턴스를 더 띄운다. size 를 직접 정했거나 풀이 꺼져 있으면 무시
+     */
+    public void ensureCapacity(int size) {
+        if (!enabled || !autoSize) {
+            return;
+        }
+        List<Integer> added = addSlots(size);
+        added.forEach(this::launch);
+        if (!added.isEmpty()) {
+            log.info("[CHROME/POOL] ➕ Added {} Chrome slot(s), {} instance(s) running", added.size(), getInstanceCount());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        List<ChromeInstance> running;
+        synchronized (instances) {
+            running = new ArrayList<>(instances.values());
+            instances.clear();
+        }
+        running.forEach(ChromeInstance::stop);
+        idle.clear();
+    }
+
+    /**
+     * 사용 가능한 인스턴스를 빌린다. 풀이 꺼져 있거나 시간 안에 빌리지 못하면 null
+     */
+    public ChromeInstance acquire(Duration timeout) throws InterruptedException {
+        if (!enabled) {
+            return null;
+        }
+        return idle.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void release(ChromeInstance instance, String auditedUrl) {
+        if (instance == null) {
+            return;
+        }
+        instance.recordAudit();
+
+        if (instance.getAuditCount() >= maxAuditsPerInstance || !instance.isHealthy()) {
+            log.info("[CHROME/POOL] ♻️ Recycling Chrome #{} after {} audits", instance.getSlot(), instance.getAuditCount());
+            restart(instance);
+            return;
+        }
+
+        instance.clean(auditedUrl);
+        idle.add(instance);
+    }
+
+    /**
+     * 놀고 있는 인스턴스의 상태를 주기적으로 확인하고, 응답이 없으면 재시작
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void checkHealth() {
+        if (!enabled) {
+            return;
+        }
+        List<ChromeInstance> snapshot = new ArrayList<>(idle);
+        for (ChromeInstance instance : snapshot) {
+            if (!instance.isHealthy() && idle.remove(instance)) {
+                log.warn("[CHROME/POOL] ⚠️ Chrome #{} failed health check", instance.getSlot());
+                restart(instance);
+            }
+        }
+
+        // 시작에 실패했던 슬롯 중 백오프가 지난 것만 다시 띄운다
+        long now = System.nanoTime();
+        new ArrayList<>(failedSlots.entrySet()).stream()
+                .filter(entry -> entry.getValue().count() < maxLaunchFailures)
+                .filter(entry -> now - entry.getValue().retryAtNanos() >= 0)
+                .forEach(entry -> launch(entry.getKey()));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public List<Long> getChromePids() {
+        List<Long> pids = new ArrayList<>();
+        synchronized (instances) {
+            instances.values().stream()
+                    .map(ChromeInstance::getPid)
+                    .filter(pid -> pid > 0)
+                    .forEach(pids::add);
+        }
+        starting.stream()
+                .map(ChromeInstance::getPid)
+                .filter(pid -> pid > 0)
+                .forEach(pids::add);
+        return pids;
+    }
+
+    private int getInstanceCount() {
+        synchronized (instances) {
+            return instances.size();
+        }
+    }
+
+    /**
+     * 슬롯 번호만 잡아 두고 돌려준다. 실제 시작은 잠금 밖에서 launch 로 한다
+     */
+    private List<Integer> addSlots(int size) {
+        List<Integer> added = new ArrayList<>();
+        synchronized (instances) {
+            for (; slotCount < size; slotCount++) {
+                added.add(slotCount);
+            }
+        }
+        return added;
+    }
+
+    private void launch(int slot) {
+        ChromeInstance instance = new ChromeInstance(slot, basePort + slot, chromePath, LighthouseRunner.CHROME_FLAGS, httpClient);
+        starting.add(instance);
+        try {
+            instance.start();
+            synchronized (instances) {
+                instances.put(slot, instance);
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            onLaunchFailed(slot, e);
+            return;
+        } finally {
+            starting.remove(instance);
+        }
+
+        failedSlots.remove(slot);
+        if (stopped) {
+            instance.stop();
+            return;
+        }
+        idle.add(instance);
+    }
+
+    /**
+     * 슬롯에서 빼고 멈춘 뒤 같은 포트로 새 인스턴스를 띄운다 (호출한 쪽은 이미 idle 에서 뺀 상태)
+     */
+    private void restart(ChromeInstance instance) {
+        synchronized (instances) {
+            instances.remove(instance.getSlot(), instance);
+        }
+        instance.stop();
+        if (!stopped) {
+            launch(instance.getSlot());
+        }
+    }
+
+    /**
+     * 실패마다 한 줄만 남기고, 다음 시도까지 기다리는 시간을 두 배씩 늘린다
+     */
+    private void onLaunchFailed(int slot, Exception e) {
+        LaunchFailure failure = failedSlots.compute(slot, (key, previous) -> {
+            int count = previous == null ? 1 : previous.count() + 1;
+            return new LaunchFailure(count, System.nanoTime() + retryDelay(count).toNanos());
+        });
+
+        if (failure.count() >= maxLaunchFailures) {
+            log.error("[CHROME/POOL] ❌ Chrome #{} disabled after {} failed starts: {}", slot, failure.count(), e.getMessage());
+        } else {
+            log.warn("[CHROME/POOL] ⚠️ Chrome #{} failed to start ({}/{}), retrying in {} s: {}",
+                    slot, failure.count(), maxLaunchFailures, retryDelay(failure.count()).toSeconds(), e.getMessage());
+        }
+    }
+
+    private static Duration retryDelay(int failures) {
+        Duration delay = LAUNCH_RETRY_BASE.multipliedBy(1L << Math.min(failures - 1, 16));
+        return delay.compareTo(LAUNCH_RETRY_MAX) > 0 ? LAUNCH_RETRY_MAX : delay;
+    }
+
+    private record LaunchFailure(int count, long retryAtNanos) {
+    }
+}
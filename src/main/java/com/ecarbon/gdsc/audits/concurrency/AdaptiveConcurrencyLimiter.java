@@ -0,0 +1,273 @@
+package com.ecarbon.gdsc.audits.concurrency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 동시에 실행하는 Lighthouse 수를 AIMD 로 조절하는 리미터
+ * 측정 프로세스 실행 시간이 기준보다 크게 늘거나, 시간 초과/크래시로 실패하거나, load average 가 코어 수를 넘거나,
+ * 여유 메모리가 부족하면 한도를 곱으로 줄이고, 한도만큼 꽉 차서 돌고 있는데 여유가 있으면 1 씩 늘린다.
+ * 기준 실행 시간은 측정 방식과 프로필(workload)마다 따로 둔다. 한도는 [minLimit, maxLimit] 범위를 벗어나지 않는다.
+ */
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double DECREASE_FACTOR = 0.75;
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double BASELINE_SMOOTHING = 0.1;
+    private static final Duration DECREASE_COOLDOWN = Duration.ofSeconds(30);
+
+    private final int maxWorkers;
+    private final double maxLoadPerCore;
+    private final double minFreeMemoryRatio;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+
+    private volatile int minLimit;
+    private volatile int maxLimit;
+    private int limit;
+    private int inFlight;
+
+    // workload (측정 방식:프로필) -> 기준 실행 시간 (ms)
+    private final Map<String, Double> baselineLatencyMs = new HashMap<>();
+    private long lastDecreaseNanos;
+    private boolean decreasedOnce;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${audit.concurrency.max-workers:16}") int maxWorkers,
+            @Value("${audit.concurrency.min-limit:1}") int minLimit,
+            @Value("${audit.concurrency.max-limit:0}") int maxLimit,
+            @Value("${audit.concurrency.initial-limit:2}") int initialLimit,
+            @Value("${audit.concurrency.max-load-per-core:1.0}") double maxLoadPerCore,
+            @Value("${audit.concurrency.min-free-memory-ratio:0.1}") double minFreeMemoryRatio) {
+        this.maxWorkers = Math.max(1, maxWorkers);
+        this.maxLoadPerCore = maxLoadPerCore;
+        this.minFreeMemoryRatio = minFreeMemoryRatio;
+
+        // max-limit 이 0 이면 코어 수의 절반 (Chrome 한 개가 코어 두 개 정도를 사용)
+        int resolvedMax = maxLimit > 0 ? maxLimit : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.minLimit = clamp(minLimit, 1, this.maxWorkers);
+        this.maxLimit = clamp(resolvedMax, this.minLimit, this.maxWorkers);
+        this.limit = clamp(initialLimit, this.minLimit, this.maxLimit);
+    }
+
+    /**
+     * 실행 슬롯을 얻을 때까지 대기
+     */
+    public void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= limit) {
+                permitAvailable.await();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 작업을 처리하지 않고 슬롯만 반납 (큐가 비어 있던 경우)
+     */
+    public void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 측정을 마치고 슬롯을 반납하면서 실행 시간을 반영해 한도를 조절
+     * @param workload 기준 실행 시간을 따로 두는 단위 (측정 방식:프로필)
+     * @param runtime 측정 프로세스 실행 시간. 큐 대기, 리포트 추출, 변경 확인 시간은 넣지 않는다.
+     */
+    public void release(String workload, Duration runtime) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= limit;
+            inFlight--;
+            adjust(workload, runtime.toMillis(), saturated);
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 시간 초과나 Chrome 크래시처럼 부하 때문일 수 있는 실패로 끝난 측정의 슬롯 반납. 한도를 줄인다.
+     */
+    public void releaseOverloaded(String reason) {
+        lock.lock();
+        try {
+            inFlight--;
+            decrease(reason);
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 재시작 없이 한도 범위를 변경
+     */
+    public void setBounds(int newMinLimit, int newMaxLimit) {
+        lock.lock();
+        try {
+            minLimit = clamp(newMinLimit, 1, maxWorkers);
+            maxLimit = clamp(newMaxLimit, minLimit, maxWorkers);
+            limit = clamp(limit, minLimit, maxLimit);
+            log.info("[CONCURRENCY] 🎚️ Limit bounds changed to [{}, {}], current limit {}", minLimit, maxLimit, limit);
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public int getMaxWorkers() {
+        return maxWorkers;
+    }
+
+    /**
+     * workload 별 기준 실행 시간 (ms)
+     */
+    public Map<String, Long> getBaselineLatencyMs() {
+        lock.lock();
+        try {
+            Map<String, Long> baselines = new HashMap<>();
+            baselineLatencyMs.forEach((workload, latency) -> baselines.put(workload, Math.round(latency)));
+            return baselines;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjust(String workload, long runtimeMs, boolean saturated) {
+        Double baseline = baselineLatencyMs.get(workload);
+        String overloadReason = baseline != null && runtimeMs > baseline * LATENCY_TOLERANCE
+                ? workload + " runtime " + runtimeMs + "ms > baseline " + Math.round(baseline) + "ms x " + LATENCY_TOLERANCE
+                : systemOverloadReason();
+
+        // 기준 실행 시간은 느리게 따라가는 EWMA
+        baselineLatencyMs.put(workload, baseline == null ? runtimeMs : baseline + BASELINE_SMOOTHING * (runtimeMs - baseline));
+
+        if (overloadReason != null) {
+            decrease(overloadReason);
+        } else if (saturated && limit < maxLimit) {
+            limit++;
+            log.info("[CONCURRENCY] 📈 Limit increased to {}", limit);
+        }
+    }
+
+    private void decrease(String reason) {
+        long now = nanoTime();
+        if (decreasedOnce && now - lastDecreaseNanos < DECREASE_COOLDOWN.toNanos()) {
+            return;
+        }
+        int decreased = Math.max(minLimit, (int) Math.floor(limit * DECREASE_FACTOR));
+        if (decreased < limit) {
+            log.info("[CONCURRENCY] 📉 Limit {} -> {} ({})", limit, decreased, reason);
+            limit = decreased;
+        }
+        lastDecreaseNanos = now;
+        decreasedOnce = true;
+    }
+
+    /**
+     * 장비 전체의 과부하 이유. 여유가 있으면 null
+     */
+    protected String systemOverloadReason() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        double loadAverage = os.getSystemLoadAverage();
+        if (loadAverage >= 0 && loadAverage / os.getAvailableProcessors() > maxLoadPerCore) {
+            return "load average " + loadAverage;
+        }
+
+        double availableRatio = availableMemoryRatio(os);
+        if (availableRatio >= 0 && availableRatio < minFreeMemoryRatio) {
+            return String.format("available memory %.1f%%", availableRatio * 100);
+        }
+        return null;
+    }
+
+    protected long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * 사용 가능한 메모리 비율. Linux 에서는 page cache 를 포함하는 MemAvailable 기준
+     */
+    private static double availableMemoryRatio(OperatingSystemMXBean os) {
+        try {
+            List<String> lines = Files.readAllLines(Path.of("/proc/meminfo"));
+            long total = meminfoKb(lines, "MemTotal:");
+            long available = meminfoKb(lines, "MemAvailable:");
+            if (total > 0 && available >= 0) {
+                return (double) available / total;
+            }
+        } catch (IOException | RuntimeException ignored) {
+            // /proc 가 없는 환경
+        }
+
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs && sunOs.getTotalMemorySize() > 0) {
+            return (double) sunOs.getFreeMemorySize() / sunOs.getTotalMemorySize();
+        }
+        return -1;
+    }
+
+    private static long meminfoKb(List<String> lines, String key) {
+        for (String line : lines) {
+            if (line.startsWith(key)) {
+                return Long.parseLong(line.substring(key.length()).trim().split("\\s+")[0]);
+            }
+        }
+        return -1;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,65 @@
+package com.ecarbon.gdsc.audits.controller;
+
+import com.ecarbon.gdsc.audits.dto.AuditJobResponse;
+import com.ecarbon.gdsc.audits.job.AuditJob;
+import com.ecarbon.gdsc.audits.job.AuditJobRejectedException;
+import com.ecarbon.gdsc.audits.job.AuditJobService;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.job.AuditJobStatus;
+import com.ecarbon.gdsc.carbon.entity.WeeklyMeasurements;
+import com.ecarbon.gdsc.carbon.service.HomeService;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/audit-jobs")
+public class AuditJobController {
+
+    private final AuditJobService auditJobService;
+    private final HomeService homeService;
+
+    @PostMapping
+    public ResponseEntity<AuditJobResponse> submit(
+            @RequestParam String url,
+            @RequestParam(defaultValue = "LIGHTHOUSE") AuditMode mode,
+            @RequestParam(defaultValue = "OPTIMIZATION_FULL") AuditProfile profile) {
+        if (url == null || url.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        AuditJob job;
+        try {
+            job = auditJobService.submit(url, mode, profile);
+        } catch (AuditJobRejectedException e) {
+            return ResponseEntity.status(e.getStatus()).header("Retry-After", "30").build();
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/audit-jobs/" + job.getId()))
+                .body(AuditJobResponse.from(job));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<AuditJobResponse> getJob(@PathVariable String jobId, HttpSession session) {
+        return auditJobService.findById(jobId)
+                .map(job -> {
+                    if (job.getStatus() == AuditJobStatus.DONE && job.getResult() != null) {
+                        // 기존 /api/start-measurement 와 동일하게 세션에 결과 저장
+                        WeeklyMeasurements weeklyData = homeService.convertToWeeklyMeasurements(job.getResult());
+                        session.setAttribute("userMeasurement", weeklyData);
+                        session.setAttribute("userUrl", job.getUrl());
+                    }
+                    return ResponseEntity.ok(AuditJobResponse.from(job));
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecarbon.gdsc.audits.cost;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Lighthouse 실행 한 번의 비용 (audit_costs)
+ * 측정 문서에도 같은 값이 있지만, 사이트/주 단위 집계는 MongoDB 에서 하므로 따로 남긴다.
+ */
+@Document(collection = "audit_costs")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditCostRecord {
+
+    @Id
+    private String id;
+
+    private String url;
+    private String site;            // 등록 도메인
+    private String measurementType;
+    private String auditProfile;
+    private String measuredAt;
+    private String weekStartDate;
+
+    private long cpuTimeMs;
+    private long peakRssBytes;
+    private long wallTimeMs;
+    private long reportBytes;
+    private int processCount;
+    private String outcome;         // ProcessOutcome
+    private boolean failed;         // 측정 결과 없이 끝난 실행
+}
@@ -0,0 +1,36 @@
+package com.ecarbon.gdsc.audits.cost;
+
+import com.ecarbon.gdsc.audits.dto.AuditCostSummary;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AuditCostRepository extends MongoRepository<AuditCostRecord, String> {
+
+    /**
+     * 한 주 동안 CPU 시간을 가장 많이 쓴 사이트 순서
+     */
+    @Aggregation(pipeline = {
+            "{ $match: { 'weekStartDate': ?0 } }",
+            "{ $group: { _id: '$site', audits: { $sum: 1 }, failedAudits: { $sum: { $cond: ['$failed', 1, 0] } }, totalCpuTimeMs: { $sum: '$cpuTimeMs' }, avgCpuTimeMs: { $avg: '$cpuTimeMs' }, maxPeakRssBytes: { $max: '$peakRssBytes' }, avgPeakRssBytes: { $avg: '$peakRssBytes' }, avgWallTimeMs: { $avg: '$wallTimeMs' }, avgReportBytes: { $avg: '$reportBytes' } } }",
+            "{ $sort: { 'totalCpuTimeMs': -1 } }",
+            "{ $limit: ?1 }",
+            "{ $project: { _id: 0, site: '$_id', weekStartDate: { $literal: ?0 }, audits: 1, failedAudits: 1, totalCpuTimeMs: 1, avgCpuTimeMs: 1, maxPeakRssBytes: 1, avgPeakRssBytes: 1, avgWallTimeMs: 1, avgReportBytes: 1 } }"
+    })
+    List<AuditCostSummary> findCostliestSites(String weekStartDate, int limit);
+
+    /**
+     * 한 사이트의 주별 비용 (최근 주부터)
+     */
+    @Aggregation(pipeline = {
+            "{ $match: { 'site': ?0 } }",
+            "{ $group: { _id: '$weekStartDate', audits: { $sum: 1 }, failedAudits: { $sum: { $cond: ['$failed', 1, 0] } }, totalCpuTimeMs: { $sum: '$cpuTimeMs' }, avgCpuTimeMs: { $avg: '$cpuTimeMs' }, maxPeakRssBytes: { $max: '$peakRssBytes' }, avgPeakRssBytes: { $avg: '$peakRssBytes' }, avgWallTimeMs: { $avg: '$wallTimeMs' }, avgReportBytes: { $avg: '$reportBytes' } } }",
+            "{ $sort: { '_id': -1 } }",
+            "{ $limit: ?1 }",
+            "{ $project: { _id: 0, site: { $literal: ?0 }, weekStartDate: '$_id', audits: 1, failedAudits: 1, totalCpuTimeMs: 1, avgCpuTimeMs: 1, maxPeakRssBytes: 1, avgPeakRssBytes: 1, avgWallTimeMs: 1, avgReportBytes: 1 } }"
+    })
+    List<AuditCostSummary> findWeeklyBySite(String site, int limit);
+}
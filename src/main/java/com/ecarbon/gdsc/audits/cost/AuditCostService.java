@@ -0,0 +1,82 @@
+package com.ecarbon.gdsc.audits.cost;
+
+import com.ecarbon.gdsc.audits.dto.AuditCost;
+import com.ecarbon.gdsc.audits.dto.AuditCostSummary;
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.util.DateCalculator;
+import com.ecarbon.gdsc.audits.util.RegistrableDomain;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Lighthouse 실행 비용을 audit_costs 에 남기고 사이트/주 단위로 집계한다.
+ * 어떤 사이트가 측정하기 비싼지, 노드당 워커 수를 얼마로 둘지 정할 때 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditCostService {
+
+    private final AuditCostRepository auditCostRepository;
+
+    /**
+     * 저장된 측정의 비용을 기록한다. 실패해도 측정 결과에는 영향을 주지 않는다.
+     */
+    public void record(Measurements measurements) {
+        AuditCost cost = measurements.getAuditCost();
+        if (cost == null) {
+            return;
+        }
+        save(measurements.getUrl(), measurements.getMeasurementType(), measurements.getAuditProfile(),
+                measurements.getMeasuredAt(), measurements.getWeekStartDate(), cost, false);
+    }
+
+    /**
+     * 결과 없이 끝난 실행(시간 초과, 비정상 종료 등)의 비용을 기록한다. 재시도마다 한 건씩 남는다.
+     */
+    public void recordFailure(String url, String measurementType, String auditProfile, AuditCost cost) {
+        LocalDateTime now = LocalDateTime.now();
+        save(url, measurementType, auditProfile, now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                DateCalculator.getMondayAsString(now), cost, true);
+    }
+
+    private void save(String url, String measurementType, String auditProfile, String measuredAt, String weekStartDate,
+                      AuditCost cost, boolean failed) {
+        try {
+            auditCostRepository.save(AuditCostRecord.builder()
+                    .url(url)
+                    .site(RegistrableDomain.of(url))
+                    .measurementType(measurementType)
+                    .auditProfile(auditProfile)
+                    .measuredAt(measuredAt)
+                    .weekStartDate(weekStartDate)
+                    .cpuTimeMs(cost.getCpuTimeMs())
+                    .peakRssBytes(cost.getPeakRssBytes())
+                    .wallTimeMs(cost.getWallTimeMs())
+                    .reportBytes(cost.getReportBytes())
+                    .processCount(cost.getProcessCount())
+                    .outcome(cost.getOutcome())
+                    .failed(failed)
+                    .build());
+        } catch (Exception e) {
+            log.warn("[COST] ⚠️ Failed to record audit cost for {}: {}", url, e.getMessage());
+        }
+    }
+
+    public List<AuditCostSummary> findCostliestSites(String weekStartDate, int limit) {
+        return auditCostRepository.findCostliestSites(weekStartDate, limit);
+    }
+
+    /**
+     * @param siteOrUrl 등록 도메인 또는 그 사이트의 URL
+     */
+    public List<AuditCostSummary> findWeeklyBySite(String siteOrUrl, int limit) {
+        String site = siteOrUrl.contains("://") ? RegistrableDomain.of(siteOrUrl) : siteOrUrl;
+        return auditCostRepository.findWeeklyBySite(site, limit);
+    }
+}
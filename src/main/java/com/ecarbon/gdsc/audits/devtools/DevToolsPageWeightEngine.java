@@ -0,0 +1,198 @@
+package com.ecarbon.gdsc.audits.devtools;
+
+import com.ecarbon.gdsc.audits.chrome.CdpSession;
+import com.ecarbon.gdsc.audits.chrome.ChromeInstance;
+import com.ecarbon.gdsc.audits.chrome.ChromePool;
+import com.ecarbon.gdsc.audits.dto.LighthouseAuditResult;
+import com.ecarbon.gdsc.audits.dto.LighthouseOptimizationData;
+import com.ecarbon.gdsc.audits.engine.AuditEngine;
+import com.ecarbon.gdsc.audits.fast.FastPageWeightEstimator;
+import com.ecarbon.gdsc.audits.metrics.AuditMetrics;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditTask;
+import com.ecarbon.gdsc.carbon.dto.Lighthouse.NetworkRequest;
+import com.ecarbon.gdsc.carbon.dto.Lighthouse.ResourceSummary;
+import com.ecarbon.gdsc.carbon.exception.LighthouseMeasurementException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Lighthouse 없이 미리 띄운 Chrome 을 DevTools protocol 로 직접 움직여 페이지 무게를 잰다.
+ * 새 탭에서 캐시를 끄고 페이지를 연 뒤, load 이벤트 이후 네트워크가 잠잠해질 때까지
+ * Network.loadingFinished 의 encodedDataLength(헤더 포함 전송 크기)와 리소스 타입을 모은다.
+ * Lighthouse 진단 값(사용하지 않는 CSS/JS 등)은 없고, 페이지 무게와 리소스 요약만 Lighthouse 와 같은 형태로 만든다.
+ */
+@Slf4j
+@Component
+public class DevToolsPageWeightEngine implements AuditEngine {
+
+    private static final Duration CHROME_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration COMMAND_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ChromePool chromePool;
+    private final AuditMetrics metrics;
+    private final Duration loadTimeout;
+    private final Duration networkIdle;
+    private final Duration maxSettle;
+
+    public DevToolsPageWeightEngine(
+            ChromePool chromePool,
+            AuditMetrics metrics,
+            @Value("${audit.devtools.load-timeout-seconds:30}") long loadTimeoutSeconds,
+            @Value("${audit.devtools.network-idle-ms:500}") long networkIdleMs,
+            @Value("${audit.devtools.max-settle-ms:5000}") long maxSettleMs) {
+        this.chromePool = chromePool;
+        this.metrics = metrics;
+        this.loadTimeout = Duration.ofSeconds(loadTimeoutSeconds);
+        this.networkIdle = Duration.ofMillis(networkIdleMs);
+        this.maxSettle = Duration.ofMillis(maxSettleMs);
+    }
+
+    @Override
+    public LighthouseAuditResult audit(AuditTask task) {
+        String url = normalize(task.getUrl());
+        ChromeInstance chrome = null;
+        try {
+            chrome = chromePool.acquire(CHROME_ACQUIRE_TIMEOUT);
+            if (chrome == null) {
+                if (!chromePool.isEnabled()) {
+                    // 붙을 Chrome 이 없으므로 재시도해도 같다
+                    throw new LighthouseMeasurementException("DevTools audit requires the warm Chrome pool (audit.chrome.pool.enabled)");
+                }
+                throw new LighthouseMeasurementException("No warm Chrome available for URL: " + url,
+                        new TimeoutException("Chrome pool busy for " + CHROME_ACQUIRE_TIMEOUT.toSeconds() + "s"));
+            }
+
+            long startNanos = System.nanoTime();
+            LighthouseAuditResult result = collect(chrome, url);
+            metrics.recordSince(AuditMetrics.Stage.DEVTOOLS_RUN, startNanos);
+            return result;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LighthouseMeasurementException("Interrupted while auditing URL: " + url, e);
+        } finally {
+            chromePool.release(chrome, url);
+        }
+    }
+
+    private LighthouseAuditResult collect(ChromeInstance chrome, String url) throws InterruptedException {
+        LocalDateTime analyzedAt = LocalDateTime.now();
+        NetworkLog network = new NetworkLog();
+
+        try (CdpSession browser = CdpSession.connect(chrome.getHttpClient(), chrome.getBrowserWebSocketUrl(), COMMAND_TIMEOUT)) {
+            String targetId = browser.call("Target.createTarget",
+                    CdpSession.params().put("url", "about:blank"), COMMAND_TIMEOUT).path("targetId").asText();
+            try {
+                String sessionId = browser.call("Target.attachToTarget",
+                        CdpSession.params().put("targetId", targetId).put("flatten", true), COMMAND_TIMEOUT).path("sessionId").asText();
+
+                browser.addEventListener(message -> {
+                    if (sessionId.equals(message.path("sessionId").asText())) {
+                        network.onEvent(message.path("method").asText(), message.path("params"));
+                    }
+                });
+                call(browser, "Network.enable", CdpSession.params(), sessionId);
+                call(browser, "Network.setCacheDisabled", CdpSession.params().put("cacheDisabled", true), sessionId);
+                call(browser, "Page.enable", CdpSession.params(), sessionId);
+
+                JsonNode navigation = call(browser, "Page.navigate", CdpSession.params().put("url", url), sessionId);
+                String errorText = navigation.path("errorText").asText("");
+                if (!errorText.isEmpty()) {
+                    // net::ERR_NAME_NOT_RESOLVED, net::ERR_CERT_* 는 FailureClassifier 가 영구 실패로 본다
+                    throw new LighthouseMeasurementException("Navigation failed: " + errorText + " for URL: " + url,
+                            new IOException(errorText));
+                }
+                if (!network.awaitLoad(loadTimeout)) {
+                    throw new LighthouseMeasurementException("Page load timed out after " + loadTimeout.toSeconds() + "s for URL: " + url,
+                            new TimeoutException("load event not fired"));
+                }
+                network.awaitIdle(networkIdle, maxSettle);
+
+                return toResult(url, analyzedAt, network.document(navigation.path("loaderId").asText()), network.finished());
+            } finally {
+                // 실패한 탭이 남아 있으면 다음 측정까지 계속 요청을 보내고 메모리를 차지한다
+                closeTarget(browser, targetId);
+            }
+
+        } catch (LighthouseMeasurementException | InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new LighthouseMeasurementException("DevTools session failed for URL: " + url, e);
+        }
+    }
+
+    private static void closeTarget(CdpSession browser, String targetId) {
+        try {
+            browser.call("Target.closeTarget", CdpSession.params().put("targetId", targetId), COMMAND_TIMEOUT);
+        } catch (Exception e) {
+            log.warn("[DEVTOOLS] ⚠️ Failed to close target {}: {}", targetId, e.getMessage());
+        }
+    }
+
+    private LighthouseAuditResult toResult(String url, LocalDateTime analyzedAt, NetworkLog.Request document,
+                                          List<NetworkLog.Request> finished) {
+        if (document == null) {
+            throw new LighthouseMeasurementException("No document response for URL: " + url, new IOException("missing main document"));
+        }
+        if (document.getStatus() >= 500) {
+            // 서버 오류는 일시적인 경우가 많으므로 재시도 대상
+            throw new LighthouseMeasurementException("Document request failed for URL: " + url,
+                    new IOException("HTTP status " + document.getStatus()));
+        }
+        if (document.getStatus() >= 400) {
+            throw new LighthouseMeasurementException("ERRORED_DOCUMENT_REQUEST: status " + document.getStatus() + " for URL: " + url);
+        }
+
+        List<NetworkRequest> networkRequests = finished.stream()
+                .map(request -> NetworkRequest.builder()
+                        .url(request.getUrl())
+                        .resourceType(request.getResourceType())
+                        .mimeType(request.getMimeType())
+                        .resourceSize(request.getResourceSize())
+                        .transferSize(request.getTransferSize())
+                        .build())
+                .toList();
+
+        List<ResourceSummary> resourceSummaries = FastPageWeightEstimator.summarize(networkRequests, document.getUrl());
+        long totalByteWeight = networkRequests.stream().mapToLong(NetworkRequest::getTransferSize).sum();
+        long scriptBytes = networkRequests.stream()
+                .filter(request -> "Script".equals(request.getResourceType()))
+                .mapToLong(NetworkRequest::getResourceSize).sum();
+
+        log.info("[DEVTOOLS] 🌐 Collected {} - {} requests, {} bytes", url, networkRequests.size(), totalByteWeight);
+
+        return LighthouseAuditResult.builder()
+                .url(url)
+                .analyzedAt(analyzedAt)
+                .auditMode(AuditMode.DEVTOOLS)
+                .networkRequests(networkRequests)
+                .resourceSummaries(resourceSummaries)
+                .requestedUrls(networkRequests.stream().map(NetworkRequest::getUrl).toList())
+                .optimizationData(LighthouseOptimizationData.builder()
+                        .resourceSummaries(resourceSummaries)
+                        .totalByteWeight(totalByteWeight)
+                        .totalResourceBytesScript(scriptBytes)
+                        .build())
+                .build();
+    }
+
+    private static JsonNode call(CdpSession browser, String method, ObjectNode params, String sessionId) throws Exception {
+        return browser.send(method, params, sessionId).get(COMMAND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static String normalize(String url) {
+        String trimmed = url.trim();
+        return trimmed.contains("://") ? trimmed : "https://" + trimmed;
+    }
+}
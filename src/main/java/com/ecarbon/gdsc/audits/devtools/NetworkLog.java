@@ -0,0 +1,129 @@
+package com.ecarbon.gdsc.audits.devtools;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 탭의 Network/Page 이벤트를 모은다. 이벤트는 WebSocket 스레드에서, 대기는 워커 스레드에서 한다.
+ * 리다이렉트는 같은 requestId 로 다시 오므로 앞 응답도 Lighthouse 처럼 요청 하나로 센다.
+ */
+public class NetworkLog {
+
+    private final Map<String, Request> active = new HashMap<>();    // requestId -> 응답을 기다리는 요청
+    private final List<Request> finished = new ArrayList<>();
+    private final CountDownLatch loaded = new CountDownLatch(1);
+    private long lastActivityNanos = System.nanoTime();
+
+    public synchronized void onEvent(String method, JsonNode params) {
+        String requestId = params.path("requestId").asText();
+        switch (method) {
+            case "Network.requestWillBeSent" -> {
+                String url = params.path("request").path("url").asText();
+                Request redirected = active.remove(requestId);
+                if (redirected != null && params.has("redirectResponse")) {
+                    JsonNode response = params.path("redirectResponse");
+                    redirected.status = response.path("status").asInt();
+                    redirected.transferSize = response.path("encodedDataLength").asLong();
+                    finished.add(redirected);
+                }
+                if (url.startsWith("http")) {
+                    active.put(requestId, new Request(requestId, url, params.path("type").asText("Other")));
+                }
+            }
+            case "Network.responseReceived" -> {
+                Request request = active.get(requestId);
+                if (request != null) {
+                    JsonNode response = params.path("response");
+                    request.url = response.path("url").asText(request.url);
+                    request.resourceType = params.path("type").asText(request.resourceType);
+                    request.mimeType = response.path("mimeType").asText(null);
+                    request.status = response.path("status").asInt();
+                }
+            }
+            case "Network.dataReceived" -> {
+                Request request = active.get(requestId);
+                if (request != null) {
+                    request.resourceSize += params.path("dataLength").asLong();
+                }
+            }
+            case "Network.loadingFinished" -> {
+                Request request = active.remove(requestId);
+                if (request != null) {
+                    request.transferSize = params.path("encodedDataLength").asLong();
+                    finished.add(request);
+                }
+            }
+            case "Network.loadingFailed" -> active.remove(requestId);
+            case "Page.loadEventFired" -> loaded.countDown();
+            default -> {
+                return;
+            }
+        }
+        lastActivityNanos = System.nanoTime();
+    }
+
+    public boolean awaitLoad(Duration timeout) throws InterruptedException {
+        return loaded.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 진행 중인 요청이 없고 idle 동안 새 이벤트가 없을 때까지 기다린다. 길어도 maxSettle 까지만
+     */
+    public void awaitIdle(Duration idle, Duration maxSettle) throws InterruptedException {
+        long deadline = System.nanoTime() + maxSettle.toNanos();
+        while (System.nanoTime() < deadline) {
+            synchronized (this) {
+                if (active.isEmpty() && System.nanoTime() - lastActivityNanos >= idle.toNanos()) {
+                    return;
+                }
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * 메인 문서 (requestId 가 탐색의 loaderId 와 같고, 리다이렉트가 있었다면 마지막 응답)
+     */
+    public synchronized Request document(String loaderId) {
+        Request document = null;
+        for (Request request : finished) {
+            if (request.requestId.equals(loaderId)) {
+                document = request;
+            }
+        }
+        return document;
+    }
+
+    public synchronized List<Request> finished() {
+        return new ArrayList<>(finished);
+    }
+
+    public synchronized int activeCount() {
+        return active.size();
+    }
+
+    @Getter
+    public static class Request {
+        private final String requestId;
+        private String url;
+        private String resourceType;
+        private String mimeType;
+        private int status;
+        private long resourceSize;
+        private long transferSize;
+
+        private Request(String requestId, String url, String resourceType) {
+            this.requestId = requestId;
+            this.url = url;
+            this.resourceType = resourceType;
+        }
+    }
+}
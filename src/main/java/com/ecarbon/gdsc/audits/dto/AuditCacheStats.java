@@ -0,0 +1,18 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AuditCacheStats {
+
+    private int size;
+    private int maxEntries;
+    private long freshnessMinutes;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private double hitRatio;
+}
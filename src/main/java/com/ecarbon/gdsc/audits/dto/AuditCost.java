@@ -0,0 +1,24 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import lombok.*;
+
+/**
+ * Lighthouse 실행 한 번에 든 자원 (측정 문서에 함께 저장)
+ * CPU/RSS 는 Lighthouse 프로세스 트리와 이 측정에 쓴 미리 띄운 Chrome 을 합친 값이다.
+ * 실패한 실행도 자원을 쓰므로 outcome 과 함께 audit_costs 에 남긴다.
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditCost {
+
+    private long cpuTimeMs;
+    private long peakRssBytes;
+    private long wallTimeMs;
+    private long reportBytes;
+    private int processCount;
+    private String outcome;         // ProcessOutcome (COMPLETED, TIMED_OUT, ...)
+
+}
@@ -0,0 +1,24 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사이트/주 단위로 합친 측정 비용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditCostSummary {
+    private String site;
+    private String weekStartDate;
+    private int audits;
+    private int failedAudits;
+    private long totalCpuTimeMs;
+    private double avgCpuTimeMs;
+    private long maxPeakRssBytes;
+    private double avgPeakRssBytes;
+    private double avgWallTimeMs;
+    private double avgReportBytes;
+}
@@ -0,0 +1,43 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.job.AuditJob;
+import com.ecarbon.gdsc.audits.job.AuditJobStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+@Getter
+@Builder
+public class AuditJobResponse {
+
+    private String jobId;
+    private String url;
+    private AuditJobStatus status;
+
+    private String submittedAt;
+    private String startedAt;
+    private String finishedAt;
+
+    private String errorMessage;
+    private Measurements result;
+
+    public static AuditJobResponse from(AuditJob job) {
+        return AuditJobResponse.builder()
+                .jobId(job.getId())
+                .url(job.getUrl())
+                .status(job.getStatus())
+                .submittedAt(format(job.getSubmittedAt()))
+                .startedAt(format(job.getStartedAt()))
+                .finishedAt(format(job.getFinishedAt()))
+                .errorMessage(job.getErrorMessage())
+                .result(job.getResult())
+                .build();
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
+    }
+}
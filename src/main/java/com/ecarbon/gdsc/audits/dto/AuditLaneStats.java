@@ -0,0 +1,22 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AuditLaneStats {
+
+    private String lane;
+    private int share;                  // 설정된 비율
+    private int reservedSlots;          // 현재 한도 기준 예약 슬롯 수
+
+    private int depth;                  // 대기 중인 작업 수
+    private int running;
+    private long dispatched;            // 지금까지 꺼낸 작업 수
+
+    private long oldestWaitMs;          // 맨 앞 작업이 기다린 시간
+    private long avgWaitMs;
+    private long maxWaitMs;
+    private long starvationPromotions;  // max-wait 초과로 우선순위를 무시하고 꺼낸 횟수
+}
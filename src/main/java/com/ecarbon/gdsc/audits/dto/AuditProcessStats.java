@@ -0,0 +1,15 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AuditProcessStats {
+
+    private int activeProcessTrees;
+    private int trackedPids;
+
+    private long killedProcessCount;     // 측정 종료/타임아웃 시 트리에서 종료시킨 프로세스 수
+    private long reapedOrphanCount;      // 주기적 정리에서 종료시킨 고아 프로세스 수
+}
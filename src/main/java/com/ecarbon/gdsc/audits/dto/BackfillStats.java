@@ -0,0 +1,13 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import com.ecarbon.gdsc.audits.backfill.BackfillCheckpoint;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BackfillStats {
+    private boolean running;
+    private String currentJobId;
+    private BackfillCheckpoint checkpoint;
+}
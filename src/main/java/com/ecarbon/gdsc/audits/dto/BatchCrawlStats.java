@@ -0,0 +1,20 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BatchCrawlStats {
+    private String weekStartDate;
+    private boolean running;
+    private String status;
+    private int totalUrls;
+    private int completedUrls;
+    private int failedUrls;
+    private int completedSites;
+    private int failedSites;
+    private String startedAt;
+    private String updatedAt;
+    private String finishedAt;
+}
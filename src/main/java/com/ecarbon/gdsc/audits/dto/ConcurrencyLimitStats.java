@@ -0,0 +1,18 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class ConcurrencyLimitStats {
+
+    private int limit;
+    private int inFlight;
+    private int minLimit;
+    private int maxLimit;
+    private int maxWorkers;
+    private Map<String, Long> baselineLatencyMs;    // 측정 방식:프로필 -> 기준 실행 시간
+}
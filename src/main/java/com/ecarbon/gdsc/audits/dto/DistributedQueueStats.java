@@ -0,0 +1,20 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DistributedQueueStats {
+
+    private boolean enabled;
+    private String nodeId;
+
+    private long pending;
+    private long leased;
+    private long done;
+    private long failed;
+
+    private int heldLeases;         // 이 노드가 측정 중인 항목 수
+    private long lostLeaseCount;    // 연장하지 못해 다른 노드로 넘어간 리스 수
+}
@@ -0,0 +1,12 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FailedAuditReplayResponse {
+    private String failureType;     // null 이면 전체
+    private int submitted;          // 다시 큐에 넣은 건수
+    private int queueSize;          // 재처리 후 대기열 크기
+}
@@ -1,5 +1,7 @@
 package com.ecarbon.gdsc.audits.dto;
 
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
 import com.ecarbon.gdsc.carbon.dto.Lighthouse.NetworkRequest;
 import com.ecarbon.gdsc.carbon.dto.Lighthouse.ResourceSummary;
 import lombok.Builder;
@@ -10,15 +12,22 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @ToString
 public class LighthouseAuditResult {
 
     private String url;
     private LocalDateTime analyzedAt;
 
+    @Builder.Default
+    private AuditMode auditMode = AuditMode.LIGHTHOUSE;
+
+    private AuditProfile auditProfile;  // FAST 모드는 null
+
     private LighthouseOptimizationData optimizationData;
     private List<NetworkRequest> networkRequests;
     private List<ResourceSummary> resourceSummaries;
     private List<String> requestedUrls;
+
+    private AuditCost auditCost;    // Lighthouse 실행 비용 (FAST 모드는 null)
 }
@@ -0,0 +1,17 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ReportArchiveStats {
+    private boolean enabled;
+    private String directory;
+    private int reportCount;
+    private int objectCount;
+    private long totalBytes;
+    private long maxBytes;
+    private long dedupedCount;
+    private long evictedCount;
+}
@@ -0,0 +1,15 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SharedResourceCost {
+    private String url;
+    private String resourceType;
+    private long transferSize;
+    private int siteCount;              // 이 리소스를 불러오는 사이트 수
+    private long totalTransferBytes;    // transferSize * siteCount (사이트마다 한 번 방문할 때)
+    private String lastSeen;
+}
@@ -0,0 +1,14 @@
+package com.ecarbon.gdsc.audits.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SiteAuditStats {
+    private boolean enabled;
+    private int maxPages;
+    private int maxDepth;
+    private int runningSites;
+    private long completedSites;
+}
@@ -0,0 +1,17 @@
+package com.ecarbon.gdsc.audits.engine;
+
+import com.ecarbon.gdsc.audits.dto.LighthouseAuditResult;
+import com.ecarbon.gdsc.audits.queue.AuditTask;
+
+/**
+ * Lighthouse CLI 대신 쓸 수 있는 측정 방식 (AuditMode 별로 하나)
+ * 결과는 Lighthouse 측정과 같은 LighthouseAuditResult 형태라서 LighthouseDataWriter 가 그대로 저장한다.
+ * Lighthouse 자체는 리포트 스트림을 추출/원본 보관/비용 측정에 함께 넘겨야 해서 LighthouseWorker 가 직접 실행한다.
+ */
+public interface AuditEngine {
+
+    /**
+     * 페이지 하나를 측정한다. 실패하면 LighthouseMeasurementException 을 던지며 재시도 여부는 FailureClassifier 가 정한다.
+     */
+    LighthouseAuditResult audit(AuditTask task);
+}
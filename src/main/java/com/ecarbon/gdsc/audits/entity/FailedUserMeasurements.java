@@ -1,5 +1,6 @@
 package com.ecarbon.gdsc.audits.entity;
 
+import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -18,4 +19,19 @@ public class FailedUserMeasurements {
     private String measuredAt;
     private String weekStartDate;
     private String errorMessage;
-}
\ No newline at end of file
+
+    // 재처리에 필요한 측정 정보
+    private String measurementType;     // user / weekly
+    private PlaceInfo placeInfo;        // 주간 배치 측정이면 기관 정보
+    private String auditMode;           // LIGHTHOUSE / FAST
+    private String auditProfile;        // CARBON_MINIMAL / OPTIMIZATION_FULL
+
+    // 실패 분류와 원인
+    private String failureType;         // TRANSIENT / PERMANENT
+    private String processOutcome;      // Lighthouse 프로세스 결과 (TIMED_OUT 등)
+    private Integer exitCode;
+    private String stderrTail;
+    private String exceptionClass;
+    private int attempts;
+    private String enqueuedAt;
+}
@@ -1,6 +1,7 @@
 package com.ecarbon.gdsc.audits.entity;
 
 
+import com.ecarbon.gdsc.audits.dto.AuditCost;
 import com.ecarbon.gdsc.carbon.dto.Lighthouse.NetworkRequest;
 import com.ecarbon.gdsc.carbon.dto.Lighthouse.ResourceSummary;
 import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
@@ -24,6 +25,7 @@ public class Measurements {
     private String url;
 
     private String measurementType;
+    private String auditProfile;    // carbon-minimal / optimization-full (FAST 모드는 null)
 
     private String measuredAt;
     private String weekStartDate;
@@ -46,4 +48,6 @@ public class Measurements {
 
     private double kbWeight;
     private double carbonEmission;
+
+    private AuditCost auditCost;    // Lighthouse 실행 비용 (FAST 모드는 null)
 }
@@ -0,0 +1,52 @@
+package com.ecarbon.gdsc.audits.entity;
+
+import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 사이트 측정 결과 (시작 페이지에서 찾은 내부 페이지들을 함께 측정해서 합친 값)
+ * 페이지별 측정 원본은 user_measurements 에 따로 저장된다.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Getter
+public class SiteMeasurements {
+
+    private String id;
+
+    private String rootUrl;
+    private PlaceInfo placeInfo;
+    private String auditProfile;
+
+    private String measuredAt;
+    private String weekStartDate;
+
+    private int pageCount;          // 측정에 성공한 페이지 수
+    private int failedPageCount;
+    private int maxDepth;
+
+    private double totalKbWeight;
+    private double averageKbWeight;
+    private double totalCarbonEmission;
+    private double carbonEmission;  // 페이지 한 번 방문당 평균 배출량
+
+    private List<Page> pages;
+
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ToString
+    @Getter
+    public static class Page {
+        private String url;
+        private int depth;
+        private boolean failed;
+        private String errorMessage;
+        private double kbWeight;
+        private double carbonEmission;
+    }
+}
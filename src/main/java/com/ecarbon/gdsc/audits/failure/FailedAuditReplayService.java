@@ -0,0 +1,57 @@
+package com.ecarbon.gdsc.audits.failure;
+
+import com.ecarbon.gdsc.audits.MainRunner;
+import com.ecarbon.gdsc.audits.entity.FailedUserMeasurements;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.queue.AuditPriority;
+import com.ecarbon.gdsc.audits.repository.FailedMeasurementsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * failed_measurements 에 쌓인 실패 건을 다시 워커 풀의 REAUDIT 레인에 넣는다.
+ * 재측정이 끝나면 원래 기록은 지운다. 다시 실패하면 MainRunner 가 새 기록을 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FailedAuditReplayService {
+
+    private final FailedMeasurementsRepository failedMeasurementsRepository;
+    private final MainRunner mainRunner;
+
+    public List<FailedUserMeasurements> findFailed(FailureType type, int limit)
+            throws ExecutionException, InterruptedException {
+        return failedMeasurementsRepository.findAll(type != null ? type.name() : null, limit);
+    }
+
+    /**
+     * @return 다시 큐에 넣은 건수
+     */
+    public int replay(FailureType type, int limit) throws ExecutionException, InterruptedException {
+        List<FailedUserMeasurements> failed = findFailed(type, limit);
+
+        for (FailedUserMeasurements record : failed) {
+            mainRunner.submit(record.getUrl(), record.getPlaceInfo(), AuditPriority.REAUDIT, modeOf(record),
+                            AuditProfile.fromId(record.getAuditProfile())).getResult()
+                    .whenComplete((result, error) -> failedMeasurementsRepository.delete(record.getId()));
+        }
+
+        log.info("[REPLAY] 🔁 Re-submitted {} failed measurements (type: {})", failed.size(), type != null ? type : "ALL");
+        return failed.size();
+    }
+
+    private static AuditMode modeOf(FailedUserMeasurements record) {
+        for (AuditMode mode : AuditMode.values()) {
+            if (mode.name().equals(record.getAuditMode())) {
+                return mode;
+            }
+        }
+        return AuditMode.LIGHTHOUSE;
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecarbon.gdsc.audits.failure;
+
+import com.ecarbon.gdsc.carbon.exception.LighthouseMeasurementException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 측정 실패를 일시적(TRANSIENT) / 영구적(PERMANENT) 으로 분류
+ * Lighthouse 프로세스 결과와 stderr 에 찍힌 Lighthouse 런타임 에러 코드를 기준으로 한다.
+ */
+@Component
+public class FailureClassifier {
+
+    // 대상 페이지 자체의 문제라 재시도해도 결과가 같은 Lighthouse 에러 코드
+    private static final List<String> PERMANENT_MARKERS = List.of(
+            "DNS_FAILURE",
+            "ERR_NAME_NOT_RESOLVED",
+            "INVALID_URL",
+            "NOT_HTML",
+            "ERRORED_DOCUMENT_REQUEST",
+            "INSECURE_DOCUMENT_REQUEST",
+            "ERR_CERT_",
+            "Empty URL"
+    );
+
+    public FailureType classify(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof LighthouseMeasurementException measurementError) {
+                return classifyLighthouse(measurementError);
+            }
+            // Firestore/gRPC 호출 실패와 I/O 오류는 일시적인 경우가 대부분
+            if (current instanceof IOException
+                    || current instanceof TimeoutException
+                    || current instanceof ExecutionException
+                    || current.getClass().getName().startsWith("io.grpc.")
+                    || current.getClass().getName().startsWith("com.google.api.gax.")) {
+                return FailureType.TRANSIENT;
+            }
+        }
+        // 그 외 런타임 예외(파싱 오류 등)는 같은 입력에서 반복된다
+        return FailureType.PERMANENT;
+    }
+
+    private FailureType classifyLighthouse(LighthouseMeasurementException error) {
+        if (containsPermanentMarker(error.getMessage()) || containsPermanentMarker(error.getStderrTail())) {
+            return FailureType.PERMANENT;
+        }
+        if (error.getOutcome() == null) {
+            return error.getCause() != null ? classify(error.getCause()) : FailureType.PERMANENT;
+        }
+        return switch (error.getOutcome()) {
+            // 리포트가 상한보다 크면 다음에도 크다
+            case OUTPUT_OVERFLOW -> FailureType.PERMANENT;
+            // 타임아웃, Chrome 크래시, 프로세스 실행 실패
+            case TIMED_OUT, NON_ZERO_EXIT, FAILED, COMPLETED -> FailureType.TRANSIENT;
+        };
+    }
+
+    private static boolean containsPermanentMarker(String text) {
+        if (text == null) {
+            return false;
+        }
+        return PERMANENT_MARKERS.stream().anyMatch(text::contains);
+    }
+}
@@ -0,0 +1,6 @@
+package com.ecarbon.gdsc.audits.failure;
+
+public enum FailureType {
+    TRANSIENT,      // 다시 시도하면 성공할 수 있는 실패 (Chrome 크래시, 타임아웃, 저장소 일시 오류)
+    PERMANENT       // 재시도해도 같은 결과 (잘못된 URL, DNS 실패, HTML 이 아닌 응답)
+}
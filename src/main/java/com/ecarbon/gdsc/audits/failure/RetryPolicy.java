@@ -0,0 +1,43 @@
+package com.ecarbon.gdsc.audits.failure;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 일시적 실패에 대한 재시도 정책
+ * 지수 백오프 상한 안에서 무작위 대기(full jitter)를 써서 한꺼번에 재시도가 몰리지 않게 한다.
+ */
+@Getter
+@Component
+public class RetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+
+    public RetryPolicy(
+            @Value("${audit.retry.max-attempts:3}") int maxAttempts,
+            @Value("${audit.retry.base-delay-ms:5000}") long baseDelayMs,
+            @Value("${audit.retry.max-delay-ms:300000}") long maxDelayMs) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelay = Duration.ofMillis(baseDelayMs);
+        this.maxDelay = Duration.ofMillis(Math.max(baseDelayMs, maxDelayMs));
+    }
+
+    public boolean shouldRetry(FailureType type, int attempts) {
+        return type == FailureType.TRANSIENT && attempts < maxAttempts;
+    }
+
+    /**
+     * attempts 번째 실패 후 대기 시간: [0, min(maxDelay, baseDelay * 2^(attempts-1))]
+     */
+    public Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        long ceiling = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << exponent);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+}
@@ -0,0 +1,329 @@
+package com.ecarbon.gdsc.audits.fast;
+
+import com.ecarbon.gdsc.audits.dto.LighthouseAuditResult;
+import com.ecarbon.gdsc.audits.dto.LighthouseOptimizationData;
+import com.ecarbon.gdsc.audits.engine.AuditEngine;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditTask;
+import com.ecarbon.gdsc.audits.resource.ResourceSize;
+import com.ecarbon.gdsc.audits.resource.ResourceSizeIndex;
+import com.ecarbon.gdsc.audits.util.BoundedBodyHandlers;
+import com.ecarbon.gdsc.audits.util.ContentDecoder;
+import com.ecarbon.gdsc.audits.util.RegistrableDomain;
+import com.ecarbon.gdsc.carbon.dto.Lighthouse.NetworkRequest;
+import com.ecarbon.gdsc.carbon.dto.Lighthouse.ResourceSummary;
+import com.ecarbon.gdsc.carbon.exception.LighthouseMeasurementException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Chrome 없이 페이지 무게를 추정하는 빠른 측정
+ * HTML 을 받아 연결된 CSS/JS/이미지/폰트를 찾고, CSS 안의 폰트와 이미지까지 한 단계 더 따라간 뒤
+ * 리소스를 받아 전송 크기를 합산한다. 한 페이지에서 동시에 보내는 요청은 max-concurrent-fetches 개로 제한하고,
+ * HttpClient 하나를 공유해서 호스트별 연결을 재사용한다.
+ * 외부 도메인 리소스 중 ResourceSizeIndex 에 최근 크기가 있는 것은 받지 않고 그 크기를 쓴다.
+ * 결과는 Lighthouse 측정과 같은 LighthouseAuditResult 형태라서 LighthouseDataWriter 가 그대로 저장할 수 있다.
+ */
+@Slf4j
+@Component
+public class FastPageWeightEstimator implements AuditEngine {
+
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0 Safari/537.36 eCarbon-FastAudit";
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final int maxResources;
+    private final long maxDocumentBytes;
+    private final int maxConcurrentFetches;
+    private final ResourceSizeIndex resourceSizeIndex;
+
+    public FastPageWeightEstimator(
+            ResourceSizeIndex resourceSizeIndex,
+            @Value("${audit.fast.request-timeout-seconds:15}") long requestTimeoutSeconds,
+            @Value("${audit.fast.max-resources:200}") int maxResources,
+            @Value("${audit.fast.max-document-bytes:10485760}") long maxDocumentBytes,
+            @Value("${audit.fast.max-concurrent-fetches:6}") int maxConcurrentFetches) {
+        this.requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+        this.maxResources = maxResources;
+        this.maxDocumentBytes = maxDocumentBytes;
+        this.maxConcurrentFetches = Math.max(1, maxConcurrentFetches);
+        this.resourceSizeIndex = resourceSizeIndex;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    @Override
+    public LighthouseAuditResult audit(AuditTask task) {
+        return estimate(task.getUrl());
+    }
+
+    public LighthouseAuditResult estimate(String url) {
+        LocalDateTime analyzedAt = LocalDateTime.now();
+
+        // 1. 문서
+        Fetched document = fetchText(url);
+        if (document.status() >= 500) {
+            // 서버 오류는 일시적인 경우가 많으므로 재시도 대상
+            throw new LighthouseMeasurementException("Document request failed for URL: " + url,
+                    new IOException("HTTP status " + document.status()));
+        }
+        if (document.status() >= 400) {
+            throw new LighthouseMeasurementException("ERRORED_DOCUMENT_REQUEST: status " + document.status() + " for URL: " + url);
+        }
+        String pageUrl = document.finalUrl();
+
+        Map<String, String> resources = new LinkedHashMap<>(HtmlResourceExtractor.extractFromHtml(document.text(), pageUrl));
+        FetchWindow window = new FetchWindow(maxConcurrentFetches);
+
+        // 2. 스타일시트 (안에 있는 폰트/이미지/@import 를 찾기 위해 본문까지 받음)
+        Map<String, Fetched> stylesheets = new LinkedHashMap<>();
+        List<String> cssUrls = resources.entrySet().stream()
+                .filter(entry -> "Stylesheet".equals(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .limit(maxResources)
+                .toList();
+        List<CompletableFuture<Void>> cssFetches = new ArrayList<>();
+        for (String cssUrl : cssUrls) {
+            cssFetches.add(window.submit(() -> fetchTextAsync(cssUrl))
+                    .thenAccept(fetched -> {
+                        if (fetched.status() < 400) {
+                            synchronized (stylesheets) {
+                                stylesheets.put(cssUrl, fetched);
+                            }
+                        }
+                    })
+                    .exceptionally(error -> {
+                        log.debug("[FAST] Stylesheet request failed: {} ({})", cssUrl, error.getMessage());
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(cssFetches.toArray(new CompletableFuture[0])).join();
+        stylesheets.forEach((cssUrl, fetched) -> HtmlResourceExtractor.extractFromCss(fetched.text(), fetched.finalUrl())
+                .forEach((resourceUrl, type) -> {
+                    if (!"Stylesheet".equals(type)) {
+                        resources.putIfAbsent(resourceUrl, type);
+                    }
+                }));
+
+        // 3. 나머지 리소스는 크기만 센다 (다른 사이트 측정에서 크기를 아는 외부 리소스는 받지 않음)
+        List<String> sizeUrls = resources.entrySet().stream()
+                .filter(entry -> !"Stylesheet".equals(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .limit(Math.max(0, maxResources - cssUrls.size()))
+                .toList();
+        String pageDomain = RegistrableDomain.of(pageUrl);
+        Map<String, ResourceSize> known = resourceSizeIndex.findFresh(sizeUrls.stream()
+                .filter(resourceUrl -> ResourceSizeIndex.isThirdParty(pageDomain, resourceUrl))
+                .toList());
+
+        Map<String, CompletableFuture<Long>> sizes = new LinkedHashMap<>();
+        sizeUrls.forEach(resourceUrl -> sizes.put(resourceUrl, known.containsKey(resourceUrl)
+                ? CompletableFuture.completedFuture(known.get(resourceUrl).getTransferSize())
+                : window.submit(() -> countBytesAsync(resourceUrl))));
+        CompletableFuture.allOf(sizes.values().toArray(new CompletableFuture[0])).join();
+
+        List<NetworkRequest> networkRequests = new ArrayList<>();
+        networkRequests.add(NetworkRequest.builder()
+                .url(pageUrl).resourceType("Document")
+                .resourceSize(document.resourceSize()).transferSize(document.transferSize()).build());
+        stylesheets.forEach((cssUrl, fetched) -> networkRequests.add(NetworkRequest.builder()
+                .url(cssUrl).resourceType("Stylesheet")
+                .resourceSize(fetched.resourceSize()).transferSize(fetched.transferSize()).build()));
+        sizes.forEach((resourceUrl, size) -> {
+            long transferSize = size.join();
+            if (transferSize > 0) {
+                long resourceSize = known.containsKey(resourceUrl) ? known.get(resourceUrl).getResourceSize() : transferSize;
+                networkRequests.add(NetworkRequest.builder()
+                        .url(resourceUrl).resourceType(resources.get(resourceUrl))
+                        .resourceSize(resourceSize).transferSize(transferSize).build());
+            }
+        });
+
+        List<ResourceSummary> resourceSummaries = summarize(networkRequests, pageUrl);
+        long totalByteWeight = networkRequests.stream().mapToLong(NetworkRequest::getTransferSize).sum();
+        long scriptBytes = networkRequests.stream()
+                .filter(request -> "Script".equals(request.getResourceType()))
+                .mapToLong(NetworkRequest::getResourceSize).sum();
+
+        log.info("[FAST] ⚡ Estimated {} - {} requests ({} sizes from index), {} bytes",
+                url, networkRequests.size(), known.size(), totalByteWeight);
+
+        // Lighthouse 전용 진단 값(사용하지 않는 CSS/JS 등)은 빠른 측정에서 알 수 없으므로 비워둔다
+        return LighthouseAuditResult.builder()
+                .url(url)
+                .analyzedAt(analyzedAt)
+                .auditMode(AuditMode.FAST)
+                .networkRequests(networkRequests)
+                .resourceSummaries(resourceSummaries)
+                .requestedUrls(networkRequests.stream().map(NetworkRequest::getUrl).toList())
+                .optimizationData(LighthouseOptimizationData.builder()
+                        .resourceSummaries(resourceSummaries)
+                        .totalByteWeight(totalByteWeight)
+                        .totalResourceBytesScript(scriptBytes)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Lighthouse resource-summary 와 같은 타입 이름으로 집계
+     */
+    public static List<ResourceSummary> summarize(List<NetworkRequest> requests, String pageUrl) {
+        Map<String, Long> bytesByType = new LinkedHashMap<>();
+        for (String type : List.of("total", "document", "script", "stylesheet", "image", "media", "font", "other", "third-party")) {
+            bytesByType.put(type, 0L);
+        }
+
+        String pageDomain = RegistrableDomain.of(pageUrl);
+        for (NetworkRequest request : requests) {
+            String type = request.getResourceType().toLowerCase(Locale.ROOT);
+            if (!bytesByType.containsKey(type) || type.equals("total") || type.equals("third-party")) {
+                type = "other";
+            }
+            bytesByType.merge(type, request.getTransferSize(), Long::sum);
+            bytesByType.merge("total", request.getTransferSize(), Long::sum);
+            if (pageDomain != null && !Objects.equals(pageDomain, RegistrableDomain.of(request.getUrl()))) {
+                bytesByType.merge("third-party", request.getTransferSize(), Long::sum);
+            }
+        }
+
+        List<ResourceSummary> summaries = new ArrayList<>();
+        bytesByType.forEach((type, bytes) -> summaries.add(ResourceSummary.builder()
+                .resourceType(type).transferSize(bytes).build()));
+        return summaries;
+    }
+
+    private Fetched fetchText(String url) {
+        try {
+            return fetchTextAsync(normalize(url)).join();
+        } catch (RuntimeException e) {
+            throw new LighthouseMeasurementException("Document request failed for URL: " + url, e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    private CompletableFuture<Fetched> fetchTextAsync(String url) {
+        // 본문은 압축된 상태와 푼 상태 모두 maxDocumentBytes 까지만 받는다
+        return httpClient.sendAsync(request(url), BoundedBodyHandlers.ofByteArray(maxDocumentBytes, requestTimeout))
+                .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(response -> {
+                    byte[] body = response.body();
+                    byte[] decoded = ContentDecoder.decode(body, response.headers().firstValue("Content-Encoding").orElse(""), maxDocumentBytes);
+                    String text = new String(decoded, StandardCharsets.UTF_8);
+                    return new Fetched(response.uri().toString(), response.statusCode(), text, body.length, decoded.length);
+                });
+    }
+
+    /**
+     * 본문을 저장하지 않고 받은 바이트 수만 센다. 실패한 리소스는 0
+     */
+    private CompletableFuture<Long> countBytesAsync(String url) {
+        return httpClient.sendAsync(request(url), BoundedBodyHandlers.counting(requestTimeout))
+                .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(response -> response.statusCode() < 400 ? response.body() : 0L)
+                .exceptionally(error -> {
+                    log.debug("[FAST] Resource request failed: {} ({})", url, error.getMessage());
+                    return 0L;
+                });
+    }
+
+    private HttpRequest request(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header("User-Agent", USER_AGENT)
+                // 전송 크기를 Lighthouse 처럼 압축된 크기로 재기 위해 압축을 요청 (HttpClient 는 brotli 를 풀 수 없음)
+                .header("Accept-Encoding", "gzip, deflate")
+                .GET()
+                .build();
+    }
+
+    private static String normalize(String url) {
+        String trimmed = url.trim();
+        return trimmed.contains("://") ? trimmed : "https://" + trimmed;
+    }
+
+    /**
+     * 한 페이지 측정에서 동시에 진행하는 요청 수 제한. 넘치는 요청은 앞 요청이 끝날 때 이어서 보내며 스레드를 막지 않는다.
+     */
+    private static class FetchWindow {
+        private final int limit;
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+        private int running;
+
+        private FetchWindow(int limit) {
+            this.limit = limit;
+        }
+
+        <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> fetch) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            Runnable start = () -> {
+                CompletableFuture<T> started;
+                try {
+                    started = fetch.get();
+                } catch (RuntimeException e) {
+                    started = CompletableFuture.failedFuture(e);
+                }
+                started.whenComplete((value, error) -> {
+                    finished();
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+            };
+
+            boolean startNow;
+            synchronized (this) {
+                startNow = running < limit;
+                if (startNow) {
+                    running++;
+                } else {
+                    waiting.add(start);
+                }
+            }
+            if (startNow) {
+                start.run();
+            }
+            return result;
+        }
+
+        private void finished() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    running--;
+                }
+            }
+            // 자리를 그대로 넘겨받아 다음 요청을 보낸다
+            if (next != null) {
+                next.run();
+            }
+        }
+    }
+
+    private record Fetched(String finalUrl, int status, String text, long transferSize, long resourceSize) {
+    }
+}
@@ -0,0 +1,206 @@
+package com.ecarbon.gdsc.audits.fast;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTML / CSS 에서 페이지 로딩에 쓰이는 리소스 URL 과 다른 페이지로 가는 링크를 찾는다.
+ * 브라우저처럼 DOM 을 만들지 않고 태그 단위 정규식으로 찾으므로, 스크립트가 동적으로 붙이는 리소스는 포함되지 않는다.
+ */
+public class HtmlResourceExtractor {
+
+    private static final Pattern LINK_TAG = Pattern.compile("<(a|area)\\b([^>]*)>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TAG = Pattern.compile("<(link|script|img|source|video|audio|iframe)\\b([^>]*)>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ATTRIBUTE = Pattern.compile("([a-zA-Z-]+)\\s*=\\s*(\"([^\"]*)\"|'([^']*)'|([^\\s>]+))");
+    private static final Pattern CSS_URL = Pattern.compile("url\\(\\s*['\"]?([^'\")]+)['\"]?\\s*\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CSS_IMPORT = Pattern.compile("@import\\s+['\"]([^'\"]+)['\"]", Pattern.CASE_INSENSITIVE);
+    private static final Pattern BASE_HREF = Pattern.compile("<base\\b[^>]*href\\s*=\\s*['\"]([^'\"]+)['\"]", Pattern.CASE_INSENSITIVE);
+
+    private HtmlResourceExtractor() {
+    }
+
+    /**
+     * @return 절대 URL -> Lighthouse 리소스 타입 (Stylesheet, Script, Image, Font, Media, Document, Other)
+     */
+    public static Map<String, String> extractFromHtml(String html, String pageUrl) {
+        Map<String, String> resources = new LinkedHashMap<>();
+        URI base = resolveBase(html, pageUrl);
+
+        Matcher tag = TAG.matcher(html);
+        while (tag.find()) {
+            String name = tag.group(1).toLowerCase(Locale.ROOT);
+            Map<String, String> attributes = attributes(tag.group(2));
+
+            switch (name) {
+                case "link" -> {
+                    String rel = attributes.getOrDefault("rel", "").toLowerCase(Locale.ROOT);
+                    String href = attributes.get("href");
+                    if (rel.contains("stylesheet")) {
+                        add(resources, base, href, "Stylesheet");
+                    } else if (rel.contains("preload") || rel.contains("modulepreload")) {
+                        add(resources, base, href, typeOfPreload(attributes.getOrDefault("as", "")));
+                    } else if (rel.contains("icon")) {
+                        add(resources, base, href, "Image");
+                    }
+                }
+                case "script" -> add(resources, base, attributes.get("src"), "Script");
+                case "img" -> {
+                    add(resources, base, attributes.get("src"), "Image");
+                    add(resources, base, firstSrcsetCandidate(attributes.get("srcset")), "Image");
+                }
+                case "source" -> {
+                    String type = attributes.getOrDefault("type", "");
+                    String kind = type.startsWith("image") || attributes.containsKey("srcset") ? "Image" : "Media";
+                    add(resources, base, attributes.get("src"), kind);
+                    add(resources, base, firstSrcsetCandidate(attributes.get("srcset")), kind);
+                }
+                case "video", "audio" -> {
+                    add(resources, base, attributes.get("poster"), "Image");
+                    // 브라우저는 보통 metadata 만 받으므로 미디어 본문은 포함하지 않는다
+                }
+                case "iframe" -> add(resources, base, attributes.get("src"), "Document");
+                default -> {
+                }
+            }
+        }
+
+        // 인라인 style 속성/태그 안의 url(...)
+        extractFromCss(html, pageUrl).forEach(resources::putIfAbsent);
+        return resources;
+    }
+
+    /**
+     * a / area 태그의 링크 (절대 URL, 중복 제거, 문서 순서). rel="nofollow" 링크는 제외한다.
+     */
+    public static List<String> extractLinks(String html, String pageUrl) {
+        Map<String, String> links = new LinkedHashMap<>();
+        URI base = resolveBase(html, pageUrl);
+
+        Matcher tag = LINK_TAG.matcher(html);
+        while (tag.find()) {
+            Map<String, String> attributes = attributes(tag.group(2));
+            if (attributes.getOrDefault("rel", "").toLowerCase(Locale.ROOT).contains("nofollow")) {
+                continue;
+            }
+            add(links, base, attributes.get("href"), "Document");
+        }
+        return new ArrayList<>(links.keySet());
+    }
+
+    /**
+     * CSS 안의 @import 와 url(...) 리소스
+     */
+    public static Map<String, String> extractFromCss(String css, String cssUrl) {
+        Map<String, String> resources = new LinkedHashMap<>();
+        URI base = toUri(cssUrl);
+
+        Matcher importMatcher = CSS_IMPORT.matcher(css);
+        while (importMatcher.find()) {
+            add(resources, base, importMatcher.group(1), "Stylesheet");
+        }
+
+        Matcher url = CSS_URL.matcher(css);
+        while (url.find()) {
+            String value = url.group(1).trim();
+            add(resources, base, value, typeOfExtension(value));
+        }
+        return resources;
+    }
+
+    public static String typeOfExtension(String url) {
+        String path = url.toLowerCase(Locale.ROOT).replaceAll("[?#].*$", "");
+        if (path.matches(".*\\.(woff2?|ttf|otf|eot)$")) {
+            return "Font";
+        }
+        if (path.matches(".*\\.(png|jpe?g|gif|webp|avif|svg|ico|bmp)$")) {
+            return "Image";
+        }
+        if (path.endsWith(".css")) {
+            return "Stylesheet";
+        }
+        if (path.matches(".*\\.m?js$")) {
+            return "Script";
+        }
+        if (path.matches(".*\\.(mp4|webm|mp3|ogg|wav)$")) {
+            return "Media";
+        }
+        return "Other";
+    }
+
+    private static String typeOfPreload(String as) {
+        return switch (as.toLowerCase(Locale.ROOT)) {
+            case "style" -> "Stylesheet";
+            case "script" -> "Script";
+            case "image" -> "Image";
+            case "font" -> "Font";
+            case "video", "audio" -> "Media";
+            case "document" -> "Document";
+            default -> "Other";
+        };
+    }
+
+    private static void add(Map<String, String> resources, URI base, String reference, String type) {
+        if (reference == null || base == null) {
+            return;
+        }
+        String trimmed = reference.trim().replace("&amp;", "&");
+        if (trimmed.isEmpty() || trimmed.startsWith("data:") || trimmed.startsWith("#")
+                || trimmed.startsWith("javascript:") || trimmed.startsWith("about:")) {
+            return;
+        }
+        try {
+            URI resolved = base.resolve(trimmed.replace(" ", "%20"));
+            String scheme = resolved.getScheme();
+            if ("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme)) {
+                resources.putIfAbsent(resolved.toString().replaceAll("#.*$", ""), type);
+            }
+        } catch (IllegalArgumentException e) {
+            // 해석할 수 없는 URL 은 건너뛴다
+        }
+    }
+
+    private static Map<String, String> attributes(String raw) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        Matcher matcher = ATTRIBUTE.matcher(raw);
+        while (matcher.find()) {
+            String value = matcher.group(3) != null ? matcher.group(3)
+                    : matcher.group(4) != null ? matcher.group(4) : matcher.group(5);
+            attributes.putIfAbsent(matcher.group(1).toLowerCase(Locale.ROOT), value);
+        }
+        return attributes;
+    }
+
+    private static String firstSrcsetCandidate(String srcset) {
+        if (srcset == null || srcset.isBlank()) {
+            return null;
+        }
+        return srcset.split(",")[0].trim().split("\\s+")[0];
+    }
+
+    private static URI resolveBase(String html, String pageUrl) {
+        URI page = toUri(pageUrl);
+        Matcher matcher = BASE_HREF.matcher(html);
+        if (page != null && matcher.find()) {
+            try {
+                return page.resolve(matcher.group(1).trim());
+            } catch (IllegalArgumentException e) {
+                return page;
+            }
+        }
+        return page;
+    }
+
+    private static URI toUri(String url) {
+        try {
+            return URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecarbon.gdsc.audits.job;
+
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.queue.AuditTask;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletionException;
+
+@Getter
+public class AuditJob {
+
+    private final String id;
+    private final String url;
+    private final LocalDateTime submittedAt;
+    private final AuditTask task;
+
+    private volatile LocalDateTime finishedAt;
+
+    public AuditJob(String id, String url, AuditTask task) {
+        this.id = id;
+        this.url = url;
+        this.submittedAt = LocalDateTime.now();
+        this.task = task;
+        task.getResult().whenComplete((result, error) -> this.finishedAt = LocalDateTime.now());
+    }
+
+    public AuditJobStatus getStatus() {
+        if (task.getResult().isCompletedExceptionally()) {
+            return AuditJobStatus.FAILED;
+        }
+        if (task.getResult().isDone()) {
+            return AuditJobStatus.DONE;
+        }
+        return task.isStarted() ? AuditJobStatus.RUNNING : AuditJobStatus.QUEUED;
+    }
+
+    public Measurements getResult() {
+        return getStatus() == AuditJobStatus.DONE ? task.getResult().join() : null;
+    }
+
+    public String getErrorMessage() {
+        if (getStatus() != AuditJobStatus.FAILED) {
+            return null;
+        }
+        try {
+            task.getResult().join();
+            return null;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause.getMessage();
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+    }
+
+    public LocalDateTime getStartedAt() {
+        return task.getStartedAt();
+    }
+}
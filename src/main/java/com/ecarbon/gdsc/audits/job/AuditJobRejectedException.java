@@ -0,0 +1,19 @@
+package com.ecarbon.gdsc.audits.job;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 작업을 받을 수 없어 등록하지 않은 경우
+ * 진행 중인 작업이 너무 많으면 429, 워커 큐가 가득 찼으면 503
+ */
+@Getter
+public class AuditJobRejectedException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public AuditJobRejectedException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -0,0 +1,102 @@
+package com.ecarbon.gdsc.audits.job;
+
+import com.ecarbon.gdsc.audits.MainRunner;
+import com.ecarbon.gdsc.audits.lighthouse.LighthouseAuditService;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.queue.AuditTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 측정 작업 관리
+ * 요청 스레드는 작업을 등록만 하고 바로 반환되며, 결과는 작업 ID 로 조회한다.
+ * 끝나지 않은 작업이 max-active 를 넘으면 429, 워커 큐가 max-queue-size 를 넘으면 503 으로 거절한다.
+ */
+@Service
+@Slf4j
+public class AuditJobService {
+
+    // 완료된 작업 보관 시간
+    private static final long RETENTION_MINUTES = 60;
+
+    private final LighthouseAuditService lighthouseAuditService;
+    private final MainRunner mainRunner;
+    private final int maxActiveJobs;
+    private final int maxQueueSize;
+
+    private final Map<String, AuditJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger activeJobs = new AtomicInteger();
+
+    public AuditJobService(
+            LighthouseAuditService lighthouseAuditService,
+            MainRunner mainRunner,
+            @Value("${audit.jobs.max-active:200}") int maxActiveJobs,
+            @Value("${audit.jobs.max-queue-size:500}") int maxQueueSize) {
+        this.lighthouseAuditService = lighthouseAuditService;
+        this.mainRunner = mainRunner;
+        this.maxActiveJobs = Math.max(1, maxActiveJobs);
+        this.maxQueueSize = Math.max(1, maxQueueSize);
+    }
+
+    public AuditJob submit(String url) {
+        return submit(url, AuditMode.LIGHTHOUSE);
+    }
+
+    public AuditJob submit(String url, AuditMode mode) {
+        return submit(url, mode, AuditProfile.OPTIMIZATION_FULL);
+    }
+
+    /**
+     * @throws AuditJobRejectedException 진행 중인 작업이 너무 많거나 워커 큐가 가득 찬 경우
+     */
+    public AuditJob submit(String url, AuditMode mode, AuditProfile profile) {
+        if (mainRunner.getQueueSize() >= maxQueueSize) {
+            log.warn("[AUDIT/JOB] ⚠️ Rejected job for URL {}: {} audits already queued", url, mainRunner.getQueueSize());
+            throw new AuditJobRejectedException(HttpStatus.SERVICE_UNAVAILABLE, "Audit queue is full");
+        }
+        if (activeJobs.incrementAndGet() > maxActiveJobs) {
+            activeJobs.decrementAndGet();
+            log.warn("[AUDIT/JOB] ⚠️ Rejected job for URL {}: {} jobs still running", url, maxActiveJobs);
+            throw new AuditJobRejectedException(HttpStatus.TOO_MANY_REQUESTS, "Too many audit jobs in progress");
+        }
+
+        AuditTask task;
+        try {
+            task = lighthouseAuditService.submitAudit(url, mode, profile);
+        } catch (RuntimeException e) {
+            activeJobs.decrementAndGet();
+            throw e;
+        }
+        task.getResult().whenComplete((result, error) -> activeJobs.decrementAndGet());
+        AuditJob job = new AuditJob(UUID.randomUUID().toString(), url, task);
+        jobs.put(job.getId(), job);
+        log.info("[AUDIT/JOB] 📨 Job {} submitted for URL: {}", job.getId(), url);
+        return job;
+    }
+
+    public Optional<AuditJob> findById(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(RETENTION_MINUTES);
+        int before = jobs.size();
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+        int evicted = before - jobs.size();
+        if (evicted > 0) {
+            log.info("[AUDIT/JOB] 🧹 Evicted {} finished jobs", evicted);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.ecarbon.gdsc.audits.job;
+
+public enum AuditJobStatus {
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED
+}
@@ -1,26 +1,75 @@
 package com.ecarbon.gdsc.audits.lighthouse;
 
 import com.ecarbon.gdsc.audits.MainRunner;
+import com.ecarbon.gdsc.audits.cache.AuditResultCache;
 import com.ecarbon.gdsc.audits.entity.Measurements;
-import com.ecarbon.gdsc.audits.repository.FirebaseUserMeasurementsRepository;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditPriority;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.queue.AuditTask;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LighthouseAuditService {
 
+    // 동기 측정 최대 대기 시간
+    private static final long AUDIT_TIMEOUT_MINUTES = 10;
+
     private final MainRunner mainRunner;
-    private final FirebaseUserMeasurementsRepository measurementsRepository;
+    private final AuditResultCache auditResultCache;
 
-    public Measurements startAudit(String url) throws InterruptedException {
-        mainRunner.addUrlToQueue(url);
+    /**
+     * 측정 작업을 워커 풀에 등록하고 바로 반환
+     * 최근 측정 결과가 캐시에 있으면 큐를 거치지 않고 완료된 작업을 반환한다.
+     */
+    public AuditTask submitAudit(String url) {
+        return submitAudit(url, AuditMode.LIGHTHOUSE);
+    }
+
+    public AuditTask submitAudit(String url, AuditMode mode) {
+        return submitAudit(url, mode, AuditProfile.OPTIMIZATION_FULL);
+    }
+
+    /**
+     * 캐시된 결과는 같은 측정 방식(mode)이고, 요청한 범위(profile)를 포함하는 범위로 측정된 경우에만 사용한다.
+     */
+    public AuditTask submitAudit(String url, AuditMode mode, AuditProfile profile) {
+        Optional<Measurements> cached = auditResultCache.get(url, mode, profile);
+        if (cached.isPresent()) {
+            log.info("Returning cached measurement for URL: {}", url);
+            return AuditTask.completed(url, cached.get());
+        }
+
+        AuditTask task = mainRunner.submit(url, null, AuditPriority.INTERACTIVE, mode, profile);
+        task.getResult().thenAccept(measurements -> auditResultCache.put(url, mode, profile, measurements));
         log.info("Added URL to measurement queue: {}", url);
-        mainRunner.runAudit();
-        log.info("Started Lighthouse measurement for URL: {}", url);
-        return measurementsRepository.findLatestByUrl(url);
+        return task;
+    }
+
+    /**
+     * 측정 작업을 등록하고 결과가 나올 때까지 대기
+     */
+    public Measurements startAudit(String url) throws InterruptedException {
+        AuditTask task = submitAudit(url);
+        try {
+            Measurements measurements = task.getResult().get(AUDIT_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+            log.info("Finished Lighthouse measurement for URL: {}", url);
+            return measurements;
+        } catch (TimeoutException e) {
+            throw new InterruptedException("Measurement did not complete in " + AUDIT_TIMEOUT_MINUTES + " minutes");
+        } catch (ExecutionException e) {
+            log.error("Lighthouse measurement failed for URL: {}", url, e.getCause());
+            throw new InterruptedException("Failed to get measurement result");
+        }
     }
 
 }
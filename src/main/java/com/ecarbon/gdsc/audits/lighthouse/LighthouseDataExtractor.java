@@ -3,102 +3,183 @@ package com.ecarbon.gdsc.audits.lighthouse;
 
 import com.ecarbon.gdsc.audits.dto.LighthouseAuditResult;
 import com.ecarbon.gdsc.audits.dto.LighthouseOptimizationData;
+import com.ecarbon.gdsc.audits.metrics.AuditMetrics;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
 import com.ecarbon.gdsc.carbon.dto.Lighthouse.NetworkRequest;
 import com.ecarbon.gdsc.carbon.dto.Lighthouse.ResourceSummary;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * Lighthouse JSON 리포트를 트리로 만들지 않고 스트림에서 바로 필요한 값만 추출
+ * 사용하지 않는 audit 과 필드는 skipChildren() 으로 건너뛰어 리포트 크기와 관계없이 메모리 사용량이 일정하다.
+ */
 @Component
 public class LighthouseDataExtractor {
 
-    public LighthouseAuditResult extractAll (JsonNode report, String url){
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
-        JsonNode audits = report.get("audits");
+    private final AuditMetrics metrics;
 
-        List<ResourceSummary> resourceSummaries = extractResourceSummaries(audits);
-        List<NetworkRequest> networkRequests = extractNetworkRequests(audits);
+    public LighthouseDataExtractor() {
+        this(AuditMetrics.noop());
+    }
+
+    @Autowired
+    public LighthouseDataExtractor(AuditMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public LighthouseAuditResult extractAll (InputStream report, String url) throws IOException {
+        return extractAll(report, url, AuditProfile.OPTIMIZATION_FULL);
+    }
+
+    /**
+     * profile 에 포함되지 않은 audit 은 리포트에 있어도 읽지 않는다.
+     */
+    public LighthouseAuditResult extractAll (InputStream report, String url, AuditProfile profile) throws IOException {
+
+        AuditAccumulator audits = new AuditAccumulator();
+        InputStream json = skipToJsonStart(report);
+        // Lighthouse 는 실행이 끝날 때 리포트를 출력하므로 첫 바이트 이후부터 재야 실행 시간과 섞이지 않는다
+        long startNanos = System.nanoTime();
+
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Invalid Lighthouse report for URL: " + url);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("audits".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                    readAudits(parser, profile, audits);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        metrics.recordSince(AuditMetrics.Stage.JSON_PARSE, startNanos);
+
+        List<ResourceSummary> resourceSummaries = audits.resourceSummaries;
+        List<NetworkRequest> networkRequests = audits.networkRequests;
         List<String> requestedUrls = extractRequestedUrlsFromNetworkRequests(networkRequests);
         LighthouseOptimizationData optimizationData = extractOptimizationData(audits, resourceSummaries, url);
 
-        return LighthouseAuditResult.builder()
+        LighthouseAuditResult result = LighthouseAuditResult.builder()
                 .url(url)
                 .analyzedAt(LocalDateTime.now())
+                .auditProfile(profile)
                 .optimizationData(optimizationData)
                 .networkRequests(networkRequests)
                 .resourceSummaries(resourceSummaries)
                 .requestedUrls(requestedUrls)
                 .build();
+        metrics.recordSince(AuditMetrics.Stage.EXTRACT, startNanos);
+        return result;
     }
 
 
     // 1. OptimizationData 추출자
-    private LighthouseOptimizationData extractOptimizationData(JsonNode audits, List<ResourceSummary> resourceSummaries, String url){
+    private LighthouseOptimizationData extractOptimizationData(AuditAccumulator audits, List<ResourceSummary> resourceSummaries, String url){
 
         LighthouseOptimizationData data = LighthouseOptimizationData
                 .builder()
                 .resourceSummaries(resourceSummaries)
-                .totalByteWeight(getLongSafe(audits, "total-byte-weight", "numericValue"))
-                .canOptimizeCssBytes(getLongSafe(audits, "unused-css-rules", "details", "overallSavingsBytes"))
-                .canOptimizeJsBytes(getLongSafe(audits, "unused-javascript", "details", "overallSavingsBytes"))
-                .modernImageFormatsBytes(getLongSafe(audits, "modern-image-formats", "details", "overallSavingsBytes"))
-                .efficientAnimatedContent(getLongSafe(audits, "efficient-animated-content", "details", "overallSavingsBytes"))
-                .thirdPartySummaryWastedBytes(getLongSafe(audits, "third-party-summary", "details", "summary", "wastedBytes"))
-                .duplicatedJavascript(getLongSafe(audits, "duplicated-javascript", "numericValue"))
-                .totalUnusedBytesScript(sumFieldInNodes(audits, "script-treemap-data", "unusedBytes"))
-                .totalResourceBytesScript(sumFieldInNodes(audits, "script-treemap-data", "resourceBytes")).build();
+                .totalByteWeight(audits.value("total-byte-weight").numericValue)
+                .canOptimizeCssBytes(audits.value("unused-css-rules").overallSavingsBytes)
+                .canOptimizeJsBytes(audits.value("unused-javascript").overallSavingsBytes)
+                .modernImageFormatsBytes(audits.value("modern-image-formats").overallSavingsBytes)
+                .efficientAnimatedContent(audits.value("efficient-animated-content").overallSavingsBytes)
+                .thirdPartySummaryWastedBytes(audits.value("third-party-summary").summaryWastedBytes)
+                .duplicatedJavascript(audits.value("duplicated-javascript").numericValue)
+                .totalUnusedBytesScript(audits.totalUnusedBytesScript)
+                .totalResourceBytesScript(audits.totalResourceBytesScript).build();
 
         return data;
     }
 
-    // 2. NetworkRequests 추출자
-    private List<NetworkRequest> extractNetworkRequests(JsonNode audits){
-
-        List<NetworkRequest> networkRequests = new ArrayList<>();
-        JsonNode items = audits.path("network-requests").path("details").path("items");
-
-        if(items.isArray()){
-            for(JsonNode item : items){
-                String url = item.path("url").asText("");
-                String resourceType = item.path("resourceType").asText("");
-                long resourceSize = item.path("resourceSize").asLong(0);
-                long transferSize = item.path("transferSize").asLong(0);
+    // 2. NetworkRequests 추출자 ('network-requests', 'details', 'items')
+    private void extractNetworkRequests(JsonParser parser, List<NetworkRequest> networkRequests) throws IOException {
 
-                NetworkRequest request = NetworkRequest.builder()
-                        .url(url)
-                        .resourceType(resourceType)
-                        .resourceSize(resourceSize)
-                        .transferSize(transferSize).build();
+        forEachObject(parser, item -> {
+            String url = "";
+            String resourceType = "";
+            String mimeType = "";
+            long resourceSize = 0;
+            long transferSize = 0;
 
-                networkRequests.add(request);
+            while (item.nextToken() == JsonToken.FIELD_NAME) {
+                String field = item.currentName();
+                item.nextToken();
+                switch (field) {
+                    case "url" -> url = textOrEmpty(item);
+                    case "resourceType" -> resourceType = textOrEmpty(item);
+                    case "mimeType" -> mimeType = textOrEmpty(item);
+                    case "resourceSize" -> resourceSize = longOrZero(item);
+                    case "transferSize" -> transferSize = longOrZero(item);
+                    default -> item.skipChildren();
+                }
             }
-        }
-        return networkRequests;
+
+            networkRequests.add(NetworkRequest.builder()
+                    .url(url)
+                    .resourceType(resourceType)
+                    .mimeType(mimeType)
+                    .resourceSize(resourceSize)
+                    .transferSize(transferSize).build());
+        });
     }
 
-    // 3. ResourceSummaries 추출자
-    private List<ResourceSummary> extractResourceSummaries(JsonNode audits){
+    // 3. ResourceSummaries 추출자 ('resource-summary', 'details', 'items')
+    private void extractResourceSummaries(JsonParser parser, List<ResourceSummary> resourceSummaries) throws IOException {
 
-        List<ResourceSummary> resourceSummaries = new ArrayList<>();
-        JsonNode items = audits.path("resource-summary").path("details").path("items");
+        forEachObject(parser, item -> {
+            String resourceType = "";
+            long transferSize = 0;
 
-        if(items.isArray()){
-            for(JsonNode item : items){
-                String resourceType = item.path("resourceType").asText("");
-                long transferSize = item.path("transferSize").asLong(0);
+            while (item.nextToken() == JsonToken.FIELD_NAME) {
+                String field = item.currentName();
+                item.nextToken();
+                switch (field) {
+                    case "resourceType" -> resourceType = textOrEmpty(item);
+                    case "transferSize" -> transferSize = longOrZero(item);
+                    default -> item.skipChildren();
+                }
+            }
 
-                ResourceSummary summary = ResourceSummary.builder()
-                        .resourceType(resourceType)
-                        .transferSize(transferSize).build();
+            resourceSummaries.add(ResourceSummary.builder()
+                    .resourceType(resourceType)
+                    .transferSize(transferSize).build());
+        });
+    }
 
-                resourceSummaries.add(summary);
+    // 4. script-treemap-data 합계 ('script-treemap-data', 'details', 'nodes' -> 최상위 노드의 unusedBytes, resourceBytes)
+    private void sumScriptTreemapNodes(JsonParser parser, AuditAccumulator audits) throws IOException {
+
+        forEachObject(parser, node -> {
+            while (node.nextToken() == JsonToken.FIELD_NAME) {
+                String field = node.currentName();
+                node.nextToken();
+                switch (field) {
+                    case "unusedBytes" -> audits.totalUnusedBytesScript += longOrZero(node);
+                    case "resourceBytes" -> audits.totalResourceBytesScript += longOrZero(node);
+                    default -> node.skipChildren();
+                }
             }
-        }
-        return resourceSummaries;
+        });
     }
 
     private List<String> extractRequestedUrlsFromNetworkRequests(List<NetworkRequest> requests) {
@@ -107,25 +188,147 @@ public class LighthouseDataExtractor {
                 .collect(Collectors.toList());
     }
 
-    private Long getLongSafe(JsonNode root, String ... path){
-        JsonNode current = root;
-        for (String key : path) {
-            if (current == null || current.isMissingNode()) return null;
-            current = current.get(key);
+    /**
+     * "audits" 객체를 순회하며 사용하는 audit 만 읽는다.
+     */
+    private void readAudits(JsonParser parser, AuditProfile profile, AuditAccumulator audits) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String auditId = parser.currentName();
+            parser.nextToken();
+
+            if (parser.currentToken() != JsonToken.START_OBJECT || !profile.includes(auditId)) {
+                parser.skipChildren();
+                continue;
+            }
+            readAudit(parser, auditId, audits);
         }
-//        log.info("Final value for path " + String.join(" -> ", path) + ": " + current);
+    }
+
+    private void readAudit(JsonParser parser, String auditId, AuditAccumulator audits) throws IOException {
+        AuditValues values = audits.value(auditId);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
 
-        return current != null && current.isNumber() ? current.asLong() : null;
+            if ("numericValue".equals(field)) {
+                values.numericValue = longOrNull(parser);
+            } else if ("details".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                readDetails(parser, auditId, values, audits);
+            } else {
+                parser.skipChildren();
+            }
+        }
     }
 
-    private long sumFieldInNodes(JsonNode root, String auditKey, String fieldName) {
-        JsonNode nodes = root.path(auditKey).path("details").path("nodes");
-        long total = 0L;
-        if (nodes.isArray()) {
-            for (JsonNode node : nodes) {
-                total += node.path(fieldName).asLong(0);
+    private void readDetails(JsonParser parser, String auditId, AuditValues values, AuditAccumulator audits) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            if ("overallSavingsBytes".equals(field)) {
+                values.overallSavingsBytes = longOrNull(parser);
+            } else if ("summary".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String summaryField = parser.currentName();
+                    parser.nextToken();
+                    if ("wastedBytes".equals(summaryField)) {
+                        values.summaryWastedBytes = longOrNull(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if ("items".equals(field) && "network-requests".equals(auditId)) {
+                extractNetworkRequests(parser, audits.networkRequests);
+            } else if ("items".equals(field) && "resource-summary".equals(auditId)) {
+                extractResourceSummaries(parser, audits.resourceSummaries);
+            } else if ("nodes".equals(field) && "script-treemap-data".equals(auditId)) {
+                sumScriptTreemapNodes(parser, audits);
+            } else {
+                parser.skipChildren();
             }
         }
-        return total;
+    }
+
+    /**
+     * 배열의 각 객체 원소에 대해 handler 호출. handler 는 END_OBJECT 까지 소비해야 한다.
+     */
+    private void forEachObject(JsonParser parser, ObjectHandler handler) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                handler.handle(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * 리포트 앞에 섞여 나오는 로그 줄을 건너뛰고 첫 '{' 부터 읽도록 한다.
+     */
+    private static InputStream skipToJsonStart(InputStream in) throws IOException {
+        BufferedInputStream buffered = in instanceof BufferedInputStream ? (BufferedInputStream) in : new BufferedInputStream(in);
+        while (true) {
+            buffered.mark(1);
+            int b = buffered.read();
+            if (b == -1) {
+                return buffered;
+            }
+            if (b == '{') {
+                buffered.reset();
+                return buffered;
+            }
+        }
+    }
+
+    private static Long longOrNull(JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) {
+            return parser.getValueAsLong();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static long longOrZero(JsonParser parser) throws IOException {
+        if (parser.currentToken().isScalarValue()) {
+            return parser.getValueAsLong(0);
+        }
+        parser.skipChildren();
+        return 0L;
+    }
+
+    private static String textOrEmpty(JsonParser parser) throws IOException {
+        if (parser.currentToken().isScalarValue()) {
+            return parser.getValueAsString("");
+        }
+        parser.skipChildren();
+        return "";
+    }
+
+    @FunctionalInterface
+    private interface ObjectHandler {
+        void handle(JsonParser parser) throws IOException;
+    }
+
+    private static class AuditValues {
+        private Long numericValue;
+        private Long overallSavingsBytes;
+        private Long summaryWastedBytes;
+    }
+
+    private static class AuditAccumulator {
+        private final Map<String, AuditValues> values = new HashMap<>();
+        private final List<NetworkRequest> networkRequests = new ArrayList<>();
+        private final List<ResourceSummary> resourceSummaries = new ArrayList<>();
+        private long totalUnusedBytesScript;
+        private long totalResourceBytesScript;
+
+        private AuditValues value(String auditId) {
+            return values.computeIfAbsent(auditId, id -> new AuditValues());
+        }
     }
 }
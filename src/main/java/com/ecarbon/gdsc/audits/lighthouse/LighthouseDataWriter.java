@@ -1,11 +1,13 @@
 package com.ecarbon.gdsc.audits.lighthouse;
 
 import com.ecarbon.gdsc.audits.dto.LighthouseAuditResult;
-import com.ecarbon.gdsc.audits.entity.FailedUserMeasurements;
 import com.ecarbon.gdsc.audits.entity.Measurements;
 import com.ecarbon.gdsc.audits.repository.FirebaseUserMeasurementsRepository;
 import com.ecarbon.gdsc.audits.util.DateCalculator;
 import com.ecarbon.gdsc.carbon.dto.EmissionRequest;
+import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
+import com.ecarbon.gdsc.carbon.entity.WeeklyMeasurements;
+import com.ecarbon.gdsc.carbon.repository.FirebaseWeeklyMeasurementRepository;
 import com.ecarbon.gdsc.carbon.service.CarbonCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +23,7 @@ import java.time.format.DateTimeFormatter;
 public class LighthouseDataWriter {
 
     private final FirebaseUserMeasurementsRepository firebaseUserMeasurementsRepository;
+    private final FirebaseWeeklyMeasurementRepository firebaseWeeklyMeasurementRepository;
     private final CarbonCalculator carbonCalculator;
     private final DateCalculator dateCalculator;
 
@@ -32,36 +35,121 @@ public class LighthouseDataWriter {
      * @throws RuntimeException 데이터 저장 실패 시
      */
     public Measurements saveData(LighthouseAuditResult auditResult) {
+        return saveData(auditResult, null);
+    }
+
+    /**
+     * Lighthouse 측정 결과를 저장
+     * placeInfo 가 있으면 주간 배치 측정으로 보고 weekly_measurements 에, 없으면 user_measurements 에 저장
+     *
+     * @param auditResult Lighthouse 측정 결과
+     * @param placeInfo 측정 대상 기관 정보 (사용자 측정이면 null)
+     * @return 저장된 측정 데이터
+     * @throws RuntimeException 데이터 저장 실패 시
+     */
+    public Measurements saveData(LighthouseAuditResult auditResult, PlaceInfo placeInfo) {
         String url = auditResult.getUrl();
         LocalDateTime analyzedAt = auditResult.getAnalyzedAt();
         String analyzedAtStr = analyzedAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
 
         try {
-            Measurements measurements = convertToMeasurements(auditResult, analyzedAt, analyzedAtStr);
-            firebaseUserMeasurementsRepository.save(measurements);
+            Measurements measurements = convertToMeasurements(auditResult, placeInfo, analyzedAt, analyzedAtStr);
+            if (placeInfo != null) {
+                firebaseWeeklyMeasurementRepository.save(convertToWeeklyMeasurements(measurements));
+            } else {
+                firebaseUserMeasurementsRepository.save(measurements);
+            }
             log.info("[LIGHTHOUSE/WRITER] ✅ Successfully saved measurement data for URL: {}", url);
             return measurements;
 
         } catch (Exception e) {
             log.error("[LIGHTHOUSE/WRITER] ❌ Failed to save measurement data for URL: {}", url, e);
-            saveFailedMeasurement(auditResult, analyzedAt, analyzedAtStr, e);
             throw new RuntimeException("Failed to save measurement data", e);
         }
     }
 
+    /**
+     * 저장하지 않고 측정 결과를 Measurements 로 변환 (탄소 배출량 계산 포함). 보관된 리포트를 다시 추출할 때와 사이트 측정의 내부 페이지에 쓴다.
+     */
+    public Measurements toMeasurements(LighthouseAuditResult auditResult) {
+        LocalDateTime analyzedAt = auditResult.getAnalyzedAt();
+        return convertToMeasurements(auditResult, null, analyzedAt, analyzedAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    }
+
+    /**
+     * 페이지가 바뀌지 않았을 때 지난 주간 측정 값을 이번 주 측정으로 이어서 저장
+     *
+     * @param previous 가장 최근 주간 측정
+     * @param placeInfo 측정 대상 기관 정보
+     * @return 저장된 측정 데이터
+     * @throws RuntimeException 데이터 저장 실패 시
+     */
+    public Measurements carryForward(WeeklyMeasurements previous, PlaceInfo placeInfo) {
+        LocalDateTime now = LocalDateTime.now();
+        String nowStr = now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+        WeeklyMeasurements carried = WeeklyMeasurements.builder()
+                .url(previous.getUrl())
+                .measurementType(previous.getMeasurementType())
+                .auditProfile(previous.getAuditProfile())
+                .measuredAt(nowStr)
+                .weekStartDate(dateCalculator.getMondayAsString(now))
+                .placeInfo(placeInfo != null ? placeInfo : previous.getPlaceInfo())
+                .networkRequests(previous.getNetworkRequests())
+                .resourceSummaries(previous.getResourceSummaries())
+                .totalByteWeight(previous.getTotalByteWeight())
+                .canOptimizeCssBytes(previous.getCanOptimizeCssBytes())
+                .canOptimizeJsBytes(previous.getCanOptimizeJsBytes())
+                .modernImageFormatsBytes(previous.getModernImageFormatsBytes())
+                .efficientAnimatedContent(previous.getEfficientAnimatedContent())
+                .thirdPartySummaryWastedBytes(previous.getThirdPartySummaryWastedBytes())
+                .duplicatedJavascript(previous.getDuplicatedJavascript())
+                .totalUnusedBytesScript(previous.getTotalUnusedBytesScript())
+                .totalResourceBytesScript(previous.getTotalResourceBytesScript())
+                .kbWeight(previous.getKbWeight())
+                .carbonEmission(previous.getCarbonEmission())
+                .carriedForward(true)
+                .sourceMeasuredAt(previous.getSourceMeasuredAt() != null ? previous.getSourceMeasuredAt() : previous.getMeasuredAt())
+                .build();
+
+        try {
+            firebaseWeeklyMeasurementRepository.save(carried);
+            log.info("[LIGHTHOUSE/WRITER] ⏩ Carried forward measurement from {} for URL: {}", carried.getSourceMeasuredAt(), carried.getUrl());
+        } catch (Exception e) {
+            log.error("[LIGHTHOUSE/WRITER] ❌ Failed to carry forward measurement for URL: {}", carried.getUrl(), e);
+            throw new RuntimeException("Failed to save measurement data", e);
+        }
+
+        return Measurements.builder()
+                .url(carried.getUrl())
+                .measurementType(carried.getMeasurementType())
+                .auditProfile(carried.getAuditProfile())
+                .measuredAt(carried.getMeasuredAt())
+                .weekStartDate(carried.getWeekStartDate())
+                .placeInfo(carried.getPlaceInfo())
+                .networkRequests(carried.getNetworkRequests())
+                .resourceSummaries(carried.getResourceSummaries())
+                .totalByteWeight(carried.getTotalByteWeight())
+                .kbWeight(carried.getKbWeight())
+                .carbonEmission(carried.getCarbonEmission())
+                .build();
+    }
+
     /**
      * Lighthouse 측정 결과를 Measurements 엔티티로 변환
      */
-    private Measurements convertToMeasurements(LighthouseAuditResult auditResult, LocalDateTime analyzedAt, String analyzedAtStr) {
+    private Measurements convertToMeasurements(LighthouseAuditResult auditResult, PlaceInfo placeInfo, LocalDateTime analyzedAt, String analyzedAtStr) {
         double totalByteWeight = auditResult.getOptimizationData().getTotalByteWeight();
         double kbWeight = totalByteWeight / 1024.0;
         double carbonEmission = estimateCarbonEmission(kbWeight);
 
         return Measurements.builder()
                 .url(auditResult.getUrl())
-                .measurementType("weekly")
+                .measurementType(auditResult.getAuditMode().tag("weekly"))
+                .auditProfile(auditResult.getAuditProfile() != null ? auditResult.getAuditProfile().getId() : null)
                 .measuredAt(analyzedAtStr)
                 .weekStartDate(dateCalculator.getMondayAsString(analyzedAt))
+                .placeInfo(placeInfo)
                 .networkRequests(auditResult.getNetworkRequests())
                 .resourceSummaries(auditResult.getResourceSummaries())
                 .requestedUrls(auditResult.getRequestedUrls())
@@ -76,27 +164,37 @@ public class LighthouseDataWriter {
                 .totalResourceBytesScript(auditResult.getOptimizationData().getTotalResourceBytesScript())
                 .kbWeight(kbWeight)
                 .carbonEmission(carbonEmission)
+                .auditCost(auditResult.getAuditCost())
                 .build();
     }
 
     /**
-     * 실패한 측정 데이터 저장
+     * 주간 측정 컬렉션에 저장할 형태로 변환
      */
-    private void saveFailedMeasurement(LighthouseAuditResult auditResult, LocalDateTime analyzedAt, String analyzedAtStr, Exception e) {
-        try {
-            FailedUserMeasurements failed = FailedUserMeasurements.builder()
-                    .url(auditResult.getUrl())
-                    .measuredAt(LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
-                    .weekStartDate(analyzedAtStr)
-                    .errorMessage(e.getMessage())
-                    .build();
-
-            firebaseUserMeasurementsRepository.saveFailedMeasurement(failed);
-            log.error("Failed to save measurement data: {}", e.getMessage(), e);
-            log.info("[LIGHTHOUSE/WRITER] ℹ️ Saved failed measurement record for URL: {}", auditResult.getUrl());
-        } catch (Exception ex) {
-            log.error("[LIGHTHOUSE/WRITER] ❌ Failed to save failed measurement record for URL: {}", auditResult.getUrl(), ex);
-        }
+    private WeeklyMeasurements convertToWeeklyMeasurements(Measurements measurements) {
+        return WeeklyMeasurements.builder()
+                .url(measurements.getUrl())
+                .measurementType(measurements.getMeasurementType())
+                .auditProfile(measurements.getAuditProfile())
+                .measuredAt(measurements.getMeasuredAt())
+                .weekStartDate(measurements.getWeekStartDate())
+                .placeInfo(measurements.getPlaceInfo())
+                .networkRequests(measurements.getNetworkRequests())
+                .resourceSummaries(measurements.getResourceSummaries())
+                .totalByteWeight(measurements.getTotalByteWeight())
+                .canOptimizeCssBytes(measurements.getCanOptimizeCssBytes())
+                .canOptimizeJsBytes(measurements.getCanOptimizeJsBytes())
+                .modernImageFormatsBytes(measurements.getModernImageFormatsBytes())
+                .efficientAnimatedContent(measurements.getEfficientAnimatedContent())
+                .thirdPartySummaryWastedBytes(measurements.getThirdPartySummaryWastedBytes())
+                .duplicatedJavascript(measurements.getDuplicatedJavascript())
+                .totalUnusedBytesScript(measurements.getTotalUnusedBytesScript())
+                .totalResourceBytesScript(measurements.getTotalResourceBytesScript())
+                .kbWeight(measurements.getKbWeight())
+                .carbonEmission(measurements.getCarbonEmission())
+                .sourceMeasuredAt(measurements.getMeasuredAt())
+                .auditCost(measurements.getAuditCost())
+                .build();
     }
 
     private double estimateCarbonEmission(double kbWeight) {
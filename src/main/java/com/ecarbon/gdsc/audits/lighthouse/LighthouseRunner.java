@@ -1,22 +1,30 @@
 package com.ecarbon.gdsc.audits.lighthouse;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ecarbon.gdsc.audits.chrome.ChromeInstance;
+import com.ecarbon.gdsc.audits.chrome.ChromePool;
+import com.ecarbon.gdsc.audits.metrics.AuditMetrics;
+import com.ecarbon.gdsc.audits.process.ProcessExecutor;
+import com.ecarbon.gdsc.audits.process.ProcessOutcome;
+import com.ecarbon.gdsc.audits.process.ProcessResult;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class LighthouseRunner {
-    private static final String LIGHTHOUSE_PATH = System.getenv("LIGHTHOUSE_PATH");
-    private static final List<String> CHROME_FLAGS = Arrays.asList(
+    // 풀은 동시 실행 한도만큼 있고 Chrome 은 슬롯보다 먼저 반납되므로, 비어 있으면 재시작 중이거나 고장난 것이다.
+    // 기다리는 동안 슬롯만 잡고 있게 되므로 바로 Lighthouse 가 Chrome 을 직접 띄우게 한다.
+    private static final Duration CHROME_ACQUIRE_TIMEOUT = Duration.ZERO;
+    public static final List<String> CHROME_FLAGS = Arrays.asList(
             "--headless",
             "--disable-gpu",
             "--no-sandbox",
@@ -25,94 +33,93 @@ public class LighthouseRunner {
             "--enable-features=NetworkServiceInProcess"
     );
 
-    private static List<String> buildLighthouseCommand(String url) {
-        return Arrays.asList(
-                LIGHTHOUSE_PATH,
+    private final ChromePool chromePool;
+    private final ProcessExecutor processExecutor;
+    private final AuditMetrics metrics;
+
+    // 기본값은 LIGHTHOUSE_PATH 환경 변수, 리플레이 벤치마크에서는 대역 스크립트로 바꾼다
+    @Value("${audit.lighthouse.path:${LIGHTHOUSE_PATH:lighthouse}}")
+    private String lighthousePath;
+
+    @Value("${audit.lighthouse.timeout-seconds:120}")
+    private long timeoutSeconds;
+
+    @Value("${audit.lighthouse.max-report-bytes:67108864}")
+    private long maxReportBytes;
+
+    private List<String> buildLighthouseCommand(String url, AuditProfile profile, ChromeInstance chrome) {
+        List<String> command = new ArrayList<>(Arrays.asList(
+                lighthousePath,
                 url,
                 "--output=json",
                 "--quiet",
-                "--only-audits=" +
-                        "network-requests,resource-summary,total-byte-weight," +
-                        "unused-css-rules,unused-javascript,modern-image-formats," +
-                        "efficient-animated-content,third-party-summary,duplicated-javascript," +
-                        "script-treemap-data",
+                "--only-audits=" + String.join(",", profile.getAudits()),
                 "--max-wait-for-load=25000",
                 "--throttling-method=provided",
                 "--screenEmulation.disabled",
-                "--no-emulatedUserAgent",
-                "--chrome-flags=" + String.join(" ", CHROME_FLAGS)
-        );
+                "--no-emulatedUserAgent"
+        ));
+
+        if (chrome != null) {
+            // 미리 띄워 둔 Chrome 에 붙어서 실행
+            command.add("--port=" + chrome.getPort());
+        } else {
+            command.add("--chrome-flags=" + String.join(" ", CHROME_FLAGS));
+        }
+        return command;
     }
     
-    public static JsonNode runLighthouseJsonNode(String url){
-        long startTime = System.currentTimeMillis();
-        Process process = null;
+    /**
+     * Lighthouse 를 실행하고 stdout 으로 나오는 JSON 리포트를 reportReader 로 바로 넘긴다.
+     * 리포트 전체를 문자열로 모으지 않으며, 제한 시간과 출력 크기 초과는 ProcessOutcome 으로 반환한다.
+     * 실행할 audit 은 profile 이 정한다.
+     */
+    public <T> ProcessResult<T> runLighthouse(String url, AuditProfile profile, ProcessExecutor.OutputReader<T> reportReader){
+        ChromeInstance chrome = null;
 
         try {
-            List<String> command = buildLighthouseCommand(url);
-            ProcessBuilder processBuilder = new ProcessBuilder(command);
-            processBuilder.redirectErrorStream(true);
-
-            process = processBuilder.start();
-            String output = collectProcessOutput(process);
-
-            if (!process.waitFor(120, TimeUnit.SECONDS)) {
-                process.destroyForcibly();
-                log.error("[LIGHTHOUSE/RUNNER] ⚠️ Process timeout for URL: {}", url);
-                return null;
+            chrome = chromePool.acquire(CHROME_ACQUIRE_TIMEOUT);
+            if (chrome == null && chromePool.isEnabled()) {
+                log.warn("[LIGHTHOUSE/RUNNER] ⚠️ No warm Chrome available, launching a new one for URL: {}", url);
             }
 
-            logExecutionTime(url, startTime);
-
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readTree(output);
-
-        } catch (Exception e) {
-            log.error("[LIGHTHOUSE/RUNNER] ❌ Exception while running Lighthouse for URL: {}", url, e);
-            return null;
+            List<String> command = buildLighthouseCommand(url, profile, chrome);
+            // 미리 띄운 Chrome 은 Lighthouse 의 자식이 아니므로 비용 측정에 따로 붙인다
+            List<ProcessHandle> attached = chrome != null
+                    ? chrome.getProcessHandle().map(List::of).orElse(List.of())
+                    : List.of();
+            ProcessResult<T> result = processExecutor.execute(
+                    command, Duration.ofSeconds(timeoutSeconds), maxReportBytes, reportReader, attached);
 
-        } finally {
-            if (process != null && process.isAlive()) {
-                process.destroyForcibly();
+            if (result.getSpawnTime() != null) {
+                metrics.record(AuditMetrics.Stage.PROCESS_SPAWN, result.getSpawnTime());
             }
-        }
-    }
-
-    private static String collectProcessOutput(Process process) throws IOException {
-
-        StringBuilder output = new StringBuilder();
-        boolean jsonStarted = false;
-
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-
-                if (!jsonStarted && line.trim().startsWith("{")) {
-                    jsonStarted = true;
-                }
-                if (jsonStarted) {
-                    output.append(line).append("\n");
-                }
+            metrics.record(AuditMetrics.Stage.LIGHTHOUSE_RUN, result.getElapsed(), result.getOutcome().name());
+
+            switch (result.getOutcome()) {
+                case COMPLETED -> logExecutionTime(url, result.getElapsed());
+                case TIMED_OUT -> log.error("[LIGHTHOUSE/RUNNER] ⚠️ Process timeout after {}s for URL: {}", timeoutSeconds, url);
+                case OUTPUT_OVERFLOW -> log.error("[LIGHTHOUSE/RUNNER] ⚠️ Report exceeded {} bytes for URL: {}", maxReportBytes, url);
+                default -> log.error("[LIGHTHOUSE/RUNNER] 🚨 Execution error ({}) for URL: {} | stderr: {}",
+                        result.getOutcome(), url, result.getStderrTail(), result.getError());
             }
-        }
+            return result;
 
-        StringBuilder errorOutput = new StringBuilder();
-        try (BufferedReader errorReader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
-            String line;
-            while ((line = errorReader.readLine()) != null) {
-                errorOutput.append(line).append("\n");
-            }
-        }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ProcessResult.<T>builder()
+                    .outcome(ProcessOutcome.FAILED)
+                    .elapsed(Duration.ZERO)
+                    .error(e)
+                    .build();
 
-        if (errorOutput.length() > 0) {
-            log.error("[LIGHTHOUSE/RUNNER] 🚨 Execution error: {}", errorOutput);
+        } finally {
+            chromePool.release(chrome, url);
         }
-
-        return output.toString();
     }
 
-    private static void logExecutionTime(String url, long startTime) {
-        long elapsedTime = System.currentTimeMillis() - startTime;
+    private static void logExecutionTime(String url, Duration elapsed) {
+        long elapsedTime = elapsed.toMillis();
         log.info("[LIGHTHOUSE/RUNNER] ✅ Finished: {} | Time: {}ms ({}s)", url, elapsedTime, elapsedTime / 1000.0);
     }
 
@@ -1,13 +1,27 @@
 package com.ecarbon.gdsc.audits.lighthouse;
 
+import com.ecarbon.gdsc.audits.archive.ReportArchive;
+import com.ecarbon.gdsc.audits.change.CarryForwardService;
+import com.ecarbon.gdsc.audits.cost.AuditCostService;
+import com.ecarbon.gdsc.audits.dto.AuditCost;
 import com.ecarbon.gdsc.audits.dto.LighthouseAuditResult;
+import com.ecarbon.gdsc.audits.engine.AuditEngine;
 import com.ecarbon.gdsc.audits.entity.Measurements;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.ecarbon.gdsc.audits.metrics.AuditMetrics;
+import com.ecarbon.gdsc.audits.process.ProcessResult;
+import com.ecarbon.gdsc.audits.process.ProcessUsage;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditSink;
+import com.ecarbon.gdsc.audits.queue.AuditTask;
+import com.ecarbon.gdsc.audits.resource.ResourceSizeIndex;
+import com.ecarbon.gdsc.carbon.exception.LighthouseMeasurementException;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
 
 @AllArgsConstructor
 @Slf4j
@@ -16,43 +30,173 @@ public class LighthouseWorker {
     private final LighthouseDataExtractor extractor;
     private final LighthouseRunner runner;
     private final LighthouseDataWriter writer;
+    private final Map<AuditMode, AuditEngine> engines;     // Lighthouse 가 아닌 측정 방식
+    private final CarryForwardService carryForwardService;
+    private final AuditMetrics metrics;
+    private final ResourceSizeIndex resourceSizeIndex;
+    private final ReportArchive reportArchive;
+    private final AuditCostService auditCostService;
 
-    private final LinkedBlockingQueue<String> queue;
+    /**
+     * 작업 하나를 측정하고 저장한다. (측정과 저장을 같은 스레드에서 이어서 실행)
+     * 실패하면 예외를 던지고, 재시도 여부와 future 완료는 호출한 쪽(MainRunner)이 정한다.
+     */
+    public Measurements run(AuditTask task) {
+        Measured measured = measure(task);
+        if (measured.isSaved()) {
+            return measured.getSaved();
+        }
+        try {
+            return persist(task, measured);
+        } catch (RuntimeException e) {
+            measured.discard();
+            throw e;
+        }
+    }
 
-    public Measurements run() throws InterruptedException {
-        String url = queue.poll(1, TimeUnit.SECONDS);
+    /**
+     * 측정 단계: Lighthouse 를 실행하고 리포트에서 값을 추출한다. Chrome 슬롯은 이 단계에서만 쓴다.
+     * 저장은 persist 로 넘기며, 빠른 측정은 여기서 저장까지 끝난다.
+     * 지난 측정을 이어 쓸지는 슬롯을 잡기 전에 MainRunner 가 확인한다.
+     * Lighthouse 가 아닌 측정 방식은 engines 에 등록된 AuditEngine 이 실행한다.
+     */
+    public Measured measure(AuditTask task) {
+        String url = task.getUrl();
         if (url == null || url.trim().isEmpty()) {
-            log.warn("[LIGHTHOUSE/WORKER] ⚠️ Empty URL received or queue is empty.");
-            return null;
+            log.warn("[LIGHTHOUSE/WORKER] ⚠️ Empty URL received.");
+            throw new LighthouseMeasurementException("Empty URL");
+        }
+
+        task.markStarted();
+
+        AuditEngine engine = engines.get(task.getMode());
+        if (engine != null) {
+            log.info("[LIGHTHOUSE/WORKER] ⚡ Running {} audit for URL: {} (attempt {})", task.getMode(), url, task.getAttempts());
+            long engineStartNanos = System.nanoTime();
+            LighthouseAuditResult auditResult = engine.audit(task);
+            if (task.getMode() == AuditMode.FAST) {
+                // 추정 값이라 리소스 색인에 넣지 않고 바로 저장
+                return Measured.saved(save(auditResult, task));
+            }
+            return new Measured(null, auditResult, null, Duration.ofNanos(System.nanoTime() - engineStartNanos));
         }
 
+        log.info("[LIGHTHOUSE/WORKER] 🌍 Running Lighthouse ({}) for URL: {} (attempt {})",
+                task.getProfile().getId(), url, task.getAttempts());
+
+        // 실행과 동시에 stdout 스트림에서 데이터 추출, 같은 바이트는 원본 보관용으로 압축해 둔다
+        ReportArchive.Capture capture = reportArchive.capture();
         try {
-            log.info("[LIGHTHOUSE/WORKER] 🌍 Running Lighthouse for URL: {}", url);
+            ProcessResult<LighthouseAuditResult> runResult = runner.runLighthouse(url, task.getProfile(), report -> {
+                InputStream archived = capture.wrap(report);
+                LighthouseAuditResult extracted = extractor.extractAll(archived, url, task.getProfile());
+                ReportArchive.Capture.drain(archived);
+                return extracted;
+            });
+            if (!runResult.isSuccess()) {
+                log.warn("[LIGHTHOUSE/WORKER] ❌ Lighthouse run failed ({}) - URL: {}", runResult.getOutcome(), url);
+                // 실패한 실행도 자원을 썼으므로 비용은 남긴다
+                AuditCost cost = toCost(runResult);
+                metrics.recordCost(cost, task.getProfile().getId());
+                auditCostService.recordFailure(url, task.getMode().tag("weekly"), task.getProfile().getId(), cost);
+                throw new LighthouseMeasurementException("Lighthouse run " + runResult.getOutcome() + " for URL: " + url, runResult);
+            }
+
+            AuditCost cost = toCost(runResult);
+            metrics.recordCost(cost, task.getProfile().getId());
+            log.info("[LIGHTHOUSE/WORKER] 📥 Lighthouse run completed - URL: {} | CPU: {}ms, peak RSS: {}MB",
+                    url, cost.getCpuTimeMs(), cost.getPeakRssBytes() / (1024 * 1024));
+            return new Measured(null, runResult.getValue().toBuilder().auditCost(cost).build(), capture, runResult.getElapsed());
+        } catch (RuntimeException e) {
+            capture.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 저장 단계: 탄소 배출량 계산, 저장, 변경 감지 지문/리소스 색인/원본 보관
+     * 저장(save)에 실패하면 측정 결과를 그대로 둔 채 예외를 던진다. 호출한 쪽이 같은 결과로 다시 저장하거나 discard 한다.
+     * 저장 이후 단계는 각자 실패를 삼키므로 저장이 끝난 측정을 다시 저장하지 않는다.
+     */
+    public Measurements persist(AuditTask task, Measured measured) {
+        String url = task.getUrl();
+        LighthouseAuditResult auditResult = measured.getAuditResult();
+        Measurements measurements = save(auditResult, task);
+        log.info("[LIGHTHOUSE/WORKER] ✅ Data saved successfully - URL: {}", url);
 
-            JsonNode originResult = runner.runLighthouseJsonNode(url);
-            if (originResult == null) {
-                log.warn("[LIGHTHOUSE/WORKER] ❌ Lighthouse result is null - URL: {}", url);
-                return null;
+        try {
+            carryForwardService.recordFingerprint(task);
+            resourceSizeIndex.record(url, auditResult.getNetworkRequests());
+            if (measured.capture != null) {
+                reportArchive.store(measured.capture, url, measurements.getMeasuredAt(), task.getProfile());
             }
+            auditCostService.record(measurements);
+        } finally {
+            measured.discard();
+        }
+        return measurements;
+    }
 
-            log.info("[LIGHTHOUSE/WORKER] 📥 Lighthouse run completed - URL: {}", url);
+    private static AuditCost toCost(ProcessResult<?> runResult) {
+        ProcessUsage usage = runResult.getUsage() != null ? runResult.getUsage() : ProcessUsage.EMPTY;
+        return AuditCost.builder()
+                .cpuTimeMs(usage.getCpuTime().toMillis())
+                .peakRssBytes(usage.getPeakRssBytes())
+                .wallTimeMs(runResult.getElapsed() != null ? runResult.getElapsed().toMillis() : 0)
+                .reportBytes(runResult.getOutputBytes())
+                .processCount(usage.getProcessCount())
+                .outcome(runResult.getOutcome() != null ? runResult.getOutcome().name() : null)
+                .build();
+    }
 
-            // 데이터 추출
-            LighthouseAuditResult auditResult = extractor.extractAll(originResult, url);
-            if (auditResult == null) {
-                log.warn("[LIGHTHOUSE/WORKER] ❌ Failed to extract data - URL: {}", url);
-                return null;
+    private Measurements save(LighthouseAuditResult auditResult, AuditTask task) {
+        long startNanos = System.nanoTime();
+        try {
+            if (task.getSink() == AuditSink.SITE) {
+                // 사이트 측정의 내부 페이지는 site_measurements 에 합쳐서만 저장한다
+                return writer.toMeasurements(auditResult);
             }
+            return writer.saveData(auditResult, task.getPlaceInfo());
+        } finally {
+            metrics.recordSince(AuditMetrics.Stage.SAVE, startNanos, task.getMode().name());
+        }
+    }
 
-            // 데이터 저장
-            Measurements measurements = writer.saveData(auditResult);
-            log.info("[LIGHTHOUSE/WORKER] ✅ Data saved successfully - URL: {}", url);
+    /**
+     * 측정 단계의 결과. 이미 저장된 측정(saved)이거나, 저장 단계로 넘길 추출 결과와 보관 중인 원본 리포트
+     * runtime 은 측정 프로세스(Lighthouse, DevTools 측정)만의 실행 시간으로, 동시 실행 한도 조절에 쓴다.
+     */
+    public static class Measured {
+        @Getter
+        private final Measurements saved;
+        @Getter
+        private final LighthouseAuditResult auditResult;
+        private final ReportArchive.Capture capture;
+        @Getter
+        private final Duration runtime;
 
-            return measurements;
+        private Measured(Measurements saved, LighthouseAuditResult auditResult, ReportArchive.Capture capture, Duration runtime) {
+            this.saved = saved;
+            this.auditResult = auditResult;
+            this.capture = capture;
+            this.runtime = runtime;
+        }
+
+        private static Measured saved(Measurements measurements) {
+            return new Measured(measurements, null, null, null);
+        }
 
-        } catch (Exception e) {
-            log.error("[LIGHTHOUSE/WORKER] ❌ Error occurred while processing URL: {}", url, e);
-            return null;
+        public boolean isSaved() {
+            return saved != null;
+        }
+
+        /**
+         * 저장하지 않고 버릴 때 보관 중인 임시 리포트를 지운다
+         */
+        public void discard() {
+            if (capture != null) {
+                capture.close();
+            }
         }
     }
 }
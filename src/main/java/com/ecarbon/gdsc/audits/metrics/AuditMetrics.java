@@ -0,0 +1,122 @@
+package com.ecarbon.gdsc.audits.metrics;
+
+import com.ecarbon.gdsc.audits.dto.AuditCost;
+import com.ecarbon.gdsc.audits.failure.FailureType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * 측정 파이프라인 단계별 Micrometer 지표
+ * 단계 시간은 audit.stage.duration 타이머(히스토그램 포함)에 stage 태그로 구분해서 남기고,
+ * 실패는 audit.failures 카운터에 failure_type / retried 태그로 남긴다.
+ * /actuator/prometheus 로 노출된다.
+ */
+@Component
+public class AuditMetrics {
+
+    public enum Stage {
+        QUEUE_WAIT,      // 큐에 들어간 뒤 워커가 꺼낼 때까지
+        PROCESS_SPAWN,   // ProcessBuilder.start()
+        LIGHTHOUSE_RUN,  // 프로세스 시작부터 종료까지
+        DEVTOOLS_RUN,    // DevTools 엔진의 탐색 시작부터 네트워크가 잠잠해질 때까지
+        JSON_PARSE,      // 리포트 첫 바이트부터 토큰 읽기가 끝날 때까지
+        EXTRACT,         // LighthouseDataExtractor.extractAll (파싱 포함)
+        PERSIST_WAIT,    // 측정이 끝난 뒤 저장 스레드가 받을 때까지
+        SAVE;            // LighthouseDataWriter.saveData
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final MeterRegistry registry;
+
+    public AuditMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 등록 없이 쓰는 인스턴스 (테스트, 직접 생성한 컴포넌트용)
+     */
+    public static AuditMetrics noop() {
+        return new AuditMetrics(new SimpleMeterRegistry());
+    }
+
+    public void record(Stage stage, Duration duration) {
+        record(stage, duration, "none");
+    }
+
+    /**
+     * @param detail 단계별 보조 태그 (레인, 프로세스 결과, 측정 모드 등)
+     */
+    public void record(Stage stage, Duration duration, String detail) {
+        Timer.builder("audit.stage.duration")
+                .description("Lighthouse audit pipeline stage duration")
+                .tag("stage", stage.tag())
+                .tag("detail", detail.toLowerCase(Locale.ROOT))
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(duration);
+    }
+
+    public void recordSince(Stage stage, long startNanos) {
+        recordSince(stage, startNanos, "none");
+    }
+
+    public void recordSince(Stage stage, long startNanos, String detail) {
+        record(stage, Duration.ofNanos(System.nanoTime() - startNanos), detail);
+    }
+
+    public void recordFailure(FailureType type, boolean retried) {
+        Counter.builder("audit.failures")
+                .description("Audit failures by failure class")
+                .tag("failure_type", type.name().toLowerCase(Locale.ROOT))
+                .tag("retried", String.valueOf(retried))
+                .register(registry)
+                .increment();
+    }
+
+    public void recordCompleted(String mode) {
+        Counter.builder("audit.completed")
+                .description("Audits completed successfully")
+                .tag("mode", mode.toLowerCase(Locale.ROOT))
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Lighthouse 실행 한 번의 CPU 시간과 최대 메모리 (프로세스 트리 전체)
+     */
+    public void recordCost(AuditCost cost, String profile) {
+        String outcome = cost.getOutcome() != null ? cost.getOutcome() : "UNKNOWN";
+        DistributionSummary.builder("audit.cost.cpu_time")
+                .description("CPU time used by one Lighthouse run")
+                .baseUnit("milliseconds")
+                .tag("profile", profile)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(cost.getCpuTimeMs());
+        DistributionSummary.builder("audit.cost.peak_rss")
+                .description("Peak resident memory of one Lighthouse run")
+                .baseUnit("bytes")
+                .tag("profile", profile)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(cost.getPeakRssBytes());
+    }
+
+    public void gauge(String name, String description, Supplier<Number> value) {
+        Gauge.builder(name, value)
+                .description(description)
+                .register(registry);
+    }
+}
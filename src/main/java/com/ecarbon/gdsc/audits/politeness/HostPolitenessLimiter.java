@@ -0,0 +1,173 @@
+package com.ecarbon.gdsc.audits.politeness;
+
+import com.ecarbon.gdsc.audits.util.RegistrableDomain;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 등록 도메인(예: snu.ac.kr 아래 여러 학과 사이트)에 대한 측정 간격과 동시 실행 수 제한
+ * 간격은 min-spacing 과 robots.txt Crawl-delay(상한 max-crawl-delay) 중 큰 값을 쓴다.
+ * Lighthouse 큐는 꺼낼 때 isReady 로 확인하고, 큐를 거치지 않는 요청(FAST 측정, 사이트 링크 수집)은 awaitStart 로 기다린다.
+ */
+@Component
+public class HostPolitenessLimiter {
+
+    private static final Duration WAIT_INTERVAL = Duration.ofMillis(500);
+
+    @Getter
+    private final boolean enabled;
+    private final RobotsTxtCache robotsTxtCache;
+    private final int maxPerDomain;
+    private final Duration minSpacing;
+    private final Duration maxCrawlDelay;
+
+    private final Map<String, DomainState> domains = new HashMap<>();
+    private final ScheduledExecutorService waitScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "host-politeness-wait");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HostPolitenessLimiter(
+            RobotsTxtCache robotsTxtCache,
+            @Value("${audit.politeness.enabled:true}") boolean enabled,
+            @Value("${audit.politeness.max-per-domain:1}") int maxPerDomain,
+            @Value("${audit.politeness.min-spacing-ms:10000}") long minSpacingMs,
+            @Value("${audit.politeness.max-crawl-delay-seconds:60}") long maxCrawlDelaySeconds) {
+        this.robotsTxtCache = robotsTxtCache;
+        this.enabled = enabled;
+        this.maxPerDomain = Math.max(1, maxPerDomain);
+        this.minSpacing = Duration.ofMillis(Math.max(0, minSpacingMs));
+        this.maxCrawlDelay = Duration.ofSeconds(Math.max(0, maxCrawlDelaySeconds));
+    }
+
+    /**
+     * 지금 이 URL 의 측정을 시작해도 되는지. robots.txt 조회가 끝나지 않았으면 false
+     */
+    public synchronized boolean isReady(String url) {
+        if (!enabled) {
+            return true;
+        }
+        String domain = RegistrableDomain.of(url);
+        if (domain == null) {
+            return true;
+        }
+
+        Optional<Duration> crawlDelay = robotsTxtCache.getCrawlDelay(RegistrableDomain.hostOf(url));
+        if (crawlDelay.isEmpty()) {
+            return false;
+        }
+
+        DomainState state = domains.get(domain);
+        if (state == null) {
+            return true;
+        }
+        if (state.running >= maxPerDomain) {
+            return false;
+        }
+        Duration spacing = max(minSpacing, min(crawlDelay.get(), maxCrawlDelay));
+        return System.nanoTime() - state.lastStartNanos >= spacing.toNanos();
+    }
+
+    /**
+     * 지금 시작해도 되면 바로 시작으로 기록하고 true (확인과 기록 사이에 다른 요청이 끼어들지 않는다)
+     */
+    public synchronized boolean tryStart(String url) {
+        if (!isReady(url)) {
+            return false;
+        }
+        onStart(url);
+        return true;
+    }
+
+    /**
+     * 허락을 받을 때까지 스레드를 막지 않고 기다린다.
+     * 허락을 받으면 시작으로 기록된 상태로 true (끝나면 onFinish 를 불러야 한다), maxWait 안에 받지 못하면 false
+     */
+    public CompletableFuture<Boolean> awaitStart(String url, Duration maxWait) {
+        CompletableFuture<Boolean> ready = new CompletableFuture<>();
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        Runnable attempt = new Runnable() {
+            @Override
+            public void run() {
+                if (tryStart(url)) {
+                    ready.complete(true);
+                } else if (System.nanoTime() > deadline) {
+                    ready.complete(false);
+                } else {
+                    waitScheduler.schedule(this, WAIT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            }
+        };
+        try {
+            waitScheduler.execute(attempt);
+        } catch (RejectedExecutionException e) {
+            ready.complete(false);
+        }
+        return ready;
+    }
+
+    @PreDestroy
+    public void stop() {
+        waitScheduler.shutdownNow();
+    }
+
+    /**
+     * 측정 시작 기록 (사용자 측정도 간격 계산에 포함되도록 모든 레인에서 호출)
+     */
+    public synchronized void onStart(String url) {
+        String domain = RegistrableDomain.of(url);
+        if (!enabled || domain == null) {
+            return;
+        }
+        DomainState state = domains.computeIfAbsent(domain, key -> new DomainState());
+        state.running++;
+        state.lastStartNanos = System.nanoTime();
+    }
+
+    public synchronized void onFinish(String url) {
+        String domain = RegistrableDomain.of(url);
+        if (!enabled || domain == null) {
+            return;
+        }
+        DomainState state = domains.get(domain);
+        if (state == null) {
+            return;
+        }
+        state.running = Math.max(0, state.running - 1);
+
+        // 간격이 지난 유휴 도메인은 정리
+        if (state.running == 0 && System.nanoTime() - state.lastStartNanos > max(minSpacing, maxCrawlDelay).toNanos()) {
+            domains.remove(domain);
+        }
+    }
+
+    public synchronized int getActiveDomainCount() {
+        return (int) domains.values().stream().filter(state -> state.running > 0).count();
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static class DomainState {
+        private int running;
+        private long lastStartNanos;
+    }
+}
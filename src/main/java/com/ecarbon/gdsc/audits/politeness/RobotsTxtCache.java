@@ -0,0 +1,160 @@
+package com.ecarbon.gdsc.audits.politeness;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 호스트별 robots.txt 의 Crawl-delay 캐시
+ * 조회는 비동기로 하고, 결과가 올 때까지는 Optional.empty() 를 돌려준다 (대기열 락 안에서 네트워크를 기다리지 않기 위해).
+ * 조회 실패나 robots.txt 가 없으면 지연 없음(0)으로 캐시한다.
+ */
+@Slf4j
+@Component
+public class RobotsTxtCache {
+
+    private static final List<String> USER_AGENTS = List.of("chrome-lighthouse", "lighthouse");
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final HttpClient httpClient;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public RobotsTxtCache(
+            @Value("${audit.politeness.robots.enabled:true}") boolean enabled,
+            @Value("${audit.politeness.robots.ttl-hours:24}") long ttlHours) {
+        this.enabled = enabled;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * 캐시된 Crawl-delay. 아직 모르면 조회를 시작하고 empty
+     */
+    public Optional<Duration> getCrawlDelay(String host) {
+        if (!enabled || host == null) {
+            return Optional.of(Duration.ZERO);
+        }
+
+        long now = System.nanoTime();
+        Entry entry = entries.get(host);
+        if (entry == null || (!entry.loading() && now - entry.fetchedNanos() >= ttl.toNanos())) {
+            // 만료된 값은 새 값이 올 때까지 계속 쓴다
+            Entry loading = new Entry(entry != null ? entry.crawlDelay() : null, true, now);
+            boolean claimed = entry == null
+                    ? entries.putIfAbsent(host, loading) == null
+                    : entries.replace(host, entry, loading);
+            if (claimed) {
+                fetch(host);
+            }
+            entry = loading;
+        }
+
+        return Optional.ofNullable(entry.crawlDelay());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void fetch(String host) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create("https://" + host + "/robots.txt"))
+                    .timeout(Duration.ofSeconds(5))
+                    .GET()
+                    .build();
+        } catch (IllegalArgumentException e) {
+            entries.put(host, new Entry(Duration.ZERO, false, System.nanoTime()));
+            return;
+        }
+
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> response.statusCode() == 200 ? parseCrawlDelay(response.body()) : Duration.ZERO)
+                .exceptionally(error -> {
+                    log.debug("[ROBOTS] robots.txt lookup failed for {}: {}", host, error.getMessage());
+                    return Duration.ZERO;
+                })
+                .thenAccept(delay -> {
+                    entries.put(host, new Entry(delay, false, System.nanoTime()));
+                    if (!delay.isZero()) {
+                        log.info("🤖 [ROBOTS] {} requests Crawl-delay {}s", host, delay.toSeconds());
+                    }
+                });
+    }
+
+    /**
+     * User-agent 가 Lighthouse 인 그룹을 우선, 없으면 * 그룹의 Crawl-delay
+     */
+    static Duration parseCrawlDelay(String robotsTxt) {
+        Duration wildcard = null;
+        Duration specific = null;
+
+        List<String> groupAgents = new ArrayList<>();
+        boolean lastWasAgent = false;
+
+        for (String rawLine : robotsTxt.split("\\r?\\n")) {
+            String line = rawLine.replaceAll("#.*$", "").trim();
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String field = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+
+            if (field.equals("user-agent")) {
+                if (!lastWasAgent) {
+                    groupAgents.clear();
+                }
+                groupAgents.add(value.toLowerCase(Locale.ROOT));
+                lastWasAgent = true;
+                continue;
+            }
+            lastWasAgent = false;
+
+            if (field.equals("crawl-delay")) {
+                Duration delay = parseSeconds(value);
+                if (delay == null) {
+                    continue;
+                }
+                if (groupAgents.stream().anyMatch(USER_AGENTS::contains)) {
+                    specific = delay;
+                } else if (groupAgents.contains("*")) {
+                    wildcard = delay;
+                }
+            }
+        }
+
+        if (specific != null) {
+            return specific;
+        }
+        return wildcard != null ? wildcard : Duration.ZERO;
+    }
+
+    private static Duration parseSeconds(String value) {
+        try {
+            return Duration.ofMillis(Math.round(Double.parseDouble(value) * 1000));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record Entry(Duration crawlDelay, boolean loading, long fetchedNanos) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecarbon.gdsc.audits.process;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 읽은 바이트 수가 한도를 넘으면 OutputOverflowException 을 던지는 스트림
+ * close() 는 원본 스트림을 닫지 않는다. 원본은 ProcessExecutor 가 닫는다.
+ */
+class BoundedInputStream extends FilterInputStream {
+
+    private final long limit;
+    private long count;
+
+    BoundedInputStream(InputStream in, long limit) {
+        super(in);
+        this.limit = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public void close() {
+        // 리더가 스트림을 닫아도 남은 출력을 비울 수 있도록 원본은 유지
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    private void count(long n) throws OutputOverflowException {
+        count += n;
+        if (count > limit) {
+            throw new OutputOverflowException(limit);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.ecarbon.gdsc.audits.process;
+
+import java.io.IOException;
+
+public class OutputOverflowException extends IOException {
+
+    public OutputOverflowException(long limit) {
+        super("Process output exceeded " + limit + " bytes");
+    }
+}
@@ -0,0 +1,268 @@
+package com.ecarbon.gdsc.audits.process;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 프로세스 실행 계층
+ * stdout/stderr 를 별도 스레드에서 읽고, 프로세스 시작 시점부터의 제한 시간을 강제한다.
+ * 결과는 예외 대신 ProcessOutcome 으로 구분해서 반환한다.
+ * 실행이 끝나면 정상 종료 여부와 관계없이 관찰된 자손 프로세스(Chrome renderer 등)까지 모두 종료한다.
+ * 실행하는 동안 프로세스 트리의 CPU 시간과 최대 RSS 를 함께 샘플링해서 결과에 담는다.
+ */
+@Component
+@Slf4j
+public class ProcessExecutor {
+
+    private static final int STDERR_TAIL_BYTES = 8 * 1024;
+    private static final long TREE_SAMPLE_INTERVAL_MS = 500;
+
+    private final ExecutorService ioExecutor = Executors.newCachedThreadPool(new IoThreadFactory());
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(new IoThreadFactory());
+
+    private final Set<ProcessTree> activeTrees = ConcurrentHashMap.newKeySet();
+    private final AtomicLong killedProcessCount = new AtomicLong();
+
+    public <T> ProcessResult<T> execute(List<String> command, Duration timeout, long maxOutputBytes, OutputReader<T> stdoutReader) {
+        return execute(command, timeout, maxOutputBytes, stdoutReader, List.of());
+    }
+
+    /**
+     * @param attached 이 실행이 함께 쓰는 이미 떠 있는 프로세스 (미리 띄운 Chrome 등). 자원 사용량만 재고 종료하지 않는다.
+     */
+    public <T> ProcessResult<T> execute(List<String> command, Duration timeout, long maxOutputBytes,
+                                        OutputReader<T> stdoutReader, List<ProcessHandle> attached) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + timeout.toNanos();
+        Process process;
+
+        try {
+            process = new ProcessBuilder(command).start();
+        } catch (IOException e) {
+            return ProcessResult.<T>builder()
+                    .outcome(ProcessOutcome.FAILED)
+                    .elapsed(Duration.ZERO)
+                    .error(e)
+                    .build();
+        }
+
+        Duration spawnTime = elapsedSince(startNanos);
+        ProcessTree tree = new ProcessTree(process.toHandle());
+        activeTrees.add(tree);
+        List<ProcessHandle> measured = new ArrayList<>(attached);
+        measured.add(0, process.toHandle());
+        ProcessUsageSampler usage = new ProcessUsageSampler(measured);
+        ScheduledFuture<?> sampling = sampler.scheduleWithFixedDelay(() -> {
+            tree.sample();
+            usage.sample();
+        }, 0, TREE_SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        TailBuffer stderr = new TailBuffer(STDERR_TAIL_BYTES);
+        AtomicLong outputBytes = new AtomicLong();
+        Future<?> stderrFuture = ioExecutor.submit(() -> drain(process.getErrorStream(), stderr));
+        Future<T> stdoutFuture = ioExecutor.submit(() -> readStdout(process.getInputStream(), maxOutputBytes, stdoutReader, outputBytes));
+
+        try {
+            T value = stdoutFuture.get(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS);
+            // 출력이 끝난 직후 (프로세스가 아직 살아 있을 때) 한 번 더 재서 마지막 구간의 CPU 를 놓치지 않는다
+            usage.sample();
+
+            if (!process.waitFor(remainingNanos(deadlineNanos), TimeUnit.NANOSECONDS)) {
+                return timedOut(tree, startNanos, stderr, usage, outputBytes);
+            }
+            awaitQuietly(stderrFuture);
+
+            int exitCode = process.exitValue();
+            return ProcessResult.<T>builder()
+                    .outcome(exitCode == 0 ? ProcessOutcome.COMPLETED : ProcessOutcome.NON_ZERO_EXIT)
+                    .value(value)
+                    .exitCode(exitCode)
+                    .elapsed(elapsedSince(startNanos))
+                    .spawnTime(spawnTime)
+                    .usage(usage.usage())
+                    .outputBytes(outputBytes.get())
+                    .stderrTail(stderr.toString())
+                    .build();
+
+        } catch (TimeoutException e) {
+            stdoutFuture.cancel(true);
+            return timedOut(tree, startNanos, stderr, usage, outputBytes);
+
+        } catch (ExecutionException e) {
+            destroy(tree);
+            Throwable cause = e.getCause();
+            return ProcessResult.<T>builder()
+                    .outcome(cause instanceof OutputOverflowException ? ProcessOutcome.OUTPUT_OVERFLOW : ProcessOutcome.FAILED)
+                    .elapsed(elapsedSince(startNanos))
+                    .stderrTail(stderr.toString())
+                    .error(cause)
+                    .build();
+
+        } catch (InterruptedException e) {
+            destroy(tree);
+            Thread.currentThread().interrupt();
+            return ProcessResult.<T>builder()
+                    .outcome(ProcessOutcome.FAILED)
+                    .elapsed(elapsedSince(startNanos))
+                    .stderrTail(stderr.toString())
+                    .error(e)
+                    .build();
+
+        } finally {
+            sampling.cancel(false);
+            destroy(tree);
+            activeTrees.remove(tree);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        activeTrees.forEach(this::destroy);
+        sampler.shutdownNow();
+        ioExecutor.shutdownNow();
+    }
+
+    /**
+     * 현재 실행 중인 프로세스 트리에 속한 pid
+     */
+    public Set<Long> getTrackedPids() {
+        Set<Long> pids = new HashSet<>();
+        activeTrees.forEach(tree -> pids.addAll(tree.getPids()));
+        return pids;
+    }
+
+    public int getActiveProcessCount() {
+        return activeTrees.size();
+    }
+
+    public long getKilledProcessCount() {
+        return killedProcessCount.get();
+    }
+
+    private void destroy(ProcessTree tree) {
+        int killed = tree.destroyAll();
+        if (killed > 0) {
+            killedProcessCount.addAndGet(killed);
+            log.info("[PROCESS] 🔪 Killed {} processes in tree of pid {}", killed, tree.getRootPid());
+        }
+    }
+
+    private <T> ProcessResult<T> timedOut(ProcessTree tree, long startNanos, TailBuffer stderr,
+                                          ProcessUsageSampler usage, AtomicLong outputBytes) {
+        usage.sample();
+        destroy(tree);
+        return ProcessResult.<T>builder()
+                .outcome(ProcessOutcome.TIMED_OUT)
+                .elapsed(elapsedSince(startNanos))
+                .usage(usage.usage())
+                .outputBytes(outputBytes.get())
+                .stderrTail(stderr.toString())
+                .build();
+    }
+
+    private static <T> T readStdout(InputStream stdout, long maxOutputBytes, OutputReader<T> reader,
+                                    AtomicLong outputBytes) throws IOException {
+        try (InputStream raw = stdout) {
+            BoundedInputStream bounded = new BoundedInputStream(raw, maxOutputBytes);
+            T value = reader.read(bounded);
+            // 리더가 남긴 출력도 한도 안에서 비워야 프로세스가 pipe 에 막히지 않는다
+            byte[] buffer = new byte[8192];
+            while (bounded.read(buffer) != -1) {
+                // discard
+            }
+            outputBytes.set(bounded.getCount());
+            return value;
+        }
+    }
+
+    private static void drain(InputStream in, TailBuffer tail) {
+        byte[] buffer = new byte[4096];
+        try (in) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                tail.append(buffer, n);
+            }
+        } catch (IOException ignored) {
+            // 프로세스가 종료되면서 스트림이 닫힌 경우
+        }
+    }
+
+    private static void awaitQuietly(Future<?> future) {
+        try {
+            future.get(1, TimeUnit.SECONDS);
+        } catch (Exception ignored) {
+            // stderr 는 로그 용도이므로 끝까지 기다리지 않는다
+        }
+    }
+
+    private static long remainingNanos(long deadlineNanos) {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    private static Duration elapsedSince(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    @FunctionalInterface
+    public interface OutputReader<T> {
+        T read(InputStream output) throws IOException;
+    }
+
+    /**
+     * 마지막 N 바이트만 보관하는 버퍼
+     */
+    private static class TailBuffer {
+        private final byte[] data;
+        private int start;
+        private int size;
+
+        private TailBuffer(int capacity) {
+            this.data = new byte[capacity];
+        }
+
+        private synchronized void append(byte[] bytes, int length) {
+            for (int i = 0; i < length; i++) {
+                int index = (start + size) % data.length;
+                data[index] = bytes[i];
+                if (size < data.length) {
+                    size++;
+                } else {
+                    start = (start + 1) % data.length;
+                }
+            }
+        }
+
+        @Override
+        public synchronized String toString() {
+            byte[] ordered = new byte[size];
+            for (int i = 0; i < size; i++) {
+                ordered[i] = data[(start + i) % data.length];
+            }
+            return new String(ordered, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class IoThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "process-io-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
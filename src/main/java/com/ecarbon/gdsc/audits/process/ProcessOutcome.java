@@ -0,0 +1,9 @@
+package com.ecarbon.gdsc.audits.process;
+
+public enum ProcessOutcome {
+    COMPLETED,          // 정상 종료 (exit code 0)
+    NON_ZERO_EXIT,      // 종료했지만 exit code 가 0 이 아님
+    TIMED_OUT,          // 시작 시점 기준 제한 시간 초과로 강제 종료
+    OUTPUT_OVERFLOW,    // stdout 이 허용 크기를 넘어 강제 종료
+    FAILED              // 실행 불가 또는 출력 처리 중 오류
+}
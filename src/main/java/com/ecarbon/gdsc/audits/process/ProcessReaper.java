@@ -0,0 +1,94 @@
+package com.ecarbon.gdsc.audits.process;
+
+import com.ecarbon.gdsc.audits.chrome.ChromePool;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부모를 잃고 남아 있는 headless Chrome / Lighthouse(Node) 프로세스를 주기적으로 정리
+ * JVM 과 같은 사용자 소유이고, 현재 추적 중인 측정이나 Chrome 풀에 속하지 않는 프로세스만 대상이다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProcessReaper {
+
+    private static final List<String> CHROME_COMMANDS = List.of("chrome", "chromium", "headless_shell");
+
+    private final ProcessExecutor processExecutor;
+    private final ChromePool chromePool;
+
+    private final AtomicLong reapedCount = new AtomicLong();
+
+    @Value("${audit.reaper.min-age-seconds:120}")
+    private long minAgeSeconds;
+
+    @Scheduled(fixedDelayString = "${audit.reaper.interval-ms:60000}")
+    public void reapOrphans() {
+        Set<Long> protectedPids = new HashSet<>(processExecutor.getTrackedPids());
+        for (Long chromePid : chromePool.getChromePids()) {
+            protectedPids.add(chromePid);
+            ProcessHandle.of(chromePid).ifPresent(chrome ->
+                    chrome.descendants().forEach(child -> protectedPids.add(child.pid())));
+        }
+
+        Optional<String> jvmUser = ProcessHandle.current().info().user();
+        Instant startedBefore = Instant.now().minus(Duration.ofSeconds(minAgeSeconds));
+
+        int reaped = 0;
+        for (ProcessHandle handle : ProcessHandle.allProcesses().toList()) {
+            if (protectedPids.contains(handle.pid()) || !isOrphanedAuditProcess(handle, jvmUser, startedBefore)) {
+                continue;
+            }
+            log.warn("[PROCESS/REAPER] 🧟 Killing orphaned process {} ({})",
+                    handle.pid(), handle.info().command().orElse("unknown"));
+            if (handle.destroyForcibly()) {
+                reaped++;
+            }
+        }
+
+        if (reaped > 0) {
+            reapedCount.addAndGet(reaped);
+            log.info("[PROCESS/REAPER] 🧹 Reaped {} orphaned processes (total {})", reaped, reapedCount.get());
+        }
+    }
+
+    public long getReapedCount() {
+        return reapedCount.get();
+    }
+
+    private boolean isOrphanedAuditProcess(ProcessHandle handle, Optional<String> jvmUser, Instant startedBefore) {
+        ProcessHandle.Info info = handle.info();
+
+        if (jvmUser.isEmpty() || !jvmUser.equals(info.user())) {
+            return false;
+        }
+        if (info.startInstant().map(start -> start.isAfter(startedBefore)).orElse(true)) {
+            return false;
+        }
+
+        Optional<ProcessHandle> parent = handle.parent();
+        boolean orphaned = parent.isEmpty() || parent.get().pid() == 1 || !parent.get().isAlive();
+        if (!orphaned) {
+            return false;
+        }
+
+        String command = info.command().orElse("").toLowerCase();
+        String arguments = String.join(" ", info.arguments().orElse(new String[0]));
+
+        boolean headlessChrome = CHROME_COMMANDS.stream().anyMatch(command::contains) && arguments.contains("--headless");
+        boolean lighthouse = command.endsWith("node") && arguments.contains("lighthouse");
+        return headlessChrome || lighthouse;
+    }
+}
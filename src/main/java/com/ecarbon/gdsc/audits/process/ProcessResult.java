@@ -0,0 +1,27 @@
+package com.ecarbon.gdsc.audits.process;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+@ToString(exclude = "value")
+public class ProcessResult<T> {
+
+    private ProcessOutcome outcome;
+    private T value;
+    private Integer exitCode;
+    private Duration elapsed;
+    private Duration spawnTime;
+    private ProcessUsage usage;     // 프로세스 트리의 CPU/메모리 사용량 (실행 실패 시 null)
+    private long outputBytes;       // stdout 으로 읽은 바이트 수
+    private String stderrTail;
+    private Throwable error;
+
+    public boolean isSuccess() {
+        return outcome == ProcessOutcome.COMPLETED && value != null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ecarbon.gdsc.audits.process;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실행 중 관찰된 모든 자손 프로세스를 기억하는 프로세스 트리
+ * 부모가 먼저 종료되면 자손은 init 으로 재부모화되어 descendants() 에서 사라지므로 주기적으로 샘플링해 둔다.
+ */
+public class ProcessTree {
+
+    private final ProcessHandle root;
+    private final Map<Long, ProcessHandle> members = new ConcurrentHashMap<>();
+
+    public ProcessTree(ProcessHandle root) {
+        this.root = root;
+        members.put(root.pid(), root);
+    }
+
+    public void sample() {
+        if (root.isAlive()) {
+            root.descendants().forEach(handle -> members.putIfAbsent(handle.pid(), handle));
+        }
+    }
+
+    /**
+     * 트리 전체를 강제 종료하고 종료시킨 프로세스 수를 반환
+     */
+    public int destroyAll() {
+        sample();
+        int killed = 0;
+        // 자손을 먼저 종료해 부모가 다시 띄우지 못하게 한다
+        for (ProcessHandle handle : members.values()) {
+            if (handle.pid() != root.pid() && handle.isAlive() && handle.destroyForcibly()) {
+                killed++;
+            }
+        }
+        if (root.isAlive() && root.destroyForcibly()) {
+            killed++;
+        }
+        return killed;
+    }
+
+    public Set<Long> getPids() {
+        return Set.copyOf(members.keySet());
+    }
+
+    public long getRootPid() {
+        return root.pid();
+    }
+}
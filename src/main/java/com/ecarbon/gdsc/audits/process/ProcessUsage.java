@@ -0,0 +1,22 @@
+package com.ecarbon.gdsc.audits.process;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * 한 번의 실행 동안 프로세스 트리가 쓴 자원 (샘플링 값이라 근사치)
+ */
+@Getter
+@Builder
+@ToString
+public class ProcessUsage {
+
+    public static final ProcessUsage EMPTY = ProcessUsage.builder().cpuTime(Duration.ZERO).build();
+
+    private Duration cpuTime;       // 관찰된 모든 프로세스의 user + system CPU 시간 합
+    private long peakRssBytes;      // 샘플 시점마다 합친 RSS 중 최대값
+    private int processCount;       // 관찰된 프로세스 수
+}
@@ -0,0 +1,81 @@
+package com.ecarbon.gdsc.audits.process;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 실행 중인 프로세스 트리의 CPU 시간과 RSS 를 주기적으로 샘플링한다.
+ * CPU 는 ProcessHandle.info() 의 누적 값을 pid 별로 기억해서 (마지막 값 - 처음 값) 을 더한다.
+ * 처음 샘플에 이미 떠 있던 프로세스(미리 띄운 Chrome 등)는 그때 값을 기준으로 삼아 이번 실행에서 쓴 만큼만 센다.
+ * RSS 는 /proc/[pid]/status 의 VmRSS 를 샘플마다 합쳐서 최대값을 남긴다. /proc 이 없으면 0 이다.
+ * 샘플 사이에 종료된 프로세스가 마지막으로 쓴 CPU 는 놓치므로 근사치다.
+ */
+public class ProcessUsageSampler {
+
+    private final List<ProcessHandle> roots;
+    private final Map<Long, long[]> cpuNanosByPid = new ConcurrentHashMap<>();   // pid -> {처음 값, 마지막 값}
+    private volatile boolean sampled;
+    private volatile long peakRssBytes;
+
+    public ProcessUsageSampler(List<ProcessHandle> roots) {
+        this.roots = List.copyOf(roots);
+    }
+
+    public synchronized void sample() {
+        boolean first = !sampled;
+        long rssBytes = 0;
+        for (ProcessHandle handle : aliveProcesses()) {
+            Long cpuNanos = handle.info().totalCpuDuration().map(Duration::toNanos).orElse(null);
+            if (cpuNanos != null) {
+                long baseline = first ? cpuNanos : 0;
+                cpuNanosByPid.compute(handle.pid(), (pid, values) -> values == null
+                        ? new long[]{baseline, cpuNanos}
+                        : new long[]{values[0], Math.max(values[1], cpuNanos)});
+            }
+            rssBytes += readRssBytes(handle.pid());
+        }
+        peakRssBytes = Math.max(peakRssBytes, rssBytes);
+        sampled = true;
+    }
+
+    public ProcessUsage usage() {
+        long cpuNanos = cpuNanosByPid.values().stream().mapToLong(values -> values[1] - values[0]).sum();
+        return ProcessUsage.builder()
+                .cpuTime(Duration.ofNanos(cpuNanos))
+                .peakRssBytes(peakRssBytes)
+                .processCount(cpuNanosByPid.size())
+                .build();
+    }
+
+    private List<ProcessHandle> aliveProcesses() {
+        List<ProcessHandle> alive = new ArrayList<>();
+        for (ProcessHandle root : roots) {
+            if (root.isAlive()) {
+                alive.add(root);
+                try (Stream<ProcessHandle> descendants = root.descendants()) {
+                    descendants.filter(ProcessHandle::isAlive).forEach(alive::add);
+                }
+            }
+        }
+        return alive;
+    }
+
+    private static long readRssBytes(long pid) {
+        try (Stream<String> lines = Files.lines(Path.of("/proc", String.valueOf(pid), "status"))) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .findFirst()
+                    .map(line -> Long.parseLong(line.replaceAll("\\D", "")) * 1024)
+                    .orElse(0L);
+        } catch (IOException | RuntimeException e) {
+            // 프로세스가 방금 종료됐거나 /proc 이 없는 환경
+            return 0;
+        }
+    }
+}
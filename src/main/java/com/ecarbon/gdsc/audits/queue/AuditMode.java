@@ -0,0 +1,36 @@
+package com.ecarbon.gdsc.audits.queue;
+
+/**
+ * 측정 방식
+ * FAST 는 Chrome 없이 HTML 과 연결된 리소스만 받아 페이지 무게를 추정한다.
+ * DEVTOOLS 는 Lighthouse 없이 미리 띄운 Chrome 을 DevTools protocol 로 직접 움직여 실제 전송 크기를 모은다.
+ */
+public enum AuditMode {
+    LIGHTHOUSE(""),
+    FAST("-fast"),
+    DEVTOOLS("-devtools");
+
+    private final String measurementTypeSuffix;
+
+    AuditMode(String measurementTypeSuffix) {
+        this.measurementTypeSuffix = measurementTypeSuffix;
+    }
+
+    /**
+     * 저장할 measurementType (예: weekly, weekly-fast)
+     */
+    public String tag(String measurementType) {
+        return measurementType + measurementTypeSuffix;
+    }
+
+    public static AuditMode fromMeasurementType(String measurementType) {
+        if (measurementType != null) {
+            for (AuditMode mode : values()) {
+                if (!mode.measurementTypeSuffix.isEmpty() && measurementType.endsWith(mode.measurementTypeSuffix)) {
+                    return mode;
+                }
+            }
+        }
+        return LIGHTHOUSE;
+    }
+}
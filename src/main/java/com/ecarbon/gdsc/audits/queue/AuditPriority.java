@@ -0,0 +1,14 @@
+package com.ecarbon.gdsc.audits.queue;
+
+/**
+ * 측정 작업의 우선순위 레인 (선언 순서가 곧 우선순위)
+ */
+public enum AuditPriority {
+    INTERACTIVE,    // 사용자가 화면에서 기다리는 측정
+    REAUDIT,        // 실패 건 재처리 등 운영자가 요청한 재측정
+    BATCH;          // 주간 전체 기관 측정
+
+    public boolean isHigherThan(AuditPriority other) {
+        return ordinal() < other.ordinal();
+    }
+}
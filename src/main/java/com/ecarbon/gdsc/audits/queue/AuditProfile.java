@@ -0,0 +1,61 @@
+package com.ecarbon.gdsc.audits.queue;
+
+import java.util.List;
+
+/**
+ * Lighthouse 측정 범위
+ * --only-audits 로 넘길 audit 과 리포트에서 읽을 audit 을 함께 정한다.
+ * CARBON_MINIMAL 은 탄소 배출량 계산에 필요한 페이지 무게와 리소스 요약만 측정해서
+ * script-treemap-data, unused-javascript 같은 비싼 audit 을 건너뛴다.
+ */
+public enum AuditProfile {
+    CARBON_MINIMAL("carbon-minimal", List.of(
+            "network-requests", "resource-summary", "total-byte-weight")),
+    OPTIMIZATION_FULL("optimization-full", List.of(
+            "network-requests", "resource-summary", "total-byte-weight",
+            "unused-css-rules", "unused-javascript", "modern-image-formats",
+            "efficient-animated-content", "third-party-summary", "duplicated-javascript",
+            "script-treemap-data"));
+
+    private final String id;
+    private final List<String> audits;
+
+    AuditProfile(String id, List<String> audits) {
+        this.id = id;
+        this.audits = audits;
+    }
+
+    /**
+     * 측정 결과에 기록하는 이름 (예: carbon-minimal)
+     */
+    public String getId() {
+        return id;
+    }
+
+    public List<String> getAudits() {
+        return audits;
+    }
+
+    public boolean includes(String auditId) {
+        return audits.contains(auditId);
+    }
+
+    /**
+     * 이 범위로 측정한 결과로 other 요청을 대신할 수 있는지
+     */
+    public boolean covers(AuditProfile other) {
+        return audits.containsAll(other.audits);
+    }
+
+    /**
+     * 기록된 이름에서 복원. 이름이 없는 예전 측정은 전체 범위로 측정된 것으로 본다.
+     */
+    public static AuditProfile fromId(String id) {
+        for (AuditProfile profile : values()) {
+            if (profile.id.equals(id) || profile.name().equals(id)) {
+                return profile;
+            }
+        }
+        return OPTIMIZATION_FULL;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecarbon.gdsc.audits.queue;
+
+import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
+
+/**
+ * 측정 결과를 저장할 곳
+ */
+public enum AuditSink {
+    USER,       // user_measurements (사용자 측정)
+    WEEKLY,     // weekly_measurements (placeInfo 가 있는 주간 배치 측정)
+    SITE;       // 따로 저장하지 않는다. 사이트 측정이 페이지 결과를 모아 site_measurements 에 저장
+
+    public static AuditSink of(PlaceInfo placeInfo) {
+        return placeInfo != null ? WEEKLY : USER;
+    }
+}
@@ -0,0 +1,113 @@
+package com.ecarbon.gdsc.audits.queue;
+
+import com.ecarbon.gdsc.audits.change.ResourceFingerprint;
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.util.RegistrableDomain;
+import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 측정 큐에 들어가는 작업 단위
+ * 각 작업은 자신의 결과 future 를 가지고 있어 다른 요청의 결과와 섞이지 않는다.
+ * placeInfo 가 있는 작업은 주간 배치 측정으로, 결과가 weekly_measurements 에 저장된다. 저장 위치는 sink 가 정한다.
+ * priority 는 PriorityAuditQueue 의 레인을 정하고, profile 은 Lighthouse 가 실행할 audit 범위를 정한다.
+ */
+@Getter
+public class AuditTask {
+
+    private final String url;
+    private final String domain;        // 등록 도메인 (도메인별 간격 제한에 사용)
+    private final PlaceInfo placeInfo;
+    private final AuditMode mode;
+    private final AuditProfile profile;
+    private final AuditSink sink;
+    private final LocalDateTime enqueuedAt;
+    private final CompletableFuture<Measurements> result = new CompletableFuture<>();
+
+    private volatile AuditPriority priority;
+    private volatile LocalDateTime queuedAt;
+    private volatile LocalDateTime startedAt;
+    private volatile int attempts;
+    private volatile boolean changeChecked;             // 측정 전 변경 확인을 마쳤는지 (재시도 때는 다시 하지 않는다)
+    private volatile ResourceFingerprint fingerprint;   // 변경 확인 때 받아 둔 지문, 측정이 저장되면 기록한다
+
+    public AuditTask(String url) {
+        this(url, null);
+    }
+
+    public AuditTask(String url, PlaceInfo placeInfo) {
+        this(url, placeInfo, placeInfo != null ? AuditPriority.BATCH : AuditPriority.INTERACTIVE);
+    }
+
+    public AuditTask(String url, PlaceInfo placeInfo, AuditPriority priority) {
+        this(url, placeInfo, priority, AuditMode.LIGHTHOUSE);
+    }
+
+    public AuditTask(String url, PlaceInfo placeInfo, AuditPriority priority, AuditMode mode) {
+        this(url, placeInfo, priority, mode, AuditProfile.OPTIMIZATION_FULL);
+    }
+
+    public AuditTask(String url, PlaceInfo placeInfo, AuditPriority priority, AuditMode mode, AuditProfile profile) {
+        this(url, placeInfo, priority, mode, profile, AuditSink.of(placeInfo));
+    }
+
+    public AuditTask(String url, PlaceInfo placeInfo, AuditPriority priority, AuditMode mode, AuditProfile profile, AuditSink sink) {
+        this.url = url;
+        this.sink = sink;
+        this.mode = mode;
+        this.profile = profile;
+        this.domain = RegistrableDomain.of(url);
+        this.placeInfo = placeInfo;
+        this.priority = priority;
+        this.enqueuedAt = LocalDateTime.now();
+        this.queuedAt = enqueuedAt;
+    }
+
+    /**
+     * 이미 결과가 있는 작업 (큐를 거치지 않음)
+     */
+    public static AuditTask completed(String url, Measurements measurements) {
+        AuditTask task = new AuditTask(url);
+        task.startedAt = task.enqueuedAt;
+        task.result.complete(measurements);
+        return task;
+    }
+
+    /**
+     * 측정 시작 표시. 재시도할 때마다 호출되어 시도 횟수가 늘어난다.
+     */
+    public void markStarted() {
+        this.startedAt = LocalDateTime.now();
+        this.attempts++;
+    }
+
+    /**
+     * 측정 전 변경 확인 결과. 지문을 받지 못했으면 null
+     */
+    public void attachFingerprint(ResourceFingerprint fingerprint) {
+        this.fingerprint = fingerprint;
+        this.changeChecked = true;
+    }
+
+    /**
+     * 대기열에 (다시) 들어간 시각. 재시도 대기 시간은 레인 대기 시간에 포함하지 않는다.
+     */
+    void markQueued() {
+        this.queuedAt = LocalDateTime.now();
+    }
+
+    void setPriority(AuditPriority priority) {
+        this.priority = priority;
+    }
+
+    public boolean isStarted() {
+        return startedAt != null;
+    }
+
+    public boolean isWeeklyBatch() {
+        return placeInfo != null;
+    }
+}
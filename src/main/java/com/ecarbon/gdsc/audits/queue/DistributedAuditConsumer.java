@@ -0,0 +1,118 @@
+package com.ecarbon.gdsc.audits.queue;
+
+import com.ecarbon.gdsc.audits.MainRunner;
+import com.ecarbon.gdsc.audits.batch.BatchCheckpointRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공유 큐(audit_queue)에서 항목을 가져와 로컬 워커 풀(MainRunner)에 넘기는 소비자
+ * 이 노드가 동시에 잡고 있는 리스는 max-local-leases 까지로 제한하고,
+ * 측정이 끝날 때까지 주기적으로 리스를 연장한다.
+ */
+@Slf4j
+@Component
+public class DistributedAuditConsumer {
+
+    private final DistributedAuditQueue queue;
+    private final MainRunner mainRunner;
+    private final BatchCheckpointRepository checkpointRepository;
+
+    @Getter
+    private final boolean enabled;
+    private final int maxLocalLeases;
+
+    // 이 노드가 리스를 잡고 측정 중인 항목
+    private final Map<String, QueuedAudit> heldLeases = new ConcurrentHashMap<>();
+
+    private final AtomicLong lostLeaseCount = new AtomicLong();
+
+    public DistributedAuditConsumer(
+            DistributedAuditQueue queue,
+            MainRunner mainRunner,
+            BatchCheckpointRepository checkpointRepository,
+            @Value("${audit.queue.distributed.enabled:false}") boolean enabled,
+            @Value("${audit.queue.max-local-leases:2}") int maxLocalLeases) {
+        this.queue = queue;
+        this.mainRunner = mainRunner;
+        this.checkpointRepository = checkpointRepository;
+        this.enabled = enabled;
+        this.maxLocalLeases = Math.max(1, maxLocalLeases);
+    }
+
+    @Scheduled(fixedDelayString = "${audit.queue.poll-interval-ms:5000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        while (heldLeases.size() < maxLocalLeases) {
+            Optional<QueuedAudit> claimed = queue.claim();
+            if (claimed.isEmpty()) {
+                return;
+            }
+            process(claimed.get());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${audit.queue.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        heldLeases.keySet().forEach(id -> {
+            if (!queue.heartbeat(id)) {
+                // 리스를 잃은 항목은 다른 노드가 다시 측정하므로 여기서는 추적만 멈춘다
+                heldLeases.remove(id);
+                lostLeaseCount.incrementAndGet();
+                log.warn("⚠️ [QUEUE] Lost lease for {}", id);
+            }
+        });
+
+        long exhausted = queue.failExhaustedLeases();
+        if (exhausted > 0) {
+            log.warn("⚠️ [QUEUE] Marked {} expired leases as failed (max attempts reached)", exhausted);
+        }
+    }
+
+    public int getHeldLeaseCount() {
+        return heldLeases.size();
+    }
+
+    public long getLostLeaseCount() {
+        return lostLeaseCount.get();
+    }
+
+    private void process(QueuedAudit item) {
+        heldLeases.put(item.getId(), item);
+        log.info("📥 [QUEUE] Claimed {} (attempt {}/{})", item.getUrl(), item.getAttempts(), queue.getMaxAttempts());
+
+        AuditMode mode = item.getMode() != null ? item.getMode() : AuditMode.LIGHTHOUSE;
+        AuditProfile profile = item.getProfile() != null ? item.getProfile() : AuditProfile.OPTIMIZATION_FULL;
+        mainRunner.submit(item.getUrl(), item.getPlaceInfo(), AuditPriority.BATCH, mode, profile).getResult().whenComplete((result, error) -> {
+            heldLeases.remove(item.getId());
+            try {
+                if (error == null) {
+                    if (queue.complete(item.getId())) {
+                        checkpointRepository.markCompleted(item.getBatchId(), item.getCanonicalUrl());
+                    }
+                } else {
+                    log.warn("⚠️ [QUEUE] Audit failed for {}: {}", item.getUrl(), error.getMessage());
+                    if (queue.fail(item.getId(), item.getAttempts(), error.getMessage())
+                            && item.getAttempts() >= queue.getMaxAttempts()) {
+                        checkpointRepository.markFailed(item.getBatchId(), item.getCanonicalUrl());
+                    }
+                }
+            } catch (Exception e) {
+                log.error("❌ [QUEUE] Could not update queue item {}: {}", item.getId(), e.getMessage(), e);
+            }
+        });
+    }
+}
@@ -0,0 +1,165 @@
+package com.ecarbon.gdsc.audits.queue;
+
+import com.ecarbon.gdsc.audits.util.UrlCanonicalizer;
+import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
+import com.ecarbon.gdsc.common.lease.NodeIdentity;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * MongoDB 기반 공유 측정 큐
+ * - claim: 대기 중이거나 리스가 만료된 항목 하나를 원자적으로 가져온다 (findAndModify)
+ * - heartbeat: 측정 중인 항목의 리스를 연장한다
+ * - 노드가 죽으면 리스가 만료되어 다른 노드가 다시 가져간다
+ */
+@Component
+public class DistributedAuditQueue {
+
+    private final MongoTemplate mongoTemplate;
+    private final NodeIdentity nodeIdentity;
+
+    @Getter
+    private final Duration leaseDuration;
+    @Getter
+    private final int maxAttempts;
+
+    public DistributedAuditQueue(
+            MongoTemplate mongoTemplate,
+            NodeIdentity nodeIdentity,
+            @Value("${audit.queue.lease-seconds:300}") long leaseSeconds,
+            @Value("${audit.queue.max-attempts:3}") int maxAttempts) {
+        this.mongoTemplate = mongoTemplate;
+        this.nodeIdentity = nodeIdentity;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * 항목을 등록한다. 같은 배치에 이미 있는 URL 이면 그대로 두되,
+     * 시도 횟수를 다 써서 FAILED 로 끝난 항목은 재시작한 배치가 다시 올린 것이므로 처음부터 다시 대기시킨다.
+     */
+    public void enqueue(String batchId, String url, PlaceInfo placeInfo, AuditMode mode, AuditProfile profile) {
+        String canonicalUrl = UrlCanonicalizer.canonicalize(url);
+        String id = batchId + ":" + canonicalUrl;
+        Date now = new Date();
+
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(id).and("status").is(QueuedAudit.STATUS_FAILED)),
+                new Update().set("status", QueuedAudit.STATUS_PENDING)
+                        .set("attempts", 0)
+                        .set("placeInfo", placeInfo)
+                        .set("mode", mode)
+                        .set("profile", profile)
+                        .set("enqueuedAt", now)
+                        .set("updatedAt", now),
+                QueuedAudit.class);
+
+        Update update = new Update()
+                .setOnInsert("batchId", batchId)
+                .setOnInsert("url", url)
+                .setOnInsert("canonicalUrl", canonicalUrl)
+                .setOnInsert("placeInfo", placeInfo)
+                .setOnInsert("mode", mode)
+                .setOnInsert("profile", profile)
+                .setOnInsert("status", QueuedAudit.STATUS_PENDING)
+                .setOnInsert("attempts", 0)
+                .setOnInsert("enqueuedAt", now)
+                .setOnInsert("updatedAt", now);
+
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(id)), update, QueuedAudit.class);
+    }
+
+    /**
+     * 대기 중이거나 리스가 만료된 항목 하나를 이 노드의 리스로 가져온다.
+     */
+    public Optional<QueuedAudit> claim() {
+        Date now = new Date();
+        Query query = Query.query(new Criteria().orOperator(
+                        Criteria.where("status").is(QueuedAudit.STATUS_PENDING),
+                        Criteria.where("status").is(QueuedAudit.STATUS_LEASED).and("leaseExpiresAt").lt(now))
+                        .and("attempts").lt(maxAttempts))
+                .with(Sort.by(Sort.Direction.ASC, "enqueuedAt"));
+        Update update = new Update()
+                .set("status", QueuedAudit.STATUS_LEASED)
+                .set("leaseOwner", nodeIdentity.getId())
+                .set("leaseExpiresAt", new Date(now.getTime() + leaseDuration.toMillis()))
+                .set("updatedAt", now)
+                .inc("attempts", 1);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), QueuedAudit.class));
+    }
+
+    /**
+     * 리스를 연장한다. 리스를 이미 잃었으면 false
+     */
+    public boolean heartbeat(String id) {
+        Date now = new Date();
+        return mongoTemplate.updateFirst(
+                ownedLease(id),
+                new Update().set("leaseExpiresAt", new Date(now.getTime() + leaseDuration.toMillis())).set("updatedAt", now),
+                QueuedAudit.class).getModifiedCount() > 0;
+    }
+
+    public boolean complete(String id) {
+        return mongoTemplate.updateFirst(
+                ownedLease(id),
+                new Update().set("status", QueuedAudit.STATUS_DONE).unset("leaseOwner").unset("leaseExpiresAt").set("updatedAt", new Date()),
+                QueuedAudit.class).getModifiedCount() > 0;
+    }
+
+    /**
+     * 실패한 항목은 시도 횟수가 남아 있으면 다시 대기열로, 아니면 FAILED 로 둔다.
+     */
+    public boolean fail(String id, int attempts, String error) {
+        String status = attempts >= maxAttempts ? QueuedAudit.STATUS_FAILED : QueuedAudit.STATUS_PENDING;
+        return mongoTemplate.updateFirst(
+                ownedLease(id),
+                new Update().set("status", status).set("lastError", error)
+                        .unset("leaseOwner").unset("leaseExpiresAt").set("updatedAt", new Date()),
+                QueuedAudit.class).getModifiedCount() > 0;
+    }
+
+    /**
+     * 리스가 만료되었는데 시도 횟수를 다 쓴 항목은 더 이상 가져갈 노드가 없으므로 FAILED 로 정리
+     */
+    public long failExhaustedLeases() {
+        Date now = new Date();
+        return mongoTemplate.updateMulti(
+                Query.query(Criteria.where("status").is(QueuedAudit.STATUS_LEASED)
+                        .and("leaseExpiresAt").lt(now)
+                        .and("attempts").gte(maxAttempts)),
+                new Update().set("status", QueuedAudit.STATUS_FAILED).set("lastError", "Lease expired")
+                        .unset("leaseOwner").unset("leaseExpiresAt").set("updatedAt", now),
+                QueuedAudit.class).getModifiedCount();
+    }
+
+    /**
+     * 배치에 아직 끝나지 않은 항목 수 (대기 + 리스 중)
+     */
+    public long countOpen(String batchId) {
+        return mongoTemplate.count(Query.query(Criteria.where("batchId").is(batchId)
+                .and("status").in(QueuedAudit.STATUS_PENDING, QueuedAudit.STATUS_LEASED)), QueuedAudit.class);
+    }
+
+    public long countByStatus(String status) {
+        return mongoTemplate.count(Query.query(Criteria.where("status").is(status)), QueuedAudit.class);
+    }
+
+    private Query ownedLease(String id) {
+        return Query.query(Criteria.where("_id").is(id)
+                .and("status").is(QueuedAudit.STATUS_LEASED)
+                .and("leaseOwner").is(nodeIdentity.getId()));
+    }
+}
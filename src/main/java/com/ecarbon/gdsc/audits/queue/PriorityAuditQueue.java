@@ -0,0 +1,301 @@
+package com.ecarbon.gdsc.audits.queue;
+
+import com.ecarbon.gdsc.audits.dto.AuditLaneStats;
+import com.ecarbon.gdsc.audits.politeness.HostPolitenessLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 우선순위 레인별 측정 대기열
+ * - 각 레인은 실행 슬롯의 일정 비율(share)을 예약받는다. 낮은 레인은 높은 레인의 예약분 중 비어 있는 슬롯을 쓰지 않는다.
+ * - 예약분을 넘는 슬롯은 우선순위 순서로 나눠준다.
+ * - 레인 맨 앞 작업이 max-wait 이상 기다렸으면 우선순위와 관계없이 먼저 꺼내서 배치가 굶지 않게 한다.
+ * - REAUDIT/BATCH 레인은 도메인별 간격 제한(HostPolitenessLimiter)에 걸린 작업을 건너뛰고
+ *   다른 도메인의 작업을 먼저 꺼낸다. 사용자 측정(INTERACTIVE)은 제한 없이 바로 실행한다.
+ */
+@Component
+public class PriorityAuditQueue {
+
+    // 간격 제한으로 꺼낼 작업이 없을 때 다시 확인하는 주기
+    private static final long THROTTLE_RECHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private final HostPolitenessLimiter politenessLimiter;
+    private final Map<AuditPriority, Integer> shares = new EnumMap<>(AuditPriority.class);
+    private final Duration maxWait;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private final Map<AuditPriority, Lane> lanes = new EnumMap<>(AuditPriority.class);
+
+    public PriorityAuditQueue(
+            HostPolitenessLimiter politenessLimiter,
+            @Value("${audit.priority.share.interactive:50}") int interactiveShare,
+            @Value("${audit.priority.share.reaudit:25}") int reauditShare,
+            @Value("${audit.priority.share.batch:25}") int batchShare,
+            @Value("${audit.priority.max-wait-seconds:900}") long maxWaitSeconds) {
+        this.politenessLimiter = politenessLimiter;
+        shares.put(AuditPriority.INTERACTIVE, Math.max(0, interactiveShare));
+        shares.put(AuditPriority.REAUDIT, Math.max(0, reauditShare));
+        shares.put(AuditPriority.BATCH, Math.max(0, batchShare));
+        this.maxWait = Duration.ofSeconds(maxWaitSeconds);
+
+        for (AuditPriority priority : AuditPriority.values()) {
+            lanes.put(priority, new Lane());
+        }
+    }
+
+    public void add(AuditTask task) {
+        lock.lock();
+        try {
+            task.markQueued();
+            lanes.get(task.getPriority()).pending.addLast(task);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행할 작업을 하나 꺼낸다. 지금 실행 가능한 작업이 없으면 timeout 까지 기다린 뒤 null
+     *
+     * @param slotLimit 현재 동시 실행 한도 (레인별 예약 슬롯 계산에 사용)
+     */
+    public AuditTask poll(long timeout, TimeUnit unit, int slotLimit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                AuditTask task = select(slotLimit);
+                if (task != null) {
+                    return task;
+                }
+                if (remaining <= 0) {
+                    return null;
+                }
+                // 간격 제한은 시간이 지나면 풀리므로 신호가 없어도 주기적으로 다시 확인
+                long wait = Math.min(remaining, THROTTLE_RECHECK_NANOS);
+                remaining -= wait - changed.awaitNanos(wait);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 꺼낸 작업의 실행이 끝났음을 알린다 (레인 실행 수 감소)
+     */
+    public void done(AuditTask task) {
+        lock.lock();
+        try {
+            Lane lane = lanes.get(task.getPriority());
+            lane.running = Math.max(0, lane.running - 1);
+            politenessLimiter.onFinish(task.getUrl());
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 작업을 더 높은 레인으로 옮긴다 (사용자가 같은 URL 을 요청한 경우)
+     */
+    public void promote(AuditTask task, AuditPriority priority) {
+        lock.lock();
+        try {
+            if (!priority.isHigherThan(task.getPriority())) {
+                return;
+            }
+            if (lanes.get(task.getPriority()).pending.remove(task)) {
+                task.setPriority(priority);
+                lanes.get(priority).pending.addLast(task);
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int drainTo(Collection<AuditTask> target) {
+        lock.lock();
+        try {
+            int count = 0;
+            for (Lane lane : lanes.values()) {
+                count += lane.pending.size();
+                target.addAll(lane.pending);
+                lane.pending.clear();
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return lanes.values().stream().mapToInt(lane -> lane.pending.size()).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<AuditLaneStats> getStats(int slotLimit) {
+        lock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<AuditLaneStats> stats = new ArrayList<>();
+            for (AuditPriority priority : AuditPriority.values()) {
+                Lane lane = lanes.get(priority);
+                AuditTask head = lane.pending.peekFirst();
+                stats.add(AuditLaneStats.builder()
+                        .lane(priority.name())
+                        .share(shares.get(priority))
+                        .reservedSlots(reservedSlots(priority, slotLimit))
+                        .depth(lane.pending.size())
+                        .running(lane.running)
+                        .dispatched(lane.dispatched)
+                        .oldestWaitMs(head != null ? Duration.between(head.getQueuedAt(), now).toMillis() : 0)
+                        .avgWaitMs(lane.dispatched > 0 ? lane.totalWaitMs / lane.dispatched : 0)
+                        .maxWaitMs(lane.maxWaitMs)
+                        .starvationPromotions(lane.agedDispatches)
+                        .build());
+            }
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 을 잡은 상태에서 호출
+    private AuditTask select(int slotLimit) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 너무 오래 기다린 작업 (가장 오래 기다린 레인부터)
+        AuditPriority aged = null;
+        Duration agedWait = maxWait;
+        for (AuditPriority priority : AuditPriority.values()) {
+            AuditTask head = lanes.get(priority).pending.peekFirst();
+            if (head != null) {
+                Duration wait = Duration.between(head.getQueuedAt(), now);
+                if (wait.compareTo(agedWait) >= 0) {
+                    aged = priority;
+                    agedWait = wait;
+                }
+            }
+        }
+        if (aged != null) {
+            AuditTask task = pick(aged);
+            if (task != null) {
+                lanes.get(aged).agedDispatches++;
+                return dispatch(aged, task, now);
+            }
+        }
+
+        // 2. 우선순위 순서로, 예약분 안이거나 높은 레인의 빈 예약분을 침범하지 않는 레인
+        int totalRunning = lanes.values().stream().mapToInt(lane -> lane.running).sum();
+        int free = slotLimit - totalRunning;
+        int heldForHigher = 0;
+
+        for (AuditPriority priority : AuditPriority.values()) {
+            Lane lane = lanes.get(priority);
+            int reserved = reservedSlots(priority, slotLimit);
+
+            if (!lane.pending.isEmpty() && (lane.running < reserved || free - 1 >= heldForHigher)) {
+                AuditTask task = pick(priority);
+                if (task != null) {
+                    return dispatch(priority, task, now);
+                }
+            }
+            heldForHigher += Math.max(0, reserved - lane.running);
+        }
+        return null;
+    }
+
+    /**
+     * 레인에서 지금 실행할 수 있는 첫 작업. 간격 제한에 걸린 도메인은 한 번만 확인하고 건너뛴다.
+     */
+    private AuditTask pick(AuditPriority priority) {
+        Lane lane = lanes.get(priority);
+        if (priority == AuditPriority.INTERACTIVE) {
+            return lane.pending.peekFirst();
+        }
+
+        Set<String> throttled = new HashSet<>();
+        for (AuditTask task : lane.pending) {
+            String domain = task.getDomain();
+            if (domain != null && throttled.contains(domain)) {
+                continue;
+            }
+            if (politenessLimiter.isReady(task.getUrl())) {
+                return task;
+            }
+            if (domain != null) {
+                throttled.add(domain);
+            }
+        }
+        return null;
+    }
+
+    private AuditTask dispatch(AuditPriority priority, AuditTask task, LocalDateTime now) {
+        Lane lane = lanes.get(priority);
+        removeFrom(lane, task);
+        politenessLimiter.onStart(task.getUrl());
+        long waitMs = Duration.between(task.getQueuedAt(), now).toMillis();
+
+        lane.running++;
+        lane.dispatched++;
+        lane.totalWaitMs += waitMs;
+        lane.maxWaitMs = Math.max(lane.maxWaitMs, waitMs);
+        return task;
+    }
+
+    /**
+     * 레인 예약 슬롯 = 한도 * share / 전체 share (내림). 가장 높은 레인은 한도가 2 이상이면 최소 1
+     */
+    private int reservedSlots(AuditPriority priority, int slotLimit) {
+        int totalShare = shares.values().stream().mapToInt(Integer::intValue).sum();
+        if (totalShare == 0) {
+            return 0;
+        }
+        int reserved = slotLimit * shares.get(priority) / totalShare;
+        if (priority == AuditPriority.INTERACTIVE && shares.get(priority) > 0 && slotLimit > 1) {
+            reserved = Math.max(1, reserved);
+        }
+        return reserved;
+    }
+
+    private static void removeFrom(Lane lane, AuditTask task) {
+        Iterator<AuditTask> iterator = lane.pending.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == task) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    private static class Lane {
+        private final ArrayDeque<AuditTask> pending = new ArrayDeque<>();
+        private int running;
+        private long dispatched;
+        private long totalWaitMs;
+        private long maxWaitMs;
+        private long agedDispatches;
+    }
+}
@@ -0,0 +1,44 @@
+package com.ecarbon.gdsc.audits.queue;
+
+import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * 노드 간에 공유하는 측정 큐(audit_queue)의 항목
+ * 노드가 리스를 잡고 측정하며, 리스가 만료되면 다른 노드가 다시 가져갈 수 있다.
+ */
+@Document(collection = "audit_queue")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueuedAudit {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_LEASED = "LEASED";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    private String id;              // batchId + ":" + 정규화된 URL (같은 배치에 중복 등록 방지)
+    private String batchId;
+    private String url;
+    private String canonicalUrl;
+    private PlaceInfo placeInfo;
+    private AuditMode mode;
+    private AuditProfile profile;
+
+    private String status;
+    private String leaseOwner;
+    private Date leaseExpiresAt;
+    private int attempts;
+    private String lastError;
+
+    private Date enqueuedAt;
+    private Date updatedAt;
+}
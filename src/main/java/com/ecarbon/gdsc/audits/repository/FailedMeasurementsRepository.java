@@ -2,10 +2,16 @@ package com.ecarbon.gdsc.audits.repository;
 
 import com.ecarbon.gdsc.audits.entity.FailedUserMeasurements;
 import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
 import com.google.firebase.cloud.FirestoreClient;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
 @Repository
 @Slf4j
 public class FailedMeasurementsRepository {
@@ -20,10 +26,51 @@ public class FailedMeasurementsRepository {
     public void save(FailedUserMeasurements failed) {
         try {
             Firestore db = FirestoreClient.getFirestore();
-            db.collection(COLLECTION_NAME).add(failed);
+            db.collection(COLLECTION_NAME).add(failed).get();
             log.info("[🔥 FIREBASE] 💾 Failed measurement saved for URL: {}", failed.getUrl());
         } catch (Exception e) {
             log.error("[🔥 FIREBASE] ❌ Failed to save failed measurement for URL: {}", failed.getUrl(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 실패한 측정 데이터 조회 (enqueuedAt 기준 오래된 순)
+     * enqueuedAt 이 없는 예전 문서는 정렬 조건에 걸려 조회되지 않는다.
+     * Firestore 인덱스 필요: 유형을 지정하면 (failureType ASC, enqueuedAt ASC)
+     *
+     * @param failureType null 이면 전체, 아니면 TRANSIENT / PERMANENT 중 해당 유형만
+     * @param limit 최대 조회 개수
+     */
+    public List<FailedUserMeasurements> findAll(String failureType, int limit)
+            throws ExecutionException, InterruptedException {
+
+        Firestore db = FirestoreClient.getFirestore();
+
+        Query query = db.collection(COLLECTION_NAME);
+        if (failureType != null) {
+            query = query.whereEqualTo("failureType", failureType);
+        }
+
+        List<QueryDocumentSnapshot> docs = query
+                .orderBy("enqueuedAt", Query.Direction.ASCENDING)
+                .limit(limit)
+                .get().get().getDocuments();
+
+        return docs.stream()
+                .map(doc -> {
+                    FailedUserMeasurements failed = doc.toObject(FailedUserMeasurements.class);
+                    failed.setId(doc.getId());
+                    return failed;
+                })
+                .collect(Collectors.toList());
+    }
+
+    public void delete(String id) {
+        try {
+            Firestore db = FirestoreClient.getFirestore();
+            db.collection(COLLECTION_NAME).document(id).delete().get();
+        } catch (Exception e) {
+            log.error("[🔥 FIREBASE] ❌ Failed to delete failed measurement: {}", id, e);
+        }
+    }
+}
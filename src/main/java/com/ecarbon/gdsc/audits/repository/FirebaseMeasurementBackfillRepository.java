@@ -0,0 +1,87 @@
+package com.ecarbon.gdsc.audits.repository;
+
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.WriteBatch;
+import com.google.firebase.cloud.FirestoreClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 보관된 리포트로 다시 추출한 값을 기존 측정 문서에 덮어쓰기 위한 조회/일괄 갱신
+ * 두 컬렉션(user_measurements, weekly_measurements)에서 같은 측정(url, measuredAt)에서 나온 문서를 찾는다.
+ */
+@Repository
+@Slf4j
+public class FirebaseMeasurementBackfillRepository {
+
+    public static final String USER_COLLECTION = "user_measurements";
+    public static final String WEEKLY_COLLECTION = "weekly_measurements";
+
+    // Firestore WriteBatch 한 번에 넣을 수 있는 최대 쓰기 수
+    public static final int MAX_BATCH_WRITES = 500;
+
+    /**
+     * 한 측정에서 나온 문서들. 이어 쓴(carriedForward) 주간 문서도 sourceMeasuredAt 으로 찾는다.
+     * 같은 필드 두 개의 등호 조건이라 복합 인덱스는 필요 없다.
+     */
+    public List<DocumentReference> findDocuments(String url, String measuredAt)
+            throws ExecutionException, InterruptedException {
+
+        Firestore db = FirestoreClient.getFirestore();
+        Map<String, DocumentReference> found = new LinkedHashMap<>();
+
+        collect(found, db.collection(USER_COLLECTION)
+                .whereEqualTo("url", url).whereEqualTo("measuredAt", measuredAt).get().get().getDocuments());
+        collect(found, db.collection(WEEKLY_COLLECTION)
+                .whereEqualTo("url", url).whereEqualTo("measuredAt", measuredAt).get().get().getDocuments());
+        collect(found, db.collection(WEEKLY_COLLECTION)
+                .whereEqualTo("url", url).whereEqualTo("sourceMeasuredAt", measuredAt).get().get().getDocuments());
+
+        return new ArrayList<>(found.values());
+    }
+
+    /**
+     * 문서별 필드 갱신을 WriteBatch 로 묶어서 커밋. 한 배치는 MAX_BATCH_WRITES 를 넘지 않는다.
+     *
+     * @return 커밋한 WriteBatch 수
+     */
+    public int updateAll(Map<DocumentReference, Map<String, Object>> updates)
+            throws ExecutionException, InterruptedException {
+
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        Firestore db = FirestoreClient.getFirestore();
+        WriteBatch batch = db.batch();
+        int pending = 0;
+        int commits = 0;
+
+        for (Map.Entry<DocumentReference, Map<String, Object>> entry : updates.entrySet()) {
+            batch.update(entry.getKey(), entry.getValue());
+            if (++pending == MAX_BATCH_WRITES) {
+                batch.commit().get();
+                commits++;
+                batch = db.batch();
+                pending = 0;
+            }
+        }
+        if (pending > 0) {
+            batch.commit().get();
+            commits++;
+        }
+        log.info("[🔥 FIREBASE] 💾 Backfilled {} measurement documents in {} batches", updates.size(), commits);
+        return commits;
+    }
+
+    private static void collect(Map<String, DocumentReference> found, List<QueryDocumentSnapshot> documents) {
+        documents.forEach(document -> found.putIfAbsent(document.getReference().getPath(), document.getReference()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.ecarbon.gdsc.audits.repository;
+
+import com.ecarbon.gdsc.audits.entity.SiteMeasurements;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.google.firebase.cloud.FirestoreClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+@Slf4j
+@Repository
+public class FirebaseSiteMeasurementsRepository {
+
+    private static final String COLLECTION_NAME = "site_measurements";
+
+    /**
+     * 사이트 측정 결과를 Firestore에 저장
+     *
+     * @param measurements 사이트 측정 결과
+     * @return 문서 ID
+     */
+    public String save(SiteMeasurements measurements) {
+        try {
+            Firestore db = FirestoreClient.getFirestore();
+            String docId = db.collection(COLLECTION_NAME).add(measurements).get().getId();
+            log.info("[🔥 FIREBASE] 💾 Saved site measurement with ID: {}", docId);
+            return docId;
+        } catch (Exception e) {
+            log.error("[🔥 FIREBASE] ❌ Failed to save site measurement: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to save site measurement", e);
+        }
+    }
+
+    /**
+     * 특정 시작 url의 사이트 측정 결과 (최신순)
+     * Firestore 인덱스 필요: (rootUrl ASC, measuredAt DESC)
+     */
+    public List<SiteMeasurements> findByRootUrl(String rootUrl, int limit)
+            throws ExecutionException, InterruptedException {
+
+        Firestore db = FirestoreClient.getFirestore();
+        return db.collection(COLLECTION_NAME)
+                .whereEqualTo("rootUrl", rootUrl)
+                .orderBy("measuredAt", Query.Direction.DESCENDING)
+                .limit(limit)
+                .get().get().getDocuments().stream()
+                .map(doc -> doc.toObject(SiteMeasurements.class))
+                .toList();
+    }
+}
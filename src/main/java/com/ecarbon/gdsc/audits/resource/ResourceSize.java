@@ -0,0 +1,36 @@
+package com.ecarbon.gdsc.audits.resource;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * 여러 사이트가 함께 쓰는 외부 리소스(CDN 스크립트, 웹폰트, 분석 태그 등)의 크기
+ * 정규화된 URL 하나당 문서 하나이며, Lighthouse 측정에서 본 마지막 크기를 기록한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "resource_sizes")
+public class ResourceSize {
+
+    @Id
+    private String id;              // 정규화된 리소스 URL
+    private String url;
+    private String domain;          // 리소스의 등록 도메인
+    private String resourceType;
+    private String mimeType;
+
+    private long transferSize;
+    private long resourceSize;
+
+    private Set<String> sites;      // 이 리소스를 불러온 사이트의 등록 도메인
+    private long seenCount;
+    private Date firstSeen;
+    private Date lastSeen;
+}
@@ -0,0 +1,163 @@
+package com.ecarbon.gdsc.audits.resource;
+
+import com.ecarbon.gdsc.audits.dto.SharedResourceCost;
+import com.ecarbon.gdsc.audits.util.RegistrableDomain;
+import com.ecarbon.gdsc.audits.util.UrlCanonicalizer;
+import com.ecarbon.gdsc.carbon.dto.Lighthouse.NetworkRequest;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사이트 간에 공유되는 외부 리소스 크기 색인 (resource_sizes)
+ * Lighthouse 측정이 끝날 때마다 페이지의 외부 도메인 리소스 크기를 정규화된 URL 기준으로 한 번에 upsert 하고,
+ * 빠른 측정은 최근에 본 크기가 있으면 다시 받지 않고 그 값을 쓴다.
+ * 리소스가 몇 개 사이트에서 쓰이는지도 함께 남겨서 측정 전체를 훑지 않고 공유 리소스 비용을 구할 수 있다.
+ */
+@Slf4j
+@Component
+public class ResourceSizeIndex {
+
+    private final MongoTemplate mongoTemplate;
+    private final ResourceSizeRepository resourceSizeRepository;
+
+    @Getter
+    private final boolean enabled;
+    private final Duration maxAge;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong lookupCount = new AtomicLong();
+
+    public ResourceSizeIndex(
+            MongoTemplate mongoTemplate,
+            ResourceSizeRepository resourceSizeRepository,
+            @Value("${audit.resource-index.enabled:true}") boolean enabled,
+            @Value("${audit.resource-index.max-age-days:7}") long maxAgeDays) {
+        this.mongoTemplate = mongoTemplate;
+        this.resourceSizeRepository = resourceSizeRepository;
+        this.enabled = enabled;
+        this.maxAge = Duration.ofDays(maxAgeDays);
+    }
+
+    /**
+     * 측정한 페이지의 외부 리소스 크기를 기록한다. 실패해도 측정 결과에는 영향을 주지 않는다.
+     */
+    public void record(String pageUrl, List<NetworkRequest> requests) {
+        if (!enabled || requests == null || requests.isEmpty()) {
+            return;
+        }
+        String site = RegistrableDomain.of(pageUrl);
+        if (site == null) {
+            return;
+        }
+
+        // 같은 페이지 안의 중복 요청은 하나로
+        Map<String, NetworkRequest> thirdParty = new LinkedHashMap<>();
+        for (NetworkRequest request : requests) {
+            if (request.getTransferSize() > 0 && isThirdParty(site, request.getUrl())) {
+                thirdParty.putIfAbsent(UrlCanonicalizer.canonicalize(request.getUrl()), request);
+            }
+        }
+        if (thirdParty.isEmpty()) {
+            return;
+        }
+
+        try {
+            Date now = new Date();
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ResourceSize.class);
+            thirdParty.forEach((key, request) -> bulk.upsert(
+                    Query.query(Criteria.where("_id").is(key)),
+                    new Update()
+                            .set("url", request.getUrl())
+                            .set("domain", RegistrableDomain.of(request.getUrl()))
+                            .set("resourceType", request.getResourceType())
+                            .set("mimeType", request.getMimeType())
+                            .set("transferSize", request.getTransferSize())
+                            .set("resourceSize", request.getResourceSize())
+                            .set("lastSeen", now)
+                            .setOnInsert("firstSeen", now)
+                            .addToSet("sites", site)
+                            .inc("seenCount", 1)));
+            bulk.execute();
+            log.debug("[RESOURCES] Indexed {} third-party resources from {}", thirdParty.size(), pageUrl);
+        } catch (Exception e) {
+            log.warn("[RESOURCES] ⚠️ Failed to index resources from {}: {}", pageUrl, e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 max-age-days 안에 본 리소스 크기 (원래 URL -> 크기). 조회에 실패하면 빈 결과
+     */
+    public Map<String, ResourceSize> findFresh(Collection<String> urls) {
+        if (!enabled || urls.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> urlByKey = new HashMap<>();
+        urls.forEach(url -> urlByKey.putIfAbsent(UrlCanonicalizer.canonicalize(url), url));
+
+        try {
+            Date freshAfter = new Date(System.currentTimeMillis() - maxAge.toMillis());
+            Map<String, ResourceSize> found = new HashMap<>();
+            resourceSizeRepository.findByIdInAndLastSeenAfter(urlByKey.keySet(), freshAfter)
+                    .forEach(size -> found.put(urlByKey.get(size.getId()), size));
+
+            lookupCount.addAndGet(urlByKey.size());
+            hitCount.addAndGet(found.size());
+            return found;
+        } catch (Exception e) {
+            log.warn("[RESOURCES] ⚠️ Resource size lookup failed: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    public List<SharedResourceCost> findMostShared(int limit) {
+        return resourceSizeRepository.findMostShared(limit).stream()
+                .map(size -> {
+                    int siteCount = size.getSites() != null ? size.getSites().size() : 0;
+                    return SharedResourceCost.builder()
+                            .url(size.getUrl())
+                            .resourceType(size.getResourceType())
+                            .transferSize(size.getTransferSize())
+                            .siteCount(siteCount)
+                            .totalTransferBytes(size.getTransferSize() * siteCount)
+                            .lastSeen(size.getLastSeen() != null
+                                    ? size.getLastSeen().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime().toString()
+                                    : null)
+                            .build();
+                })
+                .toList();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getLookupCount() {
+        return lookupCount.get();
+    }
+
+    /**
+     * 페이지와 다른 등록 도메인에서 온 리소스인지
+     */
+    public static boolean isThirdParty(String siteDomain, String resourceUrl) {
+        String domain = RegistrableDomain.of(resourceUrl);
+        return domain != null && siteDomain != null && !Objects.equals(siteDomain, domain);
+    }
+}
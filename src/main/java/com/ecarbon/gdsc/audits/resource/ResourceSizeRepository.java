@@ -0,0 +1,25 @@
+package com.ecarbon.gdsc.audits.resource;
+
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface ResourceSizeRepository extends MongoRepository<ResourceSize, String> {
+
+    List<ResourceSize> findByIdInAndLastSeenAfter(Collection<String> ids, Date lastSeenAfter);
+
+    /**
+     * 전체 사이트 합계 전송량(크기 * 사용하는 사이트 수)이 큰 순서
+     */
+    @Aggregation(pipeline = {
+            "{ $addFields: { 'totalTransferBytes': { $multiply: [ '$transferSize', { $size: { $ifNull: [ '$sites', [] ] } } ] } } }",
+            "{ $sort: { 'totalTransferBytes': -1 } }",
+            "{ $limit: ?0 }"
+    })
+    List<ResourceSize> findMostShared(int limit);
+}
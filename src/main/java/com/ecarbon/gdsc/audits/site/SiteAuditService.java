@@ -0,0 +1,294 @@
+package com.ecarbon.gdsc.audits.site;
+
+import com.ecarbon.gdsc.audits.MainRunner;
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.entity.SiteMeasurements;
+import com.ecarbon.gdsc.audits.fast.HtmlResourceExtractor;
+import com.ecarbon.gdsc.audits.politeness.HostPolitenessLimiter;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditPriority;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.queue.AuditSink;
+import com.ecarbon.gdsc.audits.repository.FirebaseSiteMeasurementsRepository;
+import com.ecarbon.gdsc.audits.util.BoundedBodyHandlers;
+import com.ecarbon.gdsc.audits.util.ContentDecoder;
+import com.ecarbon.gdsc.audits.util.DateCalculator;
+import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시작 페이지에서 내부 링크를 따라가며 여러 페이지를 측정하고 사이트 단위로 합친다.
+ * 찾은 페이지는 SiteCrawlFrontier 가 중복 없이 깊이/페이지 수 한도 안에서만 받는다.
+ * 각 페이지는 워커 풀의 BATCH 레인으로 측정하므로 도메인별 간격 제한과 동시 실행 한도를 다른 배치 측정과 함께 쓴다.
+ * 링크는 페이지 HTML 의 a 태그와 Lighthouse 가 요청한 Document 리소스(iframe 등)에서 찾는다.
+ * Lighthouse 리포트에는 HTML 본문이 없어서 HTML 은 다시 받는데, 이 요청도 HostPolitenessLimiter 의 간격/동시 실행 제한을 따른다.
+ */
+@Slf4j
+@Service
+public class SiteAuditService {
+
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(15);
+    // 링크를 찾을 HTML 본문 상한 (압축 해제 후 기준도 같음). 넘는 부분의 링크는 보지 않는다
+    private static final long MAX_HTML_BYTES = 5L * 1024 * 1024;
+    private static final Duration MAX_HOST_WAIT = Duration.ofMinutes(5);
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0 Safari/537.36 eCarbon-SiteAudit";
+
+    private final MainRunner mainRunner;
+    private final FirebaseSiteMeasurementsRepository siteMeasurementsRepository;
+    private final HostPolitenessLimiter politenessLimiter;
+    private final HttpClient httpClient;
+
+    @Getter
+    private final boolean enabled;
+    @Getter
+    private final int maxPages;
+    @Getter
+    private final int maxDepth;
+    private final AuditProfile profile;
+
+    private final AtomicInteger runningSites = new AtomicInteger();
+    private final AtomicLong completedSites = new AtomicLong();
+
+    public SiteAuditService(
+            MainRunner mainRunner,
+            FirebaseSiteMeasurementsRepository siteMeasurementsRepository,
+            HostPolitenessLimiter politenessLimiter,
+            @Value("${audit.site.enabled:false}") boolean enabled,
+            @Value("${audit.site.max-pages:10}") int maxPages,
+            @Value("${audit.site.max-depth:1}") int maxDepth,
+            @Value("${audit.site.profile:CARBON_MINIMAL}") AuditProfile profile) {
+        this.mainRunner = mainRunner;
+        this.siteMeasurementsRepository = siteMeasurementsRepository;
+        this.politenessLimiter = politenessLimiter;
+        this.enabled = enabled;
+        this.maxPages = maxPages;
+        this.maxDepth = maxDepth;
+        this.profile = profile;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    public CompletableFuture<SiteMeasurements> auditSite(String rootUrl, PlaceInfo placeInfo) {
+        return auditSite(rootUrl, placeInfo, null);
+    }
+
+    /**
+     * @param rootMeasurement 시작 페이지를 이미 측정했으면 그 결과 (다시 측정하지 않는다), 없으면 null
+     */
+    public CompletableFuture<SiteMeasurements> auditSite(String rootUrl, PlaceInfo placeInfo, Measurements rootMeasurement) {
+        SiteCrawl crawl = new SiteCrawl(rootUrl, placeInfo);
+        runningSites.incrementAndGet();
+        log.info("[SITE] 🕸️ Starting site audit for {} (max {} pages, depth {})", rootUrl, maxPages, maxDepth);
+
+        Optional<SiteCrawlFrontier.Page> root = crawl.frontier.poll();
+        if (root.isEmpty()) {
+            crawl.done.completeExceptionally(new IllegalArgumentException("Invalid site URL: " + rootUrl));
+        } else if (rootMeasurement != null) {
+            crawl.pending.incrementAndGet();
+            crawl.onPageDone(root.get(), rootMeasurement, null);
+        } else {
+            crawl.submit(root.get());
+            crawl.dispatch();
+        }
+
+        return crawl.done.whenComplete((result, error) -> {
+            runningSites.decrementAndGet();
+            if (error == null) {
+                completedSites.incrementAndGet();
+            }
+        });
+    }
+
+    public int getRunningSiteCount() {
+        return runningSites.get();
+    }
+
+    public long getCompletedSiteCount() {
+        return completedSites.get();
+    }
+
+    private CompletableFuture<Set<String>> discoverLinks(String pageUrl, Measurements measurements) {
+        Set<String> links = new LinkedHashSet<>();
+        if (measurements.getNetworkRequests() != null) {
+            measurements.getNetworkRequests().stream()
+                    .filter(request -> "Document".equals(request.getResourceType()))
+                    .forEach(request -> links.add(request.getUrl()));
+        }
+
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(pageUrl))
+                    .timeout(FETCH_TIMEOUT)
+                    .header("User-Agent", USER_AGENT)
+                    .header("Accept", "text/html")
+                    .header("Accept-Encoding", "gzip, deflate")
+                    .GET()
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(links);
+        }
+
+        return politenessLimiter.awaitStart(pageUrl, MAX_HOST_WAIT).thenCompose(started -> {
+            if (!started) {
+                log.warn("[SITE] ⚠️ Host of {} stayed busy for {} min, using links from the report only",
+                        pageUrl, MAX_HOST_WAIT.toMinutes());
+                return CompletableFuture.completedFuture(links);
+            }
+            return fetchLinks(request, pageUrl, links)
+                    .whenComplete((result, error) -> politenessLimiter.onFinish(pageUrl));
+        });
+    }
+
+    private CompletableFuture<Set<String>> fetchLinks(HttpRequest request, String pageUrl, Set<String> links) {
+        return httpClient.sendAsync(request, BoundedBodyHandlers.ofByteArray(MAX_HTML_BYTES, FETCH_TIMEOUT))
+                .thenApply(response -> {
+                    String contentType = response.headers().firstValue("Content-Type").orElse("");
+                    if (response.statusCode() == 200 && contentType.contains("html")) {
+                        byte[] body = ContentDecoder.decode(response.body(),
+                                response.headers().firstValue("Content-Encoding").orElse(""), MAX_HTML_BYTES);
+                        links.addAll(HtmlResourceExtractor.extractLinks(
+                                new String(body, StandardCharsets.UTF_8), response.uri().toString()));
+                    }
+                    return links;
+                })
+                .exceptionally(e -> {
+                    log.warn("[SITE] ⚠️ Failed to fetch links from {}: {}", pageUrl, e.getMessage());
+                    return links;
+                });
+    }
+
+    /**
+     * 사이트 하나의 측정 진행 상태
+     * pending 은 측정 중이거나 링크를 찾는 중인 페이지 수로, 0 이 되고 frontier 가 비면 사이트 측정이 끝난다.
+     */
+    private class SiteCrawl {
+        private final String rootUrl;
+        private final PlaceInfo placeInfo;
+        private final SiteCrawlFrontier frontier;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final List<SiteMeasurements.Page> pages = new ArrayList<>();
+        private final CompletableFuture<SiteMeasurements> done = new CompletableFuture<>();
+
+        private SiteCrawl(String rootUrl, PlaceInfo placeInfo) {
+            this.rootUrl = rootUrl;
+            this.placeInfo = placeInfo;
+            this.frontier = new SiteCrawlFrontier(rootUrl, maxPages, maxDepth);
+        }
+
+        private void dispatch() {
+            Optional<SiteCrawlFrontier.Page> page;
+            while ((page = frontier.poll()).isPresent()) {
+                submit(page.get());
+            }
+        }
+
+        private void submit(SiteCrawlFrontier.Page page) {
+            pending.incrementAndGet();
+            // SITE 로 등록해서 페이지별 결과가 user/weekly_measurements 에 저장되지 않게 한다
+            mainRunner.submit(page.url(), null, AuditPriority.BATCH, AuditMode.LIGHTHOUSE, profile, AuditSink.SITE).getResult()
+                    .whenComplete((measurements, error) -> onPageDone(page, measurements, error));
+        }
+
+        private void onPageDone(SiteCrawlFrontier.Page page, Measurements measurements, Throwable error) {
+            synchronized (pages) {
+                pages.add(error == null
+                        ? SiteMeasurements.Page.builder()
+                                .url(page.url())
+                                .depth(page.depth())
+                                .kbWeight(measurements.getKbWeight())
+                                .carbonEmission(measurements.getCarbonEmission())
+                                .build()
+                        : SiteMeasurements.Page.builder()
+                                .url(page.url())
+                                .depth(page.depth())
+                                .failed(true)
+                                .errorMessage(error.getMessage())
+                                .build());
+            }
+
+            if (error != null || page.depth() >= frontier.getMaxDepth()) {
+                finishOne();
+                return;
+            }
+
+            discoverLinks(page.url(), measurements).whenComplete((links, linkError) -> {
+                try {
+                    if (links != null) {
+                        links.forEach(link -> frontier.offer(link, page.depth() + 1));
+                    }
+                    dispatch();
+                } finally {
+                    finishOne();
+                }
+            });
+        }
+
+        private void finishOne() {
+            if (pending.decrementAndGet() == 0 && frontier.isEmpty() && !done.isDone()) {
+                try {
+                    SiteMeasurements result = rollUp();
+                    siteMeasurementsRepository.save(result);
+                    log.info("[SITE] ✅ Site audit finished for {}: {} pages, {} failed, {} g CO2e per page",
+                            rootUrl, result.getPageCount(), result.getFailedPageCount(), result.getCarbonEmission());
+                    done.complete(result);
+                } catch (Exception e) {
+                    log.error("[SITE] ❌ Failed to save site audit for {}", rootUrl, e);
+                    done.completeExceptionally(e);
+                }
+            }
+        }
+
+        private SiteMeasurements rollUp() {
+            List<SiteMeasurements.Page> sorted;
+            synchronized (pages) {
+                sorted = new ArrayList<>(pages);
+            }
+            sorted.sort(Comparator.comparingInt(SiteMeasurements.Page::getDepth).thenComparing(SiteMeasurements.Page::getUrl));
+
+            List<SiteMeasurements.Page> measured = sorted.stream().filter(page -> !page.isFailed()).toList();
+            double totalKbWeight = measured.stream().mapToDouble(SiteMeasurements.Page::getKbWeight).sum();
+            double totalEmission = measured.stream().mapToDouble(SiteMeasurements.Page::getCarbonEmission).sum();
+            int count = measured.size();
+
+            LocalDateTime now = LocalDateTime.now();
+            return SiteMeasurements.builder()
+                    .rootUrl(rootUrl)
+                    .placeInfo(placeInfo)
+                    .auditProfile(profile.getId())
+                    .measuredAt(now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                    .weekStartDate(DateCalculator.getMondayAsString(now))
+                    .pageCount(count)
+                    .failedPageCount(sorted.size() - count)
+                    .maxDepth(frontier.getMaxDepth())
+                    .totalKbWeight(totalKbWeight)
+                    .averageKbWeight(count > 0 ? totalKbWeight / count : 0)
+                    .totalCarbonEmission(totalEmission)
+                    .carbonEmission(count > 0 ? totalEmission / count : 0)
+                    .pages(sorted)
+                    .build();
+        }
+    }
+}
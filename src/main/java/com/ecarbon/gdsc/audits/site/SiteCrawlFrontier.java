@@ -0,0 +1,93 @@
+package com.ecarbon.gdsc.audits.site;
+
+import com.ecarbon.gdsc.audits.util.RegistrableDomain;
+import com.ecarbon.gdsc.audits.util.UrlCanonicalizer;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 사이트 측정에서 방문할 페이지 목록
+ * 시작 URL 과 같은 등록 도메인의 HTML 페이지만 받고, 정규화된 URL 기준으로 한 번만 받는다.
+ * 받은 페이지 수가 maxPages 에 닿거나 깊이가 maxDepth 를 넘으면 더 받지 않는다. 먼저 받은 페이지를 먼저 꺼낸다 (너비 우선).
+ */
+public class SiteCrawlFrontier {
+
+    // 측정 대상이 아닌 파일 (문서, 첨부, 미디어)
+    private static final Pattern NON_PAGE = Pattern.compile(
+            ".*\\.(pdf|hwp|hwpx|docx?|xlsx?|pptx?|zip|rar|7z|txt|csv|xml|json|rss" +
+                    "|png|jpe?g|gif|webp|avif|svg|ico|bmp|mp4|webm|mp3|wav|css|m?js|woff2?|ttf)$");
+
+    private final String domain;
+    private final int maxPages;
+    private final int maxDepth;
+
+    private final Set<String> seen = new HashSet<>();
+    private final ArrayDeque<Page> pending = new ArrayDeque<>();
+
+    public SiteCrawlFrontier(String rootUrl, int maxPages, int maxDepth) {
+        this.domain = RegistrableDomain.of(rootUrl);
+        this.maxPages = Math.max(1, maxPages);
+        this.maxDepth = Math.max(0, maxDepth);
+        offer(rootUrl, 0);
+    }
+
+    /**
+     * @return 새 페이지로 받았으면 true (중복, 다른 사이트, 한도 초과면 false)
+     */
+    public synchronized boolean offer(String url, int depth) {
+        if (url == null || depth > maxDepth || seen.size() >= maxPages || !isSamePageSite(url)) {
+            return false;
+        }
+        if (!seen.add(UrlCanonicalizer.canonicalize(url))) {
+            return false;
+        }
+        pending.addLast(new Page(url, depth));
+        return true;
+    }
+
+    public synchronized Optional<Page> poll() {
+        return Optional.ofNullable(pending.pollFirst());
+    }
+
+    public synchronized boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    /**
+     * 지금까지 받은 페이지 수 (꺼낸 페이지 포함)
+     */
+    public synchronized int getAcceptedCount() {
+        return seen.size();
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    private boolean isSamePageSite(String url) {
+        try {
+            URI uri = URI.create(url);
+            String scheme = uri.getScheme();
+            // 스킴이 없는 URL 은 Lighthouse 처럼 https 로 본다
+            if (scheme != null && !"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+                return false;
+            }
+            String path = uri.getPath() == null ? "" : uri.getPath().toLowerCase(Locale.ROOT);
+            if (NON_PAGE.matcher(path).matches()) {
+                return false;
+            }
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return domain != null && domain.equals(RegistrableDomain.of(url));
+    }
+
+    public record Page(String url, int depth) {
+    }
+}
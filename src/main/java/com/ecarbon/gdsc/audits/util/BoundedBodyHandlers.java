@@ -0,0 +1,116 @@
+package com.ecarbon.gdsc.audits.util;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 받는 양과 시간에 한도가 있는 HttpClient BodyHandler
+ * HttpRequest.timeout 은 응답 헤더까지만 적용되므로, 본문은 여기서 제한 시간을 넘기면 전송을 취소한다.
+ * 한도를 넘은 본문은 나머지를 받지 않고 받은 만큼만 돌려준다.
+ */
+public class BoundedBodyHandlers {
+
+    private BoundedBodyHandlers() {
+    }
+
+    /**
+     * 최대 maxBytes 까지만 메모리에 받는다
+     */
+    public static HttpResponse.BodyHandler<byte[]> ofByteArray(long maxBytes, Duration timeout) {
+        return responseInfo -> new BoundedSubscriber(maxBytes, true, timeout).map(BoundedSubscriber::bytes);
+    }
+
+    /**
+     * 본문을 저장하지 않고 받은 바이트 수만 센다
+     */
+    public static HttpResponse.BodyHandler<Long> counting(Duration timeout) {
+        return responseInfo -> new BoundedSubscriber(Long.MAX_VALUE, false, timeout).map(BoundedSubscriber::count);
+    }
+
+    private static class BoundedSubscriber implements HttpResponse.BodySubscriber<BoundedSubscriber> {
+        private final long maxBytes;
+        private final boolean keep;
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final CompletableFuture<BoundedSubscriber> done = new CompletableFuture<>();
+        private volatile Flow.Subscription subscription;
+        private long count;
+
+        private BoundedSubscriber(long maxBytes, boolean keep, Duration timeout) {
+            this.maxBytes = maxBytes;
+            this.keep = keep;
+            // 끝나거나 시간이 지나면 남은 전송을 취소한다
+            done.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .whenComplete((result, error) -> {
+                        Flow.Subscription current = subscription;
+                        if (current != null) {
+                            current.cancel();
+                        }
+                    });
+        }
+
+        <T> HttpResponse.BodySubscriber<T> map(Function<BoundedSubscriber, T> mapper) {
+            return HttpResponse.BodySubscribers.mapping(this, mapper);
+        }
+
+        @Override
+        public CompletionStage<BoundedSubscriber> getBody() {
+            return done;
+        }
+
+        byte[] bytes() {
+            return out.toByteArray();
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (done.isDone()) {
+                subscription.cancel();
+            } else {
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            if (done.isDone()) {
+                return;
+            }
+            for (ByteBuffer buffer : buffers) {
+                int take = (int) Math.min(buffer.remaining(), maxBytes - count);
+                if (keep) {
+                    byte[] chunk = new byte[take];
+                    buffer.get(chunk);
+                    out.write(chunk, 0, take);
+                }
+                count += take;
+                if (count >= maxBytes) {
+                    done.complete(this);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(this);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecarbon.gdsc.audits.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP 응답 본문의 Content-Encoding(gzip, deflate) 해제
+ * 알 수 없는 인코딩이거나 해제에 실패하면 원본을 그대로 돌려준다.
+ */
+public class ContentDecoder {
+
+    private ContentDecoder() {
+    }
+
+    public static byte[] decode(byte[] body, String contentEncoding) {
+        return decode(body, contentEncoding, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 해제한 결과를 최대 maxDecodedBytes 까지만 만든다 (압축 폭탄 방지)
+     */
+    public static byte[] decode(byte[] body, String contentEncoding, long maxDecodedBytes) {
+        String encoding = contentEncoding == null ? "" : contentEncoding.toLowerCase(Locale.ROOT).trim();
+        if (!encoding.equals("gzip") && !encoding.equals("deflate")) {
+            return body;
+        }
+        try (InputStream in = encoding.equals("gzip")
+                ? new GZIPInputStream(new ByteArrayInputStream(body))
+                : new InflaterInputStream(new ByteArrayInputStream(body))) {
+            return in.readNBytes((int) Math.min(maxDecodedBytes, Integer.MAX_VALUE - 8));
+        } catch (IOException e) {
+            return body;
+        }
+    }
+}
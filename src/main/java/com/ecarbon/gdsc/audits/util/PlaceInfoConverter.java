@@ -0,0 +1,35 @@
+package com.ecarbon.gdsc.audits.util;
+
+import com.ecarbon.gdsc.audits.dto.PlaceDetails;
+import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
+import com.ecarbon.gdsc.carbon.enums.PlaceCategory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PlaceInfoConverter {
+
+    public static PlaceInfo toPlaceInfo(PlaceDetails details, PlaceCategory category) {
+        PlaceDetails.Location location = details.getGeometry() != null ? details.getGeometry().getLocation() : null;
+
+        return PlaceInfo.builder()
+                .name(details.getName())
+                .category(category.getValue())
+                .latitude(location != null ? location.getLat() : 0.0)
+                .longitude(location != null ? location.getLng() : 0.0)
+                .address(details.getFormattedAddress())
+                .country(findComponent(details, "country"))
+                .city(findComponent(details, "locality"))
+                .build();
+    }
+
+    private static String findComponent(PlaceDetails details, String type) {
+        if (details.getAddressComponents() == null) {
+            return null;
+        }
+        return details.getAddressComponents().stream()
+                .filter(component -> component.getTypes() != null && component.getTypes().contains(type))
+                .map(PlaceDetails.AddressComponent::getLongName)
+                .findFirst()
+                .orElse(null);
+    }
+}
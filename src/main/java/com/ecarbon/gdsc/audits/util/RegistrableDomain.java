@@ -0,0 +1,64 @@
+package com.ecarbon.gdsc.audits.util;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * URL 에서 등록 가능한 도메인(registrable domain)을 구한다.
+ * 예) "https://cse.snu.ac.kr/about" -> "snu.ac.kr", "https://www.mit.edu" -> "mit.edu"
+ * 전체 public suffix 목록 대신, 국가 도메인 아래 2단계 접미사(ac.kr, co.uk, edu.au ...)만 따로 처리한다.
+ */
+public class RegistrableDomain {
+
+    // 국가 코드 도메인 아래에서 공공 접미사로 쓰이는 2단계 라벨
+    private static final Set<String> SECOND_LEVEL_LABELS = Set.of(
+            "ac", "co", "go", "or", "ne", "re", "pe", "es", "hs", "ms", "sc", "kg",
+            "edu", "gov", "com", "net", "org", "mil", "gob", "nic", "gouv", "govt"
+    );
+
+    private RegistrableDomain() {
+    }
+
+    public static String of(String url) {
+        String host = hostOf(url);
+        if (host == null) {
+            return null;
+        }
+        if (isIpAddress(host)) {
+            return host;
+        }
+
+        String[] labels = host.split("\\.");
+        if (labels.length <= 2) {
+            return host;
+        }
+
+        String tld = labels[labels.length - 1];
+        String second = labels[labels.length - 2];
+        int keep = tld.length() == 2 && SECOND_LEVEL_LABELS.contains(second) ? 3 : 2;
+
+        return String.join(".", Arrays.copyOfRange(labels, Math.max(0, labels.length - keep), labels.length));
+    }
+
+    public static String hostOf(String url) {
+        if (url == null) {
+            return null;
+        }
+        String trimmed = url.trim();
+        if (!trimmed.contains("://")) {
+            trimmed = "https://" + trimmed;
+        }
+        try {
+            String host = URI.create(trimmed).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isIpAddress(String host) {
+        return host.contains(":") || host.matches("\\d+(\\.\\d+){3}");
+    }
+}
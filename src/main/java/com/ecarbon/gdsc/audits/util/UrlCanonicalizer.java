@@ -0,0 +1,61 @@
+package com.ecarbon.gdsc.audits.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Locale;
+
+/**
+ * 같은 페이지를 가리키는 URL 을 하나의 키로 정규화
+ * 예) "HTTPS://Example.ac.kr:443" -> "https://example.ac.kr/"
+ */
+public class UrlCanonicalizer {
+
+    private UrlCanonicalizer() {
+    }
+
+    public static String canonicalize(String url) {
+        if (url == null) {
+            return null;
+        }
+
+        String trimmed = url.trim();
+        if (!trimmed.contains("://")) {
+            trimmed = "https://" + trimmed;
+        }
+
+        try {
+            URI uri = new URI(trimmed);
+            String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : "https";
+            String host = uri.getHost();
+            if (host == null) {
+                return trimmed;
+            }
+            host = host.toLowerCase(Locale.ROOT);
+
+            int port = uri.getPort();
+            boolean defaultPort = port == -1
+                    || ("http".equals(scheme) && port == 80)
+                    || ("https".equals(scheme) && port == 443);
+
+            String path = uri.getRawPath();
+            if (path == null || path.isEmpty()) {
+                path = "/";
+            }
+
+            StringBuilder canonical = new StringBuilder()
+                    .append(scheme).append("://").append(host);
+            if (!defaultPort) {
+                canonical.append(':').append(port);
+            }
+            canonical.append(path);
+            if (uri.getRawQuery() != null) {
+                canonical.append('?').append(uri.getRawQuery());
+            }
+            // fragment 는 같은 문서이므로 제외
+            return canonical.toString();
+
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+    }
+}
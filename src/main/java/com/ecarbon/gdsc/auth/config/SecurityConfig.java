@@ -13,7 +13,9 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -48,6 +50,8 @@ public class SecurityConfig {
                 )
 
                 .authorizeHttpRequests((auth) -> auth
+                        // 측정 파이프라인을 바꾸는 관리자 API 는 관리자만
+                        .requestMatchers("/admin/audits/**").hasRole("ADMIN")
                         .requestMatchers("/",
                                 "/api/Home",
                                 "/api/**",
@@ -76,6 +80,12 @@ public class SecurityConfig {
                 )
 
 
+                // 관리자 API 는 로그인 페이지로 보내지 않고 401 을 돌려준다
+                .exceptionHandling((exceptions) -> exceptions
+                        .defaultAuthenticationEntryPointFor(
+                                new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                                new AntPathRequestMatcher("/admin/audits/**")))
+
                 .oauth2Login((oauth2) -> oauth2
                         .userInfoEndpoint((userInfoEndpoint) -> userInfoEndpoint.userService(customOAuth2UserService))
                         .successHandler(oAuth2LoginSuccessHandler))
@@ -5,6 +5,9 @@ import com.ecarbon.gdsc.auth.principal.CustomOAuth2User;
 import com.ecarbon.gdsc.auth.repository.FirebaseUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -12,7 +15,12 @@ import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,6 +29,10 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final FirebaseUserRepository firebaseUserRepository;
 
+    // 관리자 API(/admin/audits/**) 를 쓸 수 있는 계정
+    @Value("${app.admin.emails:}")
+    private List<String> adminEmails;
+
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         OAuth2User oAuth2User = super.loadUser(userRequest);
@@ -44,7 +56,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
             return new CustomOAuth2User(
                     oAuth2User.getAttributes(),
-                    oAuth2User.getAuthorities(),
+                    authoritiesOf(oAuth2User, email),
                     name,
                     email
             );
@@ -54,4 +66,19 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             throw new OAuth2AuthenticationException(oauth2Error, oauth2Error.toString(), e);
         }
     }
+
+    /**
+     * 관리자 이메일이면 ROLE_ADMIN 을 더한다 (JWT 의 roles 에도 그대로 들어감)
+     */
+    private List<GrantedAuthority> authoritiesOf(OAuth2User oAuth2User, String email) {
+        List<GrantedAuthority> authorities = new ArrayList<>(oAuth2User.getAuthorities());
+        Set<String> admins = adminEmails.stream()
+                .map(admin -> admin.trim().toLowerCase(Locale.ROOT))
+                .filter(admin -> !admin.isEmpty())
+                .collect(Collectors.toSet());
+        if (admins.contains(email.toLowerCase(Locale.ROOT))) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
+        return authorities;
+    }
 }
@@ -1,6 +1,9 @@
 package com.ecarbon.gdsc.carbon.controller;
 
-import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.dto.AuditJobResponse;
+import com.ecarbon.gdsc.audits.job.AuditJob;
+import com.ecarbon.gdsc.audits.job.AuditJobRejectedException;
+import com.ecarbon.gdsc.audits.job.AuditJobService;
 import com.ecarbon.gdsc.auth.entity.User;
 import com.ecarbon.gdsc.auth.principal.CustomOAuth2User;
 import com.ecarbon.gdsc.auth.repository.FirebaseUserRepository;
@@ -19,10 +22,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
-import com.ecarbon.gdsc.audits.lighthouse.LighthouseAuditService;
 
 @RestController
 @RequiredArgsConstructor
@@ -33,7 +36,7 @@ public class HomeController {
     private final HomeService homePageService;
     private final GlobeHomeService globeHomeService;
     private final FirebaseUserRepository firebaseUserRepository;
-    private final LighthouseAuditService lighthouseAuditService;
+    private final AuditJobService auditJobService;
 
     @GetMapping("/api/Home")
     public ResponseEntity<GlobeHomeResponse> getMapMarker(
@@ -56,31 +59,25 @@ public class HomeController {
         }
     }
 
+    /**
+     * 측정 작업만 등록하고 바로 반환 (요청 스레드가 측정이 끝날 때까지 기다리지 않는다)
+     * 결과는 Location 의 /api/audit-jobs/{jobId} 로 조회하고, 완료되면 그 조회가 세션에 결과를 저장한다.
+     */
     @PostMapping("/api/start-measurement")
-    public ResponseEntity<String> startMeasurement(@RequestParam String url, HttpSession session) {
+    public ResponseEntity<AuditJobResponse> startMeasurement(@RequestParam String url, HttpSession session) {
         log.info("성능 측정 시작 - URL: {}, 세션 ID: {}", url, session.getId());
         try {
-//            // 세션에서 사용자 정보 확인
-//            CustomOAuth2User oAuth2User = (CustomOAuth2User) session.getAttribute("user");
-            log.info("라이트하우스 감사 시작: {}", url);
-            Measurements data = lighthouseAuditService.startAudit(url);
-            log.info("감사 완료, 주간 측정 데이터로 변환");
-            WeeklyMeasurements weeklyData = homePageService.convertToWeeklyMeasurements(data);
-            
-            // 세션에 데이터 저장
-            session.setAttribute("userMeasurement", weeklyData);
-            session.setAttribute("userUrl", url);
-            
-            // 세션 저장 확인
-            WeeklyMeasurements checkData = (WeeklyMeasurements) session.getAttribute("userMeasurement");
-            log.info("세션에 데이터 저장 확인: {}", (checkData != null));
-            log.info("주간 측정 데이터: {}", weeklyData);
-            
-            return ResponseEntity.ok("성능 측정이 완료");
+            AuditJob job = auditJobService.submit(url);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .location(URI.create("/api/audit-jobs/" + job.getId()))
+                    .body(AuditJobResponse.from(job));
 
+        } catch (AuditJobRejectedException e) {
+            log.warn("성능 측정 요청 거절 - URL: {}, 사유: {}", url, e.getMessage());
+            return ResponseEntity.status(e.getStatus()).header("Retry-After", "30").build();
         } catch (Exception e) {
             log.error("성능 측정 시작 중 오류 발생", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("성능 측정 시작 중 오류가 발생했습니다.");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
@@ -11,6 +11,7 @@ public class NetworkRequest {
 
     private String url;
     private String resourceType;
+    private String mimeType;
     private long resourceSize;
     private long transferSize;
 
@@ -1,5 +1,6 @@
 package com.ecarbon.gdsc.carbon.entity;
 
+import com.ecarbon.gdsc.audits.dto.AuditCost;
 import com.ecarbon.gdsc.carbon.dto.Lighthouse.NetworkRequest;
 import com.ecarbon.gdsc.carbon.dto.Lighthouse.ResourceSummary;
 import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
@@ -24,6 +25,7 @@ public class WeeklyMeasurements {
     private String url;
 
     private String measurementType;
+    private String auditProfile;    // carbon-minimal / optimization-full (FAST 모드는 null)
 
     private String measuredAt;
     private String weekStartDate;
@@ -46,6 +48,12 @@ public class WeeklyMeasurements {
     private double kbWeight;
     private double carbonEmission;
 
+    // 페이지가 바뀌지 않아 지난 측정 값을 이번 주로 이어 쓴 경우
+    private boolean carriedForward;
+    private String sourceMeasuredAt;    // 실제로 측정한 시각 (이어 쓴 경우 원래 측정 시각)
+
+    private AuditCost auditCost;    // Lighthouse 실행 비용 (FAST 모드, 이어 쓴 경우는 null)
+
     public LocalDateTime getMeasuredAtAsDateTime() {
         return LocalDateTime.parse(measuredAt, DateTimeFormatter.ISO_DATE_TIME);
     }
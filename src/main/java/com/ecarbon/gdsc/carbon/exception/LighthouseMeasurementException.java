@@ -0,0 +1,32 @@
+package com.ecarbon.gdsc.carbon.exception;
+
+import com.ecarbon.gdsc.audits.process.ProcessResult;
+import com.ecarbon.gdsc.audits.process.ProcessOutcome;
+import lombok.Getter;
+
+@Getter
+public class LighthouseMeasurementException extends RuntimeException {
+
+    // Lighthouse 프로세스 실행 결과 (프로세스 실행 전 실패면 null)
+    private final ProcessOutcome outcome;
+    private final Integer exitCode;
+    private final String stderrTail;
+
+    public LighthouseMeasurementException(String message) {
+        this(message, (Throwable) null);
+    }
+
+    public LighthouseMeasurementException(String message, Throwable cause) {
+        super(message, cause);
+        this.outcome = null;
+        this.exitCode = null;
+        this.stderrTail = null;
+    }
+
+    public LighthouseMeasurementException(String message, ProcessResult<?> processResult) {
+        super(message, processResult.getError());
+        this.outcome = processResult.getOutcome();
+        this.exitCode = processResult.getExitCode();
+        this.stderrTail = processResult.getStderrTail();
+    }
+}
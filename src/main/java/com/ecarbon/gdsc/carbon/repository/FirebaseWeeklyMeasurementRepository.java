@@ -1,5 +1,6 @@
 package com.ecarbon.gdsc.carbon.repository;
 
+import com.ecarbon.gdsc.audits.util.UrlCanonicalizer;
 import com.ecarbon.gdsc.carbon.entity.WeeklyMeasurements;
 import com.google.api.core.ApiFuture;
 import com.google.cloud.firestore.Firestore;
@@ -9,6 +10,9 @@ import com.google.cloud.firestore.QuerySnapshot;
 import com.google.firebase.cloud.FirestoreClient;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
@@ -157,4 +161,34 @@ public class FirebaseWeeklyMeasurementRepository {
 
         return new ArrayList<>(uniqueByUrl.values());
     }
+
+    /**
+     * 주간 측정 데이터를 Firestore에 저장
+     * 문서 ID 가 (weekStartDate, 정규화한 url) 로 정해지므로, 배치를 다시 돌려 같은 주에 같은 페이지를 또 저장하면 덮어쓴다.
+     * @param measurements
+     * @return 저장된 문서 ID
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+    public String save(WeeklyMeasurements measurements)
+            throws ExecutionException, InterruptedException {
+
+        Firestore db = FirestoreClient.getFirestore();
+        String documentId = documentId(measurements.getWeekStartDate(), measurements.getUrl());
+        db.collection(COLLECTION_NAME).document(documentId).set(measurements).get();
+        return documentId;
+    }
+
+    /**
+     * 주간 측정 문서 ID: weekStartDate + 정규화한 url 의 SHA-256 (url 의 '/' 는 문서 ID 에 쓸 수 없음)
+     */
+    public static String documentId(String weekStartDate, String url) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(UrlCanonicalizer.canonicalize(url).getBytes(StandardCharsets.UTF_8));
+            return weekStartDate + "_" + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
\ No newline at end of file
@@ -83,6 +83,7 @@ public class HomeService {
         return WeeklyMeasurements.builder()
                 .url(measurements.getUrl())
                 .measurementType(measurements.getMeasurementType())
+                .auditProfile(measurements.getAuditProfile())
                 .measuredAt(measurements.getMeasuredAt())
                 .weekStartDate(DateUtil.getWeeksMonday())
                 .totalByteWeight(measurements.getTotalByteWeight())
@@ -98,6 +99,7 @@ public class HomeService {
                 .carbonEmission(measurements.getCarbonEmission())
                 .resourceSummaries(measurements.getResourceSummaries())
                 .networkRequests(measurements.getNetworkRequests())
+                .auditCost(measurements.getAuditCost())
                 .build();
     }
 }
\ No newline at end of file
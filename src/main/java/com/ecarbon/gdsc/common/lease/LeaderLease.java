@@ -0,0 +1,20 @@
+package com.ecarbon.gdsc.common.lease;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+@Document(collection = "leader_leases")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderLease {
+
+    @Id
+    private String id;          // 리스 이름 (예: weekly-batch)
+    private String owner;       // 소유 노드 ID
+    private Date expiresAt;
+}
@@ -0,0 +1,53 @@
+package com.ecarbon.gdsc.common.lease;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * 여러 노드 중 한 노드만 스케줄 작업을 실행하도록 하는 리더 리스
+ * 리스가 만료되었거나 이미 내가 소유한 경우에만 획득(갱신)된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaderLeaseService {
+
+    private final MongoTemplate mongoTemplate;
+    private final NodeIdentity nodeIdentity;
+
+    /**
+     * 리스를 획득하거나 연장한다. 다른 노드가 유효한 리스를 가지고 있으면 false
+     */
+    public boolean tryAcquire(String name, Duration ttl) {
+        Date now = new Date();
+        Query query = Query.query(Criteria.where("_id").is(name).orOperator(
+                Criteria.where("owner").is(nodeIdentity.getId()),
+                Criteria.where("expiresAt").lt(now)));
+        Update update = new Update()
+                .set("owner", nodeIdentity.getId())
+                .set("expiresAt", new Date(now.getTime() + ttl.toMillis()));
+
+        try {
+            // 조건에 맞는 문서가 없으면 upsert 를 시도하고, 다른 노드의 리스가 있으면 _id 중복으로 실패한다
+            mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), LeaderLease.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        mongoTemplate.remove(
+                Query.query(Criteria.where("_id").is(name).and("owner").is(nodeIdentity.getId())),
+                LeaderLease.class);
+    }
+}
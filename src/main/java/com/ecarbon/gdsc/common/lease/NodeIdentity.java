@@ -0,0 +1,33 @@
+package com.ecarbon.gdsc.common.lease;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * 현재 노드를 구분하는 ID (리스 소유자 표시에 사용)
+ * 설정하지 않으면 호스트명-pid 로 정한다.
+ */
+@Getter
+@Component
+public class NodeIdentity {
+
+    private final String id;
+
+    public NodeIdentity(@Value("${audit.node-id:}") String configuredId) {
+        this.id = configuredId.isBlank() ? defaultId() : configuredId;
+    }
+
+    private static String defaultId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+}
@@ -0,0 +1,256 @@
+package com.ecarbon.gdsc.audits;
+
+import com.ecarbon.gdsc.audits.archive.ReportArchive;
+import com.ecarbon.gdsc.audits.change.CarryForwardService;
+import com.ecarbon.gdsc.audits.chrome.ChromePool;
+import com.ecarbon.gdsc.audits.concurrency.AdaptiveConcurrencyLimiter;
+import com.ecarbon.gdsc.audits.cost.AuditCostService;
+import com.ecarbon.gdsc.audits.devtools.DevToolsPageWeightEngine;
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.failure.FailureClassifier;
+import com.ecarbon.gdsc.audits.failure.RetryPolicy;
+import com.ecarbon.gdsc.audits.fast.FastPageWeightEstimator;
+import com.ecarbon.gdsc.audits.lighthouse.LighthouseDataExtractor;
+import com.ecarbon.gdsc.audits.lighthouse.LighthouseDataWriter;
+import com.ecarbon.gdsc.audits.lighthouse.LighthouseRunner;
+import com.ecarbon.gdsc.audits.metrics.AuditMetrics;
+import com.ecarbon.gdsc.audits.politeness.HostPolitenessLimiter;
+import com.ecarbon.gdsc.audits.process.ProcessExecutor;
+import com.ecarbon.gdsc.audits.queue.AuditTask;
+import com.ecarbon.gdsc.audits.queue.PriorityAuditQueue;
+import com.ecarbon.gdsc.audits.repository.FailedMeasurementsRepository;
+import com.ecarbon.gdsc.audits.resource.ResourceSizeIndex;
+import com.ecarbon.gdsc.audits.repository.FirebaseUserMeasurementsRepository;
+import com.ecarbon.gdsc.audits.util.DateCalculator;
+import com.ecarbon.gdsc.carbon.repository.FirebaseWeeklyMeasurementRepository;
+import com.ecarbon.gdsc.carbon.service.CarbonCalculator;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기록된 Lighthouse 리포트를 대역 실행 파일로 재생해서 MainRunner -> LighthouseWorker -> extractor -> writer 를
+ * Chrome 과 네트워크 없이 끝까지 돌리는 벤치마크. 저장소는 메모리 리스트로 대체한다.
+ * 기본 test 태스크에서는 제외되고 ./gradlew replayBenchmark 로 실행한다.
+ *
+ * 시스템 프로퍼티
+ *   replay.audits        측정 수 (기본 200)
+ *   replay.corpus        리포트 JSON 디렉터리 (기본 src/test/resources/replay/reports)
+ *   replay.delay-ms      리포트 출력 전 지연 (기본 500)
+ *   replay.jitter-ms     지연에 더할 무작위 값의 최대치 (기본 500)
+ *   replay.failure-rate  비정상 종료 비율 0~1 (기본 0.05)
+ *   audit.*              application.yml 설정 덮어쓰기 (예: audit.concurrency.max-limit=8)
+ */
+@Tag("replay")
+@SpringBootTest(classes = {
+        MainRunner.class,
+        LighthouseDataExtractor.class,
+        LighthouseRunner.class,
+        LighthouseDataWriter.class,
+        ChromePool.class,
+        ProcessExecutor.class,
+        AdaptiveConcurrencyLimiter.class,
+        FailureClassifier.class,
+        RetryPolicy.class,
+        PriorityAuditQueue.class,
+        CarbonCalculator.class,
+        DateCalculator.class,
+        AuditMetrics.class,
+        ReportArchive.class,
+        LighthouseReplayBenchmark.MetricsConfig.class
+})
+public class LighthouseReplayBenchmark {
+
+    @MockitoBean
+    private FirebaseUserMeasurementsRepository userMeasurementsRepository;
+
+    @MockitoBean
+    private FirebaseWeeklyMeasurementRepository weeklyMeasurementRepository;
+
+    @MockitoBean
+    private FailedMeasurementsRepository failedMeasurementsRepository;
+
+    @MockitoBean
+    private CarryForwardService carryForwardService;
+
+    @MockitoBean
+    private FastPageWeightEstimator fastEstimator;
+
+    @MockitoBean
+    private HostPolitenessLimiter politenessLimiter;
+
+    @MockitoBean
+    private ResourceSizeIndex resourceSizeIndex;
+
+    @MockitoBean
+    private AuditCostService auditCostService;
+
+    @MockitoBean
+    private DevToolsPageWeightEngine devToolsEngine;
+
+    @Autowired
+    private MainRunner mainRunner;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentLinkedQueue<Measurements> store = new ConcurrentLinkedQueue<>();
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            // 운영에서는 히스토그램만 내보내고, 벤치마크에서는 분위수를 바로 계산한다
+            registry.config().meterFilter(new MeterFilter() {
+                @Override
+                public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                    return DistributionStatisticConfig.builder()
+                            .percentiles(0.5, 0.99)
+                            .build()
+                            .merge(config);
+                }
+            });
+            return registry;
+        }
+    }
+
+    @DynamicPropertySource
+    static void replayProperties(DynamicPropertyRegistry registry) throws IOException, URISyntaxException {
+        Path dir = Files.createTempDirectory("lighthouse-replay");
+        Path script = dir.resolve("lighthouse-replay.sh");
+        try (InputStream in = LighthouseReplayBenchmark.class.getResourceAsStream("/replay/lighthouse-replay.sh")) {
+            Files.copy(Objects.requireNonNull(in, "replay script not found"), script);
+        }
+        script.toFile().setExecutable(true);
+
+        Files.writeString(dir.resolve("replay.conf"), String.join("\n",
+                "CORPUS_DIR='" + corpusDir() + "'",
+                "DELAY_MS=" + System.getProperty("replay.delay-ms", "500"),
+                "JITTER_MS=" + System.getProperty("replay.jitter-ms", "500"),
+                "FAILURE_RATE=" + System.getProperty("replay.failure-rate", "0.05"),
+                ""));
+
+        registry.add("audit.lighthouse.path", script::toString);
+        registry.add("audit.chrome.pool.enabled", () -> "false");
+        registry.add("audit.archive.directory", () -> dir.resolve("archive").toString());
+        registry.add("audit.retry.base-delay-ms", () -> System.getProperty("audit.retry.base-delay-ms", "200"));
+        registry.add("audit.retry.max-delay-ms", () -> System.getProperty("audit.retry.max-delay-ms", "2000"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        AtomicInteger sequence = new AtomicInteger();
+        when(userMeasurementsRepository.save(any())).thenAnswer(invocation -> {
+            store.add(invocation.getArgument(0));
+            return "replay-" + sequence.incrementAndGet();
+        });
+    }
+
+    @Test
+    void testReplay_corpusThroughPipeline() {
+        // given
+        int audits = Integer.getInteger("replay.audits", 200);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        long allocatedBefore = allocatedBytes();
+
+        // when
+        long startNanos = System.nanoTime();
+        List<CompletableFuture<Measurements>> results = new ArrayList<>();
+        for (int i = 0; i < audits; i++) {
+            AuditTask task = mainRunner.submit("https://site" + i + ".replay.ac.kr/");
+            results.add(task.getResult());
+        }
+        long failed = results.stream()
+                .map(result -> result.handle((measurements, error) -> error != null).join())
+                .filter(Boolean::booleanValue)
+                .count();
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+        long allocated = allocatedBytes() - allocatedBefore;
+        System.gc();
+        long retained = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+
+        // then
+        System.out.printf("%n=== Lighthouse replay: %d audits in %.1fs (%.2f audits/s) ===%n",
+                audits, elapsedSeconds, audits / elapsedSeconds);
+        System.out.printf("saved %d, failed %d, retries %d%n", store.size(), failed, mainRunner.getRetryCount());
+        System.out.printf("heap per audit: %.1f KB allocated, %.1f KB retained%n",
+                allocated / 1024.0 / audits, retained / 1024.0 / audits);
+        System.out.printf("%-16s %-16s %8s %10s %10s%n", "stage", "detail", "count", "p50 ms", "p99 ms");
+        meterRegistry.find("audit.stage.duration").timers().stream()
+                .sorted(Comparator.comparing((Timer timer) -> timer.getId().getTag("stage"))
+                        .thenComparing(timer -> timer.getId().getTag("detail")))
+                .forEach(LighthouseReplayBenchmark::printStage);
+
+        assertThat(store.size() + failed).isEqualTo(audits);
+        assertThat(store).isNotEmpty();
+    }
+
+    private static void printStage(Timer timer) {
+        ValueAtPercentile[] percentiles = timer.takeSnapshot().percentileValues();
+        System.out.printf("%-16s %-16s %8d %10.1f %10.1f%n",
+                timer.getId().getTag("stage"), timer.getId().getTag("detail"), timer.count(),
+                percentiles[0].value(TimeUnit.MILLISECONDS), percentiles[1].value(TimeUnit.MILLISECONDS));
+    }
+
+    private static String corpusDir() throws URISyntaxException {
+        String configured = System.getProperty("replay.corpus");
+        if (configured != null) {
+            return Paths.get(configured).toAbsolutePath().toString();
+        }
+        return Paths.get(Objects.requireNonNull(
+                LighthouseReplayBenchmark.class.getResource("/replay/reports"), "replay corpus not found").toURI()).toString();
+    }
+
+    /**
+     * 살아 있는 모든 스레드가 지금까지 할당한 바이트 합계 (워커 스레드는 계속 살아 있으므로 차이로 측정 가능)
+     */
+    private static long allocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)) {
+            return 0;
+        }
+        long total = 0;
+        for (long allocated : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            total += Math.max(0, allocated);
+        }
+        return total;
+    }
+}
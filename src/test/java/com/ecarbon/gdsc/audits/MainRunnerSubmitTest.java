@@ -0,0 +1,131 @@
+package com.ecarbon.gdsc.audits;
+
+import com.ecarbon.gdsc.audits.change.CarryForwardService;
+import com.ecarbon.gdsc.audits.change.ChangeDetector;
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.politeness.HostPolitenessLimiter;
+import com.ecarbon.gdsc.audits.politeness.RobotsTxtCache;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditPriority;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.queue.AuditTask;
+import com.ecarbon.gdsc.audits.queue.PriorityAuditQueue;
+import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MainRunner.submit 의 요청 합치기와 작업별 future
+ * 워커 풀은 띄우지 않고 큐에 들어간 작업만 확인한다.
+ */
+public class MainRunnerSubmitTest {
+
+    private MainRunner runner;
+    private PriorityAuditQueue taskQueue;
+
+    @BeforeEach
+    void setUp() {
+        taskQueue = new PriorityAuditQueue(
+                new HostPolitenessLimiter(new RobotsTxtCache(false, 24), false, 1, 0, 0), 50, 25, 25, 900);
+        runner = new MainRunner();
+        ReflectionTestUtils.setField(runner, "taskQueue", taskQueue);
+        // 변경 감지를 끄면 모든 Lighthouse 작업이 바로 큐에 들어간다
+        ReflectionTestUtils.setField(runner, "carryForwardService",
+                new CarryForwardService(new ChangeDetector(null, false, 20, 10, 1_000_000), null, null, 4));
+        ReflectionTestUtils.setField(runner, "running", true);
+    }
+
+    @Test
+    void testSubmit_sameCanonicalUrlJoinsInFlightTask() {
+        // when
+        AuditTask first = runner.submit("https://www.SNU.ac.kr");
+        AuditTask second = runner.submit("https://www.snu.ac.kr/#main");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(runner.getCoalescedCount()).isEqualTo(1);
+        assertThat(runner.getInFlightCount()).isEqualTo(1);
+        assertThat(taskQueue.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testSubmit_differentProfileOrSinkGetsOwnFuture() {
+        // given
+        PlaceInfo placeInfo = PlaceInfo.builder().name("서울대학교").build();
+        AuditTask full = runner.submit("https://www.snu.ac.kr", null, AuditPriority.INTERACTIVE,
+                AuditMode.LIGHTHOUSE, AuditProfile.OPTIMIZATION_FULL);
+        AuditTask minimal = runner.submit("https://www.snu.ac.kr", null, AuditPriority.INTERACTIVE,
+                AuditMode.LIGHTHOUSE, AuditProfile.CARBON_MINIMAL);
+        AuditTask weekly = runner.submit("https://www.snu.ac.kr", placeInfo, AuditPriority.BATCH,
+                AuditMode.LIGHTHOUSE, AuditProfile.OPTIMIZATION_FULL);
+
+        // when
+        Measurements measured = Measurements.builder().url("https://www.snu.ac.kr/").build();
+        full.getResult().complete(measured);
+
+        // then: 다른 작업의 결과가 섞이지 않는다
+        assertThat(minimal).isNotSameAs(full);
+        assertThat(weekly).isNotSameAs(full);
+        assertThat(full.getResult()).isCompletedWithValue(measured);
+        assertThat(minimal.getResult()).isNotDone();
+        assertThat(weekly.getResult()).isNotDone();
+        assertThat(runner.getCoalescedCount()).isZero();
+        assertThat(runner.getInFlightCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testSubmit_finishedTaskIsNotJoined() {
+        // given
+        AuditTask first = runner.submit("https://www.snu.ac.kr");
+        first.getResult().complete(Measurements.builder().url("https://www.snu.ac.kr/").build());
+
+        // when
+        AuditTask second = runner.submit("https://www.snu.ac.kr");
+
+        // then: 끝난 작업에는 합류하지 않고 새 future 를 받는다
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getResult()).isNotDone();
+        assertThat(runner.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    void testSubmit_failureReachesEveryJoinedCaller() {
+        AuditTask first = runner.submit("https://www.snu.ac.kr");
+        AuditTask joined = runner.submit("https://www.snu.ac.kr/");
+
+        first.getResult().completeExceptionally(new IllegalStateException("timeout"));
+
+        assertThat(joined.getResult()).isCompletedExceptionally();
+        assertThat(runner.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void testSubmit_urgentJoinPromotesQueuedTask() throws InterruptedException {
+        // given
+        AuditTask batch = runner.submit("https://www.snu.ac.kr", null, AuditPriority.BATCH);
+
+        // when
+        AuditTask joined = runner.submit("https://www.snu.ac.kr", null, AuditPriority.INTERACTIVE);
+
+        // then
+        assertThat(joined).isSameAs(batch);
+        assertThat(batch.getPriority()).isEqualTo(AuditPriority.INTERACTIVE);
+        assertThat(taskQueue.poll(0, TimeUnit.MILLISECONDS, 4)).isSameAs(batch);
+    }
+
+    @Test
+    void testSubmit_notRunningRejectsWithoutQueueing() {
+        ReflectionTestUtils.setField(runner, "running", false);
+
+        AuditTask rejected = runner.submit("https://www.snu.ac.kr");
+
+        assertThat(rejected.getResult()).isCompletedExceptionally();
+        assertThat(taskQueue.size()).isZero();
+        assertThat(runner.getInFlightCount()).isZero();
+    }
+}
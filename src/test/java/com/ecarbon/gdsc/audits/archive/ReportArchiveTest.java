@@ -0,0 +1,138 @@
+package com.ecarbon.gdsc.audits.archive;
+
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReportArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testStore_reportCanBeReadBack() throws IOException {
+        // given
+        ReportArchive archive = open(1_000_000);
+        String json = "{\"audits\":{\"total-byte-weight\":{\"numericValue\":12345}}}";
+
+        // when
+        archive(archive, "https://www.snu.ac.kr", "2025-05-12T10:00:00", json);
+
+        // then
+        Optional<ArchivedReport> report = archive.find("https://www.snu.ac.kr/", "2025-05-12T10:00:00");
+        assertThat(report).isPresent();
+        assertThat(report.get().getRawBytes()).isEqualTo(json.length());
+        assertThat(report.get().getAuditProfile()).isEqualTo(AuditProfile.CARBON_MINIMAL.getId());
+        try (InputStream in = archive.open(report.get())) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(json);
+        }
+    }
+
+    @Test
+    void testStore_sameContentSharesOneObject() throws IOException {
+        ReportArchive archive = open(1_000_000);
+
+        archive(archive, "https://a.ac.kr", "2025-05-12T10:00:00", "{\"same\":true}");
+        archive(archive, "https://b.ac.kr", "2025-05-12T10:05:00", "{\"same\":true}");
+
+        assertThat(archive.reportCount()).isEqualTo(2);
+        assertThat(archive.objectCount()).isEqualTo(1);
+        assertThat(archive.getDedupedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testStore_evictsOldestReportsOverSizeLimit() throws IOException {
+        // given: 리포트 하나 정도만 들어가는 한도
+        ReportArchive archive = open(60);
+
+        // when
+        archive(archive, "https://a.ac.kr", "2025-05-12T10:00:00", "{\"report\":\"first\"}");
+        archive(archive, "https://a.ac.kr", "2025-05-19T10:00:00", "{\"report\":\"second\"}");
+
+        // then
+        assertThat(archive.getEvictedCount()).isEqualTo(1);
+        assertThat(archive.find("https://a.ac.kr", "2025-05-12T10:00:00")).isEmpty();
+        assertThat(archive.findLatest("https://a.ac.kr").map(ArchivedReport::getMeasuredAt)).contains("2025-05-19T10:00:00");
+        assertThat(archive.totalBytes()).isLessThanOrEqualTo(60);
+    }
+
+    @Test
+    void testInit_reloadsIndexFromDisk() throws IOException {
+        ReportArchive archive = open(1_000_000);
+        archive(archive, "https://a.ac.kr", "2025-05-12T10:00:00", "{\"week\":1}");
+        archive(archive, "https://a.ac.kr", "2025-05-19T10:00:00", "{\"week\":2}");
+
+        ReportArchive reopened = open(1_000_000);
+
+        assertThat(reopened.history("https://a.ac.kr"))
+                .extracting(ArchivedReport::getMeasuredAt)
+                .containsExactly("2025-05-19T10:00:00", "2025-05-12T10:00:00");
+        assertThat(reopened.totalBytes()).isEqualTo(archive.totalBytes());
+    }
+
+    @Test
+    void testStore_evictsInBatchDownToLowWaterMark() throws IOException {
+        // given: 한도를 넘으면 절반까지 지운다
+        ReportArchive archive = open(150, 0.5);
+
+        // when
+        for (int week = 1; week <= 6; week++) {
+            archive(archive, "https://a.ac.kr", "2025-05-0" + week + "T10:00:00", "{\"report\":" + week + "}");
+        }
+
+        // then: 한도를 넘을 때마다 한 건이 아니라 여러 건을 지운다
+        assertThat(archive.getEvictedCount()).isGreaterThanOrEqualTo(2);
+        assertThat(archive.totalBytes()).isLessThanOrEqualTo(150);
+        assertThat(archive.findLatest("https://a.ac.kr").map(ArchivedReport::getMeasuredAt)).contains("2025-05-06T10:00:00");
+    }
+
+    @Test
+    void testInit_replaysEvictionsAppendedToIndex() throws IOException {
+        // given
+        ReportArchive archive = open(60);
+        archive(archive, "https://a.ac.kr", "2025-05-12T10:00:00", "{\"report\":\"first\"}");
+        archive(archive, "https://a.ac.kr", "2025-05-19T10:00:00", "{\"report\":\"second\"}");
+
+        // when
+        List<String> index = Files.readAllLines(dir.resolve("index.jsonl"));
+        ReportArchive reopened = open(60);
+
+        // then: 색인을 다시 쓰지 않고 삭제 줄을 덧붙였다
+        assertThat(index).hasSize(3);
+        assertThat(index.get(2)).contains("\"evicted\":true");
+        assertThat(reopened.find("https://a.ac.kr", "2025-05-12T10:00:00")).isEmpty();
+        assertThat(reopened.reportCount()).isEqualTo(1);
+        assertThat(reopened.totalBytes()).isEqualTo(archive.totalBytes());
+    }
+
+    private ReportArchive open(long maxBytes) {
+        return open(maxBytes, 1.0);
+    }
+
+    private ReportArchive open(long maxBytes, double lowWaterRatio) {
+        ReportArchive archive = new ReportArchive(true, dir.toString(), maxBytes, lowWaterRatio);
+        archive.init();
+        return archive;
+    }
+
+    private void archive(ReportArchive archive, String url, String measuredAt, String json) throws IOException {
+        try (ReportArchive.Capture capture = archive.capture()) {
+            InputStream in = capture.wrap(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+            // 추출기 대신 일부만 읽고 나머지는 drain 으로 넘긴다
+            in.read(new byte[4]);
+            ReportArchive.Capture.drain(in);
+            archive.store(capture, url, measuredAt, AuditProfile.CARBON_MINIMAL);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.ecarbon.gdsc.audits.backfill;
+
+import com.ecarbon.gdsc.audits.archive.ArchivedReport;
+import com.ecarbon.gdsc.audits.archive.ReportArchive;
+import com.ecarbon.gdsc.audits.dto.LighthouseAuditResult;
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.lighthouse.LighthouseDataWriter;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.repository.FirebaseMeasurementBackfillRepository;
+import com.google.cloud.NoCredentials;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.FirestoreOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReportBackfillServiceTest {
+
+    private static final String URL = "https://www.snu.ac.kr/";
+
+    @TempDir
+    Path dir;
+
+    // 문서 경로만 만들고 서버에는 연결하지 않는다
+    private Firestore firestore;
+    private ReportArchive archive;
+    private StubBackfillRepository backfillRepository;
+    private StubCheckpointRepository checkpointRepository;
+    private ReportBackfillService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        firestore = FirestoreOptions.newBuilder()
+                .setProjectId("test")
+                .setCredentials(NoCredentials.getInstance())
+                .build()
+                .getService();
+        archive = new ReportArchive(true, dir.toString(), 1_000_000, 1.0);
+        archive.init();
+        backfillRepository = new StubBackfillRepository(firestore);
+        checkpointRepository = new StubCheckpointRepository();
+        service = new ReportBackfillService(archive, new StubWriter(), backfillRepository, checkpointRepository, 2, 2, 10_000);
+
+        archive(URL, "2025-05-12T10:00:00", 1000);
+        archive(URL, "2025-05-19T10:00:00", 2000);
+        archive(URL, "2025-05-26T10:00:00", 3000);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        service.shutdown();
+        firestore.close();
+    }
+
+    @Test
+    void testStart_userOnlyFieldsAreNotWrittenToWeeklyDocuments() throws Exception {
+        // when
+        assertThat(service.start("job-1", List.of("totalByteWeight", "requestedUrls"))).isTrue();
+        awaitFinished();
+
+        // then
+        Map<String, Object> user = backfillRepository.updatesFor("user_measurements", "2025-05-19T10:00:00");
+        Map<String, Object> weekly = backfillRepository.updatesFor("weekly_measurements", "2025-05-19T10:00:00");
+        assertThat(user).containsOnlyKeys("totalByteWeight", "requestedUrls");
+        assertThat(user.get("totalByteWeight")).isEqualTo(2000L);
+        assertThat(weekly).containsOnlyKeys("totalByteWeight");
+
+        BackfillCheckpoint checkpoint = checkpointRepository.findById("job-1").orElseThrow();
+        assertThat(checkpoint.getStatus()).isEqualTo(BackfillCheckpoint.STATUS_COMPLETED);
+        assertThat(checkpoint.getProcessedReports()).isEqualTo(3);
+        assertThat(checkpoint.getUpdatedDocuments()).isEqualTo(6);
+        assertThat(checkpoint.getCursorMeasuredAt()).isEqualTo("2025-05-26T10:00:00");
+    }
+
+    @Test
+    void testStart_resumesAfterCursorWithStoredFields() throws Exception {
+        // given: 첫 리포트까지 처리하고 멈춘 작업
+        ArchivedReport first = sorted().get(0);
+        checkpointRepository.checkpoints.put("job-2", BackfillCheckpoint.builder()
+                .id("job-2")
+                .status(BackfillCheckpoint.STATUS_STOPPED)
+                .fields(new ArrayList<>(List.of("kbWeight")))
+                .processedReports(1)
+                .cursorArchivedAt(first.getArchivedAt())
+                .cursorUrl(first.getUrl())
+                .cursorMeasuredAt(first.getMeasuredAt())
+                .build());
+
+        // when: 필드 없이 다시 시작
+        assertThat(service.start("job-2", List.of())).isTrue();
+        awaitFinished();
+
+        // then: 커서 뒤의 리포트만, 처음 정한 필드만 다시 쓴다
+        assertThat(backfillRepository.lookedUp).containsExactlyInAnyOrder("2025-05-19T10:00:00", "2025-05-26T10:00:00");
+        assertThat(backfillRepository.updatesFor("user_measurements", "2025-05-26T10:00:00")).containsOnlyKeys("kbWeight");
+        assertThat(checkpointRepository.findById("job-2").orElseThrow().getProcessedReports()).isEqualTo(3);
+    }
+
+    @Test
+    void testStart_completedJobIsNotRestarted() {
+        checkpointRepository.checkpoints.put("job-3", BackfillCheckpoint.builder()
+                .id("job-3")
+                .status(BackfillCheckpoint.STATUS_COMPLETED)
+                .build());
+
+        assertThat(service.start("job-3", List.of())).isFalse();
+        assertThat(service.isRunning()).isFalse();
+    }
+
+    @Test
+    void testStart_unknownFieldIsRejected() {
+        assertThatThrownBy(() -> service.start("job-4", List.of("measuredAt")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("measuredAt");
+    }
+
+    private void archive(String url, String measuredAt, long totalByteWeight) throws Exception {
+        String json = "{\"audits\":{\"total-byte-weight\":{\"numericValue\":" + totalByteWeight + "},"
+                + "\"resource-summary\":{\"details\":{\"items\":[]}},"
+                + "\"network-requests\":{\"details\":{\"items\":[{\"url\":\"" + url + "\",\"transferSize\":" + totalByteWeight + "}]}}}}";
+        try (ReportArchive.Capture capture = archive.capture()) {
+            InputStream in = capture.wrap(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+            ReportArchive.Capture.drain(in);
+            archive.store(capture, url, measuredAt, AuditProfile.CARBON_MINIMAL);
+        }
+    }
+
+    private List<ArchivedReport> sorted() {
+        List<ArchivedReport> reports = new ArrayList<>(archive.snapshot());
+        reports.sort(Comparator.comparing(ArchivedReport::getArchivedAt));
+        return reports;
+    }
+
+    private void awaitFinished() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (service.isRunning() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(service.isRunning()).as("backfill finished").isFalse();
+    }
+
+    /**
+     * 측정 하나마다 user/weekly 문서 하나씩 있다고 보고, 쓰기는 기록만 한다
+     */
+    private static class StubBackfillRepository extends FirebaseMeasurementBackfillRepository {
+
+        private final Firestore firestore;
+        private final List<String> lookedUp = new CopyOnWriteArrayList<>();
+        private final Map<String, Map<String, Object>> updates = new LinkedHashMap<>();
+
+        StubBackfillRepository(Firestore firestore) {
+            this.firestore = firestore;
+        }
+
+        @Override
+        public List<DocumentReference> findDocuments(String url, String measuredAt) {
+            lookedUp.add(measuredAt);
+            return List.of(
+                    firestore.collection(USER_COLLECTION).document(measuredAt),
+                    firestore.collection(WEEKLY_COLLECTION).document(measuredAt));
+        }
+
+        @Override
+        public synchronized int updateAll(Map<DocumentReference, Map<String, Object>> batch) {
+            batch.forEach((document, values) -> updates.put(document.getPath(), values));
+            return 1;
+        }
+
+        synchronized Map<String, Object> updatesFor(String collection, String measuredAt) {
+            return updates.get(collection + "/" + measuredAt);
+        }
+    }
+
+    private static class StubCheckpointRepository extends BackfillCheckpointRepository {
+
+        private final Map<String, BackfillCheckpoint> checkpoints = new HashMap<>();
+
+        StubCheckpointRepository() {
+            super(null);
+        }
+
+        @Override
+        public synchronized Optional<BackfillCheckpoint> findById(String jobId) {
+            return Optional.ofNullable(checkpoints.get(jobId));
+        }
+
+        @Override
+        public synchronized BackfillCheckpoint start(String jobId, List<String> fields, int totalReports) {
+            BackfillCheckpoint checkpoint = checkpoints.computeIfAbsent(jobId, id -> BackfillCheckpoint.builder()
+                    .id(id)
+                    .fields(new ArrayList<>(fields))
+                    .build());
+            checkpoint.setStatus(BackfillCheckpoint.STATUS_RUNNING);
+            checkpoint.setTotalReports(totalReports);
+            return checkpoint;
+        }
+
+        @Override
+        public synchronized void advance(String jobId, ArchivedReport last, int processed, int failed, int unmatched, int updatedDocuments) {
+            BackfillCheckpoint checkpoint = checkpoints.get(jobId);
+            checkpoint.setCursorArchivedAt(last.getArchivedAt());
+            checkpoint.setCursorUrl(last.getUrl());
+            checkpoint.setCursorMeasuredAt(last.getMeasuredAt());
+            checkpoint.setProcessedReports(checkpoint.getProcessedReports() + processed);
+            checkpoint.setFailedReports(checkpoint.getFailedReports() + failed);
+            checkpoint.setUnmatchedReports(checkpoint.getUnmatchedReports() + unmatched);
+            checkpoint.setUpdatedDocuments(checkpoint.getUpdatedDocuments() + updatedDocuments);
+        }
+
+        @Override
+        public synchronized void finish(String jobId, String status) {
+            checkpoints.get(jobId).setStatus(status);
+        }
+    }
+
+    /**
+     * 탄소 계산 없이 추출 값만 옮긴다
+     */
+    private static class StubWriter extends LighthouseDataWriter {
+
+        StubWriter() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public Measurements toMeasurements(LighthouseAuditResult auditResult) {
+            long totalByteWeight = auditResult.getOptimizationData().getTotalByteWeight();
+            return Measurements.builder()
+                    .url(auditResult.getUrl())
+                    .totalByteWeight(totalByteWeight)
+                    .requestedUrls(auditResult.getRequestedUrls())
+                    .kbWeight(totalByteWeight / 1024.0)
+                    .build();
+        }
+    }
+}
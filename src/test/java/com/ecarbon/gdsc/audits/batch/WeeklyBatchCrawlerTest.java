@@ -0,0 +1,144 @@
+package com.ecarbon.gdsc.audits.batch;
+
+import com.ecarbon.gdsc.audits.MainRunner;
+import com.ecarbon.gdsc.audits.dto.PlaceDetails;
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.queue.AuditTask;
+import com.ecarbon.gdsc.audits.queue.DistributedAuditQueue;
+import com.ecarbon.gdsc.audits.site.SiteAuditService;
+import com.ecarbon.gdsc.audits.util.UrlCanonicalizer;
+import com.ecarbon.gdsc.audits.util.UrlManager;
+import com.ecarbon.gdsc.common.lease.LeaderLeaseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WeeklyBatchCrawlerTest {
+
+    private static final String PLACES_FILE = "places.json";
+    private static final String SNU = "https://www.snu.ac.kr";
+    private static final String KAIST = "https://www.kaist.ac.kr";
+    private static final String POSTECH = "https://www.postech.ac.kr";
+
+    private final MainRunner mainRunner = mock(MainRunner.class);
+    private final UrlManager urlManager = mock(UrlManager.class);
+    private final BatchCheckpointRepository checkpointRepository = mock(BatchCheckpointRepository.class);
+    private final LeaderLeaseService leaderLeaseService = mock(LeaderLeaseService.class);
+
+    private WeeklyBatchCrawler crawler;
+
+    @BeforeEach
+    void setUp() {
+        when(urlManager.filterValidInstitutions(PLACES_FILE))
+                .thenReturn(List.of(place("서울대학교", SNU), place("KAIST", KAIST), place("POSTECH", POSTECH)));
+        when(checkpointRepository.start(anyString(), anyInt()))
+                .thenAnswer(invocation -> BatchCheckpoint.builder()
+                        .id(invocation.getArgument(0))
+                        .status(BatchCheckpoint.STATUS_RUNNING)
+                        .totalUrls(invocation.getArgument(1))
+                        .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (crawler != null) {
+            crawler.stop();
+        }
+    }
+
+    @Test
+    void testStart_resumesWithRemainingUrlsOnly() {
+        // given: 지난 실행에서 서울대까지 측정하고 멈춘 체크포인트
+        crawler = crawler(2);
+        when(leaderLeaseService.tryAcquire(anyString(), any())).thenReturn(true);
+        when(checkpointRepository.start(anyString(), eq(3))).thenAnswer(invocation -> {
+            BatchCheckpoint checkpoint = BatchCheckpoint.builder()
+                    .id(invocation.getArgument(0))
+                    .status(BatchCheckpoint.STATUS_RUNNING)
+                    .totalUrls(3)
+                    .build();
+            checkpoint.getCompletedUrls().add(UrlCanonicalizer.canonicalize(SNU));
+            return checkpoint;
+        });
+        when(mainRunner.submit(anyString(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> AuditTask.completed(invocation.getArgument(0), Measurements.builder().build()));
+
+        // when
+        assertThat(crawler.start()).isTrue();
+
+        // then: 남은 두 곳만 측정하고 주를 끝낸다
+        verify(checkpointRepository, timeout(5000)).finish(crawler.getCurrentWeek());
+        verify(mainRunner, never()).submit(eq(SNU), any(), any(), any(), any());
+        verify(mainRunner).submit(eq(KAIST), any(), any(), any(), any());
+        verify(mainRunner).submit(eq(POSTECH), any(), any(), any(), any());
+        verify(checkpointRepository).markCompleted(crawler.getCurrentWeek(), UrlCanonicalizer.canonicalize(KAIST));
+        verify(checkpointRepository).markCompleted(crawler.getCurrentWeek(), UrlCanonicalizer.canonicalize(POSTECH));
+        verify(leaderLeaseService, timeout(5000)).release("weekly-batch");
+    }
+
+    @Test
+    void testRenewLeaderLease_lostLeaseStopsTheBatch() throws InterruptedException {
+        // given: 동시에 하나만 올리고, 첫 측정이 끝나지 않아 두 번째에서 기다리는 배치
+        crawler = crawler(1);
+        when(leaderLeaseService.tryAcquire(anyString(), any())).thenReturn(true, false);
+        when(mainRunner.submit(anyString(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> new AuditTask(invocation.getArgument(0)));
+        assertThat(crawler.start()).isTrue();
+        verify(mainRunner, timeout(5000)).submit(eq(SNU), any(), any(), any(), any());
+
+        // when: 다른 노드가 리스를 가져감
+        crawler.renewLeaderLease();
+
+        // then: 남은 URL 을 올리지 않고 멈추며, 체크포인트는 RUNNING 으로 남아 이어받을 수 있다
+        awaitStopped();
+        verify(mainRunner, times(1)).submit(anyString(), any(), any(), any(), any());
+        verify(checkpointRepository, never()).finish(anyString());
+        verify(leaderLeaseService).release("weekly-batch");
+    }
+
+    @Test
+    void testRenewLeaderLease_renewsOnlyWhileRunning() {
+        crawler = crawler(1);
+
+        crawler.renewLeaderLease();
+
+        verify(leaderLeaseService, never()).tryAcquire(anyString(), any());
+    }
+
+    private WeeklyBatchCrawler crawler(int maxInFlight) {
+        return new WeeklyBatchCrawler(mainRunner, urlManager, checkpointRepository, leaderLeaseService,
+                mock(DistributedAuditQueue.class), mock(SiteAuditService.class), false, 300, 10, PLACES_FILE,
+                AuditMode.LIGHTHOUSE, AuditProfile.CARBON_MINIMAL, 3_600_000, maxInFlight);
+    }
+
+    private void awaitStopped() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (crawler.isRunning() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(crawler.isRunning()).as("batch stopped").isFalse();
+    }
+
+    private static PlaceDetails place(String name, String website) {
+        PlaceDetails details = new PlaceDetails();
+        details.setName(name);
+        details.setWebsite(website);
+        return details;
+    }
+}
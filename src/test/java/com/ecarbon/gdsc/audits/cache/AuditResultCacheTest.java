@@ -0,0 +1,85 @@
+package com.ecarbon.gdsc.audits.cache;
+
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class AuditResultCacheTest {
+
+    private static final AuditMode LIGHTHOUSE = AuditMode.LIGHTHOUSE;
+    private static final AuditProfile FULL = AuditProfile.OPTIMIZATION_FULL;
+    private static final AuditProfile MINIMAL = AuditProfile.CARBON_MINIMAL;
+
+    @Test
+    void testGet_freshResultIsHit(){
+        // given
+        AuditResultCache cache = new AuditResultCache(60, 10);
+        cache.put("https://www.snu.ac.kr", LIGHTHOUSE, FULL, measuredMinutesAgo("https://www.snu.ac.kr", 5));
+
+        // when & then
+        assertThat(cache.get("https://www.snu.ac.kr/", LIGHTHOUSE, FULL).isPresent()).isTrue();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testGet_staleResultIsMiss(){
+        AuditResultCache cache = new AuditResultCache(60, 10);
+        cache.put("https://www.snu.ac.kr", LIGHTHOUSE, FULL, measuredMinutesAgo("https://www.snu.ac.kr", 90));
+
+        assertThat(cache.get("https://www.snu.ac.kr", LIGHTHOUSE, FULL).isPresent()).isFalse();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void testPut_evictsLeastRecentlyUsed(){
+        AuditResultCache cache = new AuditResultCache(60, 2);
+        cache.put("https://a.ac.kr", LIGHTHOUSE, FULL, measuredMinutesAgo("https://a.ac.kr", 1));
+        cache.put("https://b.ac.kr", LIGHTHOUSE, FULL, measuredMinutesAgo("https://b.ac.kr", 1));
+
+        // a 를 사용해서 b 가 가장 오래된 항목이 됨
+        cache.get("https://a.ac.kr", LIGHTHOUSE, FULL);
+        cache.put("https://c.ac.kr", LIGHTHOUSE, FULL, measuredMinutesAgo("https://c.ac.kr", 1));
+
+        assertThat(cache.get("https://a.ac.kr", LIGHTHOUSE, FULL).isPresent()).isTrue();
+        assertThat(cache.get("https://b.ac.kr", LIGHTHOUSE, FULL).isPresent()).isFalse();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testGet_keyedByModeAndProfile(){
+        // given: 좁은 범위의 Lighthouse 결과와 FAST 결과
+        AuditResultCache cache = new AuditResultCache(60, 10);
+        cache.put("https://www.snu.ac.kr", LIGHTHOUSE, MINIMAL, measuredMinutesAgo("https://www.snu.ac.kr", 1));
+        cache.put("https://www.snu.ac.kr", AuditMode.FAST, FULL, measuredMinutesAgo("https://www.snu.ac.kr", 1));
+
+        // when & then: 더 넓은 범위나 다른 방식의 요청에는 쓰지 않는다
+        assertThat(cache.get("https://www.snu.ac.kr", LIGHTHOUSE, FULL).isPresent()).isFalse();
+        assertThat(cache.get("https://www.snu.ac.kr", LIGHTHOUSE, MINIMAL).isPresent()).isTrue();
+        assertThat(cache.get("https://www.snu.ac.kr", AuditMode.DEVTOOLS, FULL).isPresent()).isFalse();
+        assertThat(cache.get("https://www.snu.ac.kr", AuditMode.FAST, FULL).isPresent()).isTrue();
+    }
+
+    @Test
+    void testGet_widerLighthouseProfileServesNarrowerRequest(){
+        AuditResultCache cache = new AuditResultCache(60, 10);
+        cache.put("https://www.snu.ac.kr", LIGHTHOUSE, FULL, measuredMinutesAgo("https://www.snu.ac.kr", 1));
+
+        assertThat(cache.get("https://www.snu.ac.kr", LIGHTHOUSE, MINIMAL).isPresent()).isTrue();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(0);
+    }
+
+    private Measurements measuredMinutesAgo(String url, long minutes) {
+        return Measurements.builder()
+                .url(url)
+                .measuredAt(LocalDateTime.now().minusMinutes(minutes).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .build();
+    }
+}
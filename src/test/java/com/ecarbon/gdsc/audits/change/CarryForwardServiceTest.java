@@ -0,0 +1,185 @@
+package com.ecarbon.gdsc.audits.change;
+
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import com.ecarbon.gdsc.audits.lighthouse.LighthouseDataWriter;
+import com.ecarbon.gdsc.audits.queue.AuditMode;
+import com.ecarbon.gdsc.audits.queue.AuditPriority;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import com.ecarbon.gdsc.audits.queue.AuditTask;
+import com.ecarbon.gdsc.carbon.dto.PlaceInfo;
+import com.ecarbon.gdsc.carbon.entity.WeeklyMeasurements;
+import com.ecarbon.gdsc.carbon.repository.FirebaseWeeklyMeasurementRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CarryForwardServiceTest {
+
+    private static final String URL = "https://www.snu.ac.kr";
+
+    private final StubChangeDetector changeDetector = new StubChangeDetector();
+    private final StubWeeklyRepository weeklyRepository = new StubWeeklyRepository();
+    private final StubWriter writer = new StubWriter();
+    private final CarryForwardService service = new CarryForwardService(changeDetector, weeklyRepository, writer, 4);
+
+    @Test
+    void testTryCarryForward_unchangedPageReusesLastLighthouseMeasurement() {
+        // given
+        weeklyRepository.measurements.add(weekly("weekly", "optimization-full", weeksAgo(1)));
+        changeDetector.unchanged = true;
+        AuditTask task = weeklyTask();
+
+        // when
+        Optional<Measurements> carried = service.tryCarryForward(task);
+
+        // then
+        assertThat(carried).isPresent();
+        assertThat(writer.carriedFrom.getMeasurementType()).isEqualTo("weekly");
+        assertThat(changeDetector.captureCount).isZero();
+    }
+
+    @Test
+    void testTryCarryForward_ignoresNewerFastMeasurement() {
+        // given: 가장 최근 문서가 FAST 추정치 (auditProfile 없음)
+        weeklyRepository.measurements.add(weekly("weekly", "optimization-full", weeksAgo(2)));
+        weeklyRepository.measurements.add(weekly("weekly-fast", null, weeksAgo(1)));
+        changeDetector.unchanged = true;
+
+        // when
+        Optional<Measurements> carried = service.tryCarryForward(weeklyTask());
+
+        // then: 이어 쓰는 원본은 Lighthouse 측정
+        assertThat(carried).isPresent();
+        assertThat(writer.carriedFrom.getMeasurementType()).isEqualTo("weekly");
+    }
+
+    @Test
+    void testTryCarryForward_onlyPageWeightMeasurementsRunsFullAudit() {
+        weeklyRepository.measurements.add(weekly("weekly-fast", null, weeksAgo(1)));
+        weeklyRepository.measurements.add(weekly("weekly-devtools", null, weeksAgo(1)));
+        changeDetector.unchanged = true;
+
+        assertThat(service.tryCarryForward(weeklyTask())).isEmpty();
+        assertThat(writer.carriedFrom).isNull();
+    }
+
+    @Test
+    void testTryCarryForward_legacyMeasurementWithoutProfileIsFullRange() {
+        weeklyRepository.measurements.add(weekly("weekly", null, weeksAgo(1)));
+        changeDetector.unchanged = true;
+
+        assertThat(service.tryCarryForward(weeklyTask())).isPresent();
+    }
+
+    @Test
+    void testTryCarryForward_tooOldMeasurementRunsFullAudit() {
+        weeklyRepository.measurements.add(weekly("weekly", "optimization-full", weeksAgo(5)));
+        changeDetector.unchanged = true;
+
+        assertThat(service.tryCarryForward(weeklyTask())).isEmpty();
+    }
+
+    @Test
+    void testRecordFingerprint_savesFingerprintCapturedBeforeAudit() {
+        // given: 바뀐 페이지 -> 측정 전에 지문을 받아 둔다
+        weeklyRepository.measurements.add(weekly("weekly", "optimization-full", weeksAgo(1)));
+        changeDetector.unchanged = false;
+        AuditTask task = weeklyTask();
+
+        // when
+        Optional<Measurements> carried = service.tryCarryForward(task);
+        service.recordFingerprint(task);
+
+        // then: 측정 뒤에 다시 받지 않고 받아 둔 지문을 저장
+        assertThat(carried).isEmpty();
+        assertThat(task.isChangeChecked()).isTrue();
+        assertThat(changeDetector.captureCount).isEqualTo(1);
+        assertThat(changeDetector.recorded).isSameAs(task.getFingerprint());
+    }
+
+    @Test
+    void testTryCarryForward_userAuditIsNotChecked() {
+        AuditTask task = new AuditTask(URL);
+
+        assertThat(service.tryCarryForward(task)).isEmpty();
+        assertThat(task.isChangeChecked()).isFalse();
+        assertThat(changeDetector.captureCount).isZero();
+    }
+
+    private static AuditTask weeklyTask() {
+        return new AuditTask(URL, PlaceInfo.builder().name("서울대학교").build(), AuditPriority.BATCH,
+                AuditMode.LIGHTHOUSE, AuditProfile.OPTIMIZATION_FULL);
+    }
+
+    private static WeeklyMeasurements weekly(String measurementType, String auditProfile, LocalDateTime measuredAt) {
+        return WeeklyMeasurements.builder()
+                .url(URL)
+                .measurementType(measurementType)
+                .auditProfile(auditProfile)
+                .measuredAt(measuredAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .weekStartDate(measuredAt.toLocalDate().toString())
+                .build();
+    }
+
+    private static LocalDateTime weeksAgo(int weeks) {
+        return LocalDateTime.now().minusWeeks(weeks);
+    }
+
+    private static class StubChangeDetector extends ChangeDetector {
+
+        private boolean unchanged;
+        private int captureCount;
+        private ResourceFingerprint recorded;
+
+        StubChangeDetector() {
+            super(null, true, 20, 10);
+        }
+
+        @Override
+        public boolean isUnchanged(String url) {
+            return unchanged;
+        }
+
+        @Override
+        public Optional<ResourceFingerprint> capture(String url) {
+            captureCount++;
+            return Optional.of(ResourceFingerprint.builder().id(url).build());
+        }
+
+        @Override
+        public void record(String url, ResourceFingerprint fingerprint) {
+            recorded = fingerprint;
+        }
+    }
+
+    private static class StubWeeklyRepository extends FirebaseWeeklyMeasurementRepository {
+
+        private final List<WeeklyMeasurements> measurements = new ArrayList<>();
+
+        @Override
+        public List<WeeklyMeasurements> findAllByUrl(String url) {
+            return measurements;
+        }
+    }
+
+    private static class StubWriter extends LighthouseDataWriter {
+
+        private WeeklyMeasurements carriedFrom;
+
+        StubWriter() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public Measurements carryForward(WeeklyMeasurements previous, PlaceInfo placeInfo) {
+            carriedFrom = previous;
+            return Measurements.builder().url(previous.getUrl()).build();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.ecarbon.gdsc.audits.change;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChangeDetectorTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private volatile String script = "console.log('v1');";
+    private volatile boolean sendEtag = true;
+    private final InMemoryFingerprints fingerprints = new InMemoryFingerprints();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> respond(exchange, "text/html",
+                "<html><head><script src=\"/app.js\"></script></head><body>hello</body></html>"));
+        server.createContext("/app.js", exchange -> respond(exchange, "application/javascript", script));
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testIsUnchanged_sameContentAfterRecord() {
+        // given
+        ChangeDetector detector = detector();
+        String url = baseUrl + "/";
+        Optional<ResourceFingerprint> captured = detector.capture(url);
+
+        // when
+        detector.record(url, captured.orElse(null));
+
+        // then
+        assertThat(captured).isPresent();
+        assertThat(captured.get().getSubresources()).hasSize(1);
+        assertThat(detector.isUnchanged(url)).isTrue();
+    }
+
+    @Test
+    void testIsUnchanged_changedSubresourceWithoutValidators() {
+        // given: 검증자가 없으면 본문 해시로 비교한다
+        sendEtag = false;
+        ChangeDetector detector = detector();
+        String url = baseUrl + "/";
+        detector.record(url, detector.capture(url).orElse(null));
+
+        // when
+        script = "console.log('v2');";
+
+        // then
+        assertThat(detector.isUnchanged(url)).isFalse();
+    }
+
+    @Test
+    void testIsUnchanged_fingerprintCapturedBeforeChangeStillDetectsIt() {
+        // given: 측정 전에 받은 지문, 측정 중에 페이지가 바뀜
+        ChangeDetector detector = detector();
+        String url = baseUrl + "/";
+        Optional<ResourceFingerprint> beforeAudit = detector.capture(url);
+        script = "console.log('changed during audit');";
+
+        // when
+        detector.record(url, beforeAudit.orElse(null));
+
+        // then
+        assertThat(detector.isUnchanged(url)).isFalse();
+    }
+
+    @Test
+    void testCapture_notFoundHasNoFingerprint() {
+        ChangeDetector detector = detector();
+        String url = baseUrl + "/";
+        detector.record(url, detector.capture(url).orElse(null));
+
+        Optional<ResourceFingerprint> missing = detector.capture(baseUrl + "/missing");
+        detector.record(url, missing.orElse(null));
+
+        assertThat(missing).isEmpty();
+        assertThat(fingerprints.stored).isEmpty();
+        assertThat(detector.isUnchanged(url)).isFalse();
+    }
+
+    @Test
+    void testIsUnchanged_disabledAlwaysChanged() {
+        ChangeDetector detector = new ChangeDetector(fingerprints, false, 20, 5, 1_000_000);
+        String url = baseUrl + "/";
+
+        assertThat(detector.capture(url)).isEmpty();
+        assertThat(detector.isUnchanged(url)).isFalse();
+    }
+
+    private ChangeDetector detector() {
+        return new ChangeDetector(fingerprints, true, 20, 5, 1_000_000);
+    }
+
+    private void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        String etag = "\"" + Integer.toHexString(body.hashCode()) + "\"";
+        if (sendEtag) {
+            exchange.getResponseHeaders().add("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+        }
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static class InMemoryFingerprints extends ResourceFingerprintRepository {
+
+        private final Map<String, ResourceFingerprint> stored = new HashMap<>();
+
+        InMemoryFingerprints() {
+            super(null);
+        }
+
+        @Override
+        public Optional<ResourceFingerprint> findByUrl(String canonicalUrl) {
+            return Optional.ofNullable(stored.get(canonicalUrl));
+        }
+
+        @Override
+        public void save(ResourceFingerprint fingerprint) {
+            stored.put(fingerprint.getId(), fingerprint);
+        }
+
+        @Override
+        public void delete(String canonicalUrl) {
+            stored.remove(canonicalUrl);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.ecarbon.gdsc.audits.chrome;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CdpSessionTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private FakeDevTools devTools;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        devTools = new FakeDevTools();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        devTools.close();
+    }
+
+    @Test
+    void testSend_responsesMatchedById() throws Exception {
+        // given
+        try (CdpSession session = CdpSession.connect(httpClient, devTools.url(), TIMEOUT)) {
+            CompletableFuture<JsonNode> first = session.send("Target.createTarget", CdpSession.params().put("url", "about:blank"));
+            CompletableFuture<JsonNode> second = session.send("Network.enable", CdpSession.params(), "session-1");
+            JsonNode firstRequest = devTools.nextMessage();
+            JsonNode secondRequest = devTools.nextMessage();
+
+            // when: 응답 순서를 바꿔 보낸다
+            devTools.send("{\"id\":" + secondRequest.get("id") + ",\"result\":{\"enabled\":true}}");
+            devTools.send("{\"id\":" + firstRequest.get("id") + ",\"result\":{\"targetId\":\"T1\"}}");
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS).path("targetId").asText()).isEqualTo("T1");
+            assertThat(second.get(5, TimeUnit.SECONDS).path("enabled").asBoolean()).isTrue();
+            assertThat(secondRequest.path("sessionId").asText()).isEqualTo("session-1");
+            assertThat(firstRequest.path("params").path("url").asText()).isEqualTo("about:blank");
+        }
+    }
+
+    @Test
+    void testSend_errorResponseFailsOnlyThatCommand() throws Exception {
+        try (CdpSession session = CdpSession.connect(httpClient, devTools.url(), TIMEOUT)) {
+            CompletableFuture<JsonNode> failing = session.send("Page.navigate", CdpSession.params().put("url", "nope"));
+            JsonNode request = devTools.nextMessage();
+
+            devTools.send("{\"id\":" + request.get("id") + ",\"error\":{\"code\":-32000,\"message\":\"Cannot navigate\"}}");
+
+            assertThatThrownBy(() -> failing.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasMessageContaining("Cannot navigate");
+        }
+    }
+
+    @Test
+    void testAddEventListener_receivesMessagesWithoutId() throws Exception {
+        // given
+        List<JsonNode> events = new CopyOnWriteArrayList<>();
+        try (CdpSession session = CdpSession.connect(httpClient, devTools.url(), TIMEOUT)) {
+            session.addEventListener(events::add);
+            CompletableFuture<JsonNode> call = session.send("Page.enable", CdpSession.params());
+            JsonNode request = devTools.nextMessage();
+
+            // when
+            devTools.send("{\"method\":\"Page.loadEventFired\",\"sessionId\":\"S\",\"params\":{\"timestamp\":1.5}}");
+            devTools.send("{\"id\":" + request.get("id") + ",\"result\":{}}");
+            call.get(5, TimeUnit.SECONDS);
+
+            // then: 이벤트가 응답보다 먼저 왔으므로 이미 전달되어 있다
+            assertThat(events).hasSize(1);
+            assertThat(events.get(0).path("method").asText()).isEqualTo("Page.loadEventFired");
+        }
+    }
+
+    @Test
+    void testClose_failsPendingCommands() throws Exception {
+        CdpSession session = CdpSession.connect(httpClient, devTools.url(), TIMEOUT);
+        CompletableFuture<JsonNode> pending = session.send("Target.closeTarget", CdpSession.params().put("targetId", "T1"));
+        devTools.nextMessage();
+
+        session.close();
+
+        assertThat(pending).isCompletedExceptionally();
+    }
+
+    /**
+     * 텍스트 프레임만 주고받는 최소 WebSocket 서버 (연결 하나)
+     */
+    private static class FakeDevTools implements AutoCloseable {
+
+        private final ServerSocket server = new ServerSocket(0);
+        private final BlockingQueue<JsonNode> received = new LinkedBlockingQueue<>();
+        private final CompletableFuture<Socket> connection = new CompletableFuture<>();
+        private final Thread acceptor;
+
+        FakeDevTools() throws IOException {
+            acceptor = new Thread(this::serve, "fake-devtools");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        String url() {
+            return "ws://127.0.0.1:" + server.getLocalPort() + "/devtools/browser/test";
+        }
+
+        JsonNode nextMessage() throws InterruptedException {
+            JsonNode message = received.poll(5, TimeUnit.SECONDS);
+            assertThat(message).as("message from client").isNotNull();
+            return message;
+        }
+
+        synchronized void send(String text) throws Exception {
+            byte[] payload = text.getBytes(StandardCharsets.UTF_8);
+            OutputStream out = connection.get(5, TimeUnit.SECONDS).getOutputStream();
+            out.write(0x81);
+            if (payload.length < 126) {
+                out.write(payload.length);
+            } else {
+                out.write(126);
+                out.write(payload.length >> 8);
+                out.write(payload.length & 0xFF);
+            }
+            out.write(payload);
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+            if (connection.isDone()) {
+                connection.join().close();
+            }
+        }
+
+        private void serve() {
+            try {
+                Socket socket = server.accept();
+                handshake(socket);
+                connection.complete(socket);
+                readFrames(new DataInputStream(socket.getInputStream()), socket.getOutputStream());
+            } catch (Exception ignored) {
+                // 테스트가 끝나 소켓이 닫힘
+            }
+        }
+
+        private static void handshake(Socket socket) throws Exception {
+            InputStream in = socket.getInputStream();
+            List<String> headers = new ArrayList<>();
+            StringBuilder line = new StringBuilder();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == '\n') {
+                    String header = line.toString().trim();
+                    if (header.isEmpty()) {
+                        break;
+                    }
+                    headers.add(header);
+                    line.setLength(0);
+                } else {
+                    line.append((char) b);
+                }
+            }
+            String key = headers.stream()
+                    .filter(header -> header.toLowerCase().startsWith("sec-websocket-key:"))
+                    .map(header -> header.substring(header.indexOf(':') + 1).trim())
+                    .findFirst().orElseThrow();
+            String accept = Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-1")
+                    .digest((key + "258EAFA5-E914-47DA-95CA-C5AB0DC85B11").getBytes(StandardCharsets.US_ASCII)));
+
+            OutputStream out = socket.getOutputStream();
+            out.write(("HTTP/1.1 101 Switching Protocols\r\n"
+                    + "Upgrade: websocket\r\n"
+                    + "Connection: Upgrade\r\n"
+                    + "Sec-WebSocket-Accept: " + accept + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+
+        private void readFrames(DataInputStream in, OutputStream out) throws Exception {
+            while (true) {
+                int opcode = in.readUnsignedByte() & 0x0F;
+                int second = in.readUnsignedByte();
+                long length = second & 0x7F;
+                if (length == 126) {
+                    length = in.readUnsignedShort();
+                } else if (length == 127) {
+                    length = in.readLong();
+                }
+                byte[] mask = new byte[4];
+                if ((second & 0x80) != 0) {
+                    in.readFully(mask);
+                }
+                byte[] payload = new byte[(int) length];
+                in.readFully(payload);
+                for (int i = 0; i < payload.length; i++) {
+                    payload[i] ^= mask[i % 4];
+                }
+
+                if (opcode == 0x8) {
+                    // close 프레임에 그대로 응답
+                    synchronized (this) {
+                        out.write(0x88);
+                        out.write(payload.length);
+                        out.write(payload);
+                        out.flush();
+                    }
+                    return;
+                }
+                if (opcode == 0x1) {
+                    received.add(MAPPER.readTree(new String(payload, StandardCharsets.UTF_8)));
+                }
+            }
+        }
+    }
+}
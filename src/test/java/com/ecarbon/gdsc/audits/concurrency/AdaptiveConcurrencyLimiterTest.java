@@ -0,0 +1,150 @@
+package com.ecarbon.gdsc.audits.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final String FULL = "LIGHTHOUSE:optimization-full";
+    private static final String MINIMAL = "LIGHTHOUSE:carbon-minimal";
+
+    @Test
+    void testRelease_saturatedAndFastIncreasesLimit() throws InterruptedException {
+        // given
+        TestLimiter limiter = new TestLimiter(2);
+        limiter.acquire();
+        limiter.acquire();
+
+        // when
+        limiter.release(FULL, Duration.ofSeconds(20));
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void testRelease_notSaturatedKeepsLimit() throws InterruptedException {
+        TestLimiter limiter = new TestLimiter(2);
+        limiter.acquire();
+
+        limiter.release(FULL, Duration.ofSeconds(20));
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void testRelease_slowRuntimeDecreasesLimit() throws InterruptedException {
+        // given
+        TestLimiter limiter = new TestLimiter(8);
+        limiter.acquire();
+        limiter.release(FULL, Duration.ofSeconds(20));
+
+        // when: 기준의 2배를 넘는 실행 시간
+        limiter.acquire();
+        limiter.release(FULL, Duration.ofSeconds(50));
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+
+    @Test
+    void testRelease_baselineIsPerWorkload() throws InterruptedException {
+        // given: 좁은 범위 측정이 기준을 낮게 잡아도
+        TestLimiter limiter = new TestLimiter(8);
+        limiter.acquire();
+        limiter.release(MINIMAL, Duration.ofSeconds(5));
+        limiter.acquire();
+        limiter.release(FULL, Duration.ofSeconds(20));
+
+        // when: 전체 범위 측정은 자기 기준과 비교한다
+        limiter.acquire();
+        limiter.release(FULL, Duration.ofSeconds(25));
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        assertThat(limiter.getBaselineLatencyMs()).containsEntry(MINIMAL, 5_000L).containsKey(FULL);
+    }
+
+    @Test
+    void testReleaseOverloaded_decreasesOncePerCooldown() throws InterruptedException {
+        // given
+        TestLimiter limiter = new TestLimiter(8);
+
+        // when
+        limiter.acquire();
+        limiter.releaseOverloaded("timeout");
+        limiter.acquire();
+        limiter.releaseOverloaded("timeout");
+
+        // then: 쿨다운 안의 두 번째 실패는 반영하지 않는다
+        assertThat(limiter.getLimit()).isEqualTo(6);
+        assertThat(limiter.getInFlight()).isZero();
+
+        // when: 쿨다운이 지난 뒤
+        limiter.now += Duration.ofSeconds(31).toNanos();
+        limiter.acquire();
+        limiter.releaseOverloaded("timeout");
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void testRelease_systemOverloadDecreasesEvenWhenFast() throws InterruptedException {
+        TestLimiter limiter = new TestLimiter(8);
+        limiter.systemOverload = "load average 12.0";
+
+        limiter.acquire();
+        limiter.release(FULL, Duration.ofSeconds(20));
+
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+
+    @Test
+    void testReleaseOverloaded_neverBelowMinLimit() throws InterruptedException {
+        TestLimiter limiter = new TestLimiter(1);
+
+        limiter.acquire();
+        limiter.releaseOverloaded("timeout");
+
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void testRelease_withoutAdjustKeepsLimit() throws InterruptedException {
+        TestLimiter limiter = new TestLimiter(2);
+        limiter.acquire();
+        limiter.acquire();
+
+        limiter.release();
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    /**
+     * 장비 부하와 시간을 테스트에서 정한다
+     */
+    private static class TestLimiter extends AdaptiveConcurrencyLimiter {
+
+        private String systemOverload;
+        private long now;
+
+        TestLimiter(int initialLimit) {
+            super(16, 1, 16, initialLimit, 1.0, 0.1);
+        }
+
+        @Override
+        protected String systemOverloadReason() {
+            return systemOverload;
+        }
+
+        @Override
+        protected long nanoTime() {
+            return now;
+        }
+    }
+}
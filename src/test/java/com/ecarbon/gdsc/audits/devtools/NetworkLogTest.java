@@ -0,0 +1,113 @@
+package com.ecarbon.gdsc.audits.devtools;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NetworkLogTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void testOnEvent_finishedRequestKeepsResponseAndSizes() throws Exception {
+        // given
+        NetworkLog network = new NetworkLog();
+
+        // when
+        network.onEvent("Network.requestWillBeSent", json("{\"requestId\":\"1\",\"type\":\"Document\",\"request\":{\"url\":\"https://www.snu.ac.kr/\"}}"));
+        network.onEvent("Network.responseReceived", json("{\"requestId\":\"1\",\"type\":\"Document\",\"response\":{\"url\":\"https://www.snu.ac.kr/\",\"mimeType\":\"text/html\",\"status\":200}}"));
+        network.onEvent("Network.dataReceived", json("{\"requestId\":\"1\",\"dataLength\":3000}"));
+        network.onEvent("Network.dataReceived", json("{\"requestId\":\"1\",\"dataLength\":2000}"));
+        network.onEvent("Network.loadingFinished", json("{\"requestId\":\"1\",\"encodedDataLength\":1800}"));
+
+        // then
+        List<NetworkLog.Request> finished = network.finished();
+        assertThat(finished).hasSize(1);
+        NetworkLog.Request document = finished.get(0);
+        assertThat(document.getMimeType()).isEqualTo("text/html");
+        assertThat(document.getStatus()).isEqualTo(200);
+        assertThat(document.getResourceSize()).isEqualTo(5000);
+        assertThat(document.getTransferSize()).isEqualTo(1800);
+        assertThat(network.activeCount()).isZero();
+    }
+
+    @Test
+    void testOnEvent_redirectCountsEachHopAndDocumentIsLastResponse() throws Exception {
+        // given
+        NetworkLog network = new NetworkLog();
+
+        // when: http -> https 리다이렉트, 같은 requestId
+        network.onEvent("Network.requestWillBeSent", json("{\"requestId\":\"loader\",\"type\":\"Document\",\"request\":{\"url\":\"http://snu.ac.kr/\"}}"));
+        network.onEvent("Network.requestWillBeSent", json("{\"requestId\":\"loader\",\"type\":\"Document\",\"request\":{\"url\":\"https://www.snu.ac.kr/\"},"
+                + "\"redirectResponse\":{\"status\":301,\"encodedDataLength\":250}}"));
+        network.onEvent("Network.responseReceived", json("{\"requestId\":\"loader\",\"type\":\"Document\",\"response\":{\"url\":\"https://www.snu.ac.kr/\",\"status\":200}}"));
+        network.onEvent("Network.loadingFinished", json("{\"requestId\":\"loader\",\"encodedDataLength\":9000}"));
+
+        // then
+        assertThat(network.finished()).extracting(NetworkLog.Request::getTransferSize).containsExactly(250L, 9000L);
+        NetworkLog.Request document = network.document("loader");
+        assertThat(document.getUrl()).isEqualTo("https://www.snu.ac.kr/");
+        assertThat(document.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void testOnEvent_failedAndNonHttpRequestsAreNotCounted() throws Exception {
+        NetworkLog network = new NetworkLog();
+
+        network.onEvent("Network.requestWillBeSent", json("{\"requestId\":\"1\",\"type\":\"Image\",\"request\":{\"url\":\"https://cdn.snu.ac.kr/a.png\"}}"));
+        network.onEvent("Network.loadingFailed", json("{\"requestId\":\"1\",\"errorText\":\"net::ERR_ABORTED\"}"));
+        network.onEvent("Network.requestWillBeSent", json("{\"requestId\":\"2\",\"type\":\"Image\",\"request\":{\"url\":\"data:image/png;base64,AAAA\"}}"));
+        network.onEvent("Network.loadingFinished", json("{\"requestId\":\"2\",\"encodedDataLength\":0}"));
+
+        assertThat(network.finished()).isEmpty();
+        assertThat(network.activeCount()).isZero();
+        assertThat(network.document("1")).isNull();
+    }
+
+    @Test
+    void testAwaitLoad_waitsForLoadEvent() throws Exception {
+        NetworkLog network = new NetworkLog();
+
+        assertThat(network.awaitLoad(Duration.ofMillis(10))).isFalse();
+        network.onEvent("Page.loadEventFired", json("{\"timestamp\":1.0}"));
+        assertThat(network.awaitLoad(Duration.ofMillis(10))).isTrue();
+    }
+
+    @Test
+    void testAwaitIdle_returnsAfterQuietPeriod() throws Exception {
+        // given
+        NetworkLog network = new NetworkLog();
+        network.onEvent("Network.requestWillBeSent", json("{\"requestId\":\"1\",\"request\":{\"url\":\"https://www.snu.ac.kr/app.js\"}}"));
+        network.onEvent("Network.loadingFinished", json("{\"requestId\":\"1\",\"encodedDataLength\":100}"));
+
+        // when
+        long start = System.nanoTime();
+        network.awaitIdle(Duration.ofMillis(100), Duration.ofSeconds(5));
+        long waitedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(waitedMs).isBetween(50L, 2_000L);
+    }
+
+    @Test
+    void testAwaitIdle_stopsAtMaxSettleWhileRequestIsOpen() throws Exception {
+        NetworkLog network = new NetworkLog();
+        network.onEvent("Network.requestWillBeSent", json("{\"requestId\":\"1\",\"request\":{\"url\":\"https://www.snu.ac.kr/stream\"}}"));
+
+        long start = System.nanoTime();
+        network.awaitIdle(Duration.ofMillis(10), Duration.ofMillis(300));
+        long waitedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(waitedMs).isGreaterThanOrEqualTo(300L);
+        assertThat(network.activeCount()).isEqualTo(1);
+    }
+
+    private static JsonNode json(String text) throws Exception {
+        return MAPPER.readTree(text);
+    }
+}
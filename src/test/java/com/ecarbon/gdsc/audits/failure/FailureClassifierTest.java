@@ -0,0 +1,79 @@
+package com.ecarbon.gdsc.audits.failure;
+
+import com.ecarbon.gdsc.audits.process.ProcessOutcome;
+import com.ecarbon.gdsc.audits.process.ProcessResult;
+import com.ecarbon.gdsc.carbon.exception.LighthouseMeasurementException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class FailureClassifierTest {
+
+    private final FailureClassifier classifier = new FailureClassifier();
+
+    @Test
+    void testClassify_processOutcomes(){
+        assertThat(classifier.classify(lighthouseFailure(ProcessOutcome.TIMED_OUT, null))).isEqualTo(FailureType.TRANSIENT);
+        assertThat(classifier.classify(lighthouseFailure(ProcessOutcome.NON_ZERO_EXIT, "Chrome crashed"))).isEqualTo(FailureType.TRANSIENT);
+        assertThat(classifier.classify(lighthouseFailure(ProcessOutcome.OUTPUT_OVERFLOW, null))).isEqualTo(FailureType.PERMANENT);
+    }
+
+    @Test
+    void testClassify_lighthouseRuntimeErrorIsPermanent(){
+        // given
+        String stderr = "Runtime error encountered: DNS servers could not resolve the provided domain. (DNS_FAILURE)";
+
+        // when & then
+        assertThat(classifier.classify(lighthouseFailure(ProcessOutcome.NON_ZERO_EXIT, stderr))).isEqualTo(FailureType.PERMANENT);
+        assertThat(classifier.classify(new LighthouseMeasurementException("Empty URL"))).isEqualTo(FailureType.PERMANENT);
+    }
+
+    @Test
+    void testClassify_devToolsNavigationErrors(){
+        // given: DevTools 엔진은 Page.navigate 의 errorText 를 메시지와 원인에 담는다
+        LighthouseMeasurementException unresolved = new LighthouseMeasurementException(
+                "Navigation failed: net::ERR_NAME_NOT_RESOLVED for URL: https://nowhere.ac.kr",
+                new IOException("net::ERR_NAME_NOT_RESOLVED"));
+        LighthouseMeasurementException reset = new LighthouseMeasurementException(
+                "Navigation failed: net::ERR_CONNECTION_RESET for URL: https://www.snu.ac.kr",
+                new IOException("net::ERR_CONNECTION_RESET"));
+
+        // when & then
+        assertThat(classifier.classify(unresolved)).isEqualTo(FailureType.PERMANENT);
+        assertThat(classifier.classify(reset)).isEqualTo(FailureType.TRANSIENT);
+    }
+
+    @Test
+    void testClassify_storageErrorIsTransient(){
+        RuntimeException error = new RuntimeException("Failed to save measurement data",
+                new ExecutionException(new IllegalStateException("UNAVAILABLE")));
+
+        assertThat(classifier.classify(error)).isEqualTo(FailureType.TRANSIENT);
+        assertThat(classifier.classify(new IllegalStateException("bug"))).isEqualTo(FailureType.PERMANENT);
+    }
+
+    @Test
+    void testBackoff_staysUnderCap(){
+        RetryPolicy policy = new RetryPolicy(5, 1000, 4000);
+
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            long ceiling = Math.min(4000, 1000L << (attempt - 1));
+            assertThat(policy.backoff(attempt).toMillis()).isBetween(0L, ceiling);
+        }
+        assertThat(policy.shouldRetry(FailureType.TRANSIENT, 4)).isTrue();
+        assertThat(policy.shouldRetry(FailureType.TRANSIENT, 5)).isFalse();
+        assertThat(policy.shouldRetry(FailureType.PERMANENT, 1)).isFalse();
+    }
+
+    private static LighthouseMeasurementException lighthouseFailure(ProcessOutcome outcome, String stderrTail) {
+        ProcessResult<Object> result = ProcessResult.builder()
+                .outcome(outcome)
+                .exitCode(outcome == ProcessOutcome.NON_ZERO_EXIT ? 1 : null)
+                .stderrTail(stderrTail)
+                .build();
+        return new LighthouseMeasurementException("Lighthouse run " + outcome, result);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecarbon.gdsc.audits.fast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HtmlResourceExtractorTest {
+
+    @Test
+    void testExtractFromHtml_linkedResources(){
+        // given
+        String html = """
+                <html><head>
+                  <link rel="stylesheet" href="/css/main.css">
+                  <link rel=preload as=font href="/fonts/nanum.woff2" crossorigin>
+                  <script src='https://cdn.example.com/app.js'></script>
+                  <script>var inline = true;</script>
+                </head><body>
+                  <img src="img/logo.png" alt="logo">
+                  <img srcset="hero-1x.webp 1x, hero-2x.webp 2x">
+                  <img src="data:image/png;base64,AAAA">
+                  <div style="background: url('/img/bg.jpg')"></div>
+                </body></html>
+                """;
+
+        // when
+        Map<String, String> resources = HtmlResourceExtractor.extractFromHtml(html, "https://www.snu.ac.kr/main/index.html");
+
+        // then
+        assertThat(resources)
+                .containsEntry("https://www.snu.ac.kr/css/main.css", "Stylesheet")
+                .containsEntry("https://www.snu.ac.kr/fonts/nanum.woff2", "Font")
+                .containsEntry("https://cdn.example.com/app.js", "Script")
+                .containsEntry("https://www.snu.ac.kr/main/img/logo.png", "Image")
+                .containsEntry("https://www.snu.ac.kr/main/hero-1x.webp", "Image")
+                .containsEntry("https://www.snu.ac.kr/img/bg.jpg", "Image")
+                .hasSize(6);
+    }
+
+    @Test
+    void testExtractFromCss_fontsAndImports(){
+        // given
+        String css = """
+                @import "reset.css";
+                @font-face { font-family: Nanum; src: url(../fonts/nanum.woff2) format('woff2'); }
+                .logo { background-image: url("../img/logo.svg"); }
+                """;
+
+        // when
+        Map<String, String> resources = HtmlResourceExtractor.extractFromCss(css, "https://www.snu.ac.kr/css/main.css");
+
+        // then
+        assertThat(resources)
+                .containsEntry("https://www.snu.ac.kr/css/reset.css", "Stylesheet")
+                .containsEntry("https://www.snu.ac.kr/fonts/nanum.woff2", "Font")
+                .containsEntry("https://www.snu.ac.kr/img/logo.svg", "Image");
+    }
+}
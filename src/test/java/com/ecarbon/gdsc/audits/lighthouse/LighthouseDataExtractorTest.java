@@ -0,0 +1,79 @@
+package com.ecarbon.gdsc.audits.lighthouse;
+
+import com.ecarbon.gdsc.audits.dto.LighthouseAuditResult;
+import com.ecarbon.gdsc.audits.queue.AuditProfile;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class LighthouseDataExtractorTest {
+
+    private final LighthouseDataExtractor extractor = new LighthouseDataExtractor();
+
+    private static final String REPORT = """
+            Lighthouse log line before report
+            {
+              "lighthouseVersion": "12.0.0",
+              "audits": {
+                "total-byte-weight": { "numericValue": 2048.7 },
+                "unused-css-rules": { "details": { "overallSavingsBytes": 100, "items": [ { "url": "a.css" } ] } },
+                "third-party-summary": { "details": { "summary": { "wastedBytes": 30, "wastedMs": 12 } } },
+                "largest-contentful-paint": { "numericValue": 1234, "details": { "items": [ 1, 2, 3 ] } },
+                "resource-summary": { "details": { "items": [
+                  { "resourceType": "total", "transferSize": 2048, "requestCount": 2 },
+                  { "resourceType": "script", "transferSize": 1024 }
+                ] } },
+                "network-requests": { "details": { "items": [
+                  { "url": "https://a.ac.kr/", "resourceType": "Document", "resourceSize": 500, "transferSize": 400, "timing": { "x": 1 } },
+                  { "url": "https://a.ac.kr/app.js", "resourceType": "Script", "transferSize": 1000 }
+                ] } },
+                "script-treemap-data": { "details": { "nodes": [
+                  { "name": "app.js", "resourceBytes": 900, "unusedBytes": 300, "children": [ { "resourceBytes": 1 } ] },
+                  { "name": "vendor.js", "resourceBytes": 100 }
+                ] } }
+              },
+              "i18n": { "rendererFormattedStrings": {} }
+            }
+            """;
+
+    @Test
+    void testExtractAll_streamingReport() throws Exception {
+        // when
+        LighthouseAuditResult result = extractor.extractAll(
+                new ByteArrayInputStream(REPORT.getBytes(StandardCharsets.UTF_8)), "https://a.ac.kr/");
+
+        // then
+        assertThat(result.getOptimizationData().getTotalByteWeight()).isEqualTo(2048L);
+        assertThat(result.getOptimizationData().getCanOptimizeCssBytes()).isEqualTo(100L);
+        assertThat(result.getOptimizationData().getThirdPartySummaryWastedBytes()).isEqualTo(30L);
+        assertThat(result.getOptimizationData().getCanOptimizeJsBytes()).isNull();
+        assertThat(result.getOptimizationData().getTotalResourceBytesScript()).isEqualTo(1000L);
+        assertThat(result.getOptimizationData().getTotalUnusedBytesScript()).isEqualTo(300L);
+
+        assertThat(result.getResourceSummaries().size()).isEqualTo(2);
+        assertThat(result.getNetworkRequests().size()).isEqualTo(2);
+        assertThat(result.getNetworkRequests().get(0).getTransferSize()).isEqualTo(400L);
+        assertThat(result.getNetworkRequests().get(1).getResourceSize()).isEqualTo(0L);
+        assertThat(result.getRequestedUrls().get(1)).isEqualTo("https://a.ac.kr/app.js");
+    }
+
+    @Test
+    void testExtractAll_carbonMinimalProfileSkipsOptimizationAudits() throws Exception {
+        // when
+        LighthouseAuditResult result = extractor.extractAll(
+                new ByteArrayInputStream(REPORT.getBytes(StandardCharsets.UTF_8)), "https://a.ac.kr/", AuditProfile.CARBON_MINIMAL);
+
+        // then
+        assertThat(result.getAuditProfile()).isEqualTo(AuditProfile.CARBON_MINIMAL);
+        assertThat(result.getOptimizationData().getTotalByteWeight()).isEqualTo(2048L);
+        assertThat(result.getResourceSummaries().size()).isEqualTo(2);
+        assertThat(result.getNetworkRequests().size()).isEqualTo(2);
+
+        assertThat(result.getOptimizationData().getCanOptimizeCssBytes()).isNull();
+        assertThat(result.getOptimizationData().getThirdPartySummaryWastedBytes()).isNull();
+        assertThat(result.getOptimizationData().getTotalUnusedBytesScript()).isEqualTo(0L);
+    }
+}
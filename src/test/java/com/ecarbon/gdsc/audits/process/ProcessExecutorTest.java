@@ -0,0 +1,132 @@
+package com.ecarbon.gdsc.audits.process;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 자식 프로세스(sleep, yes, sh)로 제한 시간, 출력 한도, stderr 꼬리, 종료 후 정리를 확인한다.
+ * 각 명령은 sh 에서 자기 pid 를 먼저 출력하고 exec 하므로 측정 대상 프로세스의 pid 를 알 수 있다.
+ */
+@DisabledOnOs(OS.WINDOWS)
+public class ProcessExecutorTest {
+
+    private final ProcessExecutor executor = new ProcessExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testExecute_timesOutAtDeadlineAndKillsProcess() throws InterruptedException {
+        // given: 30초 동안 출력 없이 멈춰 있는 프로세스
+        AtomicLong pid = new AtomicLong();
+
+        // when
+        ProcessResult<Void> result = executor.execute(
+                List.of("sh", "-c", "echo $$; exec sleep 30"), Duration.ofMillis(500), 1024,
+                output -> {
+                    pid.set(readPid(output));
+                    return null;
+                });
+
+        // then: 시작 시점부터 500ms 에서 끊고, 프로세스는 남아 있지 않다
+        assertThat(result.getOutcome()).isEqualTo(ProcessOutcome.TIMED_OUT);
+        assertThat(result.getElapsed()).isBetween(Duration.ofMillis(500), Duration.ofSeconds(5));
+        assertThat(pid.get()).isPositive();
+        assertDead(pid.get());
+        assertThat(executor.getActiveProcessCount()).isZero();
+        assertThat(executor.getKilledProcessCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void testExecute_outputOverflowStopsAtLimitAndKillsProcess() throws InterruptedException {
+        // given: 끝없이 출력하는 프로세스
+        AtomicLong pid = new AtomicLong();
+        AtomicLong read = new AtomicLong();
+
+        // when
+        ProcessResult<Void> result = executor.execute(
+                List.of("sh", "-c", "echo $$; exec yes"), Duration.ofSeconds(30), 64 * 1024,
+                output -> {
+                    pid.set(readPid(output));
+                    byte[] buffer = new byte[4096];
+                    int n;
+                    while ((n = output.read(buffer)) != -1) {
+                        read.addAndGet(n);
+                    }
+                    return null;
+                });
+
+        // then: 제한 시간을 기다리지 않고 한도에서 바로 끊는다
+        assertThat(result.getOutcome()).isEqualTo(ProcessOutcome.OUTPUT_OVERFLOW);
+        assertThat(result.getError()).isInstanceOf(OutputOverflowException.class);
+        assertThat(result.getElapsed()).isLessThan(Duration.ofSeconds(10));
+        assertThat(read.get()).isLessThanOrEqualTo(64 * 1024);
+        assertDead(pid.get());
+        assertThat(executor.getActiveProcessCount()).isZero();
+    }
+
+    @Test
+    void testExecute_keepsOnlyStderrTail() {
+        // given: stderr 로 약 20KB 를 쓰고 실패하는 프로세스
+        String script = "i=0; while [ $i -lt 2000 ]; do echo \"line $i\" >&2; i=$((i+1)); done; exit 3";
+
+        // when
+        ProcessResult<byte[]> result = executor.execute(
+                List.of("sh", "-c", script), Duration.ofSeconds(30), 1024, InputStream::readAllBytes);
+
+        // then: 앞부분은 버리고 마지막 8KB 만 남긴다
+        assertThat(result.getOutcome()).isEqualTo(ProcessOutcome.NON_ZERO_EXIT);
+        assertThat(result.getExitCode()).isEqualTo(3);
+        assertThat(result.getStderrTail()).endsWith("line 1999\n");
+        assertThat(result.getStderrTail()).doesNotContain("line 0\n");
+        assertThat(result.getStderrTail().length()).isLessThanOrEqualTo(8 * 1024);
+    }
+
+    @Test
+    void testExecute_missingCommandFailsWithoutThrowing() {
+        ProcessResult<byte[]> result = executor.execute(
+                List.of("/nonexistent/lighthouse"), Duration.ofSeconds(1), 1024, InputStream::readAllBytes);
+
+        assertThat(result.getOutcome()).isEqualTo(ProcessOutcome.FAILED);
+        assertThat(result.getError()).isInstanceOf(IOException.class);
+    }
+
+    /**
+     * 첫 줄의 pid 만 읽는다 (버퍼링 없이 한 바이트씩 읽어 뒤의 출력은 그대로 둔다)
+     */
+    private static long readPid(InputStream output) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = output.read()) != -1 && b != '\n') {
+            line.append((char) b);
+        }
+        return Long.parseLong(line.toString().trim());
+    }
+
+    /**
+     * destroyForcibly 는 비동기라 잠시 기다린다
+     */
+    private static void assertDead(long pid) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (isAlive(pid) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(isAlive(pid)).as("process %d killed", pid).isFalse();
+    }
+
+    private static boolean isAlive(long pid) {
+        return ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false);
+    }
+}
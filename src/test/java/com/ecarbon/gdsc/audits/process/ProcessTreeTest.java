@@ -0,0 +1,92 @@
+package com.ecarbon.gdsc.audits.process;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * sh 아래에 sleep 두 개를 띄운 실제 프로세스 트리로 종료 범위를 확인한다.
+ */
+@DisabledOnOs(OS.WINDOWS)
+public class ProcessTreeTest {
+
+    private Process process;
+    private List<ProcessHandle> children = List.of();
+
+    @AfterEach
+    void tearDown() {
+        children.forEach(ProcessHandle::destroyForcibly);
+        if (process != null) {
+            process.destroyForcibly();
+        }
+    }
+
+    @Test
+    void testDestroyAll_killsRootAndDescendants() throws Exception {
+        // given
+        spawnTree();
+        ProcessTree tree = new ProcessTree(process.toHandle());
+
+        // when
+        int killed = tree.destroyAll();
+
+        // then: 자식이 먼저 죽으면 sh 가 wait 에서 풀려 스스로 끝날 수 있으므로 루트는 세지 않을 수도 있다
+        assertThat(killed).isBetween(2, 3);
+        assertDead(process.toHandle());
+        children.forEach(ProcessTreeTest::assertDead);
+    }
+
+    @Test
+    void testDestroyAll_killsSampledChildrenAfterParentExited() throws Exception {
+        // given: 자식을 기억해 둔 뒤 부모만 먼저 죽어 자식이 init 으로 재부모화된 상태
+        spawnTree();
+        ProcessTree tree = new ProcessTree(process.toHandle());
+        tree.sample();
+        process.destroyForcibly().waitFor();
+        assertThat(process.toHandle().descendants().count()).isZero();
+
+        // when
+        int killed = tree.destroyAll();
+
+        // then: 고아가 된 자식까지 종료한다
+        assertThat(killed).isEqualTo(2);
+        children.forEach(ProcessTreeTest::assertDead);
+        assertThat(tree.getPids()).contains(process.pid()).containsAll(children.stream().map(ProcessHandle::pid).toList());
+    }
+
+    @Test
+    void testDestroyAll_exitedTreeKillsNothing() throws Exception {
+        process = new ProcessBuilder("sh", "-c", "exit 0").start();
+        process.waitFor();
+
+        assertThat(new ProcessTree(process.toHandle()).destroyAll()).isZero();
+    }
+
+    private void spawnTree() throws Exception {
+        process = new ProcessBuilder("sh", "-c", "sleep 60 & sleep 60 & wait").start();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (process.toHandle().descendants().count() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        children = process.toHandle().descendants().toList();
+        assertThat(children).as("child processes started").hasSize(2);
+    }
+
+    /**
+     * destroyForcibly 는 비동기라 잠시 기다린다
+     */
+    private static void assertDead(ProcessHandle handle) {
+        try {
+            handle.onExit().get(5, TimeUnit.SECONDS);
+        } catch (Exception ignored) {
+            // 아래 검증에서 실패로 드러난다
+        }
+        assertThat(handle.isAlive()).as("process %d killed", handle.pid()).isFalse();
+    }
+}
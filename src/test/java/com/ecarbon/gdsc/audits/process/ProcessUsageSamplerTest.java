@@ -0,0 +1,95 @@
+package com.ecarbon.gdsc.audits.process;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제로 CPU 를 쓰는 자식 프로세스 트리(sh + yes 두 개)를 띄워서 샘플링 값을 확인한다.
+ * RSS 는 /proc 에서 읽으므로 Linux 에서만 돈다.
+ */
+@EnabledOnOs(OS.LINUX)
+public class ProcessUsageSamplerTest {
+
+    private Process process;
+
+    @AfterEach
+    void tearDown() {
+        if (process != null) {
+            new ProcessTree(process.toHandle()).destroyAll();
+        }
+    }
+
+    @Test
+    void testSample_childTreeReportsCpuTimeAndPeakRss() throws Exception {
+        // given
+        process = spawn("yes > /dev/null & yes > /dev/null & wait");
+        awaitDescendants(process.toHandle(), 2);
+        ProcessUsageSampler sampler = new ProcessUsageSampler(List.of(process.toHandle()));
+
+        // when
+        sampler.sample();
+        Thread.sleep(500);
+        sampler.sample();
+
+        // then: 처음 샘플 이후 자손이 쓴 CPU 까지 합친다
+        ProcessUsage usage = sampler.usage();
+        assertThat(usage.getCpuTime()).isGreaterThan(Duration.ZERO);
+        assertThat(usage.getPeakRssBytes()).isPositive();
+        assertThat(usage.getProcessCount()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void testSample_attachedProcessCountsOnlyCpuAfterFirstSample() throws Exception {
+        // given: 샘플링 전에 이미 CPU 를 쓴 프로세스 (미리 띄운 Chrome 과 같은 경우)
+        process = spawn("yes > /dev/null & wait");
+        awaitDescendants(process.toHandle(), 1);
+        Thread.sleep(500);
+        ProcessUsageSampler sampler = new ProcessUsageSampler(List.of(process.toHandle()));
+
+        // when: 같은 순간에 두 번 재면 그 사이에 쓴 CPU 만 남는다
+        sampler.sample();
+        Duration before = totalCpu(process.toHandle());
+        sampler.sample();
+
+        // then
+        assertThat(sampler.usage().getCpuTime()).isLessThan(before);
+    }
+
+    @Test
+    void testSample_exitedProcessReportsNothing() throws Exception {
+        process = spawn("exit 0");
+        process.waitFor();
+        ProcessUsageSampler sampler = new ProcessUsageSampler(List.of(process.toHandle()));
+
+        sampler.sample();
+
+        assertThat(sampler.usage().getCpuTime()).isEqualTo(Duration.ZERO);
+        assertThat(sampler.usage().getProcessCount()).isZero();
+    }
+
+    private static Process spawn(String script) throws IOException {
+        return new ProcessBuilder("sh", "-c", script).start();
+    }
+
+    private static void awaitDescendants(ProcessHandle root, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (root.descendants().count() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(root.descendants().count()).as("child processes started").isGreaterThanOrEqualTo(count);
+    }
+
+    private static Duration totalCpu(ProcessHandle root) {
+        return root.descendants()
+                .map(handle -> handle.info().totalCpuDuration().orElse(Duration.ZERO))
+                .reduce(root.info().totalCpuDuration().orElse(Duration.ZERO), Duration::plus);
+    }
+}
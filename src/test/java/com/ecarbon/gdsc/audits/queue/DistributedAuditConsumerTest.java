@@ -0,0 +1,153 @@
+package com.ecarbon.gdsc.audits.queue;
+
+import com.ecarbon.gdsc.audits.MainRunner;
+import com.ecarbon.gdsc.audits.batch.BatchCheckpointRepository;
+import com.ecarbon.gdsc.audits.entity.Measurements;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DistributedAuditConsumerTest {
+
+    private static final String WEEK = "2025-05-12";
+
+    private final DistributedAuditQueue queue = mock(DistributedAuditQueue.class);
+    private final MainRunner mainRunner = mock(MainRunner.class);
+    private final BatchCheckpointRepository checkpointRepository = mock(BatchCheckpointRepository.class);
+
+    // URL 별로 MainRunner 에 넘긴 작업
+    private final Map<String, AuditTask> submitted = new HashMap<>();
+
+    private DistributedAuditConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new DistributedAuditConsumer(queue, mainRunner, checkpointRepository, true, 2);
+        when(queue.getMaxAttempts()).thenReturn(3);
+        when(mainRunner.submit(anyString(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            AuditTask task = new AuditTask(invocation.getArgument(0));
+            submitted.put(task.getUrl(), task);
+            return task;
+        });
+    }
+
+    @Test
+    void testPoll_claimsUpToMaxLocalLeases() {
+        // given
+        when(queue.claim()).thenReturn(
+                Optional.of(item("https://a.ac.kr/", 1)),
+                Optional.of(item("https://b.ac.kr/", 1)),
+                Optional.of(item("https://c.ac.kr/", 1)));
+
+        // when
+        consumer.poll();
+
+        // then: 이 노드는 리스를 두 개까지만 잡는다
+        verify(queue, times(2)).claim();
+        assertThat(consumer.getHeldLeaseCount()).isEqualTo(2);
+        assertThat(submitted).containsOnlyKeys("https://a.ac.kr/", "https://b.ac.kr/");
+    }
+
+    @Test
+    void testPoll_completedAuditReleasesLeaseAndMarksCheckpoint() {
+        // given
+        QueuedAudit item = item("https://a.ac.kr/", 1);
+        when(queue.claim()).thenReturn(Optional.of(item), Optional.empty());
+        when(queue.complete(item.getId())).thenReturn(true);
+        consumer.poll();
+
+        // when
+        submitted.get(item.getUrl()).getResult().complete(Measurements.builder().url(item.getUrl()).build());
+
+        // then
+        verify(queue).complete(item.getId());
+        verify(checkpointRepository).markCompleted(WEEK, item.getCanonicalUrl());
+        assertThat(consumer.getHeldLeaseCount()).isZero();
+    }
+
+    @Test
+    void testPoll_failureWithAttemptsLeftIsNotMarkedFailed() {
+        // given
+        QueuedAudit item = item("https://a.ac.kr/", 1);
+        when(queue.claim()).thenReturn(Optional.of(item), Optional.empty());
+        when(queue.fail(eq(item.getId()), anyInt(), anyString())).thenReturn(true);
+        consumer.poll();
+
+        // when
+        submitted.get(item.getUrl()).getResult().completeExceptionally(new IllegalStateException("timeout"));
+
+        // then: 다른 노드가 다시 가져갈 수 있으므로 체크포인트는 그대로 둔다
+        verify(queue).fail(item.getId(), 1, "timeout");
+        verify(checkpointRepository, never()).markFailed(anyString(), anyString());
+    }
+
+    @Test
+    void testPoll_lastFailedAttemptMarksCheckpoint() {
+        // given
+        QueuedAudit item = item("https://a.ac.kr/", 3);
+        when(queue.claim()).thenReturn(Optional.of(item), Optional.empty());
+        when(queue.fail(eq(item.getId()), anyInt(), anyString())).thenReturn(true);
+        consumer.poll();
+
+        // when
+        submitted.get(item.getUrl()).getResult().completeExceptionally(new IllegalStateException("timeout"));
+
+        // then
+        verify(checkpointRepository).markFailed(WEEK, item.getCanonicalUrl());
+    }
+
+    @Test
+    void testHeartbeat_lostLeaseIsDroppedAndExhaustedLeasesFailed() {
+        // given: 두 항목 중 하나는 리스가 만료되어 다른 노드가 가져갔다
+        QueuedAudit kept = item("https://a.ac.kr/", 1);
+        QueuedAudit lost = item("https://b.ac.kr/", 1);
+        when(queue.claim()).thenReturn(Optional.of(kept), Optional.of(lost));
+        when(queue.heartbeat(kept.getId())).thenReturn(true);
+        when(queue.heartbeat(lost.getId())).thenReturn(false);
+        consumer.poll();
+
+        // when
+        consumer.heartbeat();
+
+        // then
+        assertThat(consumer.getHeldLeaseCount()).isEqualTo(1);
+        assertThat(consumer.getLostLeaseCount()).isEqualTo(1);
+        verify(queue).failExhaustedLeases();
+    }
+
+    @Test
+    void testPoll_disabledDoesNotClaim() {
+        consumer = new DistributedAuditConsumer(queue, mainRunner, checkpointRepository, false, 2);
+
+        consumer.poll();
+        consumer.heartbeat();
+
+        verify(queue, never()).claim();
+        verify(queue, never()).failExhaustedLeases();
+    }
+
+    private static QueuedAudit item(String url, int attempts) {
+        return QueuedAudit.builder()
+                .id(WEEK + ":" + url)
+                .batchId(WEEK)
+                .url(url)
+                .canonicalUrl(url)
+                .status(QueuedAudit.STATUS_LEASED)
+                .attempts(attempts)
+                .build();
+    }
+}
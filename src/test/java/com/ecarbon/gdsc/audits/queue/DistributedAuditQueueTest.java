@@ -0,0 +1,188 @@
+package com.ecarbon.gdsc.audits.queue;
+
+import com.ecarbon.gdsc.common.lease.NodeIdentity;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MongoDB 에 보내는 조건과 변경 내용으로 리스 규칙을 확인한다.
+ */
+public class DistributedAuditQueueTest {
+
+    private static final String NODE = "node-a";
+    private static final String ID = "2025-05-12:https://www.snu.ac.kr/";
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final DistributedAuditQueue queue = new DistributedAuditQueue(mongoTemplate, new NodeIdentity(NODE), 300, 3);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testClaim_takesPendingOrExpiredLeaseWithAttemptsLeft() {
+        // given
+        QueuedAudit claimed = QueuedAudit.builder().id(ID).status(QueuedAudit.STATUS_LEASED).attempts(1).build();
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), any(FindAndModifyOptions.class), eq(QueuedAudit.class)))
+                .thenReturn(claimed);
+        long before = System.currentTimeMillis();
+
+        // when
+        assertThat(queue.claim()).contains(claimed);
+
+        // then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        ArgumentCaptor<FindAndModifyOptions> options = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(), options.capture(), eq(QueuedAudit.class));
+
+        Document criteria = query.getValue().getQueryObject();
+        List<Document> either = (List<Document>) criteria.get("$or");
+        assertThat(either).hasSize(2);
+        assertThat(either.get(0).get("status")).isEqualTo(QueuedAudit.STATUS_PENDING);
+        // 다른 노드가 잡았어도 리스가 만료됐으면 다시 가져갈 수 있다
+        assertThat(either.get(1).get("status")).isEqualTo(QueuedAudit.STATUS_LEASED);
+        Date expiredBefore = (Date) ((Document) either.get(1).get("leaseExpiresAt")).get("$lt");
+        assertThat(expiredBefore.getTime()).isBetween(before, System.currentTimeMillis());
+        assertThat(((Document) criteria.get("attempts")).get("$lt")).isEqualTo(3);
+        assertThat(query.getValue().getSortObject().get("enqueuedAt")).isEqualTo(1);
+
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertThat(set.get("status")).isEqualTo(QueuedAudit.STATUS_LEASED);
+        assertThat(set.get("leaseOwner")).isEqualTo(NODE);
+        assertThat(((Date) set.get("leaseExpiresAt")).getTime())
+                .isBetween(before + 300_000, System.currentTimeMillis() + 300_000);
+        assertThat(((Document) update.getValue().getUpdateObject().get("$inc")).get("attempts")).isEqualTo(1);
+        assertThat(options.getValue().isReturnNew()).isTrue();
+    }
+
+    @Test
+    void testClaim_emptyQueueReturnsEmpty() {
+        assertThat(queue.claim()).isEmpty();
+    }
+
+    @Test
+    void testHeartbeat_extendsOnlyOwnLease() {
+        // given
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(QueuedAudit.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        long before = System.currentTimeMillis();
+
+        // when
+        assertThat(queue.heartbeat(ID)).isTrue();
+
+        // then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(QueuedAudit.class));
+        assertOwnedLease(query.getValue().getQueryObject());
+
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertThat(((Date) set.get("leaseExpiresAt")).getTime())
+                .isBetween(before + 300_000, System.currentTimeMillis() + 300_000);
+    }
+
+    @Test
+    void testHeartbeat_lostLeaseReturnsFalse() {
+        // given: 리스가 만료되어 다른 노드가 가져간 항목은 조건에 맞지 않는다
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(QueuedAudit.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        assertThat(queue.heartbeat(ID)).isFalse();
+    }
+
+    @Test
+    void testFail_lastAttemptEndsAsFailed() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(QueuedAudit.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        assertThat(queue.fail(ID, 2, "timeout")).isTrue();
+        assertThat(queue.fail(ID, 3, "timeout")).isTrue();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(mongoTemplate, times(2)).updateFirst(query.capture(), update.capture(), eq(QueuedAudit.class));
+        assertOwnedLease(query.getAllValues().get(1).getQueryObject());
+        assertThat(setOf(update.getAllValues().get(0)).get("status")).isEqualTo(QueuedAudit.STATUS_PENDING);
+        assertThat(setOf(update.getAllValues().get(1)).get("status")).isEqualTo(QueuedAudit.STATUS_FAILED);
+    }
+
+    @Test
+    void testFailExhaustedLeases_failsOnlyExpiredLeasesWithoutAttemptsLeft() {
+        // given
+        when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), eq(QueuedAudit.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+        long before = System.currentTimeMillis();
+
+        // when
+        assertThat(queue.failExhaustedLeases()).isEqualTo(2);
+
+        // then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(mongoTemplate).updateMulti(query.capture(), update.capture(), eq(QueuedAudit.class));
+
+        Document criteria = query.getValue().getQueryObject();
+        assertThat(criteria.get("status")).isEqualTo(QueuedAudit.STATUS_LEASED);
+        Date expiredBefore = (Date) ((Document) criteria.get("leaseExpiresAt")).get("$lt");
+        assertThat(expiredBefore.getTime()).isBetween(before, System.currentTimeMillis());
+        assertThat(((Document) criteria.get("attempts")).get("$gte")).isEqualTo(3);
+
+        Document set = setOf(update.getValue());
+        assertThat(set.get("status")).isEqualTo(QueuedAudit.STATUS_FAILED);
+        assertThat(set.get("lastError")).isEqualTo("Lease expired");
+        assertThat((Document) update.getValue().getUpdateObject().get("$unset")).containsKeys("leaseOwner", "leaseExpiresAt");
+    }
+
+    @Test
+    void testEnqueue_failedItemIsResetBeforeUpsert() {
+        // given
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(QueuedAudit.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        // when: 같은 주에 다시 올림
+        queue.enqueue("2025-05-12", "https://www.SNU.ac.kr", null, AuditMode.LIGHTHOUSE, AuditProfile.OPTIMIZATION_FULL);
+
+        // then: FAILED 항목만 PENDING, 시도 0 으로 되돌리고, 없던 항목은 upsert 로 새로 만든다
+        ArgumentCaptor<Query> reset = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> resetUpdate = ArgumentCaptor.forClass(UpdateDefinition.class);
+        ArgumentCaptor<Query> upsert = ArgumentCaptor.forClass(Query.class);
+        InOrder order = inOrder(mongoTemplate);
+        order.verify(mongoTemplate).updateFirst(reset.capture(), resetUpdate.capture(), eq(QueuedAudit.class));
+        order.verify(mongoTemplate).upsert(upsert.capture(), any(UpdateDefinition.class), eq(QueuedAudit.class));
+
+        Document criteria = reset.getValue().getQueryObject();
+        assertThat(criteria.get("_id")).isEqualTo(ID);
+        assertThat(criteria.get("status")).isEqualTo(QueuedAudit.STATUS_FAILED);
+        Document set = setOf(resetUpdate.getValue());
+        assertThat(set.get("status")).isEqualTo(QueuedAudit.STATUS_PENDING);
+        assertThat(set.get("attempts")).isEqualTo(0);
+        assertThat(upsert.getValue().getQueryObject().get("_id")).isEqualTo(ID);
+    }
+
+    private static void assertOwnedLease(Document criteria) {
+        assertThat(criteria.get("_id")).isEqualTo(ID);
+        assertThat(criteria.get("status")).isEqualTo(QueuedAudit.STATUS_LEASED);
+        assertThat(criteria.get("leaseOwner")).isEqualTo(NODE);
+    }
+
+    private static Document setOf(UpdateDefinition update) {
+        return (Document) update.getUpdateObject().get("$set");
+    }
+}
@@ -0,0 +1,80 @@
+package com.ecarbon.gdsc.audits.queue;
+
+import com.ecarbon.gdsc.audits.politeness.HostPolitenessLimiter;
+import com.ecarbon.gdsc.audits.politeness.RobotsTxtCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class PriorityAuditQueueTest {
+
+    @Test
+    void testPoll_interactiveGoesFirst() throws InterruptedException {
+        // given
+        PriorityAuditQueue queue = new PriorityAuditQueue(unlimited(), 50, 25, 25, 900);
+        AuditTask batch = new AuditTask("https://batch.ac.kr", null, AuditPriority.BATCH);
+        AuditTask interactive = new AuditTask("https://user.ac.kr", null, AuditPriority.INTERACTIVE);
+        queue.add(batch);
+        queue.add(interactive);
+
+        // when & then
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS, 4)).isSameAs(interactive);
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS, 4)).isSameAs(batch);
+    }
+
+    @Test
+    void testPoll_batchLeavesInteractiveReservationFree() throws InterruptedException {
+        // given: 한도 2 에서 INTERACTIVE 예약 슬롯 1
+        PriorityAuditQueue queue = new PriorityAuditQueue(unlimited(), 50, 25, 25, 900);
+        queue.add(new AuditTask("https://a.ac.kr", null, AuditPriority.BATCH));
+        queue.add(new AuditTask("https://b.ac.kr", null, AuditPriority.BATCH));
+
+        // when & then
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS, 2)).isNotNull();
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS, 2)).isNull();
+
+        AuditTask interactive = new AuditTask("https://user.ac.kr", null, AuditPriority.INTERACTIVE);
+        queue.add(interactive);
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS, 2)).isSameAs(interactive);
+    }
+
+    @Test
+    void testPoll_agedBatchIsNotStarved() throws InterruptedException {
+        // given: max-wait 0 초 -> 맨 앞 작업이 가장 오래 기다린 레인이 먼저
+        PriorityAuditQueue queue = new PriorityAuditQueue(unlimited(), 50, 25, 25, 0);
+        AuditTask batch = new AuditTask("https://batch.ac.kr", null, AuditPriority.BATCH);
+        queue.add(batch);
+        Thread.sleep(5);
+        queue.add(new AuditTask("https://user.ac.kr", null, AuditPriority.INTERACTIVE));
+
+        // when & then
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS, 4)).isSameAs(batch);
+    }
+
+    @Test
+    void testPoll_interleavesAcrossThrottledDomains() throws InterruptedException {
+        // given: 같은 도메인은 60초 간격
+        HostPolitenessLimiter limiter = new HostPolitenessLimiter(new RobotsTxtCache(false, 24), true, 1, 60_000, 60);
+        PriorityAuditQueue queue = new PriorityAuditQueue(limiter, 0, 0, 100, 900);
+        AuditTask first = new AuditTask("https://cse.snu.ac.kr", null, AuditPriority.BATCH);
+        AuditTask sameDomain = new AuditTask("https://ee.snu.ac.kr", null, AuditPriority.BATCH);
+        AuditTask otherDomain = new AuditTask("https://www.kaist.ac.kr", null, AuditPriority.BATCH);
+        queue.add(first);
+        queue.add(sameDomain);
+        queue.add(otherDomain);
+
+        // when & then
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS, 4)).isSameAs(first);
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS, 4)).isSameAs(otherDomain);
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS, 4)).isNull();
+
+        queue.done(first);
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS, 4)).isNull();
+    }
+
+    private static HostPolitenessLimiter unlimited() {
+        return new HostPolitenessLimiter(new RobotsTxtCache(false, 24), false, 1, 0, 0);
+    }
+}
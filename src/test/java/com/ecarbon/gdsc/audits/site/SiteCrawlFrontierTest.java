@@ -0,0 +1,73 @@
+package com.ecarbon.gdsc.audits.site;
+
+import com.ecarbon.gdsc.audits.fast.HtmlResourceExtractor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SiteCrawlFrontierTest {
+
+    @Test
+    void testOffer_rejectsDuplicatesAndOtherSites() {
+        // given
+        SiteCrawlFrontier frontier = new SiteCrawlFrontier("https://www.snu.ac.kr/", 10, 2);
+
+        // when & then
+        assertThat(frontier.offer("https://www.snu.ac.kr/about", 1)).isTrue();
+        assertThat(frontier.offer("https://WWW.snu.ac.kr/about#history", 1)).isFalse();
+        assertThat(frontier.offer("https://cse.snu.ac.kr/", 1)).isTrue();
+        assertThat(frontier.offer("https://www.kaist.ac.kr/", 1)).isFalse();
+        assertThat(frontier.offer("mailto:admin@snu.ac.kr", 1)).isFalse();
+        assertThat(frontier.offer("https://www.snu.ac.kr/files/notice.hwp", 1)).isFalse();
+        assertThat(frontier.getAcceptedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testOffer_respectsPageAndDepthLimits() {
+        // given
+        SiteCrawlFrontier frontier = new SiteCrawlFrontier("https://www.snu.ac.kr/", 3, 1);
+
+        // when & then
+        assertThat(frontier.offer("https://www.snu.ac.kr/a", 2)).isFalse();
+        assertThat(frontier.offer("https://www.snu.ac.kr/a", 1)).isTrue();
+        assertThat(frontier.offer("https://www.snu.ac.kr/b", 1)).isTrue();
+        assertThat(frontier.offer("https://www.snu.ac.kr/c", 1)).isFalse();
+    }
+
+    @Test
+    void testPoll_breadthFirstOrder() {
+        // given
+        SiteCrawlFrontier frontier = new SiteCrawlFrontier("https://www.snu.ac.kr/", 10, 2);
+        frontier.offer("https://www.snu.ac.kr/a", 1);
+        frontier.offer("https://www.snu.ac.kr/a/b", 2);
+
+        // when & then
+        assertThat(frontier.poll().get().depth()).isZero();
+        assertThat(frontier.poll().get().url()).isEqualTo("https://www.snu.ac.kr/a");
+        assertThat(frontier.poll().get().url()).isEqualTo("https://www.snu.ac.kr/a/b");
+        assertThat(frontier.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testExtractLinks_resolvesAnchorsAndSkipsNofollow() {
+        // given
+        String html = """
+                <a href="/intro">소개</a>
+                <a href='news/list?page=1&amp;size=10'>뉴스</a>
+                <a rel="nofollow" href="/login">로그인</a>
+                <a href="javascript:void(0)">메뉴</a>
+                <area href="https://library.snu.ac.kr/">
+                """;
+
+        // when
+        List<String> links = HtmlResourceExtractor.extractLinks(html, "https://www.snu.ac.kr/main/");
+
+        // then
+        assertThat(links).containsExactly(
+                "https://www.snu.ac.kr/intro",
+                "https://www.snu.ac.kr/main/news/list?page=1&size=10",
+                "https://library.snu.ac.kr/");
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecarbon.gdsc.audits.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class RegistrableDomainTest {
+
+    @Test
+    void testOf_countrySecondLevelSuffix(){
+        assertThat(RegistrableDomain.of("https://cse.snu.ac.kr/about")).isEqualTo("snu.ac.kr");
+        assertThat(RegistrableDomain.of("www.ox.ac.uk")).isEqualTo("ox.ac.uk");
+        assertThat(RegistrableDomain.of("https://www.sydney.edu.au")).isEqualTo("sydney.edu.au");
+    }
+
+    @Test
+    void testOf_genericTld(){
+        assertThat(RegistrableDomain.of("https://web.mit.edu/")).isEqualTo("mit.edu");
+        assertThat(RegistrableDomain.of("https://www.tum.de")).isEqualTo("tum.de");
+        assertThat(RegistrableDomain.of("https://example.com")).isEqualTo("example.com");
+    }
+}
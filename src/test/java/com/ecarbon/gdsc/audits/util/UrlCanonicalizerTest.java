@@ -0,0 +1,27 @@
+package com.ecarbon.gdsc.audits.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class UrlCanonicalizerTest {
+
+    @Test
+    void testCanonicalize_sameHomePage(){
+        // given
+        String expected = "https://www.snu.ac.kr/";
+
+        // when & then
+        assertThat(UrlCanonicalizer.canonicalize("https://www.snu.ac.kr")).isEqualTo(expected);
+        assertThat(UrlCanonicalizer.canonicalize("HTTPS://WWW.SNU.AC.KR:443/")).isEqualTo(expected);
+        assertThat(UrlCanonicalizer.canonicalize(" www.snu.ac.kr#main ")).isEqualTo(expected);
+    }
+
+    @Test
+    void testCanonicalize_keepsSchemePortAndQuery(){
+        assertThat(UrlCanonicalizer.canonicalize("http://example.com/a?b=1"))
+                .isEqualTo("http://example.com/a?b=1");
+        assertThat(UrlCanonicalizer.canonicalize("https://example.com:8443/path"))
+                .isEqualTo("https://example.com:8443/path");
+    }
+}
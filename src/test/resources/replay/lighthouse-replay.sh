@@ -0,0 +1,28 @@
+#!/bin/sh
+# Lighthouse 대신 기록된 JSON 리포트를 출력하는 대역 실행 파일 (LighthouseReplayBenchmark 용)
+# 사용법: lighthouse-replay.sh <url> [lighthouse 옵션...]  (옵션은 무시)
+# 설정은 같은 디렉터리의 replay.conf 에서 읽는다: CORPUS_DIR, DELAY_MS, JITTER_MS, FAILURE_RATE
+
+. "$(dirname "$0")/replay.conf"
+
+url="$1"
+
+# URL 해시로 리포트를 골라 같은 URL 은 항상 같은 리포트를 받는다
+set -- "$CORPUS_DIR"/*.json
+index=$(( $(printf '%s' "$url" | cksum | cut -d' ' -f1) % $# + 1 ))
+eval "report=\${$index}"
+
+set -- $(awk -v seed="$$" -v d="$DELAY_MS" -v j="$JITTER_MS" -v f="$FAILURE_RATE" \
+    'BEGIN { srand(seed); printf "%.3f %d\n", (d + rand() * j) / 1000, (rand() < f) }')
+delay="$1"
+fail="$2"
+
+echo "replay: $url <- $(basename "$report") after ${delay}s" >&2
+sleep "$delay"
+
+if [ "$fail" -eq 1 ]; then
+    echo "Runtime error encountered: replayed failure for $url" >&2
+    exit 1
+fi
+
+cat "$report"